@@ -1,20 +1,29 @@
 package com.melog.melog.clova.adapter.external.out;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.melog.melog.clova.config.ClovaConfig;
+import com.melog.melog.clova.domain.EmotionKeywordScanner;
 import com.melog.melog.clova.domain.model.request.EmotionAnalysisRequest;
+import com.melog.melog.clova.domain.model.response.ClovaChatCompletionResponse;
 import com.melog.melog.clova.domain.model.response.EmotionAnalysisResponse;
+import com.melog.melog.common.util.TextProfile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
@@ -47,7 +56,7 @@ public class ClovaStudioAdapter {
             String url = clovaConfig.getStudio().getBaseUrl() + "/v3/chat-completions/" + clovaConfig.getStudio().getModel();
             
             // 타임아웃 설정이 있는 RestTemplate 사용
-            ResponseEntity<Map> response = clovaStudioRestTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            ResponseEntity<ClovaChatCompletionResponse> response = clovaStudioRestTemplate.exchange(url, HttpMethod.POST, entity, ClovaChatCompletionResponse.class);
             
             // 응답 파싱 및 변환
             EmotionAnalysisResponse result = parseClovaStudioResponse(response.getBody());
@@ -61,6 +70,86 @@ public class ClovaStudioAdapter {
         }
     }
 
+    /**
+     * Clova Studio 스트리밍 모드(text/event-stream)로 감정 분석을 수행합니다.
+     * 요약 토큰이 도착할 때마다 onToken으로 전달하고, 스트림이 끝나면
+     * 전체 응답을 기존 파싱 로직으로 분석하여 감정 점수와 키워드를 계산합니다.
+     */
+    public EmotionAnalysisResponse analyzeEmotionStreaming(EmotionAnalysisRequest request, Consumer<String> onToken) {
+        try {
+            log.info("Clova Studio 스트리밍 API 호출 시작");
+            
+            Map<String, Object> requestBody = createClovaStudioRequest(request);
+            
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+            headers.set("Authorization", "Bearer " + clovaConfig.getStudio().getApiKey());
+            
+            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+            
+            String url = clovaConfig.getStudio().getBaseUrl() + "/v3/chat-completions/" + clovaConfig.getStudio().getModel();
+            
+            String content = clovaStudioRestTemplate.execute(url, HttpMethod.POST,
+                    clovaStudioRestTemplate.httpEntityCallback(entity),
+                    response -> readChatCompletionStream(response.getBody(), onToken));
+            
+            EmotionAnalysisResponse result = parseEmotionContent(content);
+            
+            log.info("Clova Studio 스트리밍 API 호출 성공");
+            return result;
+            
+        } catch (Exception e) {
+            log.error("Clova Studio 스트리밍 API 호출 중 오류 발생: {}", e.getMessage(), e);
+            throw new RuntimeException("감정 분석에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * Clova Studio SSE 응답을 읽어 토큰을 전달하고 최종 content를 반환합니다.
+     * event: token 은 증분 토큰, event: result 는 완성된 메시지를 담고 있습니다.
+     */
+    private String readChatCompletionStream(InputStream body, Consumer<String> onToken) throws IOException {
+        ObjectReader eventReader = objectMapper.readerFor(ClovaChatCompletionResponse.class);
+        StringBuilder tokens = new StringBuilder();
+        String resultContent = null;
+        String event = null;
+        
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    event = null;
+                    continue;
+                }
+                if (line.startsWith("event:")) {
+                    event = line.substring(6).trim();
+                    continue;
+                }
+                if (!line.startsWith("data:")) {
+                    continue;
+                }
+                
+                String data = line.substring(5).trim();
+                if ("token".equals(event)) {
+                    ClovaChatCompletionResponse tokenEvent = eventReader.readValue(data);
+                    String token = tokenEvent.content();
+                    if (token != null && !token.isEmpty()) {
+                        tokens.append(token);
+                        onToken.accept(token);
+                    }
+                } else if ("result".equals(event)) {
+                    ClovaChatCompletionResponse resultEvent = eventReader.readValue(data);
+                    resultContent = resultEvent.content();
+                } else if ("error".equals(event)) {
+                    throw new RuntimeException("Clova Studio 스트리밍 오류 응답: " + data);
+                }
+            }
+        }
+        
+        return resultContent != null && !resultContent.isBlank() ? resultContent : tokens.toString();
+    }
+
     /**
      * Clova Studio API를 호출하여 일반 텍스트 생성을 수행합니다.
      */
@@ -80,7 +169,7 @@ public class ClovaStudioAdapter {
             String url = clovaConfig.getStudio().getBaseUrl() + "/v3/chat-completions/" + clovaConfig.getStudio().getModel();
             log.info("Clova Studio API 호출 - URL: {}, 프롬프트: {}", url, prompt);
             
-            ResponseEntity<Map> response = clovaStudioRestTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            ResponseEntity<ClovaChatCompletionResponse> response = clovaStudioRestTemplate.exchange(url, HttpMethod.POST, entity, ClovaChatCompletionResponse.class);
             log.info("Clova Studio API 응답 상태: {}, 헤더: {}", response.getStatusCode(), response.getHeaders());
             
             // 응답에서 텍스트 추출
@@ -109,57 +198,21 @@ public class ClovaStudioAdapter {
 
     /**
      * 응답에서 텍스트를 추출합니다.
+     * Clova Studio 구조(result.message.content)와 OpenAI 호환 구조(choices[0].message.content)를 모두 지원합니다.
      */
-    private String extractTextFromResponse(Map responseBody) {
-        try {
-            log.debug("Clova Studio 응답 구조: {}", responseBody);
-            
-            // Clova Studio 응답 구조: result.message.content
-            Map result = (Map) responseBody.get("result");
-            if (result != null) {
-                Map message = (Map) result.get("message");
-                if (message != null) {
-                    log.debug("message: {}", message);
-                    
-                    String content = (String) message.get("content");
-                    if (content != null && !content.trim().isEmpty()) {
-                        log.debug("추출된 content: {}", content);
-                        return content.trim();
-                    } else {
-                        log.warn("content가 null이거나 비어있음: {}", content);
-                    }
-                } else {
-                    log.warn("message가 null임");
-                }
-            } else {
-                log.warn("result가 null임");
-            }
-            
-            // OpenAI 호환 구조도 시도: choices[0].message.content
-            List<Map> choices = (List<Map>) responseBody.get("choices");
-            if (choices != null && !choices.isEmpty()) {
-                Map choice = choices.get(0);
-                log.debug("첫 번째 choice: {}", choice);
-                
-                Map message = (Map) choice.get("message");
-                if (message != null) {
-                    log.debug("message: {}", message);
-                    
-                    String content = (String) message.get("content");
-                    if (content != null && !content.trim().isEmpty()) {
-                        log.debug("OpenAI 구조에서 추출된 content: {}", content);
-                        return content.trim();
-                    }
-                }
-            }
-            
-            // 응답 구조를 더 자세히 로깅
-            log.error("응답 구조 분석 실패 - 전체 응답: {}", responseBody);
-            throw new RuntimeException("응답에서 유효한 텍스트를 찾을 수 없습니다. 응답 구조: " + responseBody);
-        } catch (Exception e) {
-            log.error("텍스트 응답 파싱 중 오류 발생: {}", e.getMessage(), e);
-            throw new RuntimeException("텍스트 응답 파싱에 실패했습니다.", e);
+    private String extractTextFromResponse(ClovaChatCompletionResponse responseBody) {
+        if (responseBody == null) {
+            throw new RuntimeException("텍스트 응답 파싱에 실패했습니다: 응답 본문이 비어있습니다.");
         }
+
+        String content = responseBody.content();
+        if (content == null || content.trim().isEmpty()) {
+            log.error("응답 구조 분석 실패 - content가 null이거나 비어있음");
+            throw new RuntimeException("응답에서 유효한 텍스트를 찾을 수 없습니다.");
+        }
+
+        log.debug("추출된 content: {}", content);
+        return content.trim();
     }
 
     /**
@@ -244,7 +297,7 @@ public class ClovaStudioAdapter {
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
 
             String url = clovaConfig.getStudio().getBaseUrl() + "/v3/chat-completions/" + clovaConfig.getStudio().getModel();
-            ResponseEntity<Map> response = clovaStudioRestTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            ResponseEntity<ClovaChatCompletionResponse> response = clovaStudioRestTemplate.exchange(url, HttpMethod.POST, entity, ClovaChatCompletionResponse.class);
 
             // 기존 parse 로직 재사용
             EmotionAnalysisResponse r = parseClovaStudioResponse(response.getBody());
@@ -324,21 +377,7 @@ public class ClovaStudioAdapter {
     }
 
 
-    private static final java.util.Set<String> KEYWORD_POOL = new java.util.HashSet<>(java.util.List.of(
-    // 기쁨
-"행복","즐거움","만족","신남",
-        // 설렘
-        "기대","떨림","긴장","두근거림",
-        // 평온
-        "차분함","여유","안정","편안함",
-        // 분노
-        "화남","짜증","열받음","격분",
-        // 슬픔
-        "슬픔","우울함","절망","허전함",
-        // 지침
-        "혼란","막막함","고민","갈등"
-    ));
-// 3-2) percentage → step 변환 함수 추가
+    // 3-2) percentage → step 변환 함수 추가
     private static int computeStep(int p) {
         if (p <= 20) return 1;
         if (p <= 40) return 2;
@@ -351,32 +390,45 @@ public class ClovaStudioAdapter {
     private static void addIfAbsent(List<String> list, String... cands) {
         for (String c : cands) {
             if (list.size() >= 3) break;
-            if (KEYWORD_POOL.contains(c) && !list.contains(c)) list.add(c);
+            if (EmotionKeywordScanner.isPoolKeyword(c) && !list.contains(c)) list.add(c);
         }
     }
     /**
      * Clova Studio API 응답을 파싱하여 EmotionAnalysisResponse로 변환합니다.
      * AI는 자연스러운 텍스트로 반환하고, 서버에서 텍스트를 분석하여 JSON 구조로 변환합니다.
      */
-    private EmotionAnalysisResponse parseClovaStudioResponse(Map responseBody) {
+    private EmotionAnalysisResponse parseClovaStudioResponse(ClovaChatCompletionResponse responseBody) {
         
         try {
-            // 응답 구조에서 content 추출
-            Map result = (Map) responseBody.get("result");
-            Map message = (Map) result.get("message");
-            
             // AI가 반환한 자연스러운 텍스트에서 감정 분석 결과 추출
-            String content = (String) message.get("content");
+            return parseEmotionContent(responseBody.content());
+                
+        } catch (Exception e) {
+            log.error("Clova Studio 응답 파싱 중 오류 발생: {}", e.getMessage(), e);
+            throw new RuntimeException("감정 분석 결과 파싱에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * AI가 반환한 자연어 content에서 요약, 감정 점수, 키워드를 추출합니다.
+     * 일반 호출과 스트리밍 호출이 같은 규칙으로 결과를 만들도록 공유합니다.
+     */
+    private EmotionAnalysisResponse parseEmotionContent(String content) {
+        
+        try {
             if (content != null && !content.trim().isEmpty()) {
                 
                 // 1. 요약 텍스트 정리 (줄바꿈, 이모지, 연속 공백 제거)
                 String summary = cleanTextContent(content.trim());
                 
-                // 2. 감정 분석을 위한 키워드 기반 감정 점수 계산
-                List<EmotionAnalysisResponse.EmotionScore> emotions = analyzeEmotionsFromText(summary);
+                // 2. 요약을 한 번만 스캔하여 감정 키워드 매칭
+                EmotionKeywordScanner.ScanResult scan = EmotionKeywordScanner.scan(summary);
                 
-                // 3. 키워드 추출 및 보정
-                List<String> keywords = extractKeywordsFromText(summary);
+                // 3. 키워드 기반 감정 점수 계산
+                List<EmotionAnalysisResponse.EmotionScore> emotions = analyzeEmotionsFromText(scan);
+                
+                // 4. 키워드 추출 및 보정
+                List<String> keywords = extractKeywordsFromText(scan);
                 
                 // 로그 출력
                 log.info("=== Clova Studio 응답 분석 결과 (자연어 처리) ===");
@@ -410,57 +462,38 @@ public class ClovaStudioAdapter {
             return text;
         }
         
-        return text
-            // 줄바꿈 문자들을 공백으로 변환
-            .replaceAll("\\n+", " ")
-            .replaceAll("\\r+", " ")
-            // 연속된 공백을 하나의 공백으로 변환
-            .replaceAll("\\s+", " ")
-            // 앞뒤 공백 제거
-            .trim();
+        // 줄바꿈/연속 공백을 공백 하나로 정리하고 앞뒤 공백 제거 (단일 순회)
+        return TextProfile.of(text).normalized();
     }
     
     /**
-     * 텍스트에서 감정을 분석하여 감정 점수 리스트를 생성합니다.
+     * 스캔 결과에서 감정별 키워드 개수를 기반으로 감정 점수 리스트를 생성합니다.
      */
-    private List<EmotionAnalysisResponse.EmotionScore> analyzeEmotionsFromText(String text) {
+    private List<EmotionAnalysisResponse.EmotionScore> analyzeEmotionsFromText(EmotionKeywordScanner.ScanResult scan) {
         List<EmotionAnalysisResponse.EmotionScore> emotions = new ArrayList<>();
+        int[] counts = scan.emotionCounts();
         
-        // 감정 키워드 매칭 및 점수 계산
-        Map<String, Integer> emotionScores = new HashMap<>();
-        
-        // 기쁨 관련 키워드
-        int joyScore = countEmotionKeywords(text, "행복", "즐거움", "만족", "신남", "기뻐", "좋아", "즐거워");
-        if (joyScore > 0) emotionScores.put("기쁨", joyScore);
-        
-        // 설렘 관련 키워드
-        int excitementScore = countEmotionKeywords(text, "기대", "떨림", "긴장", "두근거림", "설레", "떨려");
-        if (excitementScore > 0) emotionScores.put("설렘", excitementScore);
-        
-        // 평온 관련 키워드
-        int calmScore = countEmotionKeywords(text, "차분함", "여유", "안정", "편안함", "차분해", "편안해");
-        if (calmScore > 0) emotionScores.put("평온", calmScore);
-        
-        // 분노 관련 키워드
-        int angerScore = countEmotionKeywords(text, "화남", "짜증", "열받음", "격분", "화나", "짜증나");
-        if (angerScore > 0) emotionScores.put("분노", angerScore);
-        
-        // 슬픔 관련 키워드
-        int sadnessScore = countEmotionKeywords(text, "슬픔", "우울함", "절망", "허전함", "슬퍼", "우울해");
-        if (sadnessScore > 0) emotionScores.put("슬픔", sadnessScore);
-        
-        // 지침 관련 키워드
-        int confusionScore = countEmotionKeywords(text, "혼란", "막막함", "고민", "갈등", "혼란스러워", "막막해");
-        if (confusionScore > 0) emotionScores.put("지침", confusionScore);
-        
-        // 점수 정규화 및 상위 3개 선택
-        List<Map.Entry<String, Integer>> sortedEmotions = emotionScores.entrySet().stream()
-            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-            .limit(3)
-            .toList();
+        // 점수 내림차순 상위 3개 선택 (동점이면 감정 정의 순서)
+        int[] top = new int[3];
+        int selected = 0;
+        boolean[] used = new boolean[counts.length];
+        while (selected < top.length) {
+            int best = -1;
+            for (int e = 0; e < counts.length; e++) {
+                if (!used[e] && counts[e] > 0 && (best < 0 || counts[e] > counts[best])) {
+                    best = e;
+                }
+            }
+            if (best < 0) break;
+            used[best] = true;
+            top[selected++] = best;
+        }
         
         // 백분율 계산 및 감정 점수 생성
-        int totalScore = sortedEmotions.stream().mapToInt(Map.Entry::getValue).sum();
+        int totalScore = 0;
+        for (int i = 0; i < selected; i++) {
+            totalScore += counts[top[i]];
+        }
         if (totalScore == 0) {
             // 감정이 감지되지 않으면 기본값
             emotions.add(EmotionAnalysisResponse.EmotionScore.builder()
@@ -469,10 +502,10 @@ public class ClovaStudioAdapter {
                 .step(3)
                 .build());
         } else {
-            for (Map.Entry<String, Integer> entry : sortedEmotions) {
-                int percentage = Math.round((float) entry.getValue() / totalScore * 100);
+            for (int i = 0; i < selected; i++) {
+                int percentage = Math.round((float) counts[top[i]] / totalScore * 100);
                 emotions.add(EmotionAnalysisResponse.EmotionScore.builder()
-                    .type(entry.getKey())
+                    .type(EmotionKeywordScanner.EMOTIONS[top[i]])
                     .percentage(percentage)
                     .step(computeStep(percentage))
                     .build());
@@ -483,44 +516,16 @@ public class ClovaStudioAdapter {
     }
     
     /**
-     * 텍스트에서 감정 키워드의 출현 빈도를 계산합니다.
-     */
-    private int countEmotionKeywords(String text, String... keywords) {
-        int count = 0;
-        String lowerText = text.toLowerCase();
-        for (String keyword : keywords) {
-            if (lowerText.contains(keyword.toLowerCase())) {
-                count++;
-            }
-        }
-        return count;
-    }
-    
-    /**
-     * 텍스트에서 키워드를 추출합니다.
+     * 스캔 결과에서 키워드를 추출합니다.
+     * 감정별 대표 키워드가 등장하면 해당 감정의 대표 키워드를 순서대로 채웁니다.
      */
-    private List<String> extractKeywordsFromText(String text) {
+    private List<String> extractKeywordsFromText(EmotionKeywordScanner.ScanResult scan) {
         List<String> keywords = new ArrayList<>();
-        String lowerText = text.toLowerCase();
         
-        // 감정별 키워드 매칭
-        if (lowerText.contains("행복") || lowerText.contains("즐거움") || lowerText.contains("만족")) {
-            addIfAbsent(keywords, "행복", "즐거움", "만족");
-        }
-        if (lowerText.contains("기대") || lowerText.contains("떨림") || lowerText.contains("긴장")) {
-            addIfAbsent(keywords, "기대", "떨림", "긴장");
-        }
-        if (lowerText.contains("차분함") || lowerText.contains("여유") || lowerText.contains("안정")) {
-            addIfAbsent(keywords, "차분함", "여유", "안정");
-        }
-        if (lowerText.contains("화남") || lowerText.contains("짜증") || lowerText.contains("열받음")) {
-            addIfAbsent(keywords, "화남", "짜증", "열받음");
-        }
-        if (lowerText.contains("슬픔") || lowerText.contains("우울함") || lowerText.contains("절망")) {
-            addIfAbsent(keywords, "슬픔", "우울함", "절망");
-        }
-        if (lowerText.contains("혼란") || lowerText.contains("막막함") || lowerText.contains("고민")) {
-            addIfAbsent(keywords, "혼란", "막막함", "고민");
+        for (int e = 0; e < EmotionKeywordScanner.EMOTIONS.length; e++) {
+            if (scan.hasLeadingPoolKeyword(e)) {
+                addIfAbsent(keywords, EmotionKeywordScanner.leadingPoolKeywords(e));
+            }
         }
         
         // 3개 미만이면 기본 키워드로 채우기
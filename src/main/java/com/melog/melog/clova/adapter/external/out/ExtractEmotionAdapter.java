@@ -15,14 +15,14 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.melog.melog.clova.application.port.out.ExtractEmotionPort;
 import com.melog.melog.clova.config.ClovaConfig;
 import com.melog.melog.clova.config.ClovaConfig.StudioProps;
 import com.melog.melog.clova.domain.model.PromptMessage;
 import com.melog.melog.clova.domain.model.request.ExtractEmotionRequest;
+import com.melog.melog.clova.domain.model.response.ClovaChatCompletionResponse;
+import com.melog.melog.clova.domain.model.response.ClovaEmotionResultsContent;
 import com.melog.melog.clova.domain.model.response.ExtractEmotionResponse;
 import com.melog.melog.clova.domain.model.response.ExtractEmotionResponse.EmotionResult;
 import com.melog.melog.emotion.domain.EmotionType;
@@ -50,32 +50,24 @@ public class ExtractEmotionAdapter implements ExtractEmotionPort {
         String url = buildUrl(props);
 
         try {
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
+            ResponseEntity<ClovaChatCompletionResponse> response = restTemplate.exchange(
                     url,
                     HttpMethod.POST,
                     entity,
-                    JsonNode.class);
+                    ClovaChatCompletionResponse.class);
 
-            JsonNode root = response.getBody();
-            JsonNode messageNode = root.path("result").path("message");
-            String contentJson = messageNode.path("content").asText();
+            String contentJson = response.getBody().content();
 
-            // content는 JSON 문자열이므로 다시 파싱
-            JsonNode contentNode = objectMapper.readTree(contentJson);
-            JsonNode emotionNode = contentNode.path("emotionResults");
+            // content는 JSON 문자열이므로 결과 타입으로 바로 파싱
+            ClovaEmotionResultsContent content = objectMapper.readValue(contentJson, ClovaEmotionResultsContent.class);
+            List<ClovaEmotionResultsContent.RawEmotionResult> rawEmotions =
+                    content.getEmotionResults() != null ? content.getEmotionResults() : List.of();
 
-            List<Map<String, Object>> rawEmotions = objectMapper.readValue(
-                emotionNode.traverse(),
-                new TypeReference<>() {}
-        );
-
-            // Map을 EmotionResult로 변환하면서 emotionType 매핑
+            // EmotionResult로 변환하면서 emotionType 매핑
             List<EmotionResult> parsed = rawEmotions.stream()
                     .map(raw -> {
                         // 'type' 또는 'emotion' 키 모두 허용
-                        String typeKo = null;
-                        if (raw.get("type") instanceof String) typeKo = (String) raw.get("type");
-                        else if (raw.get("emotion") instanceof String) typeKo = (String) raw.get("emotion");
+                        String typeKo = raw.typeOrEmotion();
 
                         if (typeKo == null || typeKo.isBlank()) {
                             log.warn("감정 타입 누락 → 기본값 '평온' 처리");
@@ -83,11 +75,9 @@ public class ExtractEmotionAdapter implements ExtractEmotionPort {
                         }
 
                         int percentage;
-                        Object pctObj = raw.get("percentage");
-                        if (pctObj instanceof Integer) percentage = (Integer) pctObj;
-                        else if (pctObj instanceof Number) percentage = ((Number) pctObj).intValue();
+                        if (raw.getPercentage() != null) percentage = raw.getPercentage().intValue();
                         else {
-                            log.warn("percentage 비정상 값: {} → 0으로 대체", pctObj);
+                            log.warn("percentage 비정상 값: null → 0으로 대체");
                             percentage = 0;
                         }
 
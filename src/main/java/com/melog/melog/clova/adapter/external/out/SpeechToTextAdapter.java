@@ -4,6 +4,7 @@ import java.util.UUID;
 import java.util.List;
 import java.util.ArrayList;
 
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -14,12 +15,12 @@ import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.melog.melog.clova.application.port.out.SpeechToTextPort;
 import com.melog.melog.clova.config.ClovaConfig;
 import com.melog.melog.clova.config.ClovaConfig.SpeechProps;
 import com.melog.melog.clova.domain.model.request.SttRequest;
+import com.melog.melog.clova.domain.model.response.ClovaSttApiResponse;
 import com.melog.melog.clova.domain.model.response.SttResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -44,11 +45,12 @@ public class SpeechToTextAdapter implements SpeechToTextPort {
         
         try {
             // Send raw binary data
-            HttpEntity<byte[]> entity = new HttpEntity<>(request.getAudioBinary(), headers);
+            HttpEntity<Resource> entity = new HttpEntity<>(request.getAudio(), headers);
+            long audioSize = request.getAudio().contentLength();
             
             // 🔍 STT 요청 전 오디오 파일 상세 정보 로깅
             log.info("[CLOVA STT] ===== STT 요청 전 오디오 파일 정보 =====");
-            log.info("[CLOVA STT] 1. 오디오 바이너리 크기: {} bytes", request.getAudioBinary().length);
+            log.info("[CLOVA STT] 1. 오디오 바이너리 크기: {} bytes", audioSize);
             log.info("[CLOVA STT] 2. Content-Type 헤더: {}", headers.getContentType());
             log.info("[CLOVA STT] 3. API Key ID: {}", headers.get("X-NCP-APIGW-API-KEY-ID"));
             log.info("[CLOVA STT] 4. API Key 길이: {} characters", headers.get("X-NCP-APIGW-API-KEY") != null ? headers.get("X-NCP-APIGW-API-KEY").get(0).length() : "N/A");
@@ -56,12 +58,12 @@ public class SpeechToTextAdapter implements SpeechToTextPort {
             log.info("[CLOVA STT] ===== STT 요청 전 오디오 파일 정보 완료 =====");
             
             log.info("[CLOVA STT] REQUEST rid={} url={} headers={} bodySize={}bytes", 
-                requestId, url, headers.toSingleValueMap(), request.getAudioBinary().length);
+                requestId, url, headers.toSingleValueMap(), audioSize);
 
-            ResponseEntity<JsonNode> response = restTemplate.exchange(
-                    url, HttpMethod.POST, entity, JsonNode.class);
+            ResponseEntity<ClovaSttApiResponse> response = restTemplate.exchange(
+                    url, HttpMethod.POST, entity, ClovaSttApiResponse.class);
 
-            JsonNode root = response.getBody();
+            ClovaSttApiResponse root = response.getBody();
             if (root == null) {
                 throw new RuntimeException("CLOVA Speech API returned empty response");
             }
@@ -140,87 +142,63 @@ public class SpeechToTextAdapter implements SpeechToTextPort {
         return headers;
     }
 
-    private SttResponse parseResponse(JsonNode root, SttRequest request) {
-        // 🔍 데이터 흐름 추적을 위한 상세 로깅
+    private SttResponse parseResponse(ClovaSttApiResponse root, SttRequest request) {
         log.info("[CLOVA STT] ===== STT 응답 파싱 시작 =====");
-        log.info("[CLOVA STT] 1. 원본 응답 전체: {}", root.toPrettyString());
-        log.info("[CLOVA STT] 2. root 객체 타입: {}", root.getClass().getSimpleName());
-        log.info("[CLOVA STT] 3. root가 null인가? {}", root == null);
+        log.info("[CLOVA STT] 1. 원본 응답: {}", root);
         
-        // text 필드 추출 과정 상세 로깅
-        JsonNode textNode = root.path("text");
-        log.info("[CLOVA STT] 4. text 노드 존재 여부: {}", textNode.isMissingNode() ? "MISSING" : "EXISTS");
-        log.info("[CLOVA STT] 5. text 노드 타입: {}", textNode.getNodeType());
-        log.info("[CLOVA STT] 6. text 노드 값: '{}'", textNode.asText(""));
+        String text = root.getText() != null ? root.getText() : "";
+        log.info("[CLOVA STT] 2. text 필드 존재 여부: {}", root.getText() != null ? "EXISTS" : "MISSING");
+        log.info("[CLOVA STT] 3. 파싱된 text: '{}'", text);
+        log.info("[CLOVA STT] 4. text 길이: {}", text.length());
         
-        String text = root.path("text").asText("");
-        log.info("[CLOVA STT] 7. 파싱된 text: '{}'", text);
-        log.info("[CLOVA STT] 8. text 길이: {}", text.length());
-        log.info("[CLOVA STT] 9. text가 빈 문자열인가? {}", text.isEmpty());
+        Integer quota = root.getQuota() != null ? root.getQuota() : 0;
+        Integer assessmentScore = root.getAssessmentScore() != null ? root.getAssessmentScore() : 0;
+        String assessmentDetails = root.getAssessmentDetails() != null ? root.getAssessmentDetails() : "";
         
-        // 다른 필드들도 확인
-        Integer quota = root.path("quota").asInt(0);
-        Integer assessmentScore = root.path("assessment_score").asInt(0);
-        String assessmentDetails = root.path("assessment_details").asText("");
-        
-        log.info("[CLOVA STT] 10. Quota: {}, Assessment Score: {}, Details: '{}'", quota, assessmentScore, assessmentDetails);
+        log.info("[CLOVA STT] 5. Quota: {}, Assessment Score: {}, Details: '{}'", quota, assessmentScore, assessmentDetails);
         
         // 🔍 text가 비어있을 때 추가 분석
-        if (text == null || text.trim().isEmpty()) {
+        if (text.trim().isEmpty()) {
             log.warn("[CLOVA STT] ⚠️ STT 결과가 비어있습니다! 상세 분석 시작");
             log.warn("[CLOVA STT] ⚠️ 1. HTTP 상태: 성공 (200)");
-            log.warn("[CLOVA STT] ⚠️ 2. text 필드 존재: {}", !textNode.isMissingNode());
-            log.warn("[CLOVA STT] ⚠️ 3. text 필드 타입: {}", textNode.getNodeType());
-            log.warn("[CLOVA STT] ⚠️ 4. text 필드 원본 값: '{}'", textNode.toString());
-            log.warn("[CLOVA STT] ⚠️ 5. assessment_score: {}", assessmentScore);
-            log.warn("[CLOVA STT] ⚠️ 6. assessment_details: '{}'", assessmentDetails);
-            log.warn("[CLOVA STT] ⚠️ 7. quota: {}", quota);
+            log.warn("[CLOVA STT] ⚠️ 2. text 필드 존재: {}", root.getText() != null);
+            log.warn("[CLOVA STT] ⚠️ 3. assessment_score: {}", assessmentScore);
+            log.warn("[CLOVA STT] ⚠️ 4. assessment_details: '{}'", assessmentDetails);
+            log.warn("[CLOVA STT] ⚠️ 5. quota: {}", quota);
             
             // NCloud STT API의 특정 응답 패턴 확인
-            if (assessmentScore != null && assessmentScore > 0) {
-                log.warn("[CLOVA STT] ⚠️ 8. 음성 품질 점수: {} (점수가 낮으면 인식률 저하)", assessmentScore);
+            if (assessmentScore > 0) {
+                log.warn("[CLOVA STT] ⚠️ 6. 음성 품질 점수: {} (점수가 낮으면 인식률 저하)", assessmentScore);
             }
-            if (assessmentDetails != null && !assessmentDetails.isEmpty()) {
-                log.warn("[CLOVA STT] ⚠️ 9. 음성 품질 상세: {}", assessmentDetails);
+            if (!assessmentDetails.isEmpty()) {
+                log.warn("[CLOVA STT] ⚠️ 7. 음성 품질 상세: {}", assessmentDetails);
             }
         }
         
-        // 모든 필드 키 확인
-        log.info("[CLOVA STT] 11. 응답에 포함된 모든 필드 키들:");
-        root.fieldNames().forEachRemaining(key -> {
-            JsonNode value = root.get(key);
-            log.info("[CLOVA STT]    - {}: {} (타입: {})", key, value.asText(""), value.getNodeType());
-        });
-        
-        // Parse graph arrays
-        List<Integer> refGraph = parseGraphArray(root.path("ref_graph"));
-        List<Integer> usrGraph = parseGraphArray(root.path("usr_graph"));
-        
         SttResponse sttResponse = SttResponse.builder()
                 .text(text)
                 .quota(quota)
                 .assessmentScore(assessmentScore)
                 .assessmentDetails(assessmentDetails)
-                .refGraph(refGraph)
-                .usrGraph(usrGraph)
+                .refGraph(parseGraphArray(root.getRefGraph()))
+                .usrGraph(parseGraphArray(root.getUsrGraph()))
                 .language(request.getLanguage())
                 .build();
         
-        log.info("[CLOVA STT] 12. 생성된 SttResponse 객체의 text: '{}'", sttResponse.getText());
+        log.info("[CLOVA STT] 6. 생성된 SttResponse 객체의 text: '{}'", sttResponse.getText());
         log.info("[CLOVA STT] ===== STT 응답 파싱 완료 =====");
         
         return sttResponse;
     }
     
-    private List<Integer> parseGraphArray(JsonNode graphNode) {
-        if (graphNode.isArray()) {
-            List<Integer> graph = new ArrayList<>();
-            for (JsonNode node : graphNode) {
-                graph.add(node.asInt(0));
+    private List<Integer> parseGraphArray(List<Integer> graph) {
+        List<Integer> parsed = new ArrayList<>();
+        if (graph != null) {
+            for (Integer value : graph) {
+                parsed.add(value != null ? value : 0);
             }
-            return graph;
         }
-        return new ArrayList<>();
+        return parsed;
     }
 
     private RuntimeException createClovaException(HttpStatusCodeException e) {
@@ -233,9 +211,9 @@ public class SpeechToTextAdapter implements SpeechToTextPort {
         }
         
         try {
-            JsonNode errorNode = objectMapper.readTree(responseBody);
-            String errorCode = errorNode.path("errorCode").asText();
-            String errorMessage = errorNode.path("errorMessage").asText();
+            ClovaSttApiResponse error = objectMapper.readValue(responseBody, ClovaSttApiResponse.class);
+            String errorCode = error.getErrorCode() != null ? error.getErrorCode() : "";
+            String errorMessage = error.getErrorMessage() != null ? error.getErrorMessage() : "";
 
             return switch (errorCode) {
                 case "STT000" -> new RuntimeException("File size exceeded (3MB limit): " + errorMessage);
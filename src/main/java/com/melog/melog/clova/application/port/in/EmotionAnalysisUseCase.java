@@ -3,6 +3,8 @@ package com.melog.melog.clova.application.port.in;
 import com.melog.melog.clova.domain.model.request.EmotionAnalysisRequest;
 import com.melog.melog.clova.domain.model.response.EmotionAnalysisResponse;
 
+import java.util.function.Consumer;
+
 public interface EmotionAnalysisUseCase {
     
     /**
@@ -12,4 +14,13 @@ public interface EmotionAnalysisUseCase {
      * @return 감정 분석 결과 (요약 + 감정 점수)
      */
     EmotionAnalysisResponse analyzeEmotion(EmotionAnalysisRequest request);
+
+    /**
+     * 요약 토큰을 스트리밍으로 전달하면서 감정 분석을 수행합니다.
+     * 
+     * @param request 감정 분석 요청 (텍스트 + 프롬프트)
+     * @param onSummaryToken 요약 토큰이 도착할 때마다 호출되는 콜백
+     * @return 스트림 완료 후 계산된 최종 감정 분석 결과
+     */
+    EmotionAnalysisResponse analyzeEmotionStreaming(EmotionAnalysisRequest request, Consumer<String> onSummaryToken);
 }
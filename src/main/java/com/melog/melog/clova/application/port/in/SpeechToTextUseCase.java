@@ -3,6 +3,8 @@ package com.melog.melog.clova.application.port.in;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.melog.melog.clova.domain.model.response.SttResponse;
+import com.melog.melog.common.audio.AudioInfo;
+import com.melog.melog.common.audio.AudioIngestBuffer;
 
 public interface SpeechToTextUseCase {
 
@@ -12,5 +14,16 @@ public interface SpeechToTextUseCase {
      * 음성 파일을 텍스트로 변환 (간단 버전)
      */
     String recognizeToText(MultipartFile audio, String language);
+
+    /**
+     * 수집 버퍼에 한 번 읽어 둔 음성 데이터를 텍스트로 변환
+     * 같은 버퍼로 S3 업로드를 동시에 진행할 때 사용합니다.
+     */
+    String recognizeToText(AudioIngestBuffer audio, String language);
+
+    /**
+     * 음성 헤더만 읽어 길이를 계산하고, CLOVA Speech 최대 길이를 넘으면 STT 호출 전에 거절
+     */
+    AudioInfo probe(AudioIngestBuffer audio);
     
 }
@@ -4,10 +4,33 @@ import com.melog.melog.clova.application.port.in.EmotionAnalysisUseCase;
 import com.melog.melog.clova.domain.model.request.EmotionAnalysisRequest;
 import com.melog.melog.clova.domain.model.response.EmotionAnalysisResponse;
 import com.melog.melog.clova.adapter.external.out.ClovaStudioAdapter;
+import com.melog.melog.clova.config.ClovaConfig;
+import com.melog.melog.clova.domain.EmotionKeywordScanner;
+import com.melog.melog.common.util.TextProfile;
+import com.melog.melog.emotion.application.port.out.EmotionAnalysisCachePersistencePort;
+import com.melog.melog.emotion.domain.EmotionAnalysisCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -15,6 +38,11 @@ import java.util.List;
 public class ClovaStudioEmotionService implements EmotionAnalysisUseCase {
 
     private final ClovaStudioAdapter clovaStudioAdapter;
+    private final ClovaConfig clovaConfig;
+    private final EmotionAnalysisCachePersistencePort emotionAnalysisCachePersistencePort;
+    private final ObjectMapper objectMapper;
+    private final ClovaStudioHedgePolicy clovaStudioHedgePolicy;
+    private final ThreadPoolTaskExecutor clovaHedgeTaskExecutor;
 
     @Override
     public EmotionAnalysisResponse analyzeEmotion(EmotionAnalysisRequest request) {
@@ -35,22 +63,50 @@ public class ClovaStudioEmotionService implements EmotionAnalysisUseCase {
         }
     }
 
+    @Override
+    public EmotionAnalysisResponse analyzeEmotionStreaming(EmotionAnalysisRequest request, Consumer<String> onSummaryToken) {
+        log.info("Clova Studio 스트리밍 감정 분석 시작: 텍스트 길이 = {}", request.getText().length());
+
+        String cacheKey = generateAnalysisCacheKey(request.getText());
+        EmotionAnalysisResponse cached = findCachedAnalysis(cacheKey);
+        if (cached != null) {
+            // 캐시 히트 시 요약 전체를 한 번에 전달
+            log.info("감정 분석 캐시 히트: cacheKey={}", cacheKey);
+            onSummaryToken.accept(cached.getSummary());
+            return cached;
+        }
+
+        try {
+            EmotionAnalysisResponse response = clovaStudioAdapter.analyzeEmotionStreaming(EmotionAnalysisRequest.builder()
+                .text(request.getText())
+                .build(), onSummaryToken);
+
+            response = normalizeEmotionsAndKeywords(response);
+            storeAnalysis(cacheKey, response);
+
+            log.info("Clova Studio 스트리밍 감정 분석 완료: 요약 길이 = {}, 감정 개수 = {}",
+                    response.getSummary().length(), response.getEmotions().size());
+
+            return response;
+
+        } catch (Exception e) {
+            log.error("Clova Studio 스트리밍 감정 분석 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("감정 분석에 실패했습니다.", e);
+        }
+    }
+
     // === [추가] 규칙 검증 유틸 ===
     private static boolean isSummaryLengthOk(String s, int min, int max) {
         if (s == null) return false;
-        int len = s.replaceAll("\\s+", " ").trim().length();
+        int len = TextProfile.of(s).normalizedLength();
         return len >= min && len <= max;
     }
 
     // 2인칭 대화체 힌트(완벽 검증은 아니어도 제3자/나레이터 억제에 도움)
     private static boolean looksSecondPerson(String s) {
         if (s == null) return false;
-        // "~요", "~셨군요", "~느껴졌네요" 같은 구어체 어미가 3회 이상이면 OK
-        int hits = 0;
-        for (String pat : new String[] {"요.", "요!", "셨군요", "셨네요", "느껴졌네요", "하셨겠어요"}) {
-            hits += s.split(pat, -1).length - 1;
-        }
-        return hits >= 3;
+        // "~요.", "~셨군요", "~느껴졌네요" 같은 구어체 어미가 3회 이상이면 OK
+        return TextProfile.of(s).honorificEndingCount() >= 3;
     }
 
     // 키워드가 Top3 감정의 풀 안에서만 나왔는지
@@ -58,14 +114,7 @@ public class ClovaStudioEmotionService implements EmotionAnalysisUseCase {
         if (kws == null || emos == null || emos.isEmpty()) return false;
         java.util.Set<String> allowed = new java.util.HashSet<>();
         for (int i = 0; i < Math.min(3, emos.size()); i++) {
-            switch (emos.get(i).getType()) {
-                case "기쁨" -> allowed.addAll(java.util.List.of("행복","즐거움","만족","신남"));
-                case "설렘" -> allowed.addAll(java.util.List.of("기대","떨림","긴장","두근거림"));
-                case "평온" -> allowed.addAll(java.util.List.of("차분함","여유","안정","편안함"));
-                case "분노" -> allowed.addAll(java.util.List.of("화남","짜증","열받음","격분"));
-                case "슬픔" -> allowed.addAll(java.util.List.of("슬픔","우울함","절망","허전함"));
-                default     -> allowed.addAll(java.util.List.of("혼란","막막함","고민","갈등")); // 지침
-            }
+            allowed.addAll(EmotionKeywordScanner.poolOf(emos.get(i).getType())); // 알 수 없는 감정은 지침 풀
         }
         return kws.stream().allMatch(allowed::contains);
     }
@@ -89,38 +138,15 @@ public class ClovaStudioEmotionService implements EmotionAnalysisUseCase {
         emos.sort((a,b)->Integer.compare(b.getPercentage(), a.getPercentage()));
         java.util.Set<String> allowed = new java.util.HashSet<>();
         for (int i = 0; i < Math.min(3, emos.size()); i++) {
-            switch (emos.get(i).getType()) {
-                case "기쁨" -> allowed.addAll(java.util.List.of("행복","즐거움","만족","신남"));
-                case "설렘" -> allowed.addAll(java.util.List.of("기대","떨림","긴장","두근거림"));
-                case "평온" -> allowed.addAll(java.util.List.of("차분함","여유","안정","편안함"));
-                case "분노" -> allowed.addAll(java.util.List.of("화남","짜증","열받음","격분"));
-                case "슬픔" -> allowed.addAll(java.util.List.of("슬픔","우울함","절망","허전함"));
-                default     -> allowed.addAll(java.util.List.of("혼란","막막함","고민","갈등"));
-            }
+            allowed.addAll(EmotionKeywordScanner.poolOf(emos.get(i).getType()));
         }
         var kws = new java.util.ArrayList<>(r.getKeywords() == null ? java.util.List.<String>of() : r.getKeywords());
         kws.removeIf(k -> !allowed.contains(k));
         // 부족분 채우기
         int idx = 0;
-        String[][] fill = {
-            {"행복","즐거움","만족","신남"},
-            {"기대","떨림","긴장","두근거림"},
-            {"차분함","여유","안정","편안함"},
-            {"화남","짜증","열받음","격분"},
-            {"슬픔","우울함","절망","허전함"},
-            {"혼란","막막함","고민","갈등"}
-        };
         while (kws.size() < 3 && !emos.isEmpty()) {
             String top = emos.get(Math.min(idx, emos.size()-1)).getType();
-            String[] cand = switch (top) {
-                case "기쁨" -> fill[0];
-                case "설렘" -> fill[1];
-                case "평온" -> fill[2];
-                case "분노" -> fill[3];
-                case "슬픔" -> fill[4];
-                default     -> fill[5];
-            };
-            for (String c : cand) if (kws.size() < 3 && !kws.contains(c) && allowed.contains(c)) kws.add(c);
+            for (String c : EmotionKeywordScanner.poolOf(top)) if (kws.size() < 3 && !kws.contains(c) && allowed.contains(c)) kws.add(c);
             idx++;
         }
         if (kws.size() > 3) kws = new java.util.ArrayList<>(kws.subList(0,3));
@@ -134,17 +160,182 @@ public class ClovaStudioEmotionService implements EmotionAnalysisUseCase {
 
     // === [수정] 성능 개선을 위해 1차 시도만 수행 ===
     public EmotionAnalysisResponse analyzeCompliant(String text, int minLen, int maxLen) {
-        // 1차 시도만 수행 (성능 개선)
-        EmotionAnalysisResponse response = clovaStudioAdapter.analyzeEmotion(EmotionAnalysisRequest.builder()
-            .text(text)
-            .build());
+        // 동일 텍스트 + 프롬프트 버전 + 모델 조합의 분석 결과가 있으면 Clova 호출 생략
+        String cacheKey = generateAnalysisCacheKey(text);
+        EmotionAnalysisResponse cached = findCachedAnalysis(cacheKey);
+        if (cached != null) {
+            log.info("감정 분석 캐시 히트: cacheKey={}", cacheKey);
+            return cached;
+        }
+
+        // 1차 시도만 수행 (성능 개선), 헤징 모드에서는 지연 시 보조 요청을 함께 사용
+        EmotionAnalysisResponse response = clovaStudioHedgePolicy.isEnabled()
+            ? requestWithHedging(text, minLen, maxLen)
+            : requestAnalysis(text);
         
         // 응답 정규화
         response = normalizeEmotionsAndKeywords(response);
         
         log.info("Clova Studio 감정 분석 완료 (1차 시도): 요약 길이 = {}, 감정 개수 = {}", 
                 response.getSummary().length(), response.getEmotions().size());
+
+        storeAnalysis(cacheKey, response);
         
         return response;
     }
+
+    // === 헤징 요청 ===
+
+    private EmotionAnalysisResponse requestAnalysis(String text) {
+        long startedAt = System.nanoTime();
+        EmotionAnalysisResponse response = clovaStudioAdapter.analyzeEmotion(EmotionAnalysisRequest.builder()
+            .text(text)
+            .build());
+        clovaStudioHedgePolicy.recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return response;
+    }
+
+    /**
+     * 1차 요청이 백분위 지연 안에 끝나지 않으면 보조 요청을 보내고,
+     * 요약 길이/2인칭 어미 검증을 먼저 통과한 응답을 채택한 뒤 나머지 요청은 취소합니다.
+     * 둘 다 검증에 실패하면 먼저 도착한 응답을 사용하고, 둘 다 실패하면 예외를 던집니다.
+     *
+     * 취소는 최선 노력(best-effort)입니다. Future.cancel(true)는 블로킹 RestTemplate 호출을 중단하지 못하므로
+     * 진 요청은 응답이 오거나 clovaStudioRestTemplate의 연결/읽기 타임아웃(CLOVA_STUDIO_TIMEOUT_MS)이 지날 때까지
+     * 스레드와 Clova 호출 한도를 사용합니다. 그래서 보조 요청은 실제로 끝날 때까지 헤징 예산(동시 보조 요청 수)에 포함하고,
+     * 실행 전에 취소된 보조 요청은 Clova를 호출하지 않고 슬롯만 반환합니다.
+     */
+    private EmotionAnalysisResponse requestWithHedging(String text, int minLen, int maxLen) {
+        ExecutorCompletionService<EmotionAnalysisResponse> completionService =
+                new ExecutorCompletionService<>(clovaHedgeTaskExecutor);
+        clovaStudioHedgePolicy.onPrimaryRequest();
+        Future<EmotionAnalysisResponse> primary = completionService.submit(() -> requestAnalysis(text));
+        Future<EmotionAnalysisResponse> hedge = null;
+        // 보조 요청 슬롯 반환 책임: 보조 요청이 먼저 실행되면 요청이 끝난 뒤, 실행 전에 취소되면 여기서 반환
+        AtomicBoolean hedgeSlotClaimed = new AtomicBoolean(false);
+
+        try {
+            Future<EmotionAnalysisResponse> done = completionService.poll(clovaStudioHedgePolicy.hedgeDelayMs(), TimeUnit.MILLISECONDS);
+            if (done != null || !clovaStudioHedgePolicy.tryAcquireHedge()) {
+                return primary.get();
+            }
+
+            log.info("Clova Studio 1차 요청 지연, 보조 요청 전송");
+            hedge = completionService.submit(() -> {
+                if (!hedgeSlotClaimed.compareAndSet(false, true)) {
+                    throw new CancellationException("보조 요청이 실행 전에 취소되었습니다.");
+                }
+                try {
+                    return requestAnalysis(text);
+                } finally {
+                    clovaStudioHedgePolicy.releaseHedge();
+                }
+            });
+
+            EmotionAnalysisResponse fallback = null;
+            boolean fallbackFromHedge = false;
+            ExecutionException lastError = null;
+            for (int i = 0; i < 2; i++) {
+                Future<EmotionAnalysisResponse> completed = completionService.take();
+                boolean fromHedge = completed == hedge;
+                try {
+                    EmotionAnalysisResponse candidate = completed.get();
+                    if (isSummaryLengthOk(candidate.getSummary(), minLen, maxLen) && looksSecondPerson(candidate.getSummary())) {
+                        clovaStudioHedgePolicy.recordWinner(fromHedge);
+                        return candidate;
+                    }
+                    if (fallback == null) {
+                        fallback = candidate;
+                        fallbackFromHedge = fromHedge;
+                    }
+                } catch (ExecutionException e) {
+                    log.warn("Clova Studio {} 요청 실패: {}", fromHedge ? "보조" : "1차", e.getCause().getMessage());
+                    lastError = e;
+                }
+            }
+
+            if (fallback != null) {
+                clovaStudioHedgePolicy.recordWinner(fallbackFromHedge);
+                return fallback;
+            }
+            throw new RuntimeException("감정 분석 요청이 모두 실패했습니다.", lastError.getCause());
+
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("감정 분석 요청이 중단되었습니다.", e);
+        } finally {
+            // 이미 끝난 요청에는 영향 없음, 진행 중인 HTTP 호출은 응답 또는 타임아웃 후 폐기됨
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+                if (hedgeSlotClaimed.compareAndSet(false, true)) {
+                    clovaStudioHedgePolicy.releaseHedge();
+                }
+            }
+        }
+    }
+
+    // === 감정 분석 결과 캐시 ===
+
+    /**
+     * 정규화된 텍스트, 프롬프트 버전, 모델명을 조합하여 SHA-256 캐시 키를 생성합니다.
+     * 공백만 다른 텍스트는 같은 키로 취급합니다.
+     */
+    private String generateAnalysisCacheKey(String text) {
+        String normalized = TextProfile.of(text).normalized();
+        var studio = clovaConfig.getStudio();
+        String source = normalized + "\n" + studio.getPromptVersion() + "\n" + studio.getModel();
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("감정 분석 캐시 키 생성에 실패했습니다.", e);
+        }
+    }
+
+    private EmotionAnalysisResponse findCachedAnalysis(String cacheKey) {
+        return emotionAnalysisCachePersistencePort.findValidByCacheKey(cacheKey, LocalDateTime.now())
+                .map(cache -> {
+                    try {
+                        return objectMapper.readValue(cache.getResultJson(), EmotionAnalysisResponse.class);
+                    } catch (Exception e) {
+                        log.warn("감정 분석 캐시 역직렬화 실패, 캐시 무시: cacheKey={}, error={}", cacheKey, e.getMessage());
+                        return null;
+                    }
+                })
+                .orElse(null);
+    }
+
+    private void storeAnalysis(String cacheKey, EmotionAnalysisResponse response) {
+        try {
+            var studio = clovaConfig.getStudio();
+            emotionAnalysisCachePersistencePort.save(EmotionAnalysisCache.builder()
+                    .cacheKey(cacheKey)
+                    .promptVersion(studio.getPromptVersion())
+                    .model(studio.getModel())
+                    .resultJson(objectMapper.writeValueAsString(response))
+                    .expiresAt(LocalDateTime.now().plusHours(studio.getAnalysisCacheTtlHours()))
+                    .build());
+        } catch (Exception e) {
+            log.warn("감정 분석 캐시 저장 실패: cacheKey={}, error={}", cacheKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 애플리케이션 기동 시와 주기적으로(기본: 매시 10분) 이전 프롬프트 버전과 만료된 분석 캐시를 정리합니다.
+     * CLOVA_STUDIO_PROMPT_VERSION을 올리면 기존 캐시는 키 불일치로 사용되지 않으며, 여기서 삭제됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${CLOVA_STUDIO_ANALYSIS_CACHE_CLEANUP_CRON:0 10 * * * *}")
+    public void evictStaleAnalysisCache() {
+        try {
+            emotionAnalysisCachePersistencePort.deleteByPromptVersionNot(clovaConfig.getStudio().getPromptVersion());
+            emotionAnalysisCachePersistencePort.deleteExpired(LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("감정 분석 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
 }
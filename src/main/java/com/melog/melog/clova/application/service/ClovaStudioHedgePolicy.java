@@ -0,0 +1,134 @@
+package com.melog.melog.clova.application.service;
+
+import com.melog.melog.clova.config.ClovaConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Clova Studio 감정 분석 헤징 정책
+ *
+ * 최근 감정 분석 응답 시간을 링 버퍼에 기록하여 설정된 백분위(p90 등) 지연을 계산하고,
+ * 1차 요청이 이 지연 안에 끝나지 않으면 보조 요청을 보낼지 결정합니다.
+ *
+ * 보조 요청 비율은 토큰 버킷으로 제한합니다. 1차 요청마다 maxRate 만큼 토큰이 쌓이고,
+ * 보조 요청 1건이 토큰 1개를 소모합니다. 따라서 장기적으로 보조 요청 비율은 maxRate를 넘지 않습니다.
+ *
+ * 진 요청의 취소는 블로킹 HTTP 호출을 중단하지 못하므로, 보조 요청은 채택 여부와 관계없이
+ * 실제로 끝날 때까지(최대 Studio 타임아웃) 동시 보조 요청 수에 포함되며 그 수도 제한합니다.
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+@Component
+public class ClovaStudioHedgePolicy {
+
+    private static final int WINDOW_SIZE = 200;
+    private static final int MIN_SAMPLES = 20;
+    private static final double MAX_BURST_TOKENS = 5.0;
+    // 동시에 진행 중인 보조 요청 수 상한 (clova-hedge 스레드 풀 코어 크기)
+    private static final int MAX_IN_FLIGHT_HEDGES = 4;
+
+    private final ClovaConfig clovaConfig;
+
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private int latencyCount;
+    private int latencyIndex;
+    private double hedgeTokens;
+    private int inFlightHedges;
+
+    private final Counter hedgeFiredCounter;
+    private final Counter hedgeThrottledCounter;
+    private final Counter primaryWinCounter;
+    private final Counter hedgeWinCounter;
+
+    public ClovaStudioHedgePolicy(ClovaConfig clovaConfig, MeterRegistry meterRegistry) {
+        this.clovaConfig = clovaConfig;
+        this.hedgeFiredCounter = meterRegistry.counter("clova.studio.hedge.fired");
+        this.hedgeThrottledCounter = meterRegistry.counter("clova.studio.hedge.throttled");
+        this.primaryWinCounter = meterRegistry.counter("clova.studio.hedge.wins", "winner", "primary");
+        this.hedgeWinCounter = meterRegistry.counter("clova.studio.hedge.wins", "winner", "hedge");
+    }
+
+    public boolean isEnabled() {
+        return clovaConfig.getStudio().isHedgeEnabled();
+    }
+
+    /**
+     * 감정 분석 요청 1건의 응답 시간을 기록합니다.
+     */
+    public synchronized void recordLatency(long latencyMs) {
+        latencies[latencyIndex] = latencyMs;
+        latencyIndex = (latencyIndex + 1) % WINDOW_SIZE;
+        if (latencyCount < WINDOW_SIZE) {
+            latencyCount++;
+        }
+    }
+
+    /**
+     * 보조 요청을 보내기까지 기다릴 시간
+     * 샘플이 충분하지 않으면 초기 지연 설정값을 사용합니다.
+     */
+    public long hedgeDelayMs() {
+        var studio = clovaConfig.getStudio();
+        long[] samples;
+        synchronized (this) {
+            if (latencyCount < MIN_SAMPLES) {
+                return studio.getHedgeInitialDelayMs();
+            }
+            samples = Arrays.copyOf(latencies, latencyCount);
+        }
+        Arrays.sort(samples);
+        int percentile = Math.max(1, Math.min(99, studio.getHedgePercentile()));
+        int index = (int) Math.ceil(percentile / 100.0 * samples.length) - 1;
+        return samples[Math.max(0, index)];
+    }
+
+    /**
+     * 1차 요청 1건을 기록하여 보조 요청 토큰을 적립합니다.
+     */
+    public synchronized void onPrimaryRequest() {
+        hedgeTokens = Math.min(MAX_BURST_TOKENS, hedgeTokens + clovaConfig.getStudio().getHedgeMaxRate());
+    }
+
+    /**
+     * 보조 요청을 보낼 수 있으면 토큰과 동시 요청 슬롯을 하나씩 사용하고 true를 반환합니다.
+     * true를 반환한 경우 보조 요청이 끝나면(또는 실행 전에 취소되면) releaseHedge()를 한 번 호출해야 합니다.
+     */
+    public boolean tryAcquireHedge() {
+        boolean acquired;
+        synchronized (this) {
+            acquired = hedgeTokens >= 1.0 && inFlightHedges < MAX_IN_FLIGHT_HEDGES;
+            if (acquired) {
+                hedgeTokens -= 1.0;
+                inFlightHedges++;
+            }
+        }
+        (acquired ? hedgeFiredCounter : hedgeThrottledCounter).increment();
+        return acquired;
+    }
+
+    /**
+     * 보조 요청이 끝나 동시 요청 슬롯을 반환합니다.
+     */
+    public synchronized void releaseHedge() {
+        if (inFlightHedges > 0) {
+            inFlightHedges--;
+        }
+    }
+
+    public synchronized int getInFlightHedges() {
+        return inFlightHedges;
+    }
+
+    /**
+     * 헤징이 발생한 요청에서 채택된 응답을 기록합니다.
+     *
+     * @param hedgeWon 보조 요청 응답이 채택되었으면 true
+     */
+    public void recordWinner(boolean hedgeWon) {
+        (hedgeWon ? hedgeWinCounter : primaryWinCounter).increment();
+    }
+}
@@ -4,20 +4,35 @@ import com.melog.melog.clova.application.port.in.MonthlySummaryUseCase;
 import com.melog.melog.clova.domain.model.request.MonthlySummaryRequest;
 import com.melog.melog.clova.domain.model.response.MonthlySummaryResponse;
 import com.melog.melog.clova.adapter.external.out.ClovaStudioAdapter;
+import com.melog.melog.clova.config.ClovaConfig;
+import com.melog.melog.emotion.application.port.out.MonthlySummaryCachePersistencePort;
+import com.melog.melog.emotion.domain.MonthlySummaryCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MonthlySummaryService implements MonthlySummaryUseCase {
 
+    private static final String SUMMARY_CACHE_METRIC = "clova.studio.summary.cache";
+
     private final ClovaStudioAdapter clovaStudioAdapter;
+    private final ClovaConfig clovaConfig;
+    private final MonthlySummaryCachePersistencePort monthlySummaryCachePersistencePort;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public MonthlySummaryResponse generateMonthlySummary(MonthlySummaryRequest request) {
@@ -32,12 +47,45 @@ public class MonthlySummaryService implements MonthlySummaryUseCase {
                         .build();
             }
 
-            // Clova Studio에 감정 분포 기반 요약 요청
-            String prompt = buildEmotionDistributionPrompt(request.getMonth(), request.getEmotionDistribution());
+            var studio = clovaConfig.getStudio();
+            if (!studio.isSummaryCacheEnabled()) {
+                // 캐시를 사용하지 않으면 원래 감정 분포 그대로 요청
+                String prompt = buildEmotionDistributionPrompt(request.getMonth(), request.getEmotionDistribution());
+                return parseClovaResponse(clovaStudioAdapter.generateText(prompt));
+            }
+
+            // 감정 분포를 구간 단위로 양자화하여, 같은 구간의 사용자끼리 응답을 공유
+            Map<String, Double> quantizedDistribution = quantize(request.getEmotionDistribution());
+            String prompt = buildEmotionDistributionPrompt(request.getMonth(), quantizedDistribution);
+            String cacheKey = buildCacheKey(request.getMonth(), quantizedDistribution);
+            List<MonthlySummaryCache> variants = monthlySummaryCachePersistencePort.findByCacheKey(cacheKey);
+            int maxVariants = Math.max(1, studio.getSummaryCacheVariants());
+            if (variants.size() >= maxVariants) {
+                MonthlySummaryCache cached = variants.get(ThreadLocalRandom.current().nextInt(variants.size()));
+                meterRegistry.counter(SUMMARY_CACHE_METRIC, "result", "hit").increment();
+                log.info("월별 요약 캐시 적중 - 월: {}, 변형: {}/{}", request.getMonth(), cached.getVariant(), variants.size());
+                return MonthlySummaryResponse.builder()
+                        .summary(cached.getSummary())
+                        .advice(cached.getAdvice())
+                        .build();
+            }
+
+            // 변형이 아직 N개 미만이면 새로 생성하여 다음 변형 번호로 저장
+            meterRegistry.counter(SUMMARY_CACHE_METRIC, "result", "miss").increment();
             String clovaResponse = clovaStudioAdapter.generateText(prompt);
             
             // 응답 파싱
             MonthlySummaryResponse response = parseClovaResponse(clovaResponse);
+            // 형식에 맞지 않아 기본 문구로 채워진 응답은 공유하지 않음
+            if (clovaResponse != null && clovaResponse.contains("요약:") && clovaResponse.contains("조언:")) {
+                monthlySummaryCachePersistencePort.save(MonthlySummaryCache.builder()
+                        .cacheKey(cacheKey)
+                        .variant(variants.size())
+                        .month(request.getMonth())
+                        .summary(response.getSummary())
+                        .advice(response.getAdvice())
+                        .build());
+            }
             
             log.info("월별 요약 생성 완료 - 요약 길이: {}", response.getSummary().length());
             
@@ -50,6 +98,7 @@ public class MonthlySummaryService implements MonthlySummaryUseCase {
             return MonthlySummaryResponse.builder()
                     .summary("감정 요약을 생성하는 중 오류가 발생했습니다.")
                     .advice("잠시 후 다시 시도해주세요.")
+                    .fallback(true)
                     .build();
         }
     }
@@ -133,4 +182,36 @@ public class MonthlySummaryService implements MonthlySummaryUseCase {
                 .build();
     }
 
-} 
+    /**
+     * 감정 분포의 각 백분율을 가장 가까운 구간 값으로 반올림합니다. (예: 5% 구간이면 37.3 → 35, 38.0 → 40)
+     * 구간의 절반 미만인 감정은 0이 되어 프롬프트에서 제외됩니다.
+     */
+    private Map<String, Double> quantize(Map<String, Double> emotionDistribution) {
+        int bucket = Math.max(1, clovaConfig.getStudio().getSummaryBucketPercent());
+        Map<String, Double> quantized = new TreeMap<>();
+        emotionDistribution.forEach((emotion, percentage) -> {
+            double value = percentage != null ? percentage : 0.0;
+            quantized.put(emotion, value > 0 ? (double) (Math.round(value / bucket) * bucket) : 0.0);
+        });
+        return quantized;
+    }
+
+    /**
+     * 월별 요약 공유 캐시 키를 생성합니다.
+     * 월, 모델명, 양자화된 감정 분포(감정명 순)의 SHA-256 해시입니다.
+     */
+    private String buildCacheKey(String month, Map<String, Double> quantizedDistribution) {
+        StringBuilder source = new StringBuilder()
+                .append(month).append('|')
+                .append(clovaConfig.getStudio().getModel()).append('|');
+        quantizedDistribution.forEach((emotion, percentage) ->
+                source.append(emotion).append('=').append(percentage.intValue()).append(';'));
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("월별 요약 캐시 키 생성에 실패했습니다.", e);
+        }
+    }
+}
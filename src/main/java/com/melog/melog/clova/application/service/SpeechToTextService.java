@@ -1,15 +1,43 @@
 package com.melog.melog.clova.application.service;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.melog.melog.clova.application.port.in.SpeechToTextUseCase;
 import com.melog.melog.clova.application.port.out.SpeechToTextPort;
+import com.melog.melog.clova.config.ClovaConfig;
+import com.melog.melog.clova.config.ClovaConfig.SttProps;
 import com.melog.melog.clova.domain.model.request.SttRequest;
 import com.melog.melog.clova.domain.model.response.SttResponse;
+import com.melog.melog.common.audio.AudioInfo;
+import com.melog.melog.common.audio.AudioIngestBuffer;
+import com.melog.melog.common.audio.ByteBufferResource;
+import com.melog.melog.common.audio.PcmWav;
+import com.melog.melog.common.audio.PcmWavConverter;
+import com.melog.melog.common.audio.PcmWavSplitter;
+import com.melog.melog.common.audio.VoiceActivityTrimmer;
+import com.melog.melog.emotion.application.port.out.SttTranscriptCachePersistencePort;
+import com.melog.melog.emotion.domain.SttTranscriptCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +48,19 @@ import lombok.extern.slf4j.Slf4j;
 public class SpeechToTextService implements SpeechToTextUseCase {
 
     private final SpeechToTextPort clovaSpeechPort;
+    private final ClovaConfig clovaConfig;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor clovaSttTaskExecutor;
+    private final SttTranscriptCachePersistencePort sttTranscriptCachePersistencePort;
+    private final ObjectMapper objectMapper;
+
+    private static final String VAD_METRIC = "clova.speech.vad";
+    private static final String VAD_SAVED_SECONDS_METRIC = "clova.speech.vad.saved.seconds";
+    private static final String CHUNK_SEGMENTS_METRIC = "clova.speech.chunk.segments";
+    private static final String CACHE_METRIC = "clova.speech.cache";
+
+    private static final boolean ASSESSMENT = true; // 발음 평가 활성화 (Kor, Eng만 지원)
+    private static final boolean GRAPH = true; // 음성 파형 그래프 반환
     
     private static final long MAX_FILE_SIZE = 3 * 1024 * 1024; // 3MB in bytes
     private static final List<String> ALLOWED_CONTENT_TYPES = Arrays.asList(
@@ -32,28 +73,11 @@ public class SpeechToTextService implements SpeechToTextUseCase {
     public SttResponse recognize(MultipartFile audio, String language) {
         validateAudioFile(audio);
         
-        try {
-            // Get raw binary audio data
-            byte[] audioBytes = audio.getBytes();
-            
-            // Map language to CLOVA Speech API format
-            String clovaLanguage = mapLanguageToClovaFormat(language);
-            
-            // Create CLOVA Speech API request
-            SttRequest request = SttRequest.builder()
-                    .audioBinary(audioBytes)
-                    .language(clovaLanguage)
-                    .audioFormat(extractAudioFormat(audio))
-                    .assessment(true) // 발음 평가 활성화 (Kor, Eng만 지원)
-                    .graph(true) // 음성 파형 그래프 반환
-                    .build();
-            
-            log.info("Sending STT request: language={}, format={}, size={}bytes", 
-                    clovaLanguage, extractAudioFormat(audio), audioBytes.length);
-            
-            return clovaSpeechPort.sendSpeechToTextRequest(request);
-            
-        } catch (Exception e) {
+        // Read the multipart body once into a read-only buffer
+        try (AudioIngestBuffer buffer = AudioIngestBuffer.of(audio)) {
+            probe(buffer);
+            return recognize(buffer, language);
+        } catch (IOException e) {
             log.error("Failed to process audio file: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to process audio file: " + e.getMessage(), e);
         }
@@ -64,20 +88,311 @@ public class SpeechToTextService implements SpeechToTextUseCase {
         SttResponse response = recognize(audio, language);
         return response.getText();
     }
+
+    @Override
+    public String recognizeToText(AudioIngestBuffer audio, String language) {
+        validateAudio(audio.size(), audio.getContentType());
+        probe(audio);
+        return recognize(audio, language).getText();
+    }
+
+    @Override
+    public AudioInfo probe(AudioIngestBuffer audio) {
+        AudioInfo info = audio.info();
+        log.info("Audio probe: format={}, durationMs={}, sampleRate={}, channels={}",
+                info.getFormat(), info.getDurationMillis(), info.getSampleRate(), info.getChannels());
+
+        // 헤더로 길이를 알 수 없는 형식은 CLOVA Speech에서 판단하도록 그대로 전달
+        if (info.isDurationKnown()) {
+            SttProps stt = clovaConfig.getSpeech().getStt();
+            int maxDuration = stt.getMaxDuration();
+            // 최대 길이를 넘더라도 PCM WAV는 구간으로 나눠 인식할 수 있음
+            if (info.getDurationMillis() > maxDuration * 1000L && isChunkable(audio, stt)) {
+                maxDuration = stt.getChunkMaxDuration();
+            }
+            if (info.getDurationMillis() > maxDuration * 1000L) {
+                throw new IllegalArgumentException(
+                    String.format("Audio duration exceeds limit. Maximum allowed: %d seconds, actual: %.1f seconds",
+                        maxDuration, info.getDurationMillis() / 1000.0)
+                );
+            }
+        }
+        return info;
+    }
+
+    /**
+     * 같은 음성/언어/옵션의 인식 결과가 캐시에 있으면 CLOVA Speech를 호출하지 않고 반환합니다.
+     */
+    private SttResponse recognize(AudioIngestBuffer audio, String language) {
+        String clovaLanguage = mapLanguageToClovaFormat(language);
+        SttProps stt = clovaConfig.getSpeech().getStt();
+        if (!stt.isCacheEnabled()) {
+            return requestRecognition(audio, clovaLanguage);
+        }
+
+        String cacheKey = generateTranscriptCacheKey(audio, clovaLanguage, stt);
+        SttResponse cached = findCachedTranscript(cacheKey);
+        if (cached != null) {
+            log.info("STT 캐시 히트: cacheKey={}", cacheKey);
+            meterRegistry.counter(CACHE_METRIC, "result", "hit").increment();
+            return cached;
+        }
+        meterRegistry.counter(CACHE_METRIC, "result", "miss").increment();
+
+        SttResponse response = requestRecognition(audio, clovaLanguage);
+        storeTranscript(cacheKey, clovaLanguage, audio.size(), response, stt);
+        return response;
+    }
+
+    private SttResponse requestRecognition(AudioIngestBuffer audio, String clovaLanguage) {
+        ByteBufferResource payload = prepareAudio(audio);
+        String audioFormat = extractAudioFormat(audio.getContentType());
+
+        if ("wav".equals(audio.info().getFormat())) {
+            SttProps stt = clovaConfig.getSpeech().getStt();
+            long segmentMillis = stt.getChunkSegmentSeconds() * 1000L;
+            if (isChunkable(audio, stt) && PcmWav.parse(payload.getByteBuffer()).durationMillis() > segmentMillis) {
+                return recognizeInSegments(audio, payload, clovaLanguage, stt);
+            }
+        }
+
+        validateSize(payload.contentLength());
+        try {
+            log.info("Sending STT request: language={}, format={}, size={}bytes", 
+                    clovaLanguage, audioFormat, payload.contentLength());
+            
+            return clovaSpeechPort.sendSpeechToTextRequest(buildRequest(payload, clovaLanguage, audioFormat));
+            
+        } catch (Exception e) {
+            log.error("Failed to process audio file: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to process audio file: " + e.getMessage(), e);
+        }
+    }
+
+    private SttRequest buildRequest(ByteBufferResource payload, String clovaLanguage, String audioFormat) {
+        // Create CLOVA Speech API request
+        return SttRequest.builder()
+                .audio(payload)
+                .language(clovaLanguage)
+                .audioFormat(audioFormat)
+                .assessment(ASSESSMENT)
+                .graph(GRAPH)
+                .build();
+    }
+
+    private boolean isChunkable(AudioIngestBuffer audio, SttProps stt) {
+        return stt.isChunkEnabled() && "wav".equals(audio.info().getFormat()) && PcmWav.parse(audio.view()) != null;
+    }
+
+    /**
+     * 최대 길이를 넘는 PCM WAV를 무음 경계에서 구간으로 나눠 clovaSttTaskExecutor로 동시에 인식하고,
+     * 구간 순서대로 결과를 이어 붙입니다. 전체 지연은 대략 구간 하나의 인식 시간입니다.
+     * 구간마다 3MB 제한을 넘지 않도록 분할 전에 16비트 모노(전처리 샘플레이트)로 변환합니다.
+     */
+    private SttResponse recognizeInSegments(AudioIngestBuffer audio, ByteBufferResource payload, String clovaLanguage, SttProps stt) {
+        ByteBuffer source = payload.getByteBuffer();
+        ByteBuffer converted = PcmWavConverter.toMono16(source, stt.getPreprocessSampleRate());
+        List<ByteBuffer> segments = PcmWavSplitter.split(converted != null ? converted : source, stt.getChunkSegmentSeconds() * 1000L);
+        log.info("Sending chunked STT request: language={}, segments={}, size={}bytes",
+                clovaLanguage, segments.size(), payload.contentLength());
+        meterRegistry.counter(CHUNK_SEGMENTS_METRIC).increment(segments.size());
+
+        // 일부 구간만 제출된 채 실패하지 않도록 제출 전에 모든 구간 크기를 검증
+        List<ByteBufferResource> segmentPayloads = new ArrayList<>(segments.size());
+        for (ByteBuffer segment : segments) {
+            ByteBufferResource segmentPayload = new ByteBufferResource(segment, audio.getOriginalFilename());
+            validateSize(segmentPayload.contentLength());
+            segmentPayloads.add(segmentPayload);
+        }
+
+        List<CompletableFuture<SttResponse>> futures = new ArrayList<>(segmentPayloads.size());
+        for (ByteBufferResource segmentPayload : segmentPayloads) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> clovaSpeechPort.sendSpeechToTextRequest(buildRequest(segmentPayload, clovaLanguage, "wav")),
+                    clovaSttTaskExecutor));
+        }
+
+        try {
+            List<SttResponse> responses = new ArrayList<>(futures.size());
+            for (CompletableFuture<SttResponse> future : futures) {
+                responses.add(future.join());
+            }
+            return mergeResponses(responses);
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("Failed to process audio segment: {}", cause.getMessage(), cause);
+            throw new RuntimeException("Failed to process audio file: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 구간별 인식 결과를 순서대로 합칩니다. (텍스트/그래프는 이어 붙이고, 길이는 합산, 발음 점수는 평균)
+     */
+    private SttResponse mergeResponses(List<SttResponse> responses) {
+        StringBuilder text = new StringBuilder();
+        StringBuilder assessmentDetails = new StringBuilder();
+        List<Integer> refGraph = new ArrayList<>();
+        List<Integer> usrGraph = new ArrayList<>();
+        int quota = 0;
+        int scoreSum = 0;
+        int scoreCount = 0;
+        for (SttResponse response : responses) {
+            if (response.getText() != null && !response.getText().isBlank()) {
+                if (text.length() > 0) text.append(' ');
+                text.append(response.getText().trim());
+            }
+            if (response.getAssessmentDetails() != null && !response.getAssessmentDetails().isBlank()) {
+                if (assessmentDetails.length() > 0) assessmentDetails.append(' ');
+                assessmentDetails.append(response.getAssessmentDetails());
+            }
+            if (response.getRefGraph() != null) refGraph.addAll(response.getRefGraph());
+            if (response.getUsrGraph() != null) usrGraph.addAll(response.getUsrGraph());
+            if (response.getQuota() != null) quota += response.getQuota();
+            if (response.getAssessmentScore() != null && response.getAssessmentScore() > 0) {
+                scoreSum += response.getAssessmentScore();
+                scoreCount++;
+            }
+        }
+        return SttResponse.builder()
+                .text(text.toString())
+                .quota(quota)
+                .assessmentScore(scoreCount > 0 ? scoreSum / scoreCount : 0)
+                .assessmentDetails(assessmentDetails.toString())
+                .refGraph(refGraph)
+                .usrGraph(usrGraph)
+                .language(responses.isEmpty() ? null : responses.get(0).getLanguage())
+                .build();
+    }
+
+    // === 음성 인식 결과 캐시 ===
+
+    /**
+     * 원본 음성 바이트, 언어, 인식 옵션, 전처리 설정을 조합하여 SHA-256 캐시 키를 생성합니다.
+     * 음성은 매핑된 버퍼에서 바로 해시하므로 힙으로 복사하지 않습니다.
+     * 전처리 설정이 바뀌면 인식 결과가 달라질 수 있으므로 이전 키는 사용되지 않습니다.
+     */
+    private String generateTranscriptCacheKey(AudioIngestBuffer audio, String clovaLanguage, SttProps stt) {
+        String options = clovaLanguage
+                + "\nassessment=" + ASSESSMENT + ",graph=" + GRAPH
+                + "\npreprocess=" + stt.isPreprocessEnabled() + ":" + stt.getPreprocessSampleRate()
+                + ",vad=" + stt.isVadEnabled() + ":" + stt.getVadEnergyThresholdDb() + ":" + stt.getVadZcrThreshold()
+                + ":" + stt.getVadHangoverMs() + ":" + stt.getVadMaxPauseMs()
+                + ",chunk=" + stt.isChunkEnabled() + ":" + stt.getChunkSegmentSeconds();
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(audio.view());
+            digest.update((byte) '\n');
+            digest.update(options.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("STT 캐시 키 생성에 실패했습니다.", e);
+        }
+    }
+
+    private SttResponse findCachedTranscript(String cacheKey) {
+        return sttTranscriptCachePersistencePort.findValidByCacheKey(cacheKey, LocalDateTime.now())
+                .map(cache -> {
+                    try {
+                        return objectMapper.readValue(cache.getResultJson(), SttResponse.class);
+                    } catch (Exception e) {
+                        log.warn("STT 캐시 역직렬화 실패, 캐시 무시: cacheKey={}, error={}", cacheKey, e.getMessage());
+                        return null;
+                    }
+                })
+                .orElse(null);
+    }
+
+    /**
+     * 인식된 텍스트가 없는 결과는 일시적인 인식 실패일 수 있으므로 저장하지 않습니다.
+     */
+    private void storeTranscript(String cacheKey, String clovaLanguage, long audioSize, SttResponse response, SttProps stt) {
+        if (response == null || response.getText() == null || response.getText().isBlank()) {
+            return;
+        }
+        try {
+            sttTranscriptCachePersistencePort.save(SttTranscriptCache.builder()
+                    .cacheKey(cacheKey)
+                    .language(clovaLanguage)
+                    .audioSize(audioSize)
+                    .resultJson(objectMapper.writeValueAsString(response))
+                    .expiresAt(LocalDateTime.now().plusHours(stt.getCacheTtlHours()))
+                    .build());
+        } catch (Exception e) {
+            log.warn("STT 캐시 저장 실패: cacheKey={}, error={}", cacheKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 애플리케이션 기동 시와 주기적으로(기본: 매시 20분) 만료된 STT 캐시를 정리합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${CLOVA_SPEECH_CACHE_CLEANUP_CRON:0 20 * * * *}")
+    public void evictExpiredTranscriptCache() {
+        try {
+            sttTranscriptCachePersistencePort.deleteExpired(LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("STT 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * PCM WAV 입력에 설정된 전처리를 적용한 요청 본문을 반환합니다. 전처리가 없으면 원본을 반환합니다.
+     * - 다운믹스/리샘플링: 16비트 모노(기본 16kHz)로 변환
+     * - VAD: 앞뒤 무음 제거, 긴 침묵 축소
+     * S3에는 항상 원본이 저장됩니다.
+     */
+    private ByteBufferResource prepareAudio(AudioIngestBuffer audio) {
+        if (!"wav".equals(audio.info().getFormat())) {
+            return audio.asResource();
+        }
+        SttProps stt = clovaConfig.getSpeech().getStt();
+        ByteBuffer payload = audio.view();
+        boolean changed = false;
+
+        if (stt.isPreprocessEnabled()) {
+            ByteBuffer converted = PcmWavConverter.toMono16(payload, stt.getPreprocessSampleRate());
+            if (converted != null) {
+                log.info("STT preprocess: {}Hz/{}ch -> {}Hz mono 16bit, {} -> {} bytes",
+                        audio.info().getSampleRate(), audio.info().getChannels(),
+                        Math.min(audio.info().getSampleRate(), stt.getPreprocessSampleRate()), audio.size(), converted.remaining());
+                payload = converted;
+                changed = true;
+            }
+        }
+
+        if (stt.isVadEnabled()) {
+            VoiceActivityTrimmer trimmer = new VoiceActivityTrimmer(stt.getVadEnergyThresholdDb(), stt.getVadZcrThreshold(),
+                    stt.getVadHangoverMs(), stt.getVadMaxPauseMs());
+            VoiceActivityTrimmer.Result trimmed = trimmer.trim(payload);
+            if (trimmed != null) {
+                log.info("STT VAD: {}ms -> {}ms (saved {}ms)",
+                        trimmed.getOriginalMillis(), trimmed.getTrimmedMillis(), trimmed.getSavedMillis());
+                meterRegistry.counter(VAD_METRIC, "result", "trimmed").increment();
+                meterRegistry.counter(VAD_SAVED_SECONDS_METRIC).increment(trimmed.getSavedMillis() / 1000.0);
+                payload = trimmed.getWav();
+                changed = true;
+            } else {
+                meterRegistry.counter(VAD_METRIC, "result", "unchanged").increment();
+            }
+        }
+
+        return changed ? new ByteBufferResource(payload, audio.getOriginalFilename()) : audio.asResource();
+    }
     
     private void validateAudioFile(MultipartFile audio) {
-        if (audio == null || audio.isEmpty()) {
+        if (audio == null) {
             throw new IllegalArgumentException("Audio file is required and cannot be empty");
         }
-        
-        if (audio.getSize() > MAX_FILE_SIZE) {
-            throw new IllegalArgumentException(
-                String.format("File size exceeds limit. Maximum allowed: %d bytes, actual: %d bytes", 
-                    MAX_FILE_SIZE, audio.getSize())
-            );
+        validateAudio(audio.getSize(), audio.getContentType());
+    }
+
+    private void validateAudio(long size, String contentType) {
+        if (size == 0) {
+            throw new IllegalArgumentException("Audio file is required and cannot be empty");
         }
         
-        String contentType = audio.getContentType();
         if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase())) {
             throw new IllegalArgumentException(
                 String.format("Unsupported content type: %s. Allowed types: %s", 
@@ -86,8 +401,19 @@ public class SpeechToTextService implements SpeechToTextUseCase {
         }
     }
     
-    private String extractAudioFormat(MultipartFile audio) {
-        String contentType = audio.getContentType();
+    /**
+     * CLOVA Speech로 보낼 본문 크기 검증 (전처리 후 크기 기준)
+     */
+    private void validateSize(long size) {
+        if (size > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException(
+                String.format("File size exceeds limit. Maximum allowed: %d bytes, actual: %d bytes", 
+                    MAX_FILE_SIZE, size)
+            );
+        }
+    }
+    
+    private String extractAudioFormat(String contentType) {
         if (contentType == null) return "unknown";
         
         return switch (contentType.toLowerCase()) {
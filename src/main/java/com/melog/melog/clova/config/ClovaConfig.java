@@ -50,6 +50,46 @@ public class ClovaConfig {
     
     @Value("${CLOVA_SPEECH_TIMEOUT_MS:10000}")
     private int speechTimeoutMs;
+
+    // STT 전처리 (PCM WAV를 모노 16비트로 다운믹스/리샘플링)
+    @Value("${CLOVA_SPEECH_PREPROCESS_ENABLED:false}")
+    private boolean speechPreprocessEnabled;
+
+    @Value("${CLOVA_SPEECH_PREPROCESS_SAMPLE_RATE:16000}")
+    private int speechPreprocessSampleRate;
+
+    // STT 전처리 - 음성 구간 검출(VAD)로 앞뒤 무음 제거, 긴 침묵 축소 (PCM WAV)
+    @Value("${CLOVA_SPEECH_VAD_ENABLED:false}")
+    private boolean speechVadEnabled;
+
+    @Value("${CLOVA_SPEECH_VAD_ENERGY_THRESHOLD_DB:-45}")
+    private double speechVadEnergyThresholdDb;
+
+    @Value("${CLOVA_SPEECH_VAD_ZCR_THRESHOLD:0.25}")
+    private double speechVadZcrThreshold;
+
+    @Value("${CLOVA_SPEECH_VAD_HANGOVER_MS:300}")
+    private int speechVadHangoverMs;
+
+    @Value("${CLOVA_SPEECH_VAD_MAX_PAUSE_MS:1000}")
+    private int speechVadMaxPauseMs;
+
+    // 최대 길이를 넘는 PCM WAV를 구간으로 나눠 병렬 인식
+    @Value("${CLOVA_SPEECH_CHUNK_ENABLED:true}")
+    private boolean speechChunkEnabled;
+
+    @Value("${CLOVA_SPEECH_CHUNK_SEGMENT_SECONDS:55}")
+    private int speechChunkSegmentSeconds;
+
+    @Value("${CLOVA_SPEECH_CHUNK_MAX_DURATION:300}")
+    private int speechChunkMaxDuration;
+
+    // 같은 음성의 재시도 시 STT 재호출을 막는 인식 결과 캐시
+    @Value("${CLOVA_SPEECH_CACHE_ENABLED:true}")
+    private boolean speechCacheEnabled;
+
+    @Value("${CLOVA_SPEECH_CACHE_TTL_HOURS:72}")
+    private long speechCacheTtlHours;
     
     // Studio API 설정
     @Value("${CLOVA_STUDIO_BASE_URL:https://clovastudio.stream.ntruss.com}")
@@ -64,6 +104,36 @@ public class ClovaConfig {
     @Value("${CLOVA_STUDIO_TIMEOUT_MS:15000}")
     private int studioTimeoutMs;
 
+    // 감정 분석 프롬프트 버전 (변경 시 기존 분석 캐시가 무효화됨)
+    @Value("${CLOVA_STUDIO_PROMPT_VERSION:v1}")
+    private String studioPromptVersion;
+
+    @Value("${CLOVA_STUDIO_ANALYSIS_CACHE_TTL_HOURS:720}")
+    private long studioAnalysisCacheTtlHours;
+
+    // 감정 분석 헤징(지연 시 보조 요청) 설정
+    @Value("${CLOVA_STUDIO_HEDGE_ENABLED:false}")
+    private boolean studioHedgeEnabled;
+
+    @Value("${CLOVA_STUDIO_HEDGE_PERCENTILE:90}")
+    private int studioHedgePercentile;
+
+    @Value("${CLOVA_STUDIO_HEDGE_INITIAL_DELAY_MS:6000}")
+    private long studioHedgeInitialDelayMs;
+
+    @Value("${CLOVA_STUDIO_HEDGE_MAX_RATE:0.1}")
+    private double studioHedgeMaxRate;
+
+    // 월별 요약 공유 캐시 설정 (감정 분포를 구간 단위로 양자화하여 사용자 간 공유)
+    @Value("${CLOVA_STUDIO_SUMMARY_CACHE_ENABLED:true}")
+    private boolean studioSummaryCacheEnabled;
+
+    @Value("${CLOVA_STUDIO_SUMMARY_BUCKET_PERCENT:5}")
+    private int studioSummaryBucketPercent;
+
+    @Value("${CLOVA_STUDIO_SUMMARY_CACHE_VARIANTS:1}")
+    private int studioSummaryCacheVariants;
+
     // Voice API 설정
     @Value("${CLOVA_VOICE_TTS_ENDPOINT}")
     private String voiceTtsEndpoint;
@@ -133,6 +203,18 @@ public class ClovaConfig {
         public String getEndpoint() { return speechSttEndpoint; }
         public String getDefaultLang() { return speechDefaultLang; }
         public int getMaxDuration() { return speechMaxDuration; }
+        public boolean isPreprocessEnabled() { return speechPreprocessEnabled; }
+        public int getPreprocessSampleRate() { return speechPreprocessSampleRate; }
+        public boolean isVadEnabled() { return speechVadEnabled; }
+        public double getVadEnergyThresholdDb() { return speechVadEnergyThresholdDb; }
+        public double getVadZcrThreshold() { return speechVadZcrThreshold; }
+        public int getVadHangoverMs() { return speechVadHangoverMs; }
+        public int getVadMaxPauseMs() { return speechVadMaxPauseMs; }
+        public boolean isChunkEnabled() { return speechChunkEnabled; }
+        public int getChunkSegmentSeconds() { return speechChunkSegmentSeconds; }
+        public int getChunkMaxDuration() { return speechChunkMaxDuration; }
+        public boolean isCacheEnabled() { return speechCacheEnabled; }
+        public long getCacheTtlHours() { return speechCacheTtlHours; }
         public String[] getSupportedFormats() { 
             return speechSupportedFormats.split(","); 
         }
@@ -156,5 +238,14 @@ public class ClovaConfig {
         public String getApiKey() { return studioApiKey; }
         public String getModel() { return studioModel; }
         public int getTimeoutMs() { return studioTimeoutMs; }
+        public String getPromptVersion() { return studioPromptVersion; }
+        public long getAnalysisCacheTtlHours() { return studioAnalysisCacheTtlHours; }
+        public boolean isHedgeEnabled() { return studioHedgeEnabled; }
+        public int getHedgePercentile() { return studioHedgePercentile; }
+        public long getHedgeInitialDelayMs() { return studioHedgeInitialDelayMs; }
+        public double getHedgeMaxRate() { return studioHedgeMaxRate; }
+        public boolean isSummaryCacheEnabled() { return studioSummaryCacheEnabled; }
+        public int getSummaryBucketPercent() { return studioSummaryBucketPercent; }
+        public int getSummaryCacheVariants() { return studioSummaryCacheVariants; }
     }
 }
@@ -0,0 +1,262 @@
+package com.melog.melog.clova.domain;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 감정 키워드 스캐너
+ *
+ * 키워드 풀(감정별 4개)과 활용형(기뻐, 짜증나 등)을 하나의 Aho–Corasick 오토마톤으로 미리 컴파일해 두고,
+ * 텍스트를 한 번만 훑어서 감정별 매칭 개수와 매칭된 키워드 집합을 계산합니다.
+ *
+ * 매칭 결과는 패턴 ID 비트마스크(long)로 표현되므로 스캔 중 객체 할당이 없습니다.
+ * 같은 키워드가 여러 번 나와도 1회로 계산합니다 (기존 contains 기반 계산과 동일).
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+public final class EmotionKeywordScanner {
+
+    /**
+     * 감정 타입 (한글), 인덱스 순서가 감정별 배열의 기준이 됩니다.
+     */
+    public static final String[] EMOTIONS = {"기쁨", "설렘", "평온", "분노", "슬픔", "지침"};
+
+    /**
+     * 감정별 키워드 풀 크기 (FORMS 각 행의 앞쪽 항목)
+     */
+    private static final int POOL_SIZE = 4;
+
+    /**
+     * 감정별 매칭 대상. 앞의 4개는 키워드 풀, 나머지는 활용형입니다.
+     */
+    private static final String[][] FORMS = {
+        {"행복", "즐거움", "만족", "신남", "기뻐", "좋아", "즐거워"},
+        {"기대", "떨림", "긴장", "두근거림", "설레", "떨려"},
+        {"차분함", "여유", "안정", "편안함", "차분해", "편안해"},
+        {"화남", "짜증", "열받음", "격분", "화나", "짜증나"},
+        {"슬픔", "우울함", "절망", "허전함", "슬퍼", "우울해"},
+        {"혼란", "막막함", "고민", "갈등", "혼란스러워", "막막해"}
+    };
+
+    private static final String[] PATTERNS;
+    private static final long[] EMOTION_MASK = new long[EMOTIONS.length];
+    private static final long[] LEADING_POOL_MASK = new long[EMOTIONS.length];
+    private static final long POOL_MASK;
+
+    // 오토마톤: 노드별 정렬된 전이 문자/대상, 실패 링크, 출력 비트마스크
+    private static final char[][] EDGE_CHARS;
+    private static final int[][] EDGE_TARGETS;
+    private static final int[] FAIL;
+    private static final long[] OUTPUT;
+
+    static {
+        List<String> patterns = new ArrayList<>();
+        long poolMask = 0L;
+        for (int e = 0; e < FORMS.length; e++) {
+            for (int j = 0; j < FORMS[e].length; j++) {
+                int id = patterns.size();
+                patterns.add(FORMS[e][j]);
+                EMOTION_MASK[e] |= 1L << id;
+                if (j < POOL_SIZE) {
+                    poolMask |= 1L << id;
+                }
+                if (j < 3) {
+                    LEADING_POOL_MASK[e] |= 1L << id;
+                }
+            }
+        }
+        PATTERNS = patterns.toArray(new String[0]);
+        POOL_MASK = poolMask;
+        if (PATTERNS.length > Long.SIZE) {
+            throw new IllegalStateException("감정 키워드 패턴은 64개를 넘을 수 없습니다.");
+        }
+
+        // 1. 트라이 구성
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Long> output = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        output.add(0L);
+        for (int id = 0; id < PATTERNS.length; id++) {
+            int node = 0;
+            for (char c : PATTERNS[id].toCharArray()) {
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    output.add(0L);
+                    trie.get(node).put(c, next);
+                }
+                node = next;
+            }
+            output.set(node, output.get(node) | (1L << id));
+        }
+
+        // 2. BFS로 실패 링크 계산 및 출력 병합
+        int size = trie.size();
+        FAIL = new int[size];
+        OUTPUT = new long[size];
+        for (int i = 0; i < size; i++) {
+            OUTPUT[i] = output.get(i);
+        }
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : trie.get(0).values()) {
+            FAIL[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int u = queue.poll();
+            for (Map.Entry<Character, Integer> edge : trie.get(u).entrySet()) {
+                char c = edge.getKey();
+                int v = edge.getValue();
+                int f = FAIL[u];
+                while (f != 0 && !trie.get(f).containsKey(c)) {
+                    f = FAIL[f];
+                }
+                Integer target = trie.get(f).get(c);
+                FAIL[v] = target != null ? target : 0;
+                OUTPUT[v] |= OUTPUT[FAIL[v]];
+                queue.add(v);
+            }
+        }
+
+        // 3. 전이 테이블을 정렬된 원시 배열로 변환 (TreeMap이므로 키가 이미 정렬됨)
+        EDGE_CHARS = new char[size][];
+        EDGE_TARGETS = new int[size][];
+        for (int i = 0; i < size; i++) {
+            Map<Character, Integer> edges = trie.get(i);
+            EDGE_CHARS[i] = new char[edges.size()];
+            EDGE_TARGETS[i] = new int[edges.size()];
+            int k = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                EDGE_CHARS[i][k] = edge.getKey();
+                EDGE_TARGETS[i][k] = edge.getValue();
+                k++;
+            }
+        }
+    }
+
+    private EmotionKeywordScanner() {
+    }
+
+    /**
+     * 텍스트를 한 번 스캔하여 매칭된 패턴 비트마스크를 계산합니다.
+     *
+     * @param text 스캔할 텍스트 (null이면 매칭 없음)
+     * @return 스캔 결과
+     */
+    public static ScanResult scan(String text) {
+        long hits = 0L;
+        if (text != null) {
+            int state = 0;
+            for (int i = 0, n = text.length(); i < n; i++) {
+                char c = text.charAt(i);
+                int next = transition(state, c);
+                while (next < 0 && state != 0) {
+                    state = FAIL[state];
+                    next = transition(state, c);
+                }
+                state = next < 0 ? 0 : next;
+                hits |= OUTPUT[state];
+            }
+        }
+        return new ScanResult(hits);
+    }
+
+    private static int transition(int state, char c) {
+        int idx = Arrays.binarySearch(EDGE_CHARS[state], c);
+        return idx >= 0 ? EDGE_TARGETS[state][idx] : -1;
+    }
+
+    /**
+     * 감정 타입의 키워드 풀을 반환합니다. 알 수 없는 감정은 지침 풀로 취급합니다.
+     *
+     * @param emotionType 감정 타입 (한글)
+     * @return 키워드 풀 (4개)
+     */
+    public static List<String> poolOf(String emotionType) {
+        int e = indexOf(emotionType);
+        return List.of(FORMS[e < 0 ? EMOTIONS.length - 1 : e]).subList(0, POOL_SIZE);
+    }
+
+    /**
+     * 키워드 풀에 포함된 키워드인지 확인합니다.
+     */
+    public static boolean isPoolKeyword(String keyword) {
+        for (int id = 0; id < PATTERNS.length; id++) {
+            if ((POOL_MASK & (1L << id)) != 0 && PATTERNS[id].equals(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 감정의 대표 키워드(풀의 앞 3개)를 반환합니다.
+     */
+    public static String[] leadingPoolKeywords(int emotionIndex) {
+        return Arrays.copyOf(FORMS[emotionIndex], 3);
+    }
+
+    /**
+     * 감정 타입의 인덱스를 반환합니다.
+     *
+     * @return EMOTIONS 인덱스, 없으면 -1
+     */
+    public static int indexOf(String emotionType) {
+        for (int e = 0; e < EMOTIONS.length; e++) {
+            if (EMOTIONS[e].equals(emotionType)) {
+                return e;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 스캔 결과
+     * 매칭된 패턴을 비트마스크로 보관하며, 감정별 개수는 비트 연산으로 계산합니다.
+     */
+    public static final class ScanResult {
+
+        private final long hits;
+
+        private ScanResult(long hits) {
+            this.hits = hits;
+        }
+
+        /**
+         * 감정별 매칭된 서로 다른 키워드 개수 (EMOTIONS 순서)
+         */
+        public int[] emotionCounts() {
+            int[] counts = new int[EMOTIONS.length];
+            for (int e = 0; e < EMOTIONS.length; e++) {
+                counts[e] = Long.bitCount(hits & EMOTION_MASK[e]);
+            }
+            return counts;
+        }
+
+        /**
+         * 해당 감정의 대표 키워드(풀의 앞 3개) 중 하나라도 등장했는지 여부
+         */
+        public boolean hasLeadingPoolKeyword(int emotionIndex) {
+            return (hits & LEADING_POOL_MASK[emotionIndex]) != 0;
+        }
+
+        /**
+         * 매칭된 키워드 목록 (패턴 정의 순서)
+         */
+        public List<String> matchedKeywords() {
+            List<String> matched = new ArrayList<>(Long.bitCount(hits));
+            for (int id = 0; id < PATTERNS.length; id++) {
+                if ((hits & (1L << id)) != 0) {
+                    matched.add(PATTERNS[id]);
+                }
+            }
+            return matched;
+        }
+    }
+}
@@ -4,13 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.core.io.Resource;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class SttRequest {
-    private byte[] audioBinary; // Raw binary audio data
+    private Resource audio; // Raw binary audio data (읽기 전용 뷰, 힙 복사 없이 요청 본문으로 전달)
     private String audioFormat; // "mp3", "aac", "ac3", "ogg", "flac", "wav"
     private String language; // "Kor", "Eng", "Jpn", "Chn"
     private Boolean assessment; // 발음 평가 결과 반환 여부 (Kor, Eng만 지원)
@@ -0,0 +1,72 @@
+package com.melog.melog.clova.domain.model.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Clova Studio chat-completions API 응답
+ *
+ * 응답 스트림에서 바로 역직렬화하며, 사용하는 필드만 선언하고 나머지는 무시합니다.
+ * 일반 응답은 result.message.content, OpenAI 호환 응답은 choices[0].message.content에 본문이 있습니다.
+ * 스트리밍(SSE) 응답의 token/result 이벤트 data도 message.content 구조이므로 함께 사용합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ClovaChatCompletionResponse {
+
+    private Result result;
+    private List<Choice> choices;
+
+    /**
+     * SSE 이벤트 data의 최상위 message
+     */
+    private Message message;
+
+    /**
+     * 응답 본문(content)을 반환합니다. 없으면 null
+     */
+    public String content() {
+        if (result != null && result.getMessage() != null) {
+            return result.getMessage().getContent();
+        }
+        if (choices != null && !choices.isEmpty() && choices.get(0).getMessage() != null) {
+            return choices.get(0).getMessage().getContent();
+        }
+        if (message != null) {
+            return message.getContent();
+        }
+        return null;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Result {
+        private Message message;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Choice {
+        private Message message;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Message {
+        private String role;
+        private String content;
+    }
+}
@@ -0,0 +1,38 @@
+package com.melog.melog.clova.domain.model.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 감정 추출 프롬프트가 message.content에 JSON 문자열로 반환하는 결과
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ClovaEmotionResultsContent {
+
+    private List<RawEmotionResult> emotionResults;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class RawEmotionResult {
+        /**
+         * 감정 타입 (한글), 'type' 또는 'emotion' 키 모두 허용
+         */
+        private String type;
+        private String emotion;
+        private Double percentage;
+
+        public String typeOrEmotion() {
+            return type != null && !type.isBlank() ? type : emotion;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.melog.melog.clova.domain.model.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * CLOVA Speech(CSR) API 응답
+ *
+ * 성공 시 text/quota/assessment_* 필드를, 실패 시 errorCode/errorMessage 필드를 사용합니다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ClovaSttApiResponse {
+
+    private String text;
+    private Integer quota;
+
+    @JsonProperty("assessment_score")
+    private Integer assessmentScore;
+
+    @JsonProperty("assessment_details")
+    private String assessmentDetails;
+
+    @JsonProperty("ref_graph")
+    private List<Integer> refGraph;
+
+    @JsonProperty("usr_graph")
+    private List<Integer> usrGraph;
+
+    private String errorCode;
+    private String errorMessage;
+}
@@ -10,4 +10,5 @@ import java.util.List;
 public class MonthlySummaryResponse {
     private String summary; // 월별 요약
     private String advice; // 한줄 조언
+    private boolean fallback; // Clova Studio 호출 실패로 기본 문구를 반환한 경우 true
 }
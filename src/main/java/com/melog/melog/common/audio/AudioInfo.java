@@ -0,0 +1,40 @@
+package com.melog.melog.common.audio;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 음성 파일 헤더 분석 결과
+ *
+ * 길이, 샘플레이트, 채널 수를 알 수 없는 경우 각각 -1, 0, 0 입니다.
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+@Getter
+@Builder
+public class AudioInfo {
+
+    private static final AudioInfo UNKNOWN = AudioInfo.builder().format("unknown").build();
+
+    private final String format;
+    @Builder.Default
+    private final long durationMillis = -1;
+    private final int sampleRate;
+    private final int channels;
+
+    public static AudioInfo unknown() {
+        return UNKNOWN;
+    }
+
+    public boolean isDurationKnown() {
+        return durationMillis >= 0;
+    }
+
+    /**
+     * 초 단위 길이 (올림, 알 수 없으면 null)
+     */
+    public Integer getDurationSeconds() {
+        return isDurationKnown() ? (int) ((durationMillis + 999) / 1000) : null;
+    }
+}
@@ -0,0 +1,169 @@
+package com.melog.melog.common.audio;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 음성 업로드 수집 버퍼
+ *
+ * 업로드된 음성 파일(multipart 본문)을 임시 파일로 한 번만 옮긴 뒤 읽기 전용으로 메모리 매핑합니다.
+ * STT, 헤더 분석, S3 업로드, 로컬 저장은 모두 이 버퍼의 읽기 전용 뷰를 사용하므로
+ * 소비자마다 getBytes()/getInputStream()으로 힙 배열을 새로 만들지 않습니다.
+ *
+ * 뷰는 각자 독립된 위치를 가지므로 STT와 S3 업로드가 동시에 읽어도 됩니다.
+ * 요청이 끝나면 close()로 임시 파일을 삭제합니다. (매핑은 GC 시 해제됩니다)
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+@Slf4j
+public final class AudioIngestBuffer implements AutoCloseable {
+
+    private static final String TEMP_PREFIX = "melog-audio-";
+
+    private final Path tempFile;
+    private final MappedByteBuffer buffer;
+    private final String originalFilename;
+    private final String contentType;
+    private final boolean deleteOnClose;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile AudioInfo info;
+
+    private AudioIngestBuffer(Path tempFile, MappedByteBuffer buffer, String originalFilename, String contentType, boolean deleteOnClose) {
+        this.tempFile = tempFile;
+        this.buffer = buffer;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.deleteOnClose = deleteOnClose;
+    }
+
+    /**
+     * multipart 본문을 한 번만 읽어 버퍼를 생성합니다.
+     * transferTo(File)는 서블릿 Part.write로 처리되므로, Tomcat이 본문을 디스크에 보관 중이면
+     * 같은 파일 시스템 안에서는 파일 이름 변경으로 옮겨집니다. (다른 파일 시스템이면 복사)
+     * transferTo(Path)는 항상 스트림 복사이므로 사용하지 않습니다.
+     */
+    public static AudioIngestBuffer of(MultipartFile file) throws IOException {
+        Path tempFile = Files.createTempFile(TEMP_PREFIX, ".audio");
+        try {
+            file.transferTo(tempFile.toFile());
+            return map(tempFile, file.getOriginalFilename(), file.getContentType(), true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * 스트림(예: 클라이언트가 직접 업로드한 S3 객체)을 임시 파일로 한 번만 읽어 버퍼를 생성합니다.
+     * 스트림은 호출한 쪽에서 닫습니다.
+     */
+    public static AudioIngestBuffer of(InputStream inputStream, String originalFilename, String contentType) throws IOException {
+        Path tempFile = Files.createTempFile(TEMP_PREFIX, ".audio");
+        try {
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            return map(tempFile, originalFilename, contentType, true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * 이미 디스크에 있는 파일(예: 이어 올리기가 끝난 스테이징 파일)을 복사 없이 매핑합니다.
+     * 파일은 호출한 쪽이 관리하며 close()에서 삭제하지 않습니다.
+     */
+    public static AudioIngestBuffer open(Path file, String originalFilename, String contentType) throws IOException {
+        return map(file, originalFilename, contentType, false);
+    }
+
+    private static AudioIngestBuffer map(Path file, String originalFilename, String contentType, boolean deleteOnClose) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new AudioIngestBuffer(file, buffer, originalFilename, contentType, deleteOnClose);
+        }
+    }
+
+    /**
+     * 독립된 위치를 갖는 읽기 전용 뷰
+     */
+    public ByteBuffer view() {
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * 버퍼 전체를 읽는 InputStream
+     */
+    public InputStream openStream() {
+        return asResource().getInputStream();
+    }
+
+    /**
+     * 버퍼 전체를 요청 본문 등으로 전달하기 위한 Resource
+     */
+    public ByteBufferResource asResource() {
+        return new ByteBufferResource(buffer, originalFilename);
+    }
+
+    /**
+     * 헤더 분석 결과 (처음 호출 시 한 번만 분석)
+     */
+    public AudioInfo info() {
+        AudioInfo result = info;
+        if (result == null) {
+            result = AudioProbe.probe(view());
+            info = result;
+        }
+        return result;
+    }
+
+    /**
+     * 버퍼 내용을 파일로 저장합니다. (로컬 저장 폴백)
+     */
+    public void copyTo(Path target) throws IOException {
+        Files.copy(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public long size() {
+        return buffer.capacity();
+    }
+
+    public boolean isEmpty() {
+        return buffer.capacity() == 0;
+    }
+
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * 임시 파일을 삭제합니다. 여러 번 호출해도 한 번만 처리됩니다.
+     * open()으로 연 파일은 삭제하지 않습니다.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true) || !deleteOnClose) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("음성 임시 파일 삭제 실패: path={}, error={}", tempFile, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,420 @@
+package com.melog.melog.common.audio;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * 음성 파일 헤더 분석기
+ *
+ * 오디오를 디코딩하지 않고 컨테이너/프레임 헤더만 읽어 길이, 샘플레이트, 채널 수를 계산합니다.
+ * 형식은 파일명이 아닌 매직 바이트로 판별합니다.
+ * - WAV: RIFF fmt/data 청크
+ * - MP3: ID3v2 태그를 건너뛴 첫 프레임 헤더와 Xing/Info/VBRI 태그 (없으면 CBR로 추정)
+ * - M4A: moov/mvhd 박스의 timescale/duration, stsd 샘플 엔트리
+ * - OGG: 첫 페이지의 Vorbis/Opus 식별 헤더와 마지막 페이지의 granule position
+ * - FLAC: STREAMINFO 메타데이터 블록
+ *
+ * 헤더가 손상되었거나 지원하지 않는 형식이면 {@link AudioInfo#unknown()}을 반환합니다.
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+public final class AudioProbe {
+
+    /** 첫 MP3 프레임을 찾을 범위 (ID3v2 태그 이후) */
+    private static final int MP3_SYNC_SCAN_BYTES = 64 * 1024;
+    /** 마지막 OGG 페이지를 찾을 범위 (파일 끝에서부터) */
+    private static final int OGG_TAIL_SCAN_BYTES = 64 * 1024;
+
+    private static final int[][] MP3_SAMPLE_RATES = {
+            {11025, 12000, 8000},   // MPEG 2.5
+            {0, 0, 0},              // reserved
+            {22050, 24000, 16000},  // MPEG 2
+            {44100, 48000, 32000}   // MPEG 1
+    };
+    private static final int[][] MP3_BITRATES_V1 = {
+            {0, 32, 64, 96, 128, 160, 192, 224, 256, 288, 320, 352, 384, 416, 448}, // Layer I
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 384},    // Layer II
+            {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320}      // Layer III
+    };
+    private static final int[][] MP3_BITRATES_V2 = {
+            {0, 32, 48, 56, 64, 80, 96, 112, 128, 144, 160, 176, 192, 224, 256},    // Layer I
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160},         // Layer II
+            {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160}          // Layer III
+    };
+
+    private AudioProbe() {
+    }
+
+    /**
+     * 음성 데이터의 헤더를 분석합니다.
+     *
+     * @param audio 음성 파일 전체 (position 0부터 limit까지, 읽기 위치는 변경하지 않음)
+     */
+    public static AudioInfo probe(ByteBuffer audio) {
+        if (audio == null) {
+            return AudioInfo.unknown();
+        }
+        ByteBuffer buf = audio.slice();
+        try {
+            if (startsWith(buf, 0, "RIFF") && startsWith(buf, 8, "WAVE")) {
+                return probeWav(buf);
+            }
+            if (startsWith(buf, 0, "fLaC")) {
+                return probeFlac(buf);
+            }
+            if (startsWith(buf, 0, "OggS")) {
+                return probeOgg(buf);
+            }
+            if (startsWith(buf, 4, "ftyp")) {
+                return probeMp4(buf);
+            }
+            return probeMp3(buf);
+        } catch (IndexOutOfBoundsException | BufferUnderflowException | ArithmeticException e) {
+            return AudioInfo.unknown();
+        }
+    }
+
+    // ===== WAV =====
+
+    private static AudioInfo probeWav(ByteBuffer buf) {
+        int channels = 0;
+        int sampleRate = 0;
+        long byteRate = 0;
+        long dataSize = -1;
+
+        long position = 12;
+        while (position + 8 <= buf.limit()) {
+            int offset = (int) position;
+            long chunkSize = u32le(buf, offset + 4);
+            if (startsWith(buf, offset, "fmt ")) {
+                channels = u16le(buf, offset + 10);
+                sampleRate = (int) u32le(buf, offset + 12);
+                byteRate = u32le(buf, offset + 16);
+            } else if (startsWith(buf, offset, "data")) {
+                long available = buf.limit() - (position + 8);
+                // 스트리밍 녹음 등으로 크기가 비어 있으면 실제 남은 길이를 사용
+                dataSize = (chunkSize == 0 || chunkSize == 0xFFFFFFFFL || chunkSize > available) ? available : chunkSize;
+                break;
+            }
+            position += 8 + chunkSize + (chunkSize & 1);
+        }
+
+        long durationMillis = (byteRate > 0 && dataSize >= 0) ? dataSize * 1000 / byteRate : -1;
+        return AudioInfo.builder()
+                .format("wav")
+                .durationMillis(durationMillis)
+                .sampleRate(sampleRate)
+                .channels(channels)
+                .build();
+    }
+
+    // ===== FLAC =====
+
+    private static AudioInfo probeFlac(ByteBuffer buf) {
+        // 첫 메타데이터 블록은 항상 STREAMINFO (타입 0, 34바이트)
+        if ((u8(buf, 4) & 0x7F) != 0) {
+            return AudioInfo.unknown();
+        }
+        long packed = u64be(buf, 8 + 10);
+        int sampleRate = (int) (packed >>> 44) & 0xFFFFF;
+        int channels = (int) ((packed >>> 41) & 0x7) + 1;
+        long totalSamples = packed & 0xFFFFFFFFFL;
+
+        long durationMillis = (sampleRate > 0 && totalSamples > 0) ? totalSamples * 1000 / sampleRate : -1;
+        return AudioInfo.builder()
+                .format("flac")
+                .durationMillis(durationMillis)
+                .sampleRate(sampleRate)
+                .channels(channels)
+                .build();
+    }
+
+    // ===== OGG =====
+
+    private static AudioInfo probeOgg(ByteBuffer buf) {
+        int segments = u8(buf, 26);
+        int packet = 27 + segments;
+
+        String codec;
+        int channels;
+        int sampleRate;
+        long preSkip = 0;
+        if (u8(buf, packet) == 0x01 && startsWith(buf, packet + 1, "vorbis")) {
+            codec = "ogg";
+            channels = u8(buf, packet + 11);
+            sampleRate = (int) u32le(buf, packet + 12);
+        } else if (startsWith(buf, packet, "OpusHead")) {
+            codec = "opus";
+            channels = u8(buf, packet + 9);
+            preSkip = u16le(buf, packet + 10);
+            // Opus granule position은 입력 샘플레이트와 무관하게 항상 48kHz 기준
+            sampleRate = 48000;
+        } else {
+            return AudioInfo.unknown();
+        }
+
+        long granule = lastOggGranule(buf);
+        long durationMillis = (granule > preSkip && sampleRate > 0) ? (granule - preSkip) * 1000 / sampleRate : -1;
+        return AudioInfo.builder()
+                .format(codec)
+                .durationMillis(durationMillis)
+                .sampleRate(sampleRate)
+                .channels(channels)
+                .build();
+    }
+
+    /**
+     * 파일 끝에서부터 "OggS" 페이지를 찾아 마지막 유효 granule position을 반환합니다.
+     */
+    private static long lastOggGranule(ByteBuffer buf) {
+        int stop = Math.max(0, buf.limit() - OGG_TAIL_SCAN_BYTES);
+        for (int offset = buf.limit() - 27; offset >= stop; offset--) {
+            if (startsWith(buf, offset, "OggS") && u8(buf, offset + 4) == 0) {
+                long granule = u64le(buf, offset + 6);
+                if (granule != -1L) {
+                    return granule;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // ===== M4A / MP4 =====
+
+    private static AudioInfo probeMp4(ByteBuffer buf) {
+        int[] moov = findBox(buf, 0, buf.limit(), "moov");
+        if (moov == null) {
+            return AudioInfo.unknown();
+        }
+
+        long durationMillis = -1;
+        int[] mvhd = findBox(buf, moov[0], moov[1], "mvhd");
+        if (mvhd != null) {
+            int version = u8(buf, mvhd[0]);
+            long timescale;
+            long duration;
+            if (version == 1) {
+                timescale = u32be(buf, mvhd[0] + 20);
+                duration = u64be(buf, mvhd[0] + 24);
+            } else {
+                timescale = u32be(buf, mvhd[0] + 12);
+                duration = u32be(buf, mvhd[0] + 16);
+            }
+            if (timescale > 0 && duration >= 0) {
+                durationMillis = duration * 1000 / timescale;
+            }
+        }
+
+        // 첫 오디오 샘플 엔트리 (moov/trak/mdia/minf/stbl/stsd)
+        int sampleRate = 0;
+        int channels = 0;
+        int[] stsd = findPath(buf, moov, "trak", "mdia", "minf", "stbl", "stsd");
+        if (stsd != null && u32be(buf, stsd[0] + 4) > 0) {
+            int entry = stsd[0] + 8;
+            channels = u16be(buf, entry + 8 + 16);
+            sampleRate = (int) (u32be(buf, entry + 8 + 24) >>> 16);
+        }
+
+        return AudioInfo.builder()
+                .format("m4a")
+                .durationMillis(durationMillis)
+                .sampleRate(sampleRate)
+                .channels(channels)
+                .build();
+    }
+
+    private static int[] findPath(ByteBuffer buf, int[] parent, String... path) {
+        int[] box = parent;
+        for (String type : path) {
+            box = findBox(buf, box[0], box[1], type);
+            if (box == null) {
+                return null;
+            }
+        }
+        return box;
+    }
+
+    /**
+     * [start, end) 구간의 박스 중 type이 일치하는 첫 박스의 본문 구간 [bodyStart, bodyEnd)를 반환합니다.
+     */
+    private static int[] findBox(ByteBuffer buf, int start, int end, String type) {
+        int offset = start;
+        while (offset + 8 <= end) {
+            long size = u32be(buf, offset);
+            int header = 8;
+            if (size == 1) {
+                size = u64be(buf, offset + 8);
+                header = 16;
+            } else if (size == 0) {
+                size = end - offset;
+            }
+            if (size < header || offset + size > end) {
+                return null;
+            }
+            if (startsWith(buf, offset + 4, type)) {
+                return new int[]{offset + header, (int) (offset + size)};
+            }
+            offset += (int) size;
+        }
+        return null;
+    }
+
+    // ===== MP3 =====
+
+    private static AudioInfo probeMp3(ByteBuffer buf) {
+        int start = 0;
+        if (startsWith(buf, 0, "ID3")) {
+            int tagSize = (u8(buf, 6) & 0x7F) << 21 | (u8(buf, 7) & 0x7F) << 14 | (u8(buf, 8) & 0x7F) << 7 | (u8(buf, 9) & 0x7F);
+            boolean footer = (u8(buf, 5) & 0x10) != 0;
+            start = 10 + tagSize + (footer ? 10 : 0);
+        }
+
+        int end = buf.limit();
+        if (end >= 128 && startsWith(buf, end - 128, "TAG")) {
+            end -= 128; // ID3v1 태그 제외
+        }
+
+        int stop = Math.min(end - 4, start + MP3_SYNC_SCAN_BYTES);
+        for (int offset = start; offset < stop; offset++) {
+            Mp3Frame frame = Mp3Frame.parse(buf, offset);
+            if (frame == null) {
+                continue;
+            }
+            // 다음 프레임 헤더까지 확인하여 오디오 데이터 중간의 우연한 동기 패턴을 배제
+            int next = offset + frame.length;
+            if (next + 4 <= end && Mp3Frame.parse(buf, next) == null) {
+                continue;
+            }
+            return mp3Info(buf, offset, end, frame);
+        }
+        return AudioInfo.unknown();
+    }
+
+    private static AudioInfo mp3Info(ByteBuffer buf, int offset, int end, Mp3Frame frame) {
+        long durationMillis = -1;
+
+        // Xing/Info 태그 (VBR 또는 LAME CBR)
+        int xing = offset + 4 + frame.sideInfoLength();
+        if (xing + 12 <= end && (startsWith(buf, xing, "Xing") || startsWith(buf, xing, "Info"))) {
+            long flags = u32be(buf, xing + 4);
+            if ((flags & 0x1) != 0) {
+                durationMillis = u32be(buf, xing + 8) * frame.samplesPerFrame * 1000 / frame.sampleRate;
+            }
+        }
+
+        // VBRI 태그 (Fraunhofer)
+        int vbri = offset + 4 + 32;
+        if (durationMillis < 0 && vbri + 18 <= end && startsWith(buf, vbri, "VBRI")) {
+            durationMillis = u32be(buf, vbri + 14) * frame.samplesPerFrame * 1000 / frame.sampleRate;
+        }
+
+        // 태그가 없으면 CBR로 보고 데이터 크기와 비트레이트로 추정
+        if (durationMillis < 0) {
+            durationMillis = (long) (end - offset) * 8 / frame.bitrateKbps;
+        }
+
+        return AudioInfo.builder()
+                .format("mp3")
+                .durationMillis(durationMillis)
+                .sampleRate(frame.sampleRate)
+                .channels(frame.mono ? 1 : 2)
+                .build();
+    }
+
+    private static final class Mp3Frame {
+        private final int version;      // 3: MPEG1, 2: MPEG2, 0: MPEG2.5
+        private final int layer;        // 1, 2, 3
+        private final int bitrateKbps;
+        private final int sampleRate;
+        private final boolean mono;
+        private final int samplesPerFrame;
+        private final int length;
+
+        private Mp3Frame(int version, int layer, int bitrateKbps, int sampleRate, boolean padding, boolean mono) {
+            this.version = version;
+            this.layer = layer;
+            this.bitrateKbps = bitrateKbps;
+            this.sampleRate = sampleRate;
+            this.mono = mono;
+            int pad = padding ? 1 : 0;
+            if (layer == 1) {
+                this.samplesPerFrame = 384;
+                this.length = (12 * bitrateKbps * 1000 / sampleRate + pad) * 4;
+            } else {
+                this.samplesPerFrame = (layer == 3 && version != 3) ? 576 : 1152;
+                this.length = samplesPerFrame / 8 * bitrateKbps * 1000 / sampleRate + pad;
+            }
+        }
+
+        static Mp3Frame parse(ByteBuffer buf, int offset) {
+            int header = (int) u32be(buf, offset);
+            if ((header & 0xFFE00000) != 0xFFE00000) {
+                return null;
+            }
+            int version = (header >>> 19) & 0x3;
+            int layerBits = (header >>> 17) & 0x3;
+            int bitrateIndex = (header >>> 12) & 0xF;
+            int sampleRateIndex = (header >>> 10) & 0x3;
+            if (version == 1 || layerBits == 0 || bitrateIndex == 0 || bitrateIndex == 0xF || sampleRateIndex == 3) {
+                return null; // reserved / free format
+            }
+            int layer = 4 - layerBits;
+            int[][] table = version == 3 ? MP3_BITRATES_V1 : MP3_BITRATES_V2;
+            int bitrate = table[layer - 1][bitrateIndex];
+            int sampleRate = MP3_SAMPLE_RATES[version][sampleRateIndex];
+            boolean padding = ((header >>> 9) & 0x1) != 0;
+            boolean mono = ((header >>> 6) & 0x3) == 3;
+            return new Mp3Frame(version, layer, bitrate, sampleRate, padding, mono);
+        }
+
+        int sideInfoLength() {
+            if (version == 3) {
+                return mono ? 17 : 32;
+            }
+            return mono ? 9 : 17;
+        }
+    }
+
+    // ===== 바이트 읽기 =====
+
+    private static boolean startsWith(ByteBuffer buf, int offset, String magic) {
+        if (offset < 0 || offset + magic.length() > buf.limit()) {
+            return false;
+        }
+        for (int i = 0; i < magic.length(); i++) {
+            if (buf.get(offset + i) != (byte) magic.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int u8(ByteBuffer buf, int offset) {
+        return buf.get(offset) & 0xFF;
+    }
+
+    private static int u16le(ByteBuffer buf, int offset) {
+        return u8(buf, offset) | u8(buf, offset + 1) << 8;
+    }
+
+    private static int u16be(ByteBuffer buf, int offset) {
+        return u8(buf, offset) << 8 | u8(buf, offset + 1);
+    }
+
+    private static long u32le(ByteBuffer buf, int offset) {
+        return (long) u16le(buf, offset) | (long) u16le(buf, offset + 2) << 16;
+    }
+
+    private static long u32be(ByteBuffer buf, int offset) {
+        return (long) u16be(buf, offset) << 16 | u16be(buf, offset + 2);
+    }
+
+    private static long u64le(ByteBuffer buf, int offset) {
+        return u32le(buf, offset) | u32le(buf, offset + 4) << 32;
+    }
+
+    private static long u64be(ByteBuffer buf, int offset) {
+        return u32be(buf, offset) << 32 | u32be(buf, offset + 4);
+    }
+}
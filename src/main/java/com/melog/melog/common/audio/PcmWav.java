@@ -0,0 +1,138 @@
+package com.melog.melog.common.audio;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 정수 PCM WAV 파일의 포맷과 data 청크 위치
+ *
+ * 8/16/24/32비트 정수 PCM(WAVE_FORMAT_PCM, WAVE_FORMAT_EXTENSIBLE의 PCM 서브포맷)만 지원하며,
+ * 샘플은 채널 평균(모노 다운믹스)을 16비트 범위로 맞춰 읽습니다.
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+public final class PcmWav {
+
+    /** 표준 PCM WAV 헤더 길이 (RIFF + fmt 16바이트 + data 청크 헤더) */
+    public static final int HEADER_SIZE = 44;
+
+    private static final int WAVE_FORMAT_PCM = 1;
+    private static final int WAVE_FORMAT_EXTENSIBLE = 0xFFFE;
+
+    private final ByteBuffer data;
+    private final int channels;
+    private final int sampleRate;
+    private final int bitsPerSample;
+    private final int blockAlign;
+
+    private PcmWav(ByteBuffer data, int channels, int sampleRate, int bitsPerSample, int blockAlign) {
+        this.data = data;
+        this.channels = channels;
+        this.sampleRate = sampleRate;
+        this.bitsPerSample = bitsPerSample;
+        this.blockAlign = blockAlign;
+    }
+
+    /**
+     * WAV 헤더를 분석합니다.
+     *
+     * @return 정수 PCM WAV가 아니거나 헤더가 손상되었으면 null
+     */
+    public static PcmWav parse(ByteBuffer wav) {
+        ByteBuffer buf = wav.slice().order(ByteOrder.LITTLE_ENDIAN);
+        if (buf.limit() < 12 || buf.getInt(0) != 0x46464952 /* RIFF */ || buf.getInt(8) != 0x45564157 /* WAVE */) {
+            return null;
+        }
+
+        int format = -1, channels = 0, sampleRate = 0, bits = 0, blockAlign = 0;
+        long position = 12;
+        while (position + 8 <= buf.limit()) {
+            int offset = (int) position;
+            int id = buf.getInt(offset);
+            long size = buf.getInt(offset + 4) & 0xFFFFFFFFL;
+            if (id == 0x20746D66 /* fmt  */ && offset + 24 <= buf.limit()) {
+                format = buf.getShort(offset + 8) & 0xFFFF;
+                channels = buf.getShort(offset + 10) & 0xFFFF;
+                sampleRate = buf.getInt(offset + 12);
+                blockAlign = buf.getShort(offset + 20) & 0xFFFF;
+                bits = buf.getShort(offset + 22) & 0xFFFF;
+                if (format == WAVE_FORMAT_EXTENSIBLE && size >= 40 && offset + 34 <= buf.limit()) {
+                    format = buf.getShort(offset + 32) & 0xFFFF; // 서브포맷 GUID의 앞 2바이트
+                }
+            } else if (id == 0x61746164 /* data */) {
+                if (format != WAVE_FORMAT_PCM || channels <= 0 || sampleRate <= 0
+                        || (bits != 8 && bits != 16 && bits != 24 && bits != 32) || blockAlign != channels * bits / 8) {
+                    return null;
+                }
+                long available = buf.limit() - (position + 8);
+                long length = (size == 0 || size == 0xFFFFFFFFL || size > available) ? available : size;
+                length -= length % blockAlign;
+                ByteBuffer data = buf.slice(offset + 8, (int) length).order(ByteOrder.LITTLE_ENDIAN);
+                return new PcmWav(data, channels, sampleRate, bits, blockAlign);
+            }
+            position += 8 + size + (size & 1);
+        }
+        return null;
+    }
+
+    /**
+     * 16kHz 등 지정한 샘플레이트의 16비트 모노 PCM WAV 헤더를 씁니다.
+     */
+    public static void writeMono16Header(ByteBuffer out, int sampleRate, int dataLength) {
+        ByteBuffer header = out.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        header.position(0);
+        header.putInt(0x46464952).putInt(36 + dataLength).putInt(0x45564157);
+        header.putInt(0x20746D66).putInt(16).putShort((short) WAVE_FORMAT_PCM).putShort((short) 1)
+                .putInt(sampleRate).putInt(sampleRate * 2).putShort((short) 2).putShort((short) 16);
+        header.putInt(0x61746164).putInt(dataLength);
+    }
+
+    public int frameCount() {
+        return data.limit() / blockAlign;
+    }
+
+    public long durationMillis() {
+        return (long) frameCount() * 1000 / sampleRate;
+    }
+
+    /**
+     * 프레임의 모노 다운믹스 샘플 (16비트 범위)
+     */
+    public int monoSample(int frame) {
+        int offset = frame * blockAlign;
+        if (channels == 1) {
+            return sample(offset);
+        }
+        int sum = 0;
+        for (int channel = 0; channel < channels; channel++) {
+            sum += sample(offset + channel * (bitsPerSample / 8));
+        }
+        return sum / channels;
+    }
+
+    private int sample(int offset) {
+        return switch (bitsPerSample) {
+            case 8 -> ((data.get(offset) & 0xFF) - 128) << 8;
+            case 16 -> data.getShort(offset);
+            case 24 -> ((data.get(offset + 2) << 16) | ((data.get(offset + 1) & 0xFF) << 8) | (data.get(offset) & 0xFF)) >> 8;
+            default -> data.getInt(offset) >> 16;
+        };
+    }
+
+    public boolean isMono16() {
+        return channels == 1 && bitsPerSample == 16;
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public int getBitsPerSample() {
+        return bitsPerSample;
+    }
+}
@@ -0,0 +1,65 @@
+package com.melog.melog.common.audio;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * PCM WAV 다운믹스/리샘플러
+ *
+ * 휴대폰에서 올라오는 44.1/48kHz 스테레오 WAV를 음성 인식에 충분한 16비트 모노 WAV로 변환합니다.
+ * 입력은 매핑된 버퍼에서 프레임 순서대로 한 번만 읽고, 출력 배열만 새로 할당합니다.
+ * 다운샘플링은 출력 샘플 하나가 덮는 입력 구간의 평균(박스 필터)으로 계산하여 앨리어싱을 줄이고,
+ * 입력 샘플레이트가 목표보다 낮으면 리샘플링하지 않습니다.
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+public final class PcmWavConverter {
+
+    private PcmWavConverter() {
+    }
+
+    /**
+     * 16비트 모노, 최대 targetSampleRate의 WAV로 변환합니다.
+     *
+     * @return 변환된 WAV (position 0, 읽기 전용). 정수 PCM WAV가 아니거나 변환할 필요가 없으면 null
+     */
+    public static ByteBuffer toMono16(ByteBuffer wav, int targetSampleRate) {
+        PcmWav source = PcmWav.parse(wav);
+        if (source == null) {
+            return null;
+        }
+        int inRate = source.getSampleRate();
+        int outRate = Math.min(inRate, targetSampleRate);
+        if (source.isMono16() && outRate == inRate) {
+            return null;
+        }
+
+        int inFrames = source.frameCount();
+        int outFrames = (int) ((long) inFrames * outRate / inRate);
+        ByteBuffer out = ByteBuffer.allocate(PcmWav.HEADER_SIZE + outFrames * 2).order(ByteOrder.LITTLE_ENDIAN);
+        PcmWav.writeMono16Header(out, outRate, outFrames * 2);
+        out.position(PcmWav.HEADER_SIZE);
+
+        if (outRate == inRate) {
+            for (int frame = 0; frame < inFrames; frame++) {
+                out.putShort((short) source.monoSample(frame));
+            }
+        } else {
+            // 출력 샘플 n은 입력 구간 [n * inRate / outRate, (n + 1) * inRate / outRate)의 평균
+            int start = 0;
+            for (int n = 0; n < outFrames; n++) {
+                int end = (int) Math.min(inFrames, (long) (n + 1) * inRate / outRate);
+                end = Math.max(end, start + 1);
+                long sum = 0;
+                for (int frame = start; frame < end; frame++) {
+                    sum += source.monoSample(frame);
+                }
+                out.putShort((short) (sum / (end - start)));
+                start = end;
+            }
+        }
+
+        return out.flip().asReadOnlyBuffer();
+    }
+}
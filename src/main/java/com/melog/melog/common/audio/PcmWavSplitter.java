@@ -0,0 +1,106 @@
+package com.melog.melog.common.audio;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PCM WAV 구간 분할기
+ *
+ * CLOVA Speech 단문 인식은 60초를 넘으면 실패하거나 잘리므로, 긴 녹음을 최대 길이 이하의 구간으로 나눕니다.
+ * 단어 중간이 잘리지 않도록 각 구간의 후반부(최대 길이의 절반 이후)에서
+ * 20ms 프레임 에너지가 가장 낮은 지점(말과 말 사이의 쉼)을 경계로 고릅니다.
+ * 각 구간은 16비트 모노 WAV로 다시 씁니다.
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+public final class PcmWavSplitter {
+
+    private static final int FRAME_MS = 20;
+
+    private PcmWavSplitter() {
+    }
+
+    /**
+     * @param wav              PCM WAV
+     * @param maxSegmentMillis 구간 최대 길이
+     * @return 순서대로 나눈 16비트 모노 WAV 구간 목록. 정수 PCM WAV가 아니면 빈 목록
+     */
+    public static List<ByteBuffer> split(ByteBuffer wav, long maxSegmentMillis) {
+        PcmWav source = PcmWav.parse(wav);
+        if (source == null) {
+            return List.of();
+        }
+
+        int sampleRate = source.getSampleRate();
+        int frameSize = Math.max(1, sampleRate * FRAME_MS / 1000);
+        int totalSamples = source.frameCount();
+        int frameCount = totalSamples / frameSize;
+        int maxFrames = (int) Math.max(2, maxSegmentMillis / FRAME_MS);
+
+        double[] energy = frameEnergies(source, frameSize, frameCount);
+
+        List<ByteBuffer> segments = new ArrayList<>();
+        int startFrame = 0;
+        while (startFrame < frameCount) {
+            int endFrame;
+            if (frameCount - startFrame <= maxFrames) {
+                endFrame = frameCount;
+            } else {
+                endFrame = quietestFrame(energy, startFrame + maxFrames / 2, startFrame + maxFrames);
+            }
+            int startSample = startFrame * frameSize;
+            // 마지막 구간은 프레임에 못 미치는 꼬리 샘플까지 포함
+            int endSample = endFrame == frameCount ? totalSamples : endFrame * frameSize;
+            segments.add(writeSegment(source, startSample, endSample));
+            startFrame = endFrame;
+        }
+        if (segments.isEmpty() && totalSamples > 0) {
+            segments.add(writeSegment(source, 0, totalSamples));
+        }
+        return segments;
+    }
+
+    private static double[] frameEnergies(PcmWav source, int frameSize, int frameCount) {
+        double[] energy = new double[frameCount];
+        for (int frame = 0; frame < frameCount; frame++) {
+            int start = frame * frameSize;
+            double sumSquares = 0;
+            for (int i = start; i < start + frameSize; i++) {
+                int sample = source.monoSample(i);
+                sumSquares += (double) sample * sample;
+            }
+            energy[frame] = sumSquares / frameSize;
+        }
+        return energy;
+    }
+
+    /**
+     * [from, to) 구간에서 앞뒤 프레임을 포함한 평균 에너지가 가장 낮은 프레임
+     */
+    private static int quietestFrame(double[] energy, int from, int to) {
+        int best = to;
+        double bestEnergy = Double.MAX_VALUE;
+        for (int frame = from; frame < to; frame++) {
+            double smoothed = (energy[Math.max(0, frame - 1)] + energy[frame] + energy[Math.min(energy.length - 1, frame + 1)]) / 3;
+            if (smoothed <= bestEnergy) {
+                bestEnergy = smoothed;
+                best = frame;
+            }
+        }
+        return best;
+    }
+
+    private static ByteBuffer writeSegment(PcmWav source, int startSample, int endSample) {
+        int dataLength = (endSample - startSample) * 2;
+        ByteBuffer out = ByteBuffer.allocate(PcmWav.HEADER_SIZE + dataLength).order(ByteOrder.LITTLE_ENDIAN);
+        PcmWav.writeMono16Header(out, source.getSampleRate(), dataLength);
+        out.position(PcmWav.HEADER_SIZE);
+        for (int i = startSample; i < endSample; i++) {
+            out.putShort((short) source.monoSample(i));
+        }
+        return out.flip().asReadOnlyBuffer();
+    }
+}
@@ -0,0 +1,212 @@
+package com.melog.melog.common.audio;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 에너지 기반 음성 구간 검출(VAD) 및 무음 제거
+ *
+ * PCM WAV를 20ms 프레임으로 나눠 단구간 에너지(dBFS)와 영교차율(ZCR)로 음성 프레임을 판별합니다.
+ * - 에너지가 임계값 이상이면 음성
+ * - 에너지가 임계값보다 10dB 이내로 낮더라도 ZCR이 높으면(ㅅ, ㅎ 같은 마찰음) 음성
+ * - 음성 프레임 앞뒤 hangover 구간도 음성으로 보아 말끝이 잘리지 않도록 함
+ *
+ * 앞뒤 무음은 제거하고, 중간의 긴 침묵은 maxPause 길이로 줄여 16비트 모노 WAV로 다시 씁니다.
+ * 음성 프레임이 하나도 없거나 줄일 구간이 없으면 null을 반환하여 원본을 그대로 사용하게 합니다.
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+public class VoiceActivityTrimmer {
+
+    private static final int FRAME_MS = 20;
+    private static final double FRICATIVE_MARGIN_DB = 10.0;
+
+    private final double energyThresholdDb;
+    private final double zcrThreshold;
+    private final int hangoverMs;
+    private final int maxPauseMs;
+
+    /**
+     * @param energyThresholdDb 음성으로 판단할 프레임 에너지 (dBFS, 예: -45)
+     * @param zcrThreshold      마찰음으로 판단할 영교차율 (0~1, 예: 0.25)
+     * @param hangoverMs        음성 프레임 앞뒤로 함께 남길 길이
+     * @param maxPauseMs        중간 침묵을 줄일 최대 길이
+     */
+    public VoiceActivityTrimmer(double energyThresholdDb, double zcrThreshold, int hangoverMs, int maxPauseMs) {
+        this.energyThresholdDb = energyThresholdDb;
+        this.zcrThreshold = zcrThreshold;
+        this.hangoverMs = hangoverMs;
+        this.maxPauseMs = maxPauseMs;
+    }
+
+    /**
+     * 무음 제거 결과
+     */
+    public static final class Result {
+        private final ByteBuffer wav;
+        private final long originalMillis;
+        private final long trimmedMillis;
+
+        private Result(ByteBuffer wav, long originalMillis, long trimmedMillis) {
+            this.wav = wav;
+            this.originalMillis = originalMillis;
+            this.trimmedMillis = trimmedMillis;
+        }
+
+        /** 무음을 제거한 16비트 모노 WAV (position 0, 읽기 전용) */
+        public ByteBuffer getWav() {
+            return wav;
+        }
+
+        public long getOriginalMillis() {
+            return originalMillis;
+        }
+
+        public long getTrimmedMillis() {
+            return trimmedMillis;
+        }
+
+        public long getSavedMillis() {
+            return originalMillis - trimmedMillis;
+        }
+    }
+
+    /**
+     * PCM WAV의 무음을 제거합니다.
+     *
+     * @return 정수 PCM WAV가 아니거나, 음성이 없거나, 줄일 구간이 없으면 null
+     */
+    public Result trim(ByteBuffer wav) {
+        PcmWav source = PcmWav.parse(wav);
+        if (source == null) {
+            return null;
+        }
+
+        int sampleRate = source.getSampleRate();
+        int frameSize = Math.max(1, sampleRate * FRAME_MS / 1000);
+        int totalSamples = source.frameCount();
+        int frameCount = totalSamples / frameSize;
+        if (frameCount == 0) {
+            return null;
+        }
+
+        boolean[] voiced = detectVoicedFrames(source, frameSize, frameCount);
+        boolean[] keep = selectFrames(voiced);
+        if (keep == null) {
+            return null;
+        }
+
+        int keptFrames = 0;
+        for (boolean k : keep) {
+            if (k) keptFrames++;
+        }
+        if (keptFrames == frameCount) {
+            return null;
+        }
+
+        // 남길 프레임만 16비트 모노로 다시 기록 (마지막 프레임에 못 미치는 꼬리 샘플은 버림)
+        int dataLength = keptFrames * frameSize * 2;
+        ByteBuffer out = ByteBuffer.allocate(PcmWav.HEADER_SIZE + dataLength).order(ByteOrder.LITTLE_ENDIAN);
+        PcmWav.writeMono16Header(out, sampleRate, dataLength);
+        out.position(PcmWav.HEADER_SIZE);
+        for (int frame = 0; frame < frameCount; frame++) {
+            if (!keep[frame]) {
+                continue;
+            }
+            int start = frame * frameSize;
+            for (int i = start; i < start + frameSize; i++) {
+                out.putShort((short) source.monoSample(i));
+            }
+        }
+
+        long originalMillis = (long) totalSamples * 1000 / sampleRate;
+        long trimmedMillis = (long) keptFrames * FRAME_MS;
+        return new Result(out.flip().asReadOnlyBuffer(), originalMillis, trimmedMillis);
+    }
+
+    private boolean[] detectVoicedFrames(PcmWav source, int frameSize, int frameCount) {
+        boolean[] speech = new boolean[frameCount];
+        for (int frame = 0; frame < frameCount; frame++) {
+            int start = frame * frameSize;
+            double sumSquares = 0;
+            int crossings = 0;
+            int previous = source.monoSample(start);
+            for (int i = start; i < start + frameSize; i++) {
+                int sample = source.monoSample(i);
+                sumSquares += (double) sample * sample;
+                if ((sample >= 0) != (previous >= 0)) {
+                    crossings++;
+                }
+                previous = sample;
+            }
+            double rms = Math.sqrt(sumSquares / frameSize);
+            double energyDb = rms > 0 ? 20 * Math.log10(rms / 32768.0) : Double.NEGATIVE_INFINITY;
+            double zcr = frameSize > 1 ? (double) crossings / (frameSize - 1) : 0;
+
+            speech[frame] = energyDb >= energyThresholdDb
+                    || (energyDb >= energyThresholdDb - FRICATIVE_MARGIN_DB && zcr >= zcrThreshold);
+        }
+
+        // hangover: 음성 프레임 앞뒤 구간도 음성으로 처리
+        int hangoverFrames = hangoverMs / FRAME_MS;
+        boolean[] voiced = new boolean[frameCount];
+        int lastSpeech = -1;
+        for (int frame = 0; frame < frameCount; frame++) {
+            if (speech[frame]) {
+                lastSpeech = frame;
+            }
+            voiced[frame] = lastSpeech >= 0 && frame - lastSpeech <= hangoverFrames;
+        }
+        int nextSpeech = -1;
+        for (int frame = frameCount - 1; frame >= 0; frame--) {
+            if (speech[frame]) {
+                nextSpeech = frame;
+            }
+            voiced[frame] |= nextSpeech >= 0 && nextSpeech - frame <= hangoverFrames;
+        }
+        return voiced;
+    }
+
+    /**
+     * 앞뒤 무음을 제외하고, 중간 침묵은 maxPause 길이(앞뒤 절반씩)만 남깁니다.
+     *
+     * @return 음성 프레임이 없으면 null
+     */
+    private boolean[] selectFrames(boolean[] voiced) {
+        int first = -1;
+        int last = -1;
+        for (int frame = 0; frame < voiced.length; frame++) {
+            if (voiced[frame]) {
+                if (first < 0) first = frame;
+                last = frame;
+            }
+        }
+        if (first < 0) {
+            return null;
+        }
+
+        int maxPauseFrames = Math.max(1, maxPauseMs / FRAME_MS);
+        boolean[] keep = new boolean[voiced.length];
+        int frame = first;
+        while (frame <= last) {
+            if (voiced[frame]) {
+                keep[frame++] = true;
+                continue;
+            }
+            int pauseStart = frame;
+            while (frame <= last && !voiced[frame]) {
+                frame++;
+            }
+            int pauseLength = frame - pauseStart;
+            if (pauseLength <= maxPauseFrames) {
+                for (int i = pauseStart; i < frame; i++) keep[i] = true;
+            } else {
+                int head = maxPauseFrames / 2;
+                for (int i = pauseStart; i < pauseStart + head; i++) keep[i] = true;
+                for (int i = frame - (maxPauseFrames - head); i < frame; i++) keep[i] = true;
+            }
+        }
+        return keep;
+    }
+}
@@ -0,0 +1,104 @@
+package com.melog.melog.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * SSE 스트리밍 응답(요약 토큰 전달)을 처리하는 스레드 풀
+     */
+    @Bean
+    public ThreadPoolTaskExecutor streamingTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("sse-stream-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Clova Studio 헤징 요청(1차 + 보조 요청)을 실행하는 스레드 풀
+     * 포화 시에는 호출 스레드에서 직접 실행하여 요청이 유실되지 않도록 합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor clovaHedgeTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("clova-hedge-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 긴 음성을 구간으로 나눠 CLOVA Speech STT를 병렬 요청하는 스레드 풀
+     * 포화 시에는 호출 스레드에서 직접 요청하여 동시 요청 수를 제한합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor clovaSttTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("clova-stt-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 감정 인사이트 조회 시 키워드 집계 등 DB 조회를 동시에 실행하는 스레드 풀
+     * 포화 시에는 호출 스레드에서 직접 실행합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor insightQueryTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("insight-query-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 음성 감정 기록 생성 시 STT와 동시에 음성 파일을 S3에 업로드하는 스레드 풀
+     * 포화 시에는 호출 스레드에서 직접 업로드합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor audioUploadTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("audio-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 월별 감정 인사이트 비동기 재생성을 실행하는 스레드 풀
+     * 재생성 중에는 이전 인사이트를 응답하므로, 포화 시에는 작업을 거절하고 다음 조회에서 다시 시도합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor insightTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("insight-refresh-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -84,4 +84,20 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
+
+    @ExceptionHandler(UploadOffsetMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleUploadOffsetMismatchException(UploadOffsetMismatchException e) {
+        log.warn("이어 올리기 오프셋 불일치: uploadId={}, currentOffset={}", e.getUploadId(), e.getCurrentOffset());
+        
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.CONFLICT.value());
+        errorResponse.put("error", "Conflict");
+        errorResponse.put("message", e.getMessage());
+        errorResponse.put("offset", e.getCurrentOffset());
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header("Upload-Offset", String.valueOf(e.getCurrentOffset()))
+                .body(errorResponse);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.melog.melog.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 이어 올리기 청크의 오프셋이 서버에 저장된 오프셋과 다르거나,
+ * 같은 업로드에 대한 다른 쓰기가 진행 중일 때 발생합니다. (409 Conflict)
+ * 클라이언트는 currentOffset부터 다시 전송해야 합니다.
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+@Getter
+public class UploadOffsetMismatchException extends RuntimeException {
+
+    private final String uploadId;
+    private final long currentOffset;
+
+    public UploadOffsetMismatchException(String uploadId, long currentOffset) {
+        super(String.format("업로드 오프셋이 일치하지 않습니다. uploadId=%s, 현재 오프셋=%d", uploadId, currentOffset));
+        this.uploadId = uploadId;
+        this.currentOffset = currentOffset;
+    }
+}
@@ -0,0 +1,285 @@
+package com.melog.melog.common.service;
+
+import com.melog.melog.common.exception.UploadOffsetMismatchException;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * 이어 올리기(resumable) 업로드 스테이징 서비스
+ *
+ * 모바일 네트워크에서 업로드가 중간에 끊겨도 처음부터 다시 보내지 않도록,
+ * 업로드를 생성한 뒤 청크를 오프셋과 함께 여러 번에 나눠 받아 로컬 스테이징 디렉토리의 파일에 씁니다.
+ * - {uploadId}.part: 받은 바이트 (FileChannel 위치 지정 쓰기, 현재 오프셋 = 파일 크기)
+ * - {uploadId}.properties: 사용자, 파일명, Content-Type, 전체 크기, 생성 시간
+ *
+ * 청크는 현재 오프셋에서만 이어 쓸 수 있으며, 같은 업로드에 대한 동시 쓰기는 파일 잠금으로 막습니다.
+ * 연결이 끊기면 그때까지 받은 바이트는 그대로 남으므로 클라이언트는 현재 오프셋을 조회해 이어서 보냅니다.
+ * 만료된 업로드는 주기적으로 정리합니다.
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+@Slf4j
+@Service
+public class ResumableUploadService {
+
+    private static final String PART_SUFFIX = ".part";
+    private static final String META_SUFFIX = ".properties";
+    private static final int CHUNK_BUFFER_SIZE = 64 * 1024;
+
+    @Value("${AUDIO_UPLOAD_STAGING_DIR:/tmp/melog_upload}")
+    private String stagingDir;
+
+    @Value("${AUDIO_UPLOAD_STAGING_TTL_HOURS:24}")
+    private long stagingTtlHours;
+
+    /**
+     * 업로드 상태
+     */
+    @Getter
+    @Builder
+    public static class ResumableUpload {
+        private final String uploadId;
+        private final String userId;
+        private final String fileName;
+        private final String contentType;
+        private final long totalSize;
+        private final long offset;
+        private final LocalDateTime expiresAt;
+        private final Path file;
+
+        public boolean isComplete() {
+            return offset == totalSize;
+        }
+    }
+
+    /**
+     * 빈 스테이징 파일과 업로드 정보를 생성합니다.
+     */
+    public ResumableUpload create(String userId, String fileName, String contentType, long totalSize) {
+        String uploadId = UUID.randomUUID().toString();
+        long createdAt = System.currentTimeMillis();
+
+        Properties meta = new Properties();
+        meta.setProperty("userId", userId);
+        meta.setProperty("fileName", fileName);
+        meta.setProperty("contentType", contentType != null ? contentType : "");
+        meta.setProperty("totalSize", String.valueOf(totalSize));
+        meta.setProperty("createdAt", String.valueOf(createdAt));
+
+        try {
+            Path directory = Files.createDirectories(Path.of(stagingDir));
+            Files.createFile(directory.resolve(uploadId + PART_SUFFIX));
+            try (Writer writer = Files.newBufferedWriter(directory.resolve(uploadId + META_SUFFIX), StandardCharsets.UTF_8)) {
+                meta.store(writer, null);
+            }
+        } catch (IOException e) {
+            log.error("이어 올리기 업로드 생성 실패: userId={}, error={}", userId, e.getMessage(), e);
+            throw new RuntimeException("업로드 생성에 실패했습니다: " + e.getMessage(), e);
+        }
+
+        log.info("이어 올리기 업로드 생성: uploadId={}, userId={}, fileName={}, totalSize={}bytes",
+                uploadId, userId, fileName, totalSize);
+        return get(userId, uploadId);
+    }
+
+    /**
+     * 업로드 상태(현재 오프셋 포함)를 조회합니다.
+     *
+     * @throws IllegalArgumentException 업로드가 없거나, 다른 사용자의 업로드이거나, 만료된 경우
+     */
+    public ResumableUpload get(String userId, String uploadId) {
+        Path partFile = partFile(uploadId);
+        Properties meta = readMeta(uploadId);
+        if (meta == null || !Files.exists(partFile) || !userId.equals(meta.getProperty("userId"))) {
+            throw new IllegalArgumentException("업로드를 찾을 수 없습니다: " + uploadId);
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(Long.parseLong(meta.getProperty("createdAt"))), ZoneId.systemDefault())
+                .plusHours(stagingTtlHours);
+        if (!expiresAt.isAfter(LocalDateTime.now())) {
+            delete(uploadId);
+            throw new IllegalArgumentException("만료된 업로드입니다: " + uploadId);
+        }
+
+        try {
+            String contentType = meta.getProperty("contentType");
+            return ResumableUpload.builder()
+                    .uploadId(uploadId)
+                    .userId(userId)
+                    .fileName(meta.getProperty("fileName"))
+                    .contentType(contentType == null || contentType.isEmpty() ? null : contentType)
+                    .totalSize(Long.parseLong(meta.getProperty("totalSize")))
+                    .offset(Files.size(partFile))
+                    .expiresAt(expiresAt)
+                    .file(partFile)
+                    .build();
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 상태 조회에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 청크를 지정한 오프셋부터 스테이징 파일에 씁니다.
+     * 요청 본문은 64KB 단위로 읽어 바로 파일에 쓰므로 청크 전체를 메모리에 올리지 않습니다.
+     * 전송이 중간에 끊겨도 이미 쓴 바이트는 유지되어 다음 요청에서 이어서 받을 수 있습니다.
+     *
+     * @param offset 클라이언트가 알고 있는 현재 오프셋 (서버 오프셋과 같아야 함)
+     * @return 쓰기 후 업로드 상태
+     * @throws UploadOffsetMismatchException 오프셋이 맞지 않거나 같은 업로드에 다른 쓰기가 진행 중인 경우
+     * @throws IllegalArgumentException 전체 크기를 넘는 데이터를 보낸 경우
+     */
+    public ResumableUpload append(String userId, String uploadId, long offset, InputStream body) {
+        ResumableUpload upload = get(userId, uploadId);
+
+        try (FileChannel channel = FileChannel.open(upload.getFile(), StandardOpenOption.WRITE);
+             FileLock lock = tryLock(channel, upload)) {
+            long position = channel.size();
+            if (offset != position) {
+                throw new UploadOffsetMismatchException(uploadId, position);
+            }
+
+            ReadableByteChannel in = Channels.newChannel(body);
+            ByteBuffer buffer = ByteBuffer.allocate(CHUNK_BUFFER_SIZE);
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                if (position + buffer.remaining() > upload.getTotalSize()) {
+                    throw new IllegalArgumentException(String.format(
+                            "업로드 크기를 초과했습니다. 전체 크기: %d bytes, 받은 크기: %d bytes 이상",
+                            upload.getTotalSize(), position + buffer.remaining()));
+                }
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                buffer.clear();
+            }
+            channel.force(false);
+            log.debug("이어 올리기 청크 수신: uploadId={}, offset={} -> {}", uploadId, offset, position);
+        } catch (IOException e) {
+            // 클라이언트 연결 끊김 등: 이미 쓴 바이트는 남아 있으므로 현재 오프셋부터 이어서 보내면 됨
+            log.warn("이어 올리기 청크 수신 중단: uploadId={}, error={}", uploadId, e.getMessage());
+            throw new RuntimeException("청크 업로드가 중단되었습니다. 현재 오프셋부터 다시 시도해주세요: " + e.getMessage(), e);
+        }
+
+        return get(userId, uploadId);
+    }
+
+    private FileLock tryLock(FileChannel channel, ResumableUpload upload) throws IOException {
+        try {
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                return lock;
+            }
+        } catch (OverlappingFileLockException e) {
+            // 같은 JVM에서 이미 쓰는 중
+        }
+        throw new UploadOffsetMismatchException(upload.getUploadId(), upload.getOffset());
+    }
+
+    /**
+     * 업로드를 취소하거나, 기록 생성이 끝난 뒤 스테이징 파일을 삭제합니다.
+     */
+    public void delete(String uploadId) {
+        try {
+            Files.deleteIfExists(partFile(uploadId));
+            Files.deleteIfExists(metaFile(uploadId));
+        } catch (IOException e) {
+            log.warn("이어 올리기 스테이징 파일 삭제 실패: uploadId={}, error={}", uploadId, e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 스테이징 파일 정리 (기본: 매시 30분)
+     */
+    @Scheduled(cron = "${AUDIO_UPLOAD_STAGING_CLEANUP_CRON:0 30 * * * *}")
+    public void deleteExpiredUploads() {
+        Path directory = Path.of(stagingDir);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        long expiredBefore = System.currentTimeMillis() - stagingTtlHours * 3600_000L;
+        int deleted = 0;
+        try (DirectoryStream<Path> metaFiles = Files.newDirectoryStream(directory, "*" + META_SUFFIX)) {
+            for (Path metaFile : metaFiles) {
+                String fileName = metaFile.getFileName().toString();
+                String uploadId = fileName.substring(0, fileName.length() - META_SUFFIX.length());
+                try {
+                    Properties meta = readMeta(uploadId);
+                    if (meta == null || Long.parseLong(meta.getProperty("createdAt", "0")) < expiredBefore) {
+                        delete(uploadId);
+                        deleted++;
+                    }
+                } catch (IllegalArgumentException e) {
+                    log.debug("이어 올리기 스테이징 디렉토리의 알 수 없는 파일 무시: {}", fileName);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("만료된 이어 올리기 업로드 정리 실패: {}", e.getMessage());
+            return;
+        }
+        if (deleted > 0) {
+            log.info("만료된 이어 올리기 업로드 삭제: count={}", deleted);
+        }
+    }
+
+    private Properties readMeta(String uploadId) {
+        Path metaFile = metaFile(uploadId);
+        if (!Files.exists(metaFile)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(metaFile, StandardCharsets.UTF_8)) {
+            Properties meta = new Properties();
+            meta.load(reader);
+            return meta;
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("이어 올리기 업로드 정보 읽기 실패: uploadId={}, error={}", uploadId, e.getMessage());
+            return null;
+        }
+    }
+
+    private Path partFile(String uploadId) {
+        return Path.of(stagingDir).resolve(validUploadId(uploadId) + PART_SUFFIX);
+    }
+
+    private Path metaFile(String uploadId) {
+        return Path.of(stagingDir).resolve(validUploadId(uploadId) + META_SUFFIX);
+    }
+
+    /**
+     * 경로 조작을 막기 위해 UUID 형식의 업로드 ID만 허용합니다.
+     */
+    private static String validUploadId(String uploadId) {
+        try {
+            return UUID.fromString(uploadId).toString();
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("유효하지 않은 업로드 ID입니다: " + uploadId);
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package com.melog.melog.common.service;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.melog.melog.common.audio.AudioIngestBuffer;
+import com.melog.melog.common.audio.ByteBufferResource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,13 +23,19 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -29,69 +46,217 @@ public class S3FileService {
 
     private final AmazonS3 amazonS3;
 
+    // S3 멀티파트 업로드 최소 파트 크기 (마지막 파트 제외)
+    private static final long MULTIPART_PART_SIZE = 5 * 1024 * 1024;
+    private static final long MULTIPART_THRESHOLD = 2 * MULTIPART_PART_SIZE;
+
     @Value("${NCLOUD_S3_BUCKET}")
     private String bucketName;
 
     @Value("${NCLOUD_S3_ENDPOINT}")
     private String endpoint;
 
+    @Value("${NCLOUD_S3_PRESIGN_EXPIRATION_SECONDS:600}")
+    private long presignExpirationSeconds;
+
     /**
      * 음성 파일을 S3에 업로드합니다.
      */
     public String uploadAudioFile(MultipartFile file, String userId) {
         try {
-            // 파일명 생성 (중복 방지)
-            String originalFilename = file.getOriginalFilename();
-            String fileExtension = getFileExtension(originalFilename);
-            String fileName = generateFileName(userId, fileExtension);
-            
-            // S3 키 생성 (폴더 구조: users/{userId}/audio/{year}/{month}/{fileName})
-            String s3Key = generateS3Key(userId, fileName);
-            
-            // 메타데이터 설정
-            ObjectMetadata metadata = new ObjectMetadata();
-            
-            // contentType null 대비 및 확장자 기반 설정
-            String contentType = file.getContentType();
-            if (contentType == null || contentType.isBlank()) {
-                String ext = fileExtension.replace(".", "").toLowerCase();
-                contentType = ("wav".equals(ext) || "x-wav".equals(ext)) ? "audio/wav"
-                             : ("mp3".equals(ext)) ? "audio/mpeg"
-                             : ("m4a".equals(ext)) ? "audio/mp4"
-                             : "application/octet-stream";
+            return putAudioObject(file.getInputStream(), file.getSize(), file.getOriginalFilename(), file.getContentType(), userId);
+        } catch (IOException e) {
+            log.error("파일 업로드 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("파일 업로드에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 수집 버퍼에 한 번 읽어 둔 음성 파일을 S3에 업로드합니다.
+     * STT 요청과 같은 버퍼를 공유하여 업로드를 STT와 동시에 진행할 때 사용됩니다.
+     * 10MB를 넘는 파일은 5MB 파트 단위의 멀티파트 업로드로 전송합니다.
+     */
+    public String uploadAudioFile(AudioIngestBuffer audio, String userId) {
+        if (audio.size() > MULTIPART_THRESHOLD) {
+            return putAudioObjectMultipart(audio, userId);
+        }
+        return putAudioObject(audio.openStream(), audio.size(), audio.getOriginalFilename(), audio.getContentType(), userId);
+    }
+
+    private String putAudioObject(InputStream inputStream, long size, String originalFilename, String contentType, String userId) {
+        // 파일명 생성 (중복 방지)
+        String fileExtension = getFileExtension(originalFilename);
+        String fileName = generateFileName(userId, fileExtension);
+        
+        // S3 키 생성 (폴더 구조: users/{userId}/audio/{year}/{month}/{fileName})
+        String s3Key = generateS3Key(userId, fileName);
+        
+        // 메타데이터 설정
+        ObjectMetadata metadata = createUploadMetadata(originalFilename, contentType, fileExtension, userId);
+        metadata.setContentLength(size);
+
+        // 파일 업로드 (퍼블릭 읽기 허용)
+        PutObjectRequest putObjectRequest = new PutObjectRequest(
+                bucketName, s3Key, inputStream, metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead); // ★ 퍼블릭 읽기
+
+        amazonS3.putObject(putObjectRequest);
+
+        // S3 URL 생성
+        String s3Url = generateS3Url(s3Key);
+        
+        log.info("파일 업로드 성공: bucket={}, key={}, size={}bytes", 
+                bucketName, s3Key, size);
+        
+        return s3Url;
+    }
+
+    /**
+     * 버퍼를 5MB 파트로 나눠 멀티파트 업로드합니다.
+     * 파트는 매핑된 버퍼의 구간을 그대로 스트림으로 전달하므로 힙으로 복사하지 않으며,
+     * 중간에 실패하면 업로드를 중단(abort)하여 조각이 남지 않도록 합니다.
+     */
+    private String putAudioObjectMultipart(AudioIngestBuffer audio, String userId) {
+        String fileExtension = getFileExtension(audio.getOriginalFilename());
+        String s3Key = generateS3Key(userId, generateFileName(userId, fileExtension));
+        ObjectMetadata metadata = createUploadMetadata(audio.getOriginalFilename(), audio.getContentType(), fileExtension, userId);
+
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, s3Key, metadata)
+                .withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+        try {
+            ByteBuffer view = audio.view();
+            List<PartETag> partETags = new ArrayList<>();
+            int partNumber = 1;
+            for (long offset = 0; offset < audio.size(); offset += MULTIPART_PART_SIZE, partNumber++) {
+                int length = (int) Math.min(MULTIPART_PART_SIZE, audio.size() - offset);
+                ByteBufferResource part = new ByteBufferResource(view.slice((int) offset, length), audio.getOriginalFilename());
+                partETags.add(amazonS3.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(s3Key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withPartSize(length)
+                        .withInputStream(part.getInputStream())).getPartETag());
             }
-            metadata.setContentType(contentType);
-            metadata.setContentLength(file.getSize());
-            
-            // Cache-Control 설정 (오디오 스트리밍 최적화)
-            metadata.setCacheControl("public, max-age=31536000, immutable");
-            
-            // user metadata를 ASCII로 강제 (S3 서명 문제 방지)
-            putAsciiUserMeta(metadata, "original-filename", originalFilename);
-            putAsciiUserMeta(metadata, "upload-date", LocalDateTime.now().toString());
-            putAsciiUserMeta(metadata, "user-id", userId);
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, s3Key, uploadId, partETags));
+        } catch (RuntimeException e) {
+            try {
+                amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, s3Key, uploadId));
+            } catch (Exception abortError) {
+                log.warn("멀티파트 업로드 중단 실패: key={}, uploadId={}, error={}", s3Key, uploadId, abortError.getMessage());
+            }
+            throw e;
+        }
+
+        log.info("멀티파트 업로드 성공: bucket={}, key={}, size={}bytes", bucketName, s3Key, audio.size());
+        return generateS3Url(s3Key);
+    }
+
+    /**
+     * 사용자 음성 업로드용 메타데이터 (Content-Length는 호출한 쪽에서 설정)
+     */
+    private ObjectMetadata createUploadMetadata(String originalFilename, String contentType, String fileExtension, String userId) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        
+        // contentType null 대비 및 확장자 기반 설정
+        if (contentType == null || contentType.isBlank()) {
+            String ext = fileExtension.replace(".", "").toLowerCase();
+            contentType = ("wav".equals(ext) || "x-wav".equals(ext)) ? "audio/wav"
+                         : ("mp3".equals(ext)) ? "audio/mpeg"
+                         : ("m4a".equals(ext)) ? "audio/mp4"
+                         : "application/octet-stream";
+        }
+        metadata.setContentType(contentType);
+        
+        // Cache-Control 설정 (오디오 스트리밍 최적화)
+        metadata.setCacheControl("public, max-age=31536000, immutable");
+        
+        // user metadata를 ASCII로 강제 (S3 서명 문제 방지)
+        putAsciiUserMeta(metadata, "original-filename", originalFilename);
+        putAsciiUserMeta(metadata, "upload-date", LocalDateTime.now().toString());
+        putAsciiUserMeta(metadata, "user-id", userId);
+        return metadata;
+    }
 
-            // 파일 업로드 (퍼블릭 읽기 허용)
-            PutObjectRequest putObjectRequest = new PutObjectRequest(
-                    bucketName, s3Key, file.getInputStream(), metadata)
-                    .withCannedAcl(CannedAccessControlList.PublicRead); // ★ 퍼블릭 읽기
+    // === 클라이언트 직접 업로드 (presigned PUT) ===
 
-            amazonS3.putObject(putObjectRequest);
+    /**
+     * 클라이언트가 음성 파일을 직접 업로드할 S3 키를 생성합니다.
+     * 서버 업로드와 같은 폴더 구조(users/{userId}/audio/{year}/{month}/{fileName})를 사용합니다.
+     */
+    public String generateAudioUploadKey(String userId, String originalFilename) {
+        String fileName = generateFileName(userId, getFileExtension(originalFilename));
+        return generateS3Key(userId, fileName);
+    }
 
-            // S3 URL 생성
-            String s3Url = generateS3Url(s3Key);
-            
-            log.info("파일 업로드 성공: bucket={}, key={}, size={}bytes", 
-                    bucketName, s3Key, file.getSize());
-            
-            return s3Url;
-            
+    /**
+     * 키가 해당 사용자의 음성 폴더 아래에 있는지 확인합니다.
+     */
+    public boolean isAudioUploadKeyOf(String userId, String s3Key) {
+        return s3Key != null && !s3Key.contains("..")
+                && s3Key.startsWith(String.format("users/%s/audio/", userId));
+    }
+
+    /**
+     * presigned PUT URL 만료 시간을 계산합니다.
+     */
+    public Date getPresignExpiration() {
+        return new Date(System.currentTimeMillis() + presignExpirationSeconds * 1000);
+    }
+
+    /**
+     * 지정한 키에 대한 presigned PUT URL을 생성합니다.
+     * Content-Type이 서명에 포함되므로 클라이언트는 같은 Content-Type 헤더로 업로드해야 합니다.
+     */
+    public URL generatePresignedUploadUrl(String s3Key, String contentType, Date expiration) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, s3Key, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType);
+        URL url = amazonS3.generatePresignedUrl(request);
+        log.info("presigned 업로드 URL 생성: bucket={}, key={}, expiration={}", bucketName, s3Key, expiration);
+        return url;
+    }
+
+    /**
+     * 클라이언트가 직접 업로드한 음성 객체를 수집 버퍼로 한 번만 읽어옵니다.
+     * 본문을 받기 전에 메타데이터로 크기를 먼저 확인합니다.
+     *
+     * @throws IllegalArgumentException 객체가 없거나 maxSize를 넘는 경우
+     */
+    public AudioIngestBuffer readAudioObject(String s3Key, long maxSize) {
+        ObjectMetadata metadata;
+        try {
+            metadata = amazonS3.getObjectMetadata(bucketName, s3Key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new IllegalArgumentException("업로드된 음성 파일을 찾을 수 없습니다: " + s3Key);
+            }
+            throw e;
+        }
+        if (metadata.getContentLength() > maxSize) {
+            throw new IllegalArgumentException("음성 파일이 너무 큽니다. 최대 " + maxSize + " bytes 이하여야 합니다. (현재: "
+                    + metadata.getContentLength() + " bytes)");
+        }
+
+        String fileName = s3Key.substring(s3Key.lastIndexOf('/') + 1);
+        try (S3Object object = amazonS3.getObject(bucketName, s3Key)) {
+            AudioIngestBuffer audio = AudioIngestBuffer.of(object.getObjectContent(), fileName, metadata.getContentType());
+            log.info("업로드된 음성 파일 읽기 완료: bucket={}, key={}, size={}bytes", bucketName, s3Key, audio.size());
+            return audio;
         } catch (IOException e) {
-            log.error("파일 업로드 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("파일 업로드에 실패했습니다: " + e.getMessage(), e);
+            log.error("업로드된 음성 파일 읽기 실패: key={}, error={}", s3Key, e.getMessage(), e);
+            throw new RuntimeException("업로드된 음성 파일 읽기에 실패했습니다: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 직접 업로드된 객체를 서버 업로드와 같이 퍼블릭 읽기로 전환하고 URL을 반환합니다.
+     */
+    public String publishAudioObject(String s3Key) {
+        amazonS3.setObjectAcl(bucketName, s3Key, CannedAccessControlList.PublicRead);
+        return generateS3Url(s3Key);
+    }
+
     /**
      * 바이트 배열을 오디오 파일로 S3에 업로드합니다.
      * TTS 생성 결과나 기타 바이너리 오디오 데이터를 저장할 때 사용됩니다.
@@ -0,0 +1,293 @@
+package com.melog.melog.common.util;
+
+/**
+ * 텍스트 정규화/검증 프로파일
+ *
+ * 텍스트를 코드 포인트 단위로 한 번만 순회하면서 다음 정보를 함께 계산합니다.
+ * - 공백 정리 텍스트 (연속 공백/줄바꿈을 공백 하나로, 앞뒤 공백 제거)
+ * - 길이, 한글 자모/음절/영문/공백/문장부호 개수와 비율
+ * - 2인칭 구어체 어미("요.", "요!", "셨군요", "셨네요", "느껴졌네요", "하셨겠어요") 등장 횟수
+ *
+ * 감정 분석 요약 정리, 요약 길이 검증, 입력 텍스트 유효성 검증에서 공통으로 사용합니다.
+ * 기존 정규식 구현과 결과가 같도록 다음 기준을 따릅니다.
+ * - 앞뒤 공백 제거는 String.trim()과 같이 U+0020 이하 문자
+ * - 공백 정리와 공백 개수는 정규식 \s와 같이 [ \t\n\x0B\f\r]
+ * - 줄바꿈 여부는 정규식 '.'이 매칭하지 않는 줄 종결 문자(\n, \r, U+0085, U+2028, U+2029)
+ * - 개수는 String.length() 기준의 UTF-16 char 단위 (보조 평면 문자는 2)
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+public final class TextProfile {
+
+    private static final TextProfile EMPTY = new TextProfile("", 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, false);
+
+    private static final String ASCII_PUNCTUATION = "!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
+
+    private final String normalized;
+    private final int length;
+    private final int codePointCount;
+    private final int jamoCount;
+    private final int compatJamoCount;
+    private final int compatJamoRuns;
+    private final int syllableCount;
+    private final int asciiLetterCount;
+    private final int whitespaceCount;
+    private final int asciiPunctuationCount;
+    private final int punctuationCount;
+    private final int meaninglessCount;
+    private final int honorificEndingCount;
+    private final boolean lineBreak;
+
+    private TextProfile(String normalized, int length, int codePointCount, int jamoCount, int compatJamoCount, int compatJamoRuns,
+                        int syllableCount, int asciiLetterCount, int whitespaceCount, int asciiPunctuationCount,
+                        int punctuationCount, int meaninglessCount, int honorificEndingCount, boolean lineBreak) {
+        this.normalized = normalized;
+        this.length = length;
+        this.codePointCount = codePointCount;
+        this.jamoCount = jamoCount;
+        this.compatJamoCount = compatJamoCount;
+        this.compatJamoRuns = compatJamoRuns;
+        this.syllableCount = syllableCount;
+        this.asciiLetterCount = asciiLetterCount;
+        this.whitespaceCount = whitespaceCount;
+        this.asciiPunctuationCount = asciiPunctuationCount;
+        this.punctuationCount = punctuationCount;
+        this.meaninglessCount = meaninglessCount;
+        this.honorificEndingCount = honorificEndingCount;
+        this.lineBreak = lineBreak;
+    }
+
+    /**
+     * 텍스트 프로파일을 계산합니다.
+     *
+     * @param text 대상 텍스트 (null 허용)
+     * @return 앞뒤 공백을 제외한 구간에 대한 프로파일
+     */
+    public static TextProfile of(String text) {
+        if (text == null) {
+            return EMPTY;
+        }
+
+        // String.trim()과 같은 기준으로 앞뒤 경계만 먼저 찾고, 그 사이를 한 번 순회
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') start++;
+        while (end > start && text.charAt(end - 1) <= ' ') end--;
+        if (start == end) {
+            return EMPTY;
+        }
+
+        StringBuilder collapsed = null;
+        int codePoints = 0;
+        int jamo = 0, compatJamo = 0, compatJamoRuns = 0, syllables = 0, asciiLetters = 0;
+        int whitespace = 0, asciiPunct = 0, punct = 0, meaningless = 0, honorific = 0;
+        boolean lineBreak = false;
+        boolean prevWhitespace = false;
+        boolean prevCompatJamo = false;
+        // 어미 판별용 직전 4글자 (가장 긴 어미가 5글자)
+        char c1 = 0, c2 = 0, c3 = 0, c4 = 0;
+
+        for (int i = start; i < end; ) {
+            int cp = text.codePointAt(i);
+            int width = Character.charCount(cp);
+            codePoints++;
+
+            if (cp == '\n' || cp == '\r' || cp == 0x85 || cp == 0x2028 || cp == 0x2029) {
+                lineBreak = true;
+            }
+            boolean isJamo = (cp >= 0x1100 && cp <= 0x11FF) || (cp >= 0x3130 && cp <= 0x318F);
+            // 의미 없는 문자: 기존 char 단위 판정과 같이 보조 평면 문자는 서로게이트 두 개 모두 의미 없는 문자
+            if (isJamo || width > 1 || !Character.isLetterOrDigit(cp)) {
+                meaningless += width;
+            }
+
+            if (isRegexWhitespace(cp)) {
+                whitespace++;
+                // 스페이스가 아닌 공백 문자(줄바꿈, 탭 등)이거나 연속 공백이면 정리된 텍스트를 새로 구성
+                if (collapsed == null && (cp != ' ' || prevWhitespace)) {
+                    collapsed = new StringBuilder(end - start);
+                    collapsed.append(text, start, i);
+                }
+                if (collapsed != null && !prevWhitespace) {
+                    collapsed.append(' ');
+                }
+                prevWhitespace = true;
+                prevCompatJamo = false;
+            } else {
+                if (collapsed != null) {
+                    collapsed.appendCodePoint(cp);
+                }
+                prevWhitespace = false;
+
+                boolean isCompatJamo = cp >= 0x3131 && cp <= 0x3163;
+                if (isJamo) {
+                    jamo += width;
+                }
+                if (isCompatJamo) {
+                    compatJamo += width;
+                    if (!prevCompatJamo) compatJamoRuns++;
+                }
+                prevCompatJamo = isCompatJamo;
+
+                if (cp >= 0xAC00 && cp <= 0xD7A3) {
+                    syllables += width;
+                } else if ((cp >= 'a' && cp <= 'z') || (cp >= 'A' && cp <= 'Z')) {
+                    asciiLetters += width;
+                } else if (!Character.isLetterOrDigit(cp) && !Character.isWhitespace(cp)) {
+                    punct += width;
+                    if (cp < 0x80 && ASCII_PUNCTUATION.indexOf(cp) >= 0) {
+                        asciiPunct += width;
+                    }
+                }
+            }
+
+            // 2인칭 구어체 어미 판별
+            if ((cp == '.' || cp == '!') && c1 == '요') {
+                honorific++;
+            } else if (cp == '요') {
+                if ((c2 == '셨' && c1 == '군') || (c2 == '셨' && c1 == '네')
+                        || (c4 == '느' && c3 == '껴' && c2 == '졌' && c1 == '네')
+                        || (c4 == '하' && c3 == '셨' && c2 == '겠' && c1 == '어')) {
+                    honorific++;
+                }
+            }
+            c4 = c3;
+            c3 = c2;
+            c2 = c1;
+            c1 = cp <= Character.MAX_VALUE ? (char) cp : 0;
+
+            i += width;
+        }
+
+        String normalized = collapsed != null ? collapsed.toString() : text.substring(start, end);
+        return new TextProfile(normalized, end - start, codePoints, jamo, compatJamo, compatJamoRuns, syllables, asciiLetters,
+                whitespace, asciiPunct, punct, meaningless, honorific, lineBreak);
+    }
+
+    /**
+     * 정규식 \s와 같은 공백 문자 (스페이스, 탭, 줄바꿈, 수직 탭, 폼 피드, 캐리지 리턴)
+     */
+    private static boolean isRegexWhitespace(int cp) {
+        return cp == ' ' || (cp >= '\t' && cp <= '\r');
+    }
+
+    /**
+     * 공백 정리 텍스트 (연속 공백/줄바꿈 → 공백 하나, 앞뒤 공백 제거)
+     */
+    public String normalized() {
+        return normalized;
+    }
+
+    /**
+     * 앞뒤 공백을 제외한 길이
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * 앞뒤 공백을 제외한 코드 포인트 개수 (이모지 등은 1글자로 계산)
+     */
+    public int codePointCount() {
+        return codePointCount;
+    }
+
+    /**
+     * 공백 정리 텍스트의 길이
+     */
+    public int normalizedLength() {
+        return normalized.length();
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * 한글 자모(초/중/종성 및 호환 자모) 개수
+     */
+    public int jamoCount() {
+        return jamoCount;
+    }
+
+    /**
+     * 호환 자모(ㄱ-ㅎ, ㅏ-ㅣ) 개수
+     */
+    public int compatJamoCount() {
+        return compatJamoCount;
+    }
+
+    /**
+     * 연속된 호환 자모 구간의 개수
+     */
+    public int compatJamoRuns() {
+        return compatJamoRuns;
+    }
+
+    /**
+     * 완성형 한글 음절(가-힣) 개수
+     */
+    public int syllableCount() {
+        return syllableCount;
+    }
+
+    public int asciiLetterCount() {
+        return asciiLetterCount;
+    }
+
+    /**
+     * 공백 문자(정규식 \s) 개수
+     */
+    public int whitespaceCount() {
+        return whitespaceCount;
+    }
+
+    /**
+     * ASCII 문장부호(\p{Punct}) 개수
+     */
+    public int asciiPunctuationCount() {
+        return asciiPunctuationCount;
+    }
+
+    /**
+     * 문자/숫자/공백이 아닌 문자 개수 (자모 제외)
+     */
+    public int punctuationCount() {
+        return punctuationCount;
+    }
+
+    /**
+     * 의미 없는 문자(자모, 공백, 문자/숫자가 아닌 문자) 개수
+     */
+    public int meaninglessCount() {
+        return meaninglessCount;
+    }
+
+    /**
+     * 2인칭 구어체 어미 등장 횟수
+     */
+    public int honorificEndingCount() {
+        return honorificEndingCount;
+    }
+
+    public boolean hasLineBreak() {
+        return lineBreak;
+    }
+
+    public double jamoRatio() {
+        return ratio(jamoCount);
+    }
+
+    public double punctuationRatio() {
+        return ratio(punctuationCount);
+    }
+
+    public double meaninglessRatio() {
+        return ratio(meaninglessCount);
+    }
+
+    private double ratio(int count) {
+        return length == 0 ? 0.0 : (double) count / length;
+    }
+}
@@ -7,14 +7,21 @@ import com.melog.melog.emotion.application.port.in.EmotionRecordUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import com.melog.melog.emotion.domain.InputValidationUtil;
 
 @Slf4j
@@ -25,6 +32,10 @@ public class EmotionRecordController {
 
     private final EmotionRecordUseCase emotionRecordUseCase;
     private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor streamingTaskExecutor;
+
+    private static final long STREAM_TIMEOUT_MS = 120_000L;
+    private static final String UPLOAD_OFFSET_HEADER = "Upload-Offset";
 
     /**
      * URL 인코딩된 nickname을 디코딩합니다.
@@ -81,6 +92,155 @@ public class EmotionRecordController {
                 .body(emotionRecordUseCase.createEmotionRecordWithAudio(nickname, audioFile, userSelectedEmotionJson));
     }
 
+    /**
+     * 음성 파일 직접 업로드 시작
+     * POST /api/users/{nickname}/emotions/stt/uploads
+     * 
+     * 요청 바디: {"fileName": "diary.wav", "contentType": "audio/wav", "fileSize": 1048576}
+     * 응답의 uploadUrl로 음성 파일을 PUT 업로드(Content-Type 헤더는 응답의 contentType과 동일)한 뒤
+     * /stt/uploads/complete로 완료를 요청합니다.
+     */
+    @PostMapping("/stt/uploads")
+    public ResponseEntity<AudioUploadInitResponse> initiateAudioUpload(
+            @PathVariable(value = "nickname", required = true) String nickname,
+            @RequestBody AudioUploadInitRequest request) {
+        
+        // URL 디코딩 처리
+        nickname = decodeNickname(nickname);
+        
+        log.info("음성 직접 업로드 시작 요청 - nickname: {}, request: {}", nickname, request);
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(emotionRecordUseCase.initiateAudioUpload(nickname, request));
+    }
+
+    /**
+     * 감정 등록 및 분석 요청 (직접 업로드된 음성 파일)
+     * POST /api/users/{nickname}/emotions/stt/uploads/complete
+     * 
+     * 요청 바디: {"uploadKey": "...", "userSelectedEmotion": "{\"type\":\"JOY\",\"percentage\":60}"}
+     */
+    @PostMapping("/stt/uploads/complete")
+    public ResponseEntity<EmotionRecordResponse> completeAudioUpload(
+            @PathVariable(value = "nickname", required = true) String nickname,
+            @RequestBody AudioUploadCompleteRequest request) {
+        
+        // URL 디코딩 처리
+        nickname = decodeNickname(nickname);
+        
+        if (request == null || request.getUploadKey() == null || request.getUploadKey().isBlank()) {
+            throw new IllegalArgumentException("업로드 키는 필수입니다.");
+        }
+        
+        log.info("음성 직접 업로드 완료 요청 - nickname: {}, uploadKey: {}", nickname, request.getUploadKey());
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(emotionRecordUseCase.completeAudioUpload(nickname, request));
+    }
+
+    /**
+     * 음성 파일 이어 올리기 시작
+     * POST /api/users/{nickname}/emotions/stt/resumable
+     * 
+     * 요청 바디: {"fileName": "diary.wav", "contentType": "audio/wav", "fileSize": 1048576}
+     * 응답의 uploadId로 청크를 PATCH 업로드하고, 모두 보낸 뒤 /stt/resumable/{uploadId}/complete로 완료를 요청합니다.
+     */
+    @PostMapping("/stt/resumable")
+    public ResponseEntity<ResumableUploadResponse> createResumableUpload(
+            @PathVariable(value = "nickname", required = true) String nickname,
+            @RequestBody AudioUploadInitRequest request) {
+        
+        // URL 디코딩 처리
+        nickname = decodeNickname(nickname);
+        
+        log.info("음성 이어 올리기 시작 요청 - nickname: {}, request: {}", nickname, request);
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(emotionRecordUseCase.createResumableUpload(nickname, request));
+    }
+
+    /**
+     * 음성 파일 이어 올리기 상태 조회
+     * GET /api/users/{nickname}/emotions/stt/resumable/{uploadId}
+     * 
+     * 연결이 끊긴 뒤 서버가 받은 바이트 수(Upload-Offset 헤더)를 확인하여 그 위치부터 이어서 보냅니다.
+     */
+    @GetMapping("/stt/resumable/{uploadId}")
+    public ResponseEntity<ResumableUploadResponse> getResumableUpload(
+            @PathVariable(value = "nickname", required = true) String nickname,
+            @PathVariable("uploadId") String uploadId) {
+        
+        // URL 디코딩 처리
+        nickname = decodeNickname(nickname);
+        
+        ResumableUploadResponse response = emotionRecordUseCase.getResumableUpload(nickname, uploadId);
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(response.getOffset()))
+                .body(response);
+    }
+
+    /**
+     * 음성 파일 청크 업로드
+     * PATCH /api/users/{nickname}/emotions/stt/resumable/{uploadId}
+     * 
+     * 헤더: Upload-Offset (현재 오프셋), Content-Type: application/offset+octet-stream
+     * 요청 바디: 청크 바이트
+     * 오프셋이 서버와 다르면 409와 함께 현재 오프셋을 반환합니다.
+     */
+    @PatchMapping("/stt/resumable/{uploadId}")
+    public ResponseEntity<ResumableUploadResponse> appendResumableUpload(
+            @PathVariable(value = "nickname", required = true) String nickname,
+            @PathVariable("uploadId") String uploadId,
+            @RequestHeader(UPLOAD_OFFSET_HEADER) long offset,
+            InputStream chunk) {
+        
+        // URL 디코딩 처리
+        nickname = decodeNickname(nickname);
+        
+        ResumableUploadResponse response = emotionRecordUseCase.appendResumableUpload(nickname, uploadId, offset, chunk);
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET_HEADER, String.valueOf(response.getOffset()))
+                .body(response);
+    }
+
+    /**
+     * 감정 등록 및 분석 요청 (이어 올리기로 업로드된 음성 파일)
+     * POST /api/users/{nickname}/emotions/stt/resumable/{uploadId}/complete
+     * 
+     * 요청 파라미터: userSelectedEmotion (JSON 문자열)
+     * 아직 모든 청크를 받지 않았으면 409와 함께 현재 오프셋을 반환합니다.
+     */
+    @PostMapping("/stt/resumable/{uploadId}/complete")
+    public ResponseEntity<EmotionRecordResponse> completeResumableUpload(
+            @PathVariable(value = "nickname", required = true) String nickname,
+            @PathVariable("uploadId") String uploadId,
+            @RequestParam(value = "userSelectedEmotion", required = false) String userSelectedEmotionJson) {
+        
+        // URL 디코딩 처리
+        nickname = decodeNickname(nickname);
+        
+        log.info("음성 이어 올리기 완료 요청 - nickname: {}, uploadId: {}", nickname, uploadId);
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(emotionRecordUseCase.completeResumableUpload(nickname, uploadId, userSelectedEmotionJson));
+    }
+
+    /**
+     * 음성 파일 이어 올리기 취소
+     * DELETE /api/users/{nickname}/emotions/stt/resumable/{uploadId}
+     */
+    @DeleteMapping("/stt/resumable/{uploadId}")
+    public ResponseEntity<Void> abortResumableUpload(
+            @PathVariable(value = "nickname", required = true) String nickname,
+            @PathVariable("uploadId") String uploadId) {
+        
+        // URL 디코딩 처리
+        nickname = decodeNickname(nickname);
+        
+        emotionRecordUseCase.abortResumableUpload(nickname, uploadId);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * 감정 등록 및 분석 요청 (텍스트)
      * POST /api/users/{nickname}/emotions/text
@@ -93,6 +253,59 @@ public class EmotionRecordController {
         // URL 디코딩 처리
         nickname = decodeNickname(nickname);
         
+        validateTextRequest(request);
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(emotionRecordUseCase.createEmotionRecord(nickname, request));
+    }
+
+    /**
+     * 감정 등록 및 분석 요청 (텍스트, SSE 스트리밍)
+     * POST /api/users/{nickname}/emotions/text/stream
+     * 
+     * 이벤트 순서:
+     * - summary: 요약 토큰 ({"text": "..."}), 도착하는 대로 전송
+     * - result: 저장이 끝난 감정 기록 (EmotionRecordResponse)
+     * - error: 처리 실패 ({"message": "..."})
+     */
+    @PostMapping(value = "/text/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter createEmotionRecordWithTextStream(
+            @PathVariable(value = "nickname", required = true) String nickname,
+            @RequestBody EmotionRecordCreateRequest request) {
+        
+        // URL 디코딩 처리
+        String decodedNickname = decodeNickname(nickname);
+        
+        // 스트림을 열기 전에 검증하여 잘못된 요청은 일반 400 응답으로 반환
+        validateTextRequest(request);
+        
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        // 클라이언트 연결이 끊겨도 분석과 저장은 끝까지 진행 (이후 목록에서 조회 가능)
+        AtomicBoolean clientGone = new AtomicBoolean(false);
+        emitter.onCompletion(() -> clientGone.set(true));
+        emitter.onTimeout(() -> clientGone.set(true));
+        emitter.onError(e -> clientGone.set(true));
+        
+        streamingTaskExecutor.execute(() -> {
+            try {
+                EmotionRecordResponse response = emotionRecordUseCase.createEmotionRecordStreaming(decodedNickname, request,
+                        token -> sendEvent(emitter, clientGone, "summary", Map.of("text", token)));
+                sendEvent(emitter, clientGone, "result", response);
+                emitter.complete();
+            } catch (Exception e) {
+                log.error("감정 기록 스트리밍 생성 실패 - nickname: {}, error: {}", decodedNickname, e.getMessage(), e);
+                sendEvent(emitter, clientGone, "error", Map.of("message", e.getMessage() != null ? e.getMessage() : "감정 분석에 실패했습니다."));
+                emitter.complete();
+            }
+        });
+        
+        return emitter;
+    }
+
+    /**
+     * 텍스트 감정 등록 요청을 검증합니다. (일반/스트리밍 공통)
+     */
+    private void validateTextRequest(EmotionRecordCreateRequest request) {
         if (request == null || request.getText() == null || request.getText().trim().isEmpty()) {
             throw new IllegalArgumentException("텍스트는 필수입니다.");
         }
@@ -101,23 +314,37 @@ public class EmotionRecordController {
         if (!InputValidationUtil.isEmotionAnalysisSuitable(request.getText())) {
             throw new IllegalArgumentException("의미 있는 텍스트를 입력해주세요. 감정 분석이 어려운 내용입니다.");
         }
-        
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(emotionRecordUseCase.createEmotionRecord(nickname, request));
+    }
+
+    /**
+     * SSE 이벤트를 전송합니다. 클라이언트가 이미 끊긴 경우 전송을 생략합니다.
+     */
+    private void sendEvent(SseEmitter emitter, AtomicBoolean clientGone, String name, Object data) {
+        if (clientGone.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 이벤트 전송 실패, 클라이언트 연결 종료로 간주: {}", e.getMessage());
+            clientGone.set(true);
+        }
     }
 
     /**
      * 월별 캘린더 감정 리스트 조회
-     * GET /api/users/{nickname}/emotions/calendar?month=YYYY-MM
+     * GET /api/users/{nickname}/emotions/calendar?month=YYYY-MM&fields=id,date
+     * fields 생략 시 id, date, emotions 모두 반환
      */
     @GetMapping("/calendar")
     public ResponseEntity<List<EmotionCalendarResponse>> getEmotionCalendar(@PathVariable(value = "nickname", required = true) String nickname,
-                                                                          @RequestParam String month) {
+                                                                          @RequestParam String month,
+                                                                          @RequestParam(required = false) String fields) {
         // URL 디코딩 처리
         nickname = decodeNickname(nickname);
         
         YearMonth yearMonth = YearMonth.parse(month);
-        List<EmotionCalendarResponse> response = emotionRecordUseCase.getEmotionCalendar(nickname, yearMonth);
+        List<EmotionCalendarResponse> response = emotionRecordUseCase.getEmotionCalendar(nickname, yearMonth, fields);
         return ResponseEntity.ok(response);
     }
 
@@ -151,18 +378,54 @@ public class EmotionRecordController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 기간별 키워드 추이
+     * GET /api/users/{nickname}/emotions/summary/keywords?period=week|month|year&date=YYYY-MM-DD&limit=5
+     * GET /api/users/{nickname}/emotions/summary/keywords?startDate=YYYY-MM-DD&endDate=YYYY-MM-DD&limit=5
+     */
+    @GetMapping("/summary/keywords")
+    public ResponseEntity<EmotionKeywordTrendResponse> getKeywordTrend(@PathVariable(value = "nickname", required = true) String nickname,
+                                                                       @RequestParam(defaultValue = "month") String period,
+                                                                       @RequestParam(required = false) String date,
+                                                                       @RequestParam(required = false) String startDate,
+                                                                       @RequestParam(required = false) String endDate,
+                                                                       @RequestParam(defaultValue = "5") int limit) {
+        // URL 디코딩 처리
+        nickname = decodeNickname(nickname);
+        
+        EmotionKeywordTrendResponse response = emotionRecordUseCase.getKeywordTrend(nickname, period, date, startDate, endDate, limit);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 감정 기록 리스트 조회 (홈탭 및 무한스크롤용)
-     * GET /api/users/{nickname}/emotions?page=0&size=7
+     * GET /api/users/{nickname}/emotions?page=0&size=7&fields=id,date,emotions,summaryPreview
+     * fields 생략 시 기존 응답 필드(summaryPreview 제외)를 모두 반환
      */
     @GetMapping
     public ResponseEntity<EmotionListResponse> getEmotionList(@PathVariable(value = "nickname", required = true) String nickname,
                                                             @RequestParam(defaultValue = "0") int page,
-                                                            @RequestParam(defaultValue = "7") int size) {
+                                                            @RequestParam(defaultValue = "7") int size,
+                                                            @RequestParam(required = false) String fields) {
+        // URL 디코딩 처리
+        nickname = decodeNickname(nickname);
+        
+        EmotionListResponse response = emotionRecordUseCase.getEmotionList(nickname, page, size, fields);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 감정 기록 리스트 커서 조회 (무한스크롤용, 전체 개수 미계산)
+     * GET /api/users/{nickname}/emotions/cursor?before=2025-08-01T12:00:00.123456,42&size=7
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<EmotionCursorListResponse> getEmotionListByCursor(@PathVariable(value = "nickname", required = true) String nickname,
+                                                                          @RequestParam(required = false) String before,
+                                                                          @RequestParam(defaultValue = "7") int size) {
         // URL 디코딩 처리
         nickname = decodeNickname(nickname);
         
-        EmotionListResponse response = emotionRecordUseCase.getEmotionList(nickname, page, size);
+        EmotionCursorListResponse response = emotionRecordUseCase.getEmotionListByCursor(nickname, before, size);
         return ResponseEntity.ok(response);
     }
 
@@ -192,10 +455,7 @@ public class EmotionRecordController {
         
         // 텍스트 요청인 경우 (JSON 바디가 제공된 경우)
         if (request != null && request.getText() != null && !request.getText().trim().isEmpty()) {
-            // 텍스트 유효성 검증 추가
-            if (!InputValidationUtil.isEmotionAnalysisSuitable(request.getText())) {
-                throw new IllegalArgumentException("의미 있는 텍스트를 입력해주세요. 감정 분석이 어려운 내용입니다.");
-            }
+            validateTextRequest(request);
             
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(emotionRecordUseCase.createEmotionRecord(nickname, request));
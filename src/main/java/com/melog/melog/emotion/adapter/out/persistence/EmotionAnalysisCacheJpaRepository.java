@@ -0,0 +1,64 @@
+package com.melog.melog.emotion.adapter.out.persistence;
+
+import com.melog.melog.emotion.domain.EmotionAnalysisCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 감정 분석 결과 캐시 JPA 레포지토리
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+@Repository
+public interface EmotionAnalysisCacheJpaRepository extends JpaRepository<EmotionAnalysisCache, Long> {
+
+    /**
+     * 만료되지 않은 캐시 엔트리 조회
+     * 
+     * @param cacheKey 조회할 캐시 키
+     * @param now 만료 판단 기준 시간
+     * @return 캐시 엔트리 (Optional)
+     */
+    @Query("SELECT c FROM EmotionAnalysisCache c WHERE c.cacheKey = :cacheKey AND c.expiresAt > :now")
+    Optional<EmotionAnalysisCache> findValidByCacheKey(@Param("cacheKey") String cacheKey, @Param("now") LocalDateTime now);
+
+    /**
+     * 캐시 엔트리 저장 (같은 키가 있으면 결과와 만료 시간 갱신)
+     * 
+     * 만료된 엔트리도 덮어쓰므로 정리 작업 전이라도 다시 캐시됩니다.
+     * 동시 저장도 키 충돌 예외 없이 처리됩니다.
+     * 
+     * @return 저장 또는 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO emotion_analysis_cache (cache_key, prompt_version, model, result_json, created_at, expires_at) "
+            + "VALUES (:cacheKey, :promptVersion, :model, :resultJson, CURRENT_TIMESTAMP, :expiresAt) "
+            + "ON CONFLICT (cache_key) DO UPDATE SET prompt_version = EXCLUDED.prompt_version, model = EXCLUDED.model, "
+            + "result_json = EXCLUDED.result_json, expires_at = EXCLUDED.expires_at",
+            nativeQuery = true)
+    int upsert(@Param("cacheKey") String cacheKey, @Param("promptVersion") String promptVersion, @Param("model") String model,
+               @Param("resultJson") String resultJson, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 지정한 프롬프트 버전이 아닌 캐시 엔트리 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM EmotionAnalysisCache c WHERE c.promptVersion <> :promptVersion")
+    int deleteByPromptVersionNot(@Param("promptVersion") String promptVersion);
+
+    /**
+     * 만료된 캐시 엔트리 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM EmotionAnalysisCache c WHERE c.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,74 @@
+package com.melog.melog.emotion.adapter.out.persistence;
+
+import com.melog.melog.emotion.application.port.out.EmotionAnalysisCachePersistencePort;
+import com.melog.melog.emotion.domain.EmotionAnalysisCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 감정 분석 결과 캐시 영속성 어댑터
+ * 
+ * 캐시 조회/저장 실패는 감정 분석 자체를 실패시키지 않도록 로깅 후 무시합니다.
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EmotionAnalysisCachePersistenceAdapter implements EmotionAnalysisCachePersistencePort {
+
+    private final EmotionAnalysisCacheJpaRepository emotionAnalysisCacheJpaRepository;
+
+    @Override
+    public Optional<EmotionAnalysisCache> findValidByCacheKey(String cacheKey, LocalDateTime now) {
+        try {
+            return emotionAnalysisCacheJpaRepository.findValidByCacheKey(cacheKey, now);
+        } catch (Exception e) {
+            log.error("감정 분석 캐시 조회 중 오류 발생: cacheKey={}, error={}", cacheKey, e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 감정 분석 결과 캐시 저장 (같은 키가 있으면 갱신)
+     * 
+     * 감정 기록 생성 트랜잭션 안에서 호출되므로 바깥 트랜잭션을 보류하고,
+     * 저장은 레포지토리의 별도 트랜잭션에서 수행합니다.
+     * 저장 실패는 트랜잭션 경계 밖에서 잡으므로 rollback-only 커밋 예외가 호출한 쪽으로 전파되지 않습니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void save(EmotionAnalysisCache cache) {
+        try {
+            emotionAnalysisCacheJpaRepository.upsert(cache.getCacheKey(), cache.getPromptVersion(), cache.getModel(),
+                    cache.getResultJson(), cache.getExpiresAt());
+            log.debug("감정 분석 캐시 저장 완료: cacheKey={}", cache.getCacheKey());
+        } catch (Exception e) {
+            log.error("감정 분석 캐시 저장 중 오류 발생: cacheKey={}, error={}", cache.getCacheKey(), e.getMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deleteByPromptVersionNot(String currentPromptVersion) {
+        int deleted = emotionAnalysisCacheJpaRepository.deleteByPromptVersionNot(currentPromptVersion);
+        log.info("이전 프롬프트 버전 감정 분석 캐시 삭제: currentVersion={}, count={}", currentPromptVersion, deleted);
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(LocalDateTime now) {
+        int deleted = emotionAnalysisCacheJpaRepository.deleteExpired(now);
+        log.info("만료된 감정 분석 캐시 삭제: count={}", deleted);
+        return deleted;
+    }
+}
@@ -2,18 +2,47 @@ package com.melog.melog.emotion.adapter.out.persistence;
 
 import com.melog.melog.emotion.domain.EmotionKeyword;
 import com.melog.melog.emotion.domain.EmotionRecord;
+import com.melog.melog.emotion.domain.model.projection.KeywordWeightTotalView;
+import com.melog.melog.emotion.domain.model.projection.UserKeywordWeightTotalView;
+import com.melog.melog.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface EmotionKeywordJpaRepository extends JpaRepository<EmotionKeyword, Long> {
     
     List<EmotionKeyword> findByRecord(EmotionRecord record);
+
+    /**
+     * 사용자별, 키워드별 가중치 합계 조회 (특정 기간)
+     */
+    @Query("SELECT er.user.id AS userId, ek.keyword AS keyword, SUM(ek.weight) AS totalWeight " +
+           "FROM EmotionKeyword ek JOIN ek.record er " +
+           "WHERE er.user.id IN :userIds AND er.date BETWEEN :startDate AND :endDate " +
+           "GROUP BY er.user.id, ek.keyword")
+    List<UserKeywordWeightTotalView> sumWeightByUserIdInAndDateBetween(@Param("userIds") Collection<Long> userIds,
+                                                                       @Param("startDate") LocalDate startDate,
+                                                                       @Param("endDate") LocalDate endDate);
+
+    /**
+     * 사용자의 특정 기간 키워드를 가중치 합계 내림차순으로 조회 (Pageable로 상위 K개 제한)
+     */
+    @Query("SELECT ek.keyword AS keyword, SUM(ek.weight) AS totalWeight " +
+           "FROM EmotionKeyword ek JOIN ek.record er " +
+           "WHERE er.user = :user AND er.date BETWEEN :startDate AND :endDate " +
+           "GROUP BY ek.keyword ORDER BY SUM(ek.weight) DESC, ek.keyword ASC")
+    List<KeywordWeightTotalView> findTopKeywordsByUserAndDateBetween(@Param("user") User user,
+                                                                     @Param("startDate") LocalDate startDate,
+                                                                     @Param("endDate") LocalDate endDate,
+                                                                     Pageable pageable);
     
     @Modifying
     @Query("DELETE FROM EmotionKeyword e WHERE e.record = :record")
@@ -3,9 +3,15 @@ package com.melog.melog.emotion.adapter.out.persistence;
 import com.melog.melog.emotion.application.port.out.EmotionKeywordPersistencePort;
 import com.melog.melog.emotion.domain.EmotionKeyword;
 import com.melog.melog.emotion.domain.EmotionRecord;
+import com.melog.melog.emotion.domain.model.projection.KeywordWeightTotalView;
+import com.melog.melog.emotion.domain.model.projection.UserKeywordWeightTotalView;
+import com.melog.melog.user.domain.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +36,19 @@ public class EmotionKeywordPersistenceAdapter implements EmotionKeywordPersisten
         return emotionKeywordJpaRepository.findByRecord(record);
     }
 
+    @Override
+    public List<UserKeywordWeightTotalView> sumWeightByUserIdInAndDateBetween(Collection<Long> userIds, LocalDate startDate, LocalDate endDate) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return emotionKeywordJpaRepository.sumWeightByUserIdInAndDateBetween(userIds, startDate, endDate);
+    }
+
+    @Override
+    public List<KeywordWeightTotalView> findTopKeywordsByUserAndDateBetween(User user, LocalDate startDate, LocalDate endDate, int limit) {
+        return emotionKeywordJpaRepository.findTopKeywordsByUserAndDateBetween(user, startDate, endDate, PageRequest.of(0, limit));
+    }
+
     @Override
     public void delete(EmotionKeyword emotionKeyword) {
         emotionKeywordJpaRepository.delete(emotionKeyword);
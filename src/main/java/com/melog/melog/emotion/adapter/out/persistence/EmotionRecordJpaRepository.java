@@ -1,6 +1,8 @@
 package com.melog.melog.emotion.adapter.out.persistence;
 
 import com.melog.melog.emotion.domain.EmotionRecord;
+import com.melog.melog.emotion.domain.model.projection.EmotionRecordDateView;
+import com.melog.melog.emotion.domain.model.projection.EmotionRecordListView;
 import com.melog.melog.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,11 +23,88 @@ public interface EmotionRecordJpaRepository extends JpaRepository<EmotionRecord,
     
     Page<EmotionRecord> findByUser(User user, Pageable pageable);
     
+    /**
+     * 감정 기록 목록 프로젝션 조회 (text 미조회, summary 전체 조회)
+     */
+    @Query(value = "SELECT er.id AS id, er.date AS date, er.createdAt AS createdAt, er.summary AS summary, " +
+                   "ec.comment AS comment, er.audioFilePath AS audioFilePath " +
+                   "FROM EmotionRecord er LEFT JOIN er.emotionComment ec WHERE er.user = :user",
+           countQuery = "SELECT COUNT(er) FROM EmotionRecord er WHERE er.user = :user")
+    Page<EmotionRecordListView> findListViewsByUser(@Param("user") User user, Pageable pageable);
+    
+    /**
+     * 감정 기록 목록 프로젝션 조회 (text 미조회, summary는 앞부분만 잘라서 조회)
+     */
+    @Query(value = "SELECT er.id AS id, er.date AS date, er.createdAt AS createdAt, SUBSTRING(er.summary, 1, :summaryLength) AS summary, " +
+                   "ec.comment AS comment, er.audioFilePath AS audioFilePath " +
+                   "FROM EmotionRecord er LEFT JOIN er.emotionComment ec WHERE er.user = :user",
+           countQuery = "SELECT COUNT(er) FROM EmotionRecord er WHERE er.user = :user")
+    Page<EmotionRecordListView> findListViewsWithSummaryPrefixByUser(@Param("user") User user,
+                                                                     @Param("summaryLength") int summaryLength,
+                                                                     Pageable pageable);
+    
+    /**
+     * 감정 캘린더용 프로젝션 조회 (id, 날짜만 조회)
+     */
+    @Query("SELECT er.id AS id, er.date AS date FROM EmotionRecord er " +
+           "WHERE er.user = :user AND er.date BETWEEN :startDate AND :endDate ORDER BY er.id")
+    List<EmotionRecordDateView> findDateViewsByUserAndDateBetween(@Param("user") User user,
+                                                                  @Param("startDate") LocalDate startDate,
+                                                                  @Param("endDate") LocalDate endDate);
+
+    /**
+     * 특정 기간에 감정 기록이 있는 사용자 ID 조회 (ID 순, 키셋 페이징)
+     */
+    @Query("SELECT DISTINCT er.user.id FROM EmotionRecord er " +
+           "WHERE er.date BETWEEN :startDate AND :endDate AND er.user.id > :afterUserId ORDER BY er.user.id")
+    List<Long> findUserIdsWithRecordsBetween(@Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate,
+                                             @Param("afterUserId") Long afterUserId,
+                                             Pageable pageable);
+    
+    /**
+     * 사용자의 최신 감정 기록 목록 프로젝션 조회 (커서 페이징 첫 페이지, text 미조회, count 쿼리 없음)
+     */
+    @Query("SELECT er.id AS id, er.date AS date, er.createdAt AS createdAt, er.summary AS summary, " +
+           "ec.comment AS comment, er.audioFilePath AS audioFilePath " +
+           "FROM EmotionRecord er LEFT JOIN er.emotionComment ec WHERE er.user = :user " +
+           "ORDER BY er.createdAt DESC, er.id DESC")
+    List<EmotionRecordListView> findLatestListViewsByUser(@Param("user") User user, Pageable pageable);
+    
+    /**
+     * 커서(createdAt, id) 이전의 감정 기록 목록 프로젝션 조회 (커서 페이징 다음 페이지, text 미조회, count 쿼리 없음)
+     * 행 값 비교로 (user_id, created_at DESC, id DESC) 인덱스를 커서 위치부터 그대로 읽습니다.
+     */
+    @Query("SELECT er.id AS id, er.date AS date, er.createdAt AS createdAt, er.summary AS summary, " +
+           "ec.comment AS comment, er.audioFilePath AS audioFilePath " +
+           "FROM EmotionRecord er LEFT JOIN er.emotionComment ec WHERE er.user = :user " +
+           "AND (er.createdAt, er.id) < (:createdAt, :id) " +
+           "ORDER BY er.createdAt DESC, er.id DESC")
+    List<EmotionRecordListView> findListViewsByUserBefore(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") Long id, Pageable pageable);
+    
+    /**
+     * 사용자의 최신 감정 기록 조회 (count 쿼리 없음)
+     */
+    @Query("SELECT er FROM EmotionRecord er LEFT JOIN FETCH er.emotionComment WHERE er.user = :user ORDER BY er.createdAt DESC, er.id DESC")
+    List<EmotionRecord> findLatestByUser(@Param("user") User user, Pageable pageable);
+    
+    /**
+     * 커서(createdAt, id) 이전의 감정 기록 조회 (count 쿼리 없음)
+     */
+    @Query("SELECT er FROM EmotionRecord er LEFT JOIN FETCH er.emotionComment WHERE er.user = :user " +
+           "AND (er.createdAt, er.id) < (:createdAt, :id) " +
+           "ORDER BY er.createdAt DESC, er.id DESC")
+    List<EmotionRecord> findByUserBefore(@Param("user") User user, @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Pageable pageable);
+    
     Optional<EmotionRecord> findByUserAndDate(User user, LocalDate date);
     
     List<EmotionRecord> findByUserAndDateBetween(User user, LocalDate startDate, LocalDate endDate);
     
     boolean existsByUserAndDate(User user, LocalDate date);
+
+    boolean existsByUserAndDateBetween(User user, LocalDate startDate, LocalDate endDate);
     
     /**
      * 사용자의 감정 기록 개수 조회
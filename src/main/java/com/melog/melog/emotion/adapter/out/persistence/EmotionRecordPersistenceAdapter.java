@@ -2,13 +2,17 @@ package com.melog.melog.emotion.adapter.out.persistence;
 
 import com.melog.melog.emotion.application.port.out.EmotionRecordPersistencePort;
 import com.melog.melog.emotion.domain.EmotionRecord;
+import com.melog.melog.emotion.domain.model.projection.EmotionRecordDateView;
+import com.melog.melog.emotion.domain.model.projection.EmotionRecordListView;
 import com.melog.melog.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +42,42 @@ public class EmotionRecordPersistenceAdapter implements EmotionRecordPersistence
         return emotionRecordJpaRepository.findByUser(user, pageable);
     }
 
+    @Override
+    public Page<EmotionRecordListView> findListViewsByUser(User user, Integer summaryLength, Pageable pageable) {
+        if (summaryLength == null) {
+            return emotionRecordJpaRepository.findListViewsByUser(user, pageable);
+        }
+        return emotionRecordJpaRepository.findListViewsWithSummaryPrefixByUser(user, summaryLength, pageable);
+    }
+
+    @Override
+    public List<EmotionRecordDateView> findDateViewsByUserAndDateBetween(User user, LocalDate startDate, LocalDate endDate) {
+        return emotionRecordJpaRepository.findDateViewsByUserAndDateBetween(user, startDate, endDate);
+    }
+
+    @Override
+    public List<Long> findUserIdsWithRecordsBetween(LocalDate startDate, LocalDate endDate, Long afterUserId, int limit) {
+        return emotionRecordJpaRepository.findUserIdsWithRecordsBetween(startDate, endDate, afterUserId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<EmotionRecord> findByUserBefore(User user, LocalDateTime beforeCreatedAt, Long beforeId, int limit) {
+        Pageable limitOnly = PageRequest.of(0, limit);
+        if (beforeCreatedAt == null || beforeId == null) {
+            return emotionRecordJpaRepository.findLatestByUser(user, limitOnly);
+        }
+        return emotionRecordJpaRepository.findByUserBefore(user, beforeCreatedAt, beforeId, limitOnly);
+    }
+
+    @Override
+    public List<EmotionRecordListView> findListViewsByUserBefore(User user, LocalDateTime beforeCreatedAt, Long beforeId, int limit) {
+        Pageable limitOnly = PageRequest.of(0, limit);
+        if (beforeCreatedAt == null || beforeId == null) {
+            return emotionRecordJpaRepository.findLatestListViewsByUser(user, limitOnly);
+        }
+        return emotionRecordJpaRepository.findListViewsByUserBefore(user, beforeCreatedAt, beforeId, limitOnly);
+    }
+
     @Override
     public Optional<EmotionRecord> findByUserAndDate(User user, LocalDate date) {
         return emotionRecordJpaRepository.findByUserAndDate(user, date);
@@ -58,6 +98,11 @@ public class EmotionRecordPersistenceAdapter implements EmotionRecordPersistence
         return emotionRecordJpaRepository.existsByUserAndDate(user, date);
     }
 
+    @Override
+    public boolean existsByUserAndDateBetween(User user, LocalDate startDate, LocalDate endDate) {
+        return emotionRecordJpaRepository.existsByUserAndDateBetween(user, startDate, endDate);
+    }
+
     @Override
     public long countByUser(User user) {
         return emotionRecordJpaRepository.countByUser(user);
@@ -3,12 +3,15 @@ package com.melog.melog.emotion.adapter.out.persistence;
 import com.melog.melog.emotion.domain.EmotionRecord;
 import com.melog.melog.emotion.domain.EmotionScore;
 import com.melog.melog.emotion.domain.EmotionType;
+import com.melog.melog.emotion.domain.model.projection.UserEmotionScoreTotalView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +20,20 @@ public interface EmotionScoreJpaRepository extends JpaRepository<EmotionScore, L
     
     List<EmotionScore> findByRecord(EmotionRecord record);
     
+    @Query("SELECT es FROM EmotionScore es WHERE es.record.id IN :recordIds")
+    List<EmotionScore> findByRecordIdIn(@Param("recordIds") Collection<Long> recordIds);
+
+    /**
+     * 사용자별, 감정 타입별 점수 합계 조회 (특정 기간)
+     */
+    @Query("SELECT er.user.id AS userId, es.emotionType AS emotionType, SUM(es.percentage) AS totalPercentage " +
+           "FROM EmotionScore es JOIN es.record er " +
+           "WHERE er.user.id IN :userIds AND er.date BETWEEN :startDate AND :endDate " +
+           "GROUP BY er.user.id, es.emotionType")
+    List<UserEmotionScoreTotalView> sumPercentageByUserIdInAndDateBetween(@Param("userIds") Collection<Long> userIds,
+                                                                          @Param("startDate") LocalDate startDate,
+                                                                          @Param("endDate") LocalDate endDate);
+    
     Optional<EmotionScore> findByRecordAndEmotionType(EmotionRecord record, EmotionType emotionType);
     
     @Modifying
@@ -4,9 +4,12 @@ import com.melog.melog.emotion.application.port.out.EmotionScorePersistencePort;
 import com.melog.melog.emotion.domain.EmotionRecord;
 import com.melog.melog.emotion.domain.EmotionScore;
 import com.melog.melog.emotion.domain.EmotionType;
+import com.melog.melog.emotion.domain.model.projection.UserEmotionScoreTotalView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +34,22 @@ public class EmotionScorePersistenceAdapter implements EmotionScorePersistencePo
         return emotionScoreJpaRepository.findByRecord(record);
     }
 
+    @Override
+    public List<EmotionScore> findByRecordIdIn(Collection<Long> recordIds) {
+        if (recordIds.isEmpty()) {
+            return List.of();
+        }
+        return emotionScoreJpaRepository.findByRecordIdIn(recordIds);
+    }
+
+    @Override
+    public List<UserEmotionScoreTotalView> sumPercentageByUserIdInAndDateBetween(Collection<Long> userIds, LocalDate startDate, LocalDate endDate) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return emotionScoreJpaRepository.sumPercentageByUserIdInAndDateBetween(userIds, startDate, endDate);
+    }
+
     @Override
     public Optional<EmotionScore> findByRecordAndEmotionType(EmotionRecord record, EmotionType emotionType) {
         return emotionScoreJpaRepository.findByRecordAndEmotionType(record, emotionType);
@@ -0,0 +1,40 @@
+package com.melog.melog.emotion.adapter.out.persistence;
+
+import com.melog.melog.emotion.domain.MonthlyInsight;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 월별 감정 인사이트 JPA 레포지토리
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+@Repository
+public interface MonthlyInsightJpaRepository extends JpaRepository<MonthlyInsight, Long> {
+
+    Optional<MonthlyInsight> findByUserIdAndMonth(Long userId, String month);
+
+    /**
+     * 월별 인사이트 저장 (같은 사용자/월이 있으면 지문과 코멘트 갱신)
+     * 
+     * 동시 저장도 키 충돌 예외 없이 처리됩니다.
+     * 
+     * @return 저장 또는 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO monthly_insight (user_id, month, fingerprint, monthly_comment, created_at, updated_at) "
+            + "VALUES (:userId, :month, :fingerprint, :monthlyComment, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) "
+            + "ON CONFLICT (user_id, month) DO UPDATE SET fingerprint = EXCLUDED.fingerprint, "
+            + "monthly_comment = EXCLUDED.monthly_comment, updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    int upsert(@Param("userId") Long userId, @Param("month") String month,
+               @Param("fingerprint") String fingerprint, @Param("monthlyComment") String monthlyComment);
+}
@@ -0,0 +1,51 @@
+package com.melog.melog.emotion.adapter.out.persistence;
+
+import com.melog.melog.emotion.application.port.out.MonthlyInsightPersistencePort;
+import com.melog.melog.emotion.domain.MonthlyInsight;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 월별 감정 인사이트 영속성 어댑터
+ * 
+ * 인사이트 저장 실패는 인사이트 응답 자체를 실패시키지 않도록 로깅 후 무시합니다.
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MonthlyInsightPersistenceAdapter implements MonthlyInsightPersistencePort {
+
+    private final MonthlyInsightJpaRepository monthlyInsightJpaRepository;
+
+    @Override
+    public Optional<MonthlyInsight> findByUserIdAndMonth(Long userId, String month) {
+        return monthlyInsightJpaRepository.findByUserIdAndMonth(userId, month);
+    }
+
+    /**
+     * 월별 인사이트 저장 (같은 사용자/월이 있으면 갱신)
+     * 
+     * 읽기 전용 조회 트랜잭션 안에서도 호출되므로 바깥 트랜잭션을 보류하고,
+     * 저장은 레포지토리의 별도 트랜잭션에서 수행합니다.
+     * 저장 실패는 트랜잭션 경계 밖에서 잡으므로 rollback-only 커밋 예외가 호출한 쪽으로 전파되지 않습니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void save(Long userId, String month, String fingerprint, String monthlyComment) {
+        try {
+            monthlyInsightJpaRepository.upsert(userId, month, fingerprint, monthlyComment);
+            log.debug("월별 인사이트 저장 완료: userId={}, month={}", userId, month);
+        } catch (Exception e) {
+            log.error("월별 인사이트 저장 중 오류 발생: userId={}, month={}, error={}", userId, month, e.getMessage(), e);
+        }
+    }
+}
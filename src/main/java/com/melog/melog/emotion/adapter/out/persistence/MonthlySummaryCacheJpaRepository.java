@@ -0,0 +1,39 @@
+package com.melog.melog.emotion.adapter.out.persistence;
+
+import com.melog.melog.emotion.domain.MonthlySummaryCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 월별 요약 공유 캐시 JPA 레포지토리
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+@Repository
+public interface MonthlySummaryCacheJpaRepository extends JpaRepository<MonthlySummaryCache, Long> {
+
+    List<MonthlySummaryCache> findByCacheKeyOrderByVariantAsc(String cacheKey);
+
+    /**
+     * 캐시 엔트리 저장 (같은 키/변형이 이미 있으면 무시)
+     * 
+     * 동시 저장도 키 충돌 예외 없이 처리됩니다.
+     * 
+     * @return 저장된 행 수 (이미 있으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO monthly_summary_cache (cache_key, variant, month, summary, advice, created_at) "
+            + "VALUES (:cacheKey, :variant, :month, :summary, :advice, CURRENT_TIMESTAMP) "
+            + "ON CONFLICT (cache_key, variant) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("cacheKey") String cacheKey, @Param("variant") Integer variant, @Param("month") String month,
+                       @Param("summary") String summary, @Param("advice") String advice);
+}
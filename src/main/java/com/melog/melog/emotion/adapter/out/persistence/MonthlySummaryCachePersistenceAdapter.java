@@ -0,0 +1,61 @@
+package com.melog.melog.emotion.adapter.out.persistence;
+
+import com.melog.melog.emotion.application.port.out.MonthlySummaryCachePersistencePort;
+import com.melog.melog.emotion.domain.MonthlySummaryCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 월별 요약 공유 캐시 영속성 어댑터
+ * 
+ * 캐시 조회/저장 실패는 월별 요약 생성을 실패시키지 않도록 로깅 후 무시합니다.
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MonthlySummaryCachePersistenceAdapter implements MonthlySummaryCachePersistencePort {
+
+    private final MonthlySummaryCacheJpaRepository monthlySummaryCacheJpaRepository;
+
+    @Override
+    public List<MonthlySummaryCache> findByCacheKey(String cacheKey) {
+        try {
+            return monthlySummaryCacheJpaRepository.findByCacheKeyOrderByVariantAsc(cacheKey);
+        } catch (Exception e) {
+            log.error("월별 요약 캐시 조회 중 오류 발생: cacheKey={}, error={}", cacheKey, e.getMessage(), e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 월별 요약 캐시 저장 (같은 키/변형이 이미 있으면 무시)
+     * 
+     * 조회 트랜잭션 안에서도 호출되므로 바깥 트랜잭션을 보류하고,
+     * 저장은 레포지토리의 별도 트랜잭션에서 수행합니다.
+     * 저장 실패는 트랜잭션 경계 밖에서 잡으므로 rollback-only 커밋 예외가 호출한 쪽으로 전파되지 않습니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void save(MonthlySummaryCache cache) {
+        try {
+            int inserted = monthlySummaryCacheJpaRepository.insertIfAbsent(cache.getCacheKey(), cache.getVariant(),
+                    cache.getMonth(), cache.getSummary(), cache.getAdvice());
+            if (inserted == 0) {
+                log.debug("월별 요약 캐시 이미 존재: cacheKey={}, variant={}", cache.getCacheKey(), cache.getVariant());
+                return;
+            }
+            log.debug("월별 요약 캐시 저장 완료: cacheKey={}, variant={}", cache.getCacheKey(), cache.getVariant());
+        } catch (Exception e) {
+            log.error("월별 요약 캐시 저장 중 오류 발생: cacheKey={}, error={}", cache.getCacheKey(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.melog.melog.emotion.adapter.out.persistence;
+
+import com.melog.melog.emotion.domain.SttTranscriptCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 음성 인식(STT) 결과 캐시 JPA 레포지토리
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+@Repository
+public interface SttTranscriptCacheJpaRepository extends JpaRepository<SttTranscriptCache, Long> {
+
+    /**
+     * 만료되지 않은 캐시 엔트리 조회
+     * 
+     * @param cacheKey 조회할 캐시 키
+     * @param now 만료 판단 기준 시간
+     * @return 캐시 엔트리 (Optional)
+     */
+    @Query("SELECT c FROM SttTranscriptCache c WHERE c.cacheKey = :cacheKey AND c.expiresAt > :now")
+    Optional<SttTranscriptCache> findValidByCacheKey(@Param("cacheKey") String cacheKey, @Param("now") LocalDateTime now);
+
+    /**
+     * 캐시 엔트리 저장 (같은 키가 있으면 결과와 만료 시간 갱신)
+     * 
+     * 만료된 엔트리도 덮어쓰므로 정리 작업 전이라도 다시 캐시됩니다.
+     * 동시 저장도 키 충돌 예외 없이 처리됩니다.
+     * 
+     * @return 저장 또는 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO stt_transcript_cache (cache_key, language, audio_size, result_json, created_at, expires_at) "
+            + "VALUES (:cacheKey, :language, :audioSize, :resultJson, CURRENT_TIMESTAMP, :expiresAt) "
+            + "ON CONFLICT (cache_key) DO UPDATE SET language = EXCLUDED.language, audio_size = EXCLUDED.audio_size, "
+            + "result_json = EXCLUDED.result_json, expires_at = EXCLUDED.expires_at",
+            nativeQuery = true)
+    int upsert(@Param("cacheKey") String cacheKey, @Param("language") String language, @Param("audioSize") Long audioSize,
+               @Param("resultJson") String resultJson, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 만료된 캐시 엔트리 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM SttTranscriptCache c WHERE c.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
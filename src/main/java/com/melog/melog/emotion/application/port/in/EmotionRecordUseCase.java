@@ -1,16 +1,24 @@
 package com.melog.melog.emotion.application.port.in;
 
+import com.melog.melog.emotion.domain.model.request.AudioUploadCompleteRequest;
+import com.melog.melog.emotion.domain.model.request.AudioUploadInitRequest;
 import com.melog.melog.emotion.domain.model.request.EmotionRecordCreateRequest;
 import com.melog.melog.emotion.domain.model.request.EmotionRecordSelectRequest;
 import com.melog.melog.emotion.domain.model.request.EmotionRecordTextUpdateRequest;
+import com.melog.melog.emotion.domain.model.response.AudioUploadInitResponse;
 import com.melog.melog.emotion.domain.model.response.EmotionRecordResponse;
 import com.melog.melog.emotion.domain.model.response.EmotionCalendarResponse;
 import com.melog.melog.emotion.domain.model.response.EmotionChartResponse;
 import com.melog.melog.emotion.domain.model.response.EmotionInsightResponse;
 import com.melog.melog.emotion.domain.model.response.EmotionListResponse;
+import com.melog.melog.emotion.domain.model.response.EmotionCursorListResponse;
+import com.melog.melog.emotion.domain.model.response.EmotionKeywordTrendResponse;
+import com.melog.melog.emotion.domain.model.response.ResumableUploadResponse;
 
+import java.io.InputStream;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface EmotionRecordUseCase {
@@ -19,11 +27,52 @@ public interface EmotionRecordUseCase {
      * 감정 등록 및 분석 요청 (텍스트)
      */
     EmotionRecordResponse createEmotionRecord(String nickname, EmotionRecordCreateRequest request);
+
+    /**
+     * 감정 등록 및 분석 요청 (텍스트, 요약 스트리밍)
+     * 요약 토큰은 onSummaryToken으로 전달되며, 기록은 분석이 모두 끝난 뒤에만 저장됩니다.
+     */
+    EmotionRecordResponse createEmotionRecordStreaming(String nickname, EmotionRecordCreateRequest request, Consumer<String> onSummaryToken);
     
     /**
      * 감정 등록 및 분석 요청 (음성 파일)
      */
     EmotionRecordResponse createEmotionRecordWithAudio(String nickname, MultipartFile audioFile, String userSelectedEmotionJson);
+
+    /**
+     * 음성 파일 직접 업로드 시작 (presigned PUT URL 발급)
+     */
+    AudioUploadInitResponse initiateAudioUpload(String nickname, AudioUploadInitRequest request);
+
+    /**
+     * 감정 등록 및 분석 요청 (직접 업로드된 음성 파일)
+     */
+    EmotionRecordResponse completeAudioUpload(String nickname, AudioUploadCompleteRequest request);
+
+    /**
+     * 이어 올리기 업로드 생성
+     */
+    ResumableUploadResponse createResumableUpload(String nickname, AudioUploadInitRequest request);
+
+    /**
+     * 이어 올리기 업로드 상태(현재 오프셋) 조회
+     */
+    ResumableUploadResponse getResumableUpload(String nickname, String uploadId);
+
+    /**
+     * 이어 올리기 청크 전송 (offset은 서버의 현재 오프셋과 같아야 함)
+     */
+    ResumableUploadResponse appendResumableUpload(String nickname, String uploadId, long offset, InputStream chunk);
+
+    /**
+     * 감정 등록 및 분석 요청 (이어 올리기가 끝난 음성 파일)
+     */
+    EmotionRecordResponse completeResumableUpload(String nickname, String uploadId, String userSelectedEmotionJson);
+
+    /**
+     * 이어 올리기 업로드 취소
+     */
+    void abortResumableUpload(String nickname, String uploadId);
     
     /**
      * 감정 수정(최종 선택 확정)
@@ -48,7 +97,7 @@ public interface EmotionRecordUseCase {
     /**
      * 월별 캘린더 감정 리스트 조회
      */
-    List<EmotionCalendarResponse> getEmotionCalendar(String nickname, YearMonth month);
+    List<EmotionCalendarResponse> getEmotionCalendar(String nickname, YearMonth month, String fields);
     
     /**
      * 월별 감정 분포 통계 (차트)
@@ -63,5 +112,16 @@ public interface EmotionRecordUseCase {
     /**
      * 감정 기록 리스트 조회 (페이징)
      */
-    EmotionListResponse getEmotionList(String nickname, int page, int size);
+    EmotionListResponse getEmotionList(String nickname, int page, int size, String fields);
+    
+    /**
+     * 감정 기록 리스트 조회 (커서 페이징, createdAt,id 이전 기록)
+     */
+    EmotionCursorListResponse getEmotionListByCursor(String nickname, String before, int size);
+    
+    /**
+     * 기간별 키워드 추이 조회 (week/month/year 또는 startDate~endDate)
+     */
+    EmotionKeywordTrendResponse getKeywordTrend(String nickname, String period, String date,
+                                                String startDate, String endDate, int limit);
 } 
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.melog.melog.emotion.application.port.out;
+
+import com.melog.melog.emotion.domain.EmotionAnalysisCache;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 감정 분석 결과 캐시 영속성 포트
+ * 
+ * Clova Studio 감정 분석 결과 캐시의 저장, 조회, 무효화를 위한 아웃바운드 포트입니다.
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+public interface EmotionAnalysisCachePersistencePort {
+
+    /**
+     * 만료되지 않은 캐시 엔트리 조회
+     * 
+     * @param cacheKey 조회할 캐시 키 (SHA-256 해시값)
+     * @param now 만료 판단 기준 시간
+     * @return 캐시 엔트리 (없거나 만료되었으면 Optional.empty())
+     */
+    Optional<EmotionAnalysisCache> findValidByCacheKey(String cacheKey, LocalDateTime now);
+
+    /**
+     * 감정 분석 결과 캐시 저장
+     * 
+     * 같은 키가 이미 있으면(만료된 엔트리 포함) 결과와 만료 시간을 갱신합니다.
+     * 호출한 쪽의 트랜잭션에 영향을 주지 않도록 별도 트랜잭션에서 수행되며, 실패는 로깅 후 무시합니다.
+     * 
+     * @param cache 저장할 캐시 엔트리
+     */
+    void save(EmotionAnalysisCache cache);
+
+    /**
+     * 현재 프롬프트 버전이 아닌 캐시 엔트리 일괄 삭제
+     * 
+     * @param currentPromptVersion 유지할 프롬프트 버전
+     * @return 삭제된 엔트리 수
+     */
+    int deleteByPromptVersionNot(String currentPromptVersion);
+
+    /**
+     * 만료된 캐시 엔트리 일괄 삭제
+     * 
+     * @param now 만료 판단 기준 시간
+     * @return 삭제된 엔트리 수
+     */
+    int deleteExpired(LocalDateTime now);
+}
@@ -2,7 +2,12 @@ package com.melog.melog.emotion.application.port.out;
 
 import com.melog.melog.emotion.domain.EmotionKeyword;
 import com.melog.melog.emotion.domain.EmotionRecord;
+import com.melog.melog.emotion.domain.model.projection.KeywordWeightTotalView;
+import com.melog.melog.emotion.domain.model.projection.UserKeywordWeightTotalView;
+import com.melog.melog.user.domain.User;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +28,16 @@ public interface EmotionKeywordPersistencePort {
      */
     List<EmotionKeyword> findByRecord(EmotionRecord record);
     
+    /**
+     * 여러 사용자의 특정 기간 키워드별 가중치 합계를 한 번에 조회
+     */
+    List<UserKeywordWeightTotalView> sumWeightByUserIdInAndDateBetween(Collection<Long> userIds, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * 사용자의 특정 기간 키워드 중 가중치 합계 상위 limit개 조회
+     */
+    List<KeywordWeightTotalView> findTopKeywordsByUserAndDateBetween(User user, LocalDate startDate, LocalDate endDate, int limit);
+    
     /**
      * 감정 키워드 삭제
      */
@@ -1,11 +1,14 @@
 package com.melog.melog.emotion.application.port.out;
 
 import com.melog.melog.emotion.domain.EmotionRecord;
+import com.melog.melog.emotion.domain.model.projection.EmotionRecordDateView;
+import com.melog.melog.emotion.domain.model.projection.EmotionRecordListView;
 import com.melog.melog.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +34,35 @@ public interface EmotionRecordPersistencePort {
      */
     Page<EmotionRecord> findByUser(User user, Pageable pageable);
     
+    /**
+     * 사용자의 감정 기록 목록을 프로젝션으로 페이징 조회 (text 컬럼 미조회)
+     * summaryLength가 null이면 summary 전체를, 아니면 앞부분 summaryLength자만 조회합니다.
+     */
+    Page<EmotionRecordListView> findListViewsByUser(User user, Integer summaryLength, Pageable pageable);
+    
+    /**
+     * 사용자의 특정 기간 감정 기록 id, 날짜만 조회
+     */
+    List<EmotionRecordDateView> findDateViewsByUserAndDateBetween(User user, LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * 특정 기간에 감정 기록이 있는 사용자 ID를 ID 순으로 조회
+     * afterUserId보다 큰 ID만 최대 limit개 조회합니다.
+     */
+    List<Long> findUserIdsWithRecordsBetween(LocalDate startDate, LocalDate endDate, Long afterUserId, int limit);
+    
+    /**
+     * 사용자의 감정 기록을 커서 기반으로 조회 (createdAt DESC, id DESC)
+     * beforeCreatedAt/beforeId가 null이면 첫 페이지를 조회합니다.
+     */
+    List<EmotionRecord> findByUserBefore(User user, LocalDateTime beforeCreatedAt, Long beforeId, int limit);
+    
+    /**
+     * 사용자의 감정 기록 목록을 커서 기반 프로젝션으로 조회 (createdAt DESC, id DESC, text 컬럼 미조회)
+     * beforeCreatedAt/beforeId가 null이면 첫 페이지를 조회합니다.
+     */
+    List<EmotionRecordListView> findListViewsByUserBefore(User user, LocalDateTime beforeCreatedAt, Long beforeId, int limit);
+    
     /**
      * 사용자의 특정 날짜 감정 기록 조회
      */
@@ -51,6 +83,11 @@ public interface EmotionRecordPersistencePort {
      */
     boolean existsByUserAndDate(User user, LocalDate date);
     
+    /**
+     * 특정 기간에 사용자의 감정 기록이 있는지 확인
+     */
+    boolean existsByUserAndDateBetween(User user, LocalDate startDate, LocalDate endDate);
+    
     /**
      * 사용자의 감정 기록 개수 조회
      */
@@ -3,7 +3,10 @@ package com.melog.melog.emotion.application.port.out;
 import com.melog.melog.emotion.domain.EmotionRecord;
 import com.melog.melog.emotion.domain.EmotionScore;
 import com.melog.melog.emotion.domain.EmotionType;
+import com.melog.melog.emotion.domain.model.projection.UserEmotionScoreTotalView;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +27,16 @@ public interface EmotionScorePersistencePort {
      */
     List<EmotionScore> findByRecord(EmotionRecord record);
     
+    /**
+     * 감정 기록 ID 목록으로 감정 점수를 한 번에 조회 (프로젝션 조회 결과용)
+     */
+    List<EmotionScore> findByRecordIdIn(Collection<Long> recordIds);
+    
+    /**
+     * 여러 사용자의 특정 기간 감정 타입별 점수 합계를 한 번에 조회
+     */
+    List<UserEmotionScoreTotalView> sumPercentageByUserIdInAndDateBetween(Collection<Long> userIds, LocalDate startDate, LocalDate endDate);
+    
     /**
      * 감정 기록의 특정 감정 타입 점수 조회
      */
@@ -0,0 +1,36 @@
+package com.melog.melog.emotion.application.port.out;
+
+import com.melog.melog.emotion.domain.MonthlyInsight;
+
+import java.util.Optional;
+
+/**
+ * 월별 감정 인사이트 영속성 포트
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+public interface MonthlyInsightPersistencePort {
+
+    /**
+     * 사용자/월별 인사이트 조회
+     * 
+     * @param userId 사용자 ID
+     * @param month 대상 월 (yyyy-MM)
+     * @return 저장된 인사이트 (없으면 Optional.empty())
+     */
+    Optional<MonthlyInsight> findByUserIdAndMonth(Long userId, String month);
+
+    /**
+     * 사용자/월별 인사이트 저장
+     * 
+     * 이미 저장된 인사이트가 있으면 지문과 코멘트를 갱신합니다.
+     * 조회 트랜잭션이나 비동기 재생성 스레드에서 호출되므로 별도 트랜잭션에서 수행됩니다.
+     * 
+     * @param userId 사용자 ID
+     * @param month 대상 월 (yyyy-MM)
+     * @param fingerprint 입력 지문
+     * @param monthlyComment 월별 코멘트
+     */
+    void save(Long userId, String month, String fingerprint, String monthlyComment);
+}
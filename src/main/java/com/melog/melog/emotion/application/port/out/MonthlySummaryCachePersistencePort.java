@@ -0,0 +1,31 @@
+package com.melog.melog.emotion.application.port.out;
+
+import com.melog.melog.emotion.domain.MonthlySummaryCache;
+
+import java.util.List;
+
+/**
+ * 월별 요약 공유 캐시 영속성 포트
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+public interface MonthlySummaryCachePersistencePort {
+
+    /**
+     * 캐시 키에 저장된 모든 응답 변형 조회
+     * 
+     * @param cacheKey 조회할 캐시 키 (SHA-256 해시값)
+     * @return 응답 변형 목록 (변형 번호 순, 없으면 빈 리스트)
+     */
+    List<MonthlySummaryCache> findByCacheKey(String cacheKey);
+
+    /**
+     * 월별 요약 응답 변형 저장
+     * 
+     * 동시 요청으로 같은 키/변형 번호가 이미 저장된 경우에는 조용히 무시합니다.
+     * 
+     * @param cache 저장할 캐시 엔트리
+     */
+    void save(MonthlySummaryCache cache);
+}
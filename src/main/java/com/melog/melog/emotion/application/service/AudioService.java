@@ -174,7 +174,7 @@ public class AudioService implements AudioUseCase {
      */
     private EmotionRecord findEmotionRecordWithValidation(String nickname, Long recordId) {
         // 사용자 존재 여부 확인
-        User user = userPersistencePort.findByNickname(nickname)
+        User user = userPersistencePort.findReferenceByNickname(nickname)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + nickname));
         
         // 감정 기록 존재 여부 확인 및 소유권 검증
@@ -2,21 +2,38 @@ package com.melog.melog.emotion.application.service;
 
 import com.melog.melog.emotion.domain.model.response.*;
 import com.melog.melog.emotion.domain.*;
+import com.melog.melog.emotion.domain.model.projection.UserEmotionScoreTotalView;
+import com.melog.melog.emotion.domain.model.projection.UserKeywordWeightTotalView;
 import com.melog.melog.emotion.application.port.out.*;
 import com.melog.melog.user.application.port.out.UserPersistencePort;
 import com.melog.melog.user.domain.User;
 import com.melog.melog.clova.application.port.in.MonthlySummaryUseCase;
 import com.melog.melog.clova.domain.model.request.MonthlySummaryRequest;
+import com.melog.melog.clova.domain.model.response.MonthlySummaryResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,26 +44,37 @@ public class EmotionInsightService {
 
     private final UserPersistencePort userPersistencePort;
     private final EmotionRecordPersistencePort emotionRecordPersistencePort;
+    private final EmotionScorePersistencePort emotionScorePersistencePort;
     private final EmotionKeywordPersistencePort emotionKeywordPersistencePort;
-    private final EmotionRecordQueryService emotionRecordQueryService;
     private final MonthlySummaryUseCase monthlySummaryUseCase;
+    private final MonthlyInsightPersistencePort monthlyInsightPersistencePort;
+    private final ThreadPoolTaskExecutor insightTaskExecutor;
+    private final ThreadPoolTaskExecutor insightQueryTaskExecutor;
+
+    /**
+     * 비동기 재생성이 진행 중인 사용자/월 키
+     */
+    private final Set<String> refreshingInsights = ConcurrentHashMap.newKeySet();
 
     /**
      * 감정 인사이트를 생성합니다.
+     * 
+     * 감정 분포(현재 스레드)와 키워드 집계, 저장된 인사이트 조회(insightQueryTaskExecutor)를 동시에 실행하고,
+     * 저장된 인사이트가 없으면 감정 분포가 준비되는 즉시 Clova Studio 호출을 시작합니다.
+     * Clova Studio 호출 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행합니다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EmotionInsightResponse getEmotionInsight(String nickname, YearMonth month) {
         // 사용자 존재 여부 확인
-        User user = userPersistencePort.findByNickname(nickname)
+        User user = userPersistencePort.findReferenceByNickname(nickname)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + nickname));
+        Long userId = user.getId();
 
         // 해당 월의 시작일과 끝일 계산
         var startDate = month.atDay(1);
         var endDate = month.atEndOfMonth();
 
-        // 해당 월의 감정 기록 조회
-        List<EmotionRecord> monthlyRecords = emotionRecordPersistencePort.findByUserAndDateBetween(user, startDate, endDate);
-
-        if (monthlyRecords.isEmpty()) {
+        if (!emotionRecordPersistencePort.existsByUserAndDateBetween(user, startDate, endDate)) {
             return EmotionInsightResponse.builder()
                     .topKeywords(new ArrayList<>())
                     .monthlyComment("이번 달에는 감정 기록이 없습니다.")
@@ -54,23 +82,41 @@ public class EmotionInsightService {
         }
 
         try {
-            // 차트 서비스를 통해 월별 감정 분포 데이터 가져오기
-            EmotionChartResponse chartResponse = emotionRecordQueryService.getEmotionChart(nickname, month);
-            
-            // 감정 분포 데이터를 Clova Studio에 전달하여 조언 요청
-            MonthlySummaryRequest summaryRequest = MonthlySummaryRequest.builder()
-                    .monthlyComments(List.of()) // 빈 리스트 (사용하지 않음)
-                    .month(month.toString())
-                    .prompt("월별 감정 분포 분석")
-                    .emotionDistribution(chartResponse.getThisMonth()) // 감정 분포 데이터 추가
-                    .build();
-            
-            var summaryResponse = monthlySummaryUseCase.generateMonthlySummary(summaryRequest);
-            
-            // 기존 DB의 키워드 데이터 사용 (감정별로 이미 저장되어 있음)
-            List<EmotionKeywordResponse> topKeywords = extractTopKeywordsFromMonthlyRecords(monthlyRecords);
-            String monthlyComment = summaryResponse.getSummary() + " " + summaryResponse.getAdvice();
-            
+            // 키워드 집계와 저장된 인사이트 조회는 별도 스레드에서 동시에 실행
+            CompletableFuture<List<EmotionKeywordResponse>> topKeywordsFuture = CompletableFuture.supplyAsync(
+                    () -> loadTopKeywords(userId, startDate, endDate), insightQueryTaskExecutor);
+            CompletableFuture<Optional<MonthlyInsight>> storedInsightFuture = CompletableFuture.supplyAsync(
+                    () -> monthlyInsightPersistencePort.findByUserIdAndMonth(userId, month.toString()), insightQueryTaskExecutor);
+
+            Map<String, Double> emotionDistribution = loadEmotionDistribution(userId, startDate, endDate);
+            Optional<MonthlyInsight> storedInsight = storedInsightFuture.join();
+
+            // 저장된 인사이트가 없으면 키워드 집계를 기다리지 않고 바로 생성 요청
+            MonthlySummaryResponse summaryResponse = storedInsight.isEmpty()
+                    ? generateMonthlySummary(month, emotionDistribution)
+                    : null;
+
+            List<EmotionKeywordResponse> topKeywords = topKeywordsFuture.join();
+            String fingerprint = fingerprintOf(emotionDistribution, topKeywords);
+
+            // 저장된 인사이트의 입력 지문이 같으면 그대로 사용하고,
+            // 달라졌으면 이전 코멘트를 응답하면서 비동기로 재생성
+            if (storedInsight.isPresent()) {
+                MonthlyInsight insight = storedInsight.get();
+                if (!insight.matches(fingerprint)) {
+                    scheduleRefresh(userId, month, emotionDistribution, fingerprint);
+                }
+                return EmotionInsightResponse.builder()
+                        .topKeywords(topKeywords)
+                        .monthlyComment(insight.getMonthlyComment())
+                        .build();
+            }
+
+            String monthlyComment = toMonthlyComment(summaryResponse);
+            if (!summaryResponse.isFallback()) {
+                monthlyInsightPersistencePort.save(userId, month.toString(), fingerprint, monthlyComment);
+            }
+
             return EmotionInsightResponse.builder()
                     .topKeywords(topKeywords)
                     .monthlyComment(monthlyComment)
@@ -88,49 +134,145 @@ public class EmotionInsightService {
     }
 
     /**
-     * 월별 감정 기록에서 상위 키워드를 추출합니다.
+     * 해당 기간의 감정 분포를 감정 타입별 점수 합계 쿼리 한 번으로 계산합니다.
      */
-    private List<EmotionKeywordResponse> extractTopKeywordsFromMonthlyRecords(List<EmotionRecord> monthlyRecords) {
-        List<EmotionKeywordResponse> topKeywords = new ArrayList<>();
-        
+    private Map<String, Double> loadEmotionDistribution(Long userId, LocalDate startDate, LocalDate endDate) {
+        Map<EmotionType, Double> totals = new EnumMap<>(EmotionType.class);
+        for (UserEmotionScoreTotalView total : emotionScorePersistencePort.sumPercentageByUserIdInAndDateBetween(List.of(userId), startDate, endDate)) {
+            totals.put(total.getEmotionType(), total.getTotalPercentage().doubleValue());
+        }
+        return EmotionDistribution.toPercentages(totals);
+    }
+
+    /**
+     * 해당 기간의 상위 키워드를 키워드별 가중치 합계 쿼리 한 번으로 계산합니다.
+     */
+    private List<EmotionKeywordResponse> loadTopKeywords(Long userId, LocalDate startDate, LocalDate endDate) {
+        Map<String, Integer> keywordWeights = new HashMap<>();
         try {
-            // 모든 감정 기록의 키워드를 수집하여 weight 기준으로 정렬
-            Map<String, Integer> keywordWeights = new HashMap<>();
-            
-            for (EmotionRecord record : monthlyRecords) {
-                List<EmotionKeyword> keywords = emotionKeywordPersistencePort.findByRecord(record);
-                for (EmotionKeyword keyword : keywords) {
-                    String keywordText = keyword.getKeyword();
-                    int currentWeight = keywordWeights.getOrDefault(keywordText, 0);
-                    keywordWeights.put(keywordText, currentWeight + keyword.getWeight());
-                }
+            for (UserKeywordWeightTotalView total : emotionKeywordPersistencePort.sumWeightByUserIdInAndDateBetween(List.of(userId), startDate, endDate)) {
+                keywordWeights.put(total.getKeyword(), total.getTotalWeight().intValue());
             }
-            
-            // weight가 높은 순으로 정렬하여 상위 5개 선택
-            List<Map.Entry<String, Integer>> sortedKeywords = keywordWeights.entrySet().stream()
-                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                    .limit(5)
-                    .collect(Collectors.toList());
-            
-            for (Map.Entry<String, Integer> entry : sortedKeywords) {
-                topKeywords.add(EmotionKeywordResponse.builder()
-                        .keyword(entry.getKey())
-                        .weight(entry.getValue())
-                        .build());
-            }
-            
         } catch (Exception e) {
             log.warn("키워드 추출 중 오류 발생: {}", e.getMessage());
         }
-        
-        // 키워드가 추출되지 않은 경우 기본 키워드 반환
+        return toTopKeywords(keywordWeights);
+    }
+
+    /**
+     * 월별 인사이트를 미리 생성하여 저장합니다. (일괄 생성 작업용)
+     * 저장된 인사이트의 입력 지문이 같으면 아무것도 하지 않습니다.
+     * Clova Studio 호출 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행합니다.
+     * 
+     * @return Clova Studio를 호출했으면 true
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean precomputeInsight(Long userId, YearMonth month, Map<String, Double> emotionDistribution,
+                                     List<EmotionKeywordResponse> topKeywords) {
+        String fingerprint = fingerprintOf(emotionDistribution, topKeywords);
+        Optional<MonthlyInsight> storedInsight = monthlyInsightPersistencePort.findByUserIdAndMonth(userId, month.toString());
+        if (storedInsight.isPresent() && storedInsight.get().matches(fingerprint)) {
+            return false;
+        }
+
+        MonthlySummaryResponse summaryResponse = generateMonthlySummary(month, emotionDistribution);
+        if (!summaryResponse.isFallback()) {
+            monthlyInsightPersistencePort.save(userId, month.toString(), fingerprint, toMonthlyComment(summaryResponse));
+        }
+        return true;
+    }
+
+    /**
+     * 감정 분포 데이터를 Clova Studio에 전달하여 요약과 조언을 요청합니다.
+     */
+    private MonthlySummaryResponse generateMonthlySummary(YearMonth month, Map<String, Double> emotionDistribution) {
+        MonthlySummaryRequest summaryRequest = MonthlySummaryRequest.builder()
+                .monthlyComments(List.of()) // 빈 리스트 (사용하지 않음)
+                .month(month.toString())
+                .prompt("월별 감정 분포 분석")
+                .emotionDistribution(emotionDistribution) // 감정 분포 데이터 추가
+                .build();
+        return monthlySummaryUseCase.generateMonthlySummary(summaryRequest);
+    }
+
+    private static String toMonthlyComment(MonthlySummaryResponse summaryResponse) {
+        return summaryResponse.getSummary() + " " + summaryResponse.getAdvice();
+    }
+
+    /**
+     * 입력 지문이 바뀐 인사이트를 비동기로 재생성합니다.
+     * 같은 사용자/월에 대한 재생성이 이미 진행 중이면 새로 예약하지 않습니다.
+     */
+    private void scheduleRefresh(Long userId, YearMonth month, Map<String, Double> emotionDistribution, String fingerprint) {
+        String refreshKey = userId + ":" + month;
+        if (!refreshingInsights.add(refreshKey)) {
+            return;
+        }
+
+        Map<String, Double> distribution = new HashMap<>(emotionDistribution);
+        try {
+            insightTaskExecutor.execute(() -> {
+                try {
+                    MonthlySummaryResponse summaryResponse = generateMonthlySummary(month, distribution);
+                    if (!summaryResponse.isFallback()) {
+                        monthlyInsightPersistencePort.save(userId, month.toString(), fingerprint, toMonthlyComment(summaryResponse));
+                        log.info("월별 인사이트 재생성 완료: userId={}, month={}", userId, month);
+                    }
+                } catch (Exception e) {
+                    log.warn("월별 인사이트 재생성 실패: userId={}, month={}, error={}", userId, month, e.getMessage());
+                } finally {
+                    refreshingInsights.remove(refreshKey);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            refreshingInsights.remove(refreshKey);
+            log.warn("월별 인사이트 재생성 작업 거절: userId={}, month={}", userId, month);
+        }
+    }
+
+    /**
+     * 인사이트 입력 지문을 계산합니다.
+     * 감정 분포(감정명 순)와 상위 키워드(가중치 순)를 이어 붙인 문자열의 SHA-256 해시입니다.
+     */
+    private static String fingerprintOf(Map<String, Double> emotionDistribution, List<EmotionKeywordResponse> topKeywords) {
+        StringBuilder source = new StringBuilder();
+        new TreeMap<>(emotionDistribution).forEach((emotion, percentage) ->
+                source.append(emotion).append('=').append(String.format("%.2f", percentage)).append(';'));
+        source.append('|');
+        for (EmotionKeywordResponse keyword : topKeywords) {
+            source.append(keyword.getKeyword()).append('=').append(keyword.getWeight()).append(';');
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("월별 인사이트 지문 생성에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 키워드별 가중치 합계에서 상위 5개 키워드를 선택합니다.
+     * 가중치가 같으면 키워드 순으로 정렬하여 조회 경로와 관계없이 같은 결과(및 입력 지문)를 얻습니다.
+     * 키워드가 없으면 기본 키워드를 반환합니다.
+     */
+    static List<EmotionKeywordResponse> toTopKeywords(Map<String, Integer> keywordWeights) {
+        List<EmotionKeywordResponse> topKeywords = keywordWeights.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(5)
+                .map(entry -> EmotionKeywordResponse.builder()
+                        .keyword(entry.getKey())
+                        .weight(entry.getValue())
+                        .build())
+                .collect(Collectors.toCollection(ArrayList::new));
+
         if (topKeywords.isEmpty()) {
             topKeywords.add(EmotionKeywordResponse.builder()
                     .keyword("감정 기록")
                     .weight(100)
                     .build());
         }
-        
         return topKeywords;
     }
 }
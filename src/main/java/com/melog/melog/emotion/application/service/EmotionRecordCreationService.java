@@ -1,6 +1,8 @@
 package com.melog.melog.emotion.application.service;
 
 import com.melog.melog.emotion.domain.model.request.*;
+import com.melog.melog.emotion.domain.model.response.AudioUploadInitResponse;
+import com.melog.melog.emotion.domain.model.response.EmotionRecordResponse;
 import com.melog.melog.emotion.domain.*;
 import com.melog.melog.emotion.application.port.out.*;
 import com.melog.melog.user.application.port.out.UserPersistencePort;
@@ -8,16 +10,25 @@ import com.melog.melog.user.domain.User;
 import com.melog.melog.clova.application.port.in.EmotionAnalysisUseCase;
 import com.melog.melog.clova.domain.model.request.EmotionAnalysisRequest;
 import com.melog.melog.clova.domain.model.response.EmotionAnalysisResponse;
+import com.melog.melog.common.audio.AudioIngestBuffer;
 import com.melog.melog.common.service.S3FileService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 @Slf4j
@@ -35,11 +46,14 @@ public class EmotionRecordCreationService {
     private final EmotionKeywordPersistencePort emotionKeywordPersistencePort;
     private final EmotionCommentPersistencePort emotionCommentPersistencePort;
     private final EmotionAnalysisUseCase emotionAnalysisUseCase;
+    private final UserRecordStatsService userRecordStatsService;
+    private final EmotionRecordResponseAssembler emotionRecordResponseAssembler;
     private final ObjectMapper objectMapper;
 
+    private static final long MAX_AUDIO_FILE_SIZE = 50 * 1024 * 1024; // 50MB
 
     @Transactional
-    public EmotionRecord createEmotionRecordFromText(String nickname, EmotionRecordCreateRequest request) {
+    public EmotionRecordResponse createEmotionRecordFromText(String nickname, EmotionRecordCreateRequest request) {
         return createEmotionRecordFromTextWithDate(nickname, request, LocalDate.now());
     }
     
@@ -47,9 +61,47 @@ public class EmotionRecordCreationService {
      * 텍스트 기반 감정 기록을 생성합니다.
      */
     @Transactional(rollbackFor = Exception.class)
-    public EmotionRecord createEmotionRecordFromTextWithDate(String nickname, EmotionRecordCreateRequest request, LocalDate date) {
+    public EmotionRecordResponse createEmotionRecordFromTextWithDate(String nickname, EmotionRecordCreateRequest request, LocalDate date) {
+        EmotionRecord savedRecord = saveTextRecord(nickname, request, date);
+        UserSelectedEmotion selectedEmotion = saveUserSelectedEmotion(savedRecord, request);
+
+        // Clova Studio를 통한 감정 분석 수행
+        List<EmotionScore> scores = performEmotionAnalysis(savedRecord, request.getText());
+        
+        return emotionRecordResponseAssembler.assemble(savedRecord, scores, selectedEmotion);
+    }
+
+    /**
+     * 스트리밍 생성 시, 분석을 시작하기 전에 사용자 존재 여부와 날짜 중복을 확인합니다.
+     */
+    public void validateNewTextRecord(String nickname, LocalDate date) {
+        User user = userPersistencePort.findReferenceByNickname(nickname)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + nickname));
+
+        if (emotionRecordPersistencePort.existsByUserAndDate(user, date)) {
+            throw new IllegalArgumentException("오늘 이미 감정 기록이 존재합니다: " + date);
+        }
+    }
+
+    /**
+     * 이미 완료된 감정 분석 결과로 텍스트 기반 감정 기록을 생성합니다.
+     * 스트리밍 분석이 끝난 뒤 한 번에 저장하기 위해 사용됩니다.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public EmotionRecordResponse createEmotionRecordFromTextWithAnalysis(String nickname, EmotionRecordCreateRequest request,
+                                                                         LocalDate date, EmotionAnalysisResponse analysis) {
+        EmotionRecord savedRecord = saveTextRecord(nickname, request, date);
+        UserSelectedEmotion selectedEmotion = saveUserSelectedEmotion(savedRecord, request);
+        List<EmotionScore> scores = applyEmotionAnalysis(savedRecord, analysis);
+        return emotionRecordResponseAssembler.assemble(savedRecord, scores, selectedEmotion);
+    }
+
+    /**
+     * 텍스트 감정 기록을 저장합니다.
+     */
+    private EmotionRecord saveTextRecord(String nickname, EmotionRecordCreateRequest request, LocalDate date) {
         // 사용자 조회
-        User user = userPersistencePort.findByNickname(nickname)
+        User user = userPersistencePort.findReferenceByNickname(nickname)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + nickname));
 
         // 해당 날짜에 이미 기록이 있는지 확인
@@ -65,71 +117,67 @@ public class EmotionRecordCreationService {
                 .build();
 
         EmotionRecord savedRecord = emotionRecordPersistencePort.save(emotionRecord);
+        userRecordStatsService.onRecordCreated(savedRecord);
+        return savedRecord;
+    }
 
-        // 사용자 선택 감정 저장
-        if (request.getUserSelectedEmotion() != null) {
-            EmotionType emotionType = request.getUserSelectedEmotion().getEmotionType();
-            UserSelectedEmotion userSelectedEmotion = UserSelectedEmotion.builder()
-                    .record(savedRecord)
-                    .emotionType(emotionType)
-                    .percentage(request.getUserSelectedEmotion().getPercentage())
-                    .step(2) // 기본값
-                    .build();
-            userSelectedEmotionPersistencePort.save(userSelectedEmotion);
+    /**
+     * 요청에 사용자 선택 감정이 있으면 저장합니다.
+     * 
+     * @return 저장된 사용자 선택 감정 (없으면 null)
+     */
+    private UserSelectedEmotion saveUserSelectedEmotion(EmotionRecord savedRecord, EmotionRecordCreateRequest request) {
+        if (request.getUserSelectedEmotion() == null) {
+            return null;
         }
 
-        // Clova Studio를 통한 감정 분석 수행
-        performEmotionAnalysis(savedRecord, request.getText());
-        
-        return savedRecord;
+        EmotionType emotionType = request.getUserSelectedEmotion().getEmotionType();
+        UserSelectedEmotion userSelectedEmotion = UserSelectedEmotion.builder()
+                .record(savedRecord)
+                .emotionType(emotionType)
+                .percentage(request.getUserSelectedEmotion().getPercentage())
+                .step(2) // 기본값
+                .build();
+        return userSelectedEmotionPersistencePort.save(userSelectedEmotion);
     }
 
     /**
-     * 음성 파일 기반 감정 기록을 생성합니다.
+     * 이미 완료된 STT/감정 분석 결과와 업로드된 음성 파일 경로로 음성 기반 감정 기록을 생성합니다.
+     * STT, S3 업로드, 감정 분석이 모두 끝난 뒤 한 번에 저장하기 위해 사용됩니다.
      */
     @Transactional(rollbackFor = Exception.class)
-    public EmotionRecord createEmotionRecordFromAudio(String nickname, String text, String userSelectedEmotionJson, MultipartFile audioFile) {
-        // 음성 파일 유효성 검증
-        validateAudioFile(audioFile);
-        
+    public EmotionRecordResponse createEmotionRecordFromAudioWithAnalysis(String nickname, String text, String userSelectedEmotionJson,
+                                                                          AudioIngestBuffer audio, String audioFilePath,
+                                                                          LocalDate date, EmotionAnalysisResponse analysis) {
         // 사용자 조회
-        User user = userPersistencePort.findByNickname(nickname)
+        User user = userPersistencePort.findReferenceByNickname(nickname)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + nickname));
 
-        // 오늘 날짜로 감정 기록 생성
-        LocalDate today = LocalDate.now();
-        
-        // 해당 날짜에 이미 기록이 있는지 확인
-        if (emotionRecordPersistencePort.existsByUserAndDate(user, today)) {
-            throw new IllegalArgumentException("오늘 이미 감정 기록이 존재합니다: " + today);
+        // 분석 중 같은 날짜의 기록이 생겼을 수 있으므로 저장 직전에 다시 확인
+        if (emotionRecordPersistencePort.existsByUserAndDate(user, date)) {
+            throw new IllegalArgumentException("오늘 이미 감정 기록이 존재합니다: " + date);
         }
 
-        // 음성 파일 정보 추출
-        String audioFileName = audioFile.getOriginalFilename();
-        Long audioFileSize = audioFile.getSize();
-        String audioMimeType = audioFile.getContentType();
-        
-        // S3에 파일 저장
-        String audioFilePath = saveAudioFileToS3(audioFile, user.getNickname());
-        
-        // 음성 길이 계산 (임시로 0 설정, 실제로는 오디오 파일 분석 필요)
-        Integer audioDuration = 0; // TODO: 오디오 파일 길이 분석 로직 구현 필요
+        // 음성 길이 (헤더 분석 결과, 알 수 없는 형식이면 0)
+        Integer audioDuration = audio.info().isDurationKnown() ? audio.info().getDurationSeconds() : 0;
 
         // 감정 기록 생성 (음성 파일 정보 포함)
         EmotionRecord emotionRecord = EmotionRecord.builder()
                 .user(user)
                 .text(text)
-                .date(today)
+                .date(date)
                 .audioFilePath(audioFilePath)
-                .audioFileName(audioFileName)
+                .audioFileName(audio.getOriginalFilename())
                 .audioDuration(audioDuration)
-                .audioFileSize(audioFileSize)
-                .audioMimeType(audioMimeType)
+                .audioFileSize(audio.size())
+                .audioMimeType(audio.getContentType())
                 .build();
 
         EmotionRecord savedRecord = emotionRecordPersistencePort.save(emotionRecord);
+        userRecordStatsService.onRecordCreated(savedRecord);
 
         // 사용자 선택 감정 저장
+        UserSelectedEmotion selectedEmotion = null;
         if (userSelectedEmotionJson != null && !userSelectedEmotionJson.trim().isEmpty()) {
             try {
                 com.fasterxml.jackson.databind.JsonNode jsonNode = objectMapper.readTree(userSelectedEmotionJson);
@@ -144,34 +192,45 @@ public class EmotionRecordCreationService {
                             .percentage(percentage)
                             .step(2) // 기본값
                             .build();
-                    userSelectedEmotionPersistencePort.save(userSelectedEmotion);
+                    selectedEmotion = userSelectedEmotionPersistencePort.save(userSelectedEmotion);
                 }
             } catch (Exception e) {
                 log.warn("사용자 선택 감정 JSON 파싱 실패: {}", e.getMessage());
             }
         }
 
-        // Clova Studio를 통한 감정 분석 수행
-        performEmotionAnalysis(savedRecord, text);
-        log.info("감정 분석 완료: recordId={}, text={}", savedRecord.getId(), text);
+        List<EmotionScore> scores = applyEmotionAnalysis(savedRecord, analysis);
+        log.info("감정 분석 결과 저장 완료: recordId={}, text={}", savedRecord.getId(), text);
         
-        return savedRecord;
+        return emotionRecordResponseAssembler.assemble(savedRecord, scores, selectedEmotion);
     }
 
     /**
      * 감정 분석을 수행하고 결과를 저장합니다.
+     * 
+     * @return 저장된 감정 점수 목록
      */
-    private void performEmotionAnalysis(EmotionRecord record, String text) {
+    private List<EmotionScore> performEmotionAnalysis(EmotionRecord record, String text) {
         EmotionAnalysisRequest emotionRequest = EmotionAnalysisRequest.builder()
                 .text(text)
                 .prompt("감정 요약과 감정 점수 분석")
                 .build();
         
         EmotionAnalysisResponse emotionResponse = emotionAnalysisUseCase.analyzeEmotion(emotionRequest);
-        
+        return applyEmotionAnalysis(record, emotionResponse);
+    }
+
+    /**
+     * 감정 분석 결과(요약, 감정 점수, 코멘트, 키워드)를 감정 기록에 저장합니다.
+     * 
+     * @return 저장된 감정 점수 목록
+     */
+    private List<EmotionScore> applyEmotionAnalysis(EmotionRecord record, EmotionAnalysisResponse emotionResponse) {
         // 감정 요약 저장
         record.updateRecord(record.getText(), emotionResponse.getSummary());
         
+        List<EmotionScore> allScores = new ArrayList<>();
+        
         // 감정 분석 결과로 감정 점수 저장 및 코멘트 매핑
         for (EmotionAnalysisResponse.EmotionScore emotionScoreData : emotionResponse.getEmotions()) {
             // 한글 감정명을 EmotionType으로 변환
@@ -192,6 +251,7 @@ public class EmotionRecordCreationService {
             
             // 감정 점수 저장
             emotionScore = emotionScorePersistencePort.save(emotionScore);
+            allScores.add(emotionScore);
             
             // 해당 감정과 단계에 맞는 코멘트 자동 매핑
             try {
@@ -215,13 +275,15 @@ public class EmotionRecordCreationService {
         
         // 가장 높은 감정 점수를 가진 감정의 코멘트를 EmotionRecord에 설정
         try {
-            // record.getPrimaryEmotion() 대신 직접 감정 점수들을 조회하여 최대값 찾기
-            List<EmotionScore> allScores = emotionScorePersistencePort.findByRecord(record);
+            // 방금 저장한 감정 점수들에서 최대값 찾기
             if (!allScores.isEmpty()) {
                 EmotionScore primaryEmotion = allScores.stream()
                         .max((a, b) -> Integer.compare(a.getPercentage(), b.getPercentage()))
                         .orElse(null);
                 
+                // 사용자 프로필 대표 감정 갱신
+                userRecordStatsService.onPrimaryEmotionChanged(record, primaryEmotion);
+                
                 if (primaryEmotion != null) {
                     EmotionComment primaryComment = emotionCommentPersistencePort
                             .findByEmotionTypeAndStep(primaryEmotion.getEmotionType(), primaryEmotion.getStep())
@@ -267,41 +329,72 @@ public class EmotionRecordCreationService {
         record.updateRecord(record.getText(), emotionResponse.getSummary());
         emotionRecordPersistencePort.save(record);
         
+        return allScores;
     }
 
     /**
      * 음성 파일을 S3에 저장합니다.
+     * STT와 동시에 실행되므로 DB 트랜잭션 없이 진행하며, 업로드 실패 시 로컬 저장으로 폴백합니다.
+     *
+     * @param audio STT 요청과 공유하는 음성 수집 버퍼
+     * @return 저장된 음성 파일 경로 (S3 URL 또는 로컬 경로)
      */
-    private String saveAudioFileToS3(MultipartFile audioFile, String userId) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String saveAudioFile(AudioIngestBuffer audio, String userId) {
         try {
             // S3 서비스를 통한 파일 업로드
             log.info("S3에 음성 파일 업로드 시작: userId={}, filename={}, size={}bytes", 
-                    userId, audioFile.getOriginalFilename(), audioFile.getSize());
+                    userId, audio.getOriginalFilename(), audio.size());
             
-            String s3Url = s3FileService.uploadAudioFile(audioFile, userId);
+            String s3Url = s3FileService.uploadAudioFile(audio, userId);
             
             // S3 URL이 유효한지 확인 (NCloud S3 URL 형식 검증)
-            if (s3Url != null && !s3Url.trim().isEmpty() && 
-                (s3Url.startsWith("https://") || s3Url.startsWith("http://"))) {
+            if (isS3Url(s3Url)) {
                 log.info("S3 업로드 성공: {}", s3Url);
                 return s3Url;
             } else {
                 log.warn("S3 URL이 유효하지 않음, 로컬 저장으로 폴백: {}", s3Url);
-                return saveAudioFileLocally(audioFile, audioFile.getOriginalFilename());
+                return saveAudioFileLocally(audio);
             }
             
         } catch (Exception e) {
             log.error("S3 파일 업로드 중 오류 발생: {}", e.getMessage(), e);
             // S3 업로드 실패 시 로컬 저장으로 폴백
             log.warn("로컬 저장으로 폴백합니다.");
-            return saveAudioFileLocally(audioFile, audioFile.getOriginalFilename());
+            return saveAudioFileLocally(audio);
+        }
+    }
+
+    /**
+     * 감정 기록 생성이 실패했을 때 이미 저장된 음성 파일을 삭제합니다. (보상 처리)
+     * 삭제 실패는 기록만 남기고 원래 예외를 그대로 전달하도록 무시합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void discardAudioFile(String audioFilePath) {
+        if (audioFilePath == null) {
+            return;
+        }
+        try {
+            if (isS3Url(audioFilePath)) {
+                s3FileService.deleteFile(audioFilePath);
+            } else {
+                Files.deleteIfExists(Path.of(audioFilePath));
+            }
+            log.info("감정 기록 생성 실패로 음성 파일 삭제: {}", audioFilePath);
+        } catch (Exception e) {
+            log.warn("음성 파일 보상 삭제 실패: path={}, error={}", audioFilePath, e.getMessage());
         }
     }
 
+    private static boolean isS3Url(String path) {
+        return path != null && !path.trim().isEmpty()
+                && (path.startsWith("https://") || path.startsWith("http://"));
+    }
+
     /**
      * 음성 파일을 로컬에 저장합니다. (임시용, S3 연동 완료 후 제거)
      */
-    private String saveAudioFileLocally(MultipartFile audioFile, String originalFileName) {
+    private String saveAudioFileLocally(AudioIngestBuffer audio) {
         try {
             // 임시 디렉토리 사용 (권한 문제 해결)
             String uploadDir = "/tmp/melog_audio";
@@ -324,12 +417,12 @@ public class EmotionRecordCreationService {
 
             // 파일명 생성 (타임스탬프 + 원본파일명)
             String timestamp = String.valueOf(System.currentTimeMillis());
-            String fileName = timestamp + "_" + originalFileName;
+            String fileName = timestamp + "_" + audio.getOriginalFilename();
             String filePath = uploadDir + "/" + fileName;
 
             // 파일 저장
             File destFile = new File(filePath);
-            audioFile.transferTo(destFile);
+            audio.copyTo(destFile.toPath());
             
             // 파일이 실제로 저장되었는지 확인
             if (!destFile.exists()) {
@@ -346,25 +439,88 @@ public class EmotionRecordCreationService {
         }
     }
 
+    // === 클라이언트 직접 업로드 (presigned PUT) ===
+
+    /**
+     * 클라이언트가 S3에 음성 파일을 직접 올릴 수 있도록 사용자 폴더 아래의 키와 presigned PUT URL을 발급합니다.
+     * 업로드 본문은 애플리케이션 서버를 거치지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AudioUploadInitResponse createAudioUpload(String userId, AudioUploadInitRequest request) {
+        if (request == null || request.getFileName() == null || request.getFileName().isBlank()) {
+            throw new IllegalArgumentException("업로드할 음성 파일명은 필수입니다.");
+        }
+        validateAudioFile(request.getFileName(), request.getFileSize() != null ? request.getFileSize() : 0);
+
+        String contentType = request.getContentType() != null && !request.getContentType().isBlank()
+                ? request.getContentType() : "application/octet-stream";
+        String uploadKey = s3FileService.generateAudioUploadKey(userId, request.getFileName());
+        Date expiration = s3FileService.getPresignExpiration();
+        URL uploadUrl = s3FileService.generatePresignedUploadUrl(uploadKey, contentType, expiration);
+
+        return AudioUploadInitResponse.builder()
+                .uploadKey(uploadKey)
+                .uploadUrl(uploadUrl.toString())
+                .method("PUT")
+                .contentType(contentType)
+                .expiresAt(LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()))
+                .build();
+    }
+
+    /**
+     * 클라이언트가 직접 업로드한 음성 파일을 수집 버퍼로 읽어옵니다.
+     * 다른 사용자의 폴더를 가리키는 키는 거절하며, 크기/형식은 multipart 업로드와 같은 기준으로 검증합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AudioIngestBuffer readUploadedAudioFile(String userId, String uploadKey) {
+        if (!s3FileService.isAudioUploadKeyOf(userId, uploadKey)) {
+            throw new IllegalArgumentException("유효하지 않은 업로드 키입니다: " + uploadKey);
+        }
+        AudioIngestBuffer audio = s3FileService.readAudioObject(uploadKey, MAX_AUDIO_FILE_SIZE);
+        try {
+            validateAudioFile(audio.getOriginalFilename(), audio.size());
+        } catch (RuntimeException e) {
+            audio.close();
+            throw e;
+        }
+        return audio;
+    }
+
+    /**
+     * 직접 업로드된 음성 파일을 퍼블릭 읽기로 전환하고 기록에 저장할 URL을 반환합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String publishUploadedAudioFile(String uploadKey) {
+        String s3Url = s3FileService.publishAudioObject(uploadKey);
+        log.info("직접 업로드된 음성 파일 공개 완료: {}", s3Url);
+        return s3Url;
+    }
+
     /**
      * 음성 파일 유효성을 검증합니다.
      */
-    private void validateAudioFile(MultipartFile audioFile) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void validateAudioFile(MultipartFile audioFile) {
         if (audioFile == null || audioFile.isEmpty()) {
             throw new IllegalArgumentException("음성 파일이 비어있습니다.");
         }
-        
+        validateAudioFile(audioFile.getOriginalFilename(), audioFile.getSize());
+    }
+
+    /**
+     * 파일명과 크기로 음성 파일 유효성을 검증합니다. (직접 업로드, 이어 올리기)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void validateAudioFile(String originalFilename, long fileSize) {
         // 파일 크기 검증 (최소 1KB, 최대 50MB)
-        long fileSize = audioFile.getSize();
         if (fileSize < 1024) { // 1KB 미만
             throw new IllegalArgumentException("음성 파일이 너무 작습니다. 최소 1KB 이상이어야 합니다. (현재: " + fileSize + " bytes)");
         }
-        if (fileSize > 50 * 1024 * 1024) { // 50MB 초과
+        if (fileSize > MAX_AUDIO_FILE_SIZE) { // 50MB 초과
             throw new IllegalArgumentException("음성 파일이 너무 큽니다. 최대 50MB 이하여야 합니다. (현재: " + fileSize + " bytes)");
         }
         
         // 파일 확장자 검증
-        String originalFilename = audioFile.getOriginalFilename();
         if (originalFilename != null) {
             String extension = getFileExtension(originalFilename).toLowerCase();
             if (!extension.matches("(mp3|wav|m4a|aac|ogg|flac)")) {
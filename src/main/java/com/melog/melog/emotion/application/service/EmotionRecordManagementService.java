@@ -11,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -23,7 +24,9 @@ public class EmotionRecordManagementService {
     private final EmotionRecordPersistencePort emotionRecordPersistencePort;
     private final EmotionScorePersistencePort emotionScorePersistencePort;
     private final EmotionCommentPersistencePort emotionCommentPersistencePort;
-    private final EmotionRecordQueryService emotionRecordQueryService;
+    private final UserSelectedEmotionPersistencePort userSelectedEmotionPersistencePort;
+    private final EmotionRecordResponseAssembler emotionRecordResponseAssembler;
+    private final UserRecordStatsService userRecordStatsService;
 
     /**
      * 감정 선택을 업데이트합니다.
@@ -31,7 +34,7 @@ public class EmotionRecordManagementService {
     @Transactional
     public EmotionRecordResponse updateEmotionSelection(String nickname, Long recordId, EmotionRecordSelectRequest request) {
         // 사용자 및 기록 조회
-        User user = userPersistencePort.findByNickname(nickname)
+        User user = userPersistencePort.findReferenceByNickname(nickname)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + nickname));
         
         EmotionRecord record = emotionRecordPersistencePort.findById(recordId)
@@ -41,6 +44,7 @@ public class EmotionRecordManagementService {
         emotionScorePersistencePort.deleteByRecord(record);
 
         // 새로운 감정 점수 저장 및 코멘트 매핑
+        List<EmotionScore> updatedScores = new ArrayList<>();
         for (EmotionRecordSelectRequest.EmotionSelection selection : request.getEmotions()) {
             // percentage에 따라 step 계산 (0-20: step1, 21-40: step2, 41-60: step3, 61-80: step4, 81-100: step5)
             int step = calculateStepFromPercentage(selection.getPercentage());
@@ -54,6 +58,7 @@ public class EmotionRecordManagementService {
             
             // 감정 점수 저장
             emotionScore = emotionScorePersistencePort.save(emotionScore);
+            updatedScores.add(emotionScore);
             
             // 해당 감정과 단계에 맞는 코멘트 자동 매핑
             try {
@@ -73,14 +78,16 @@ public class EmotionRecordManagementService {
         
         // 가장 높은 감정 점수를 가진 감정의 코멘트를 EmotionRecord에 설정
         try {
-            // 업데이트된 감정 점수들을 다시 조회
-            List<EmotionScore> updatedScores = emotionScorePersistencePort.findByRecord(record);
+            // 방금 저장한 감정 점수들에서 최대값 찾기
             if (!updatedScores.isEmpty()) {
                 // 가장 높은 퍼센트를 가진 감정 찾기
                 EmotionScore primaryEmotion = updatedScores.stream()
                         .max((a, b) -> Integer.compare(a.getPercentage(), b.getPercentage()))
                         .orElse(null);
                 
+                // 사용자 프로필 대표 감정 갱신 (가장 최근 기록인 경우)
+                userRecordStatsService.onPrimaryEmotionChanged(record, primaryEmotion);
+                
                 if (primaryEmotion != null) {
                     EmotionComment primaryComment = emotionCommentPersistencePort
                             .findByEmotionTypeAndStep(primaryEmotion.getEmotionType(), primaryEmotion.getStep())
@@ -101,13 +108,9 @@ public class EmotionRecordManagementService {
             log.error("주요 감정 코멘트 매핑 실패: error={}", e.getMessage(), e);
         }
 
-        // 업데이트된 감정 기록을 다시 조회하여 응답 생성
-        EmotionRecord updatedRecord = emotionRecordPersistencePort.findById(recordId)
-                .orElseThrow(() -> new IllegalArgumentException("업데이트된 감정 기록을 찾을 수 없습니다: " + recordId));
-        
-        // 기존 감정 기록 정보를 그대로 사용하여 응답 생성
-        // emotions는 이미 위에서 수정했으므로 DB에서 최신 정보 조회
-        return emotionRecordQueryService.getEmotionRecord(nickname, recordId);
+        // 재조회 없이 수정한 엔티티로 응답 생성 (사용자 선택 감정만 조회)
+        return emotionRecordResponseAssembler.assemble(record, updatedScores,
+                userSelectedEmotionPersistencePort.findByRecord(record).orElse(null));
     }
 
     /**
@@ -116,7 +119,7 @@ public class EmotionRecordManagementService {
     @Transactional
     public EmotionRecordResponse updateEmotionText(String nickname, Long recordId, EmotionRecordTextUpdateRequest request) {
         // 사용자 및 기록 조회
-        User user = userPersistencePort.findByNickname(nickname)
+        User user = userPersistencePort.findReferenceByNickname(nickname)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + nickname));
         
         EmotionRecord record = emotionRecordPersistencePort.findById(recordId)
@@ -125,9 +128,10 @@ public class EmotionRecordManagementService {
         record.updateRecord(request.getText(), null);
         emotionRecordPersistencePort.save(record);
 
-        // 기존 감정 기록 정보를 그대로 사용하여 응답 생성
-        // text만 수정했으므로 DB에서 최신 정보 조회
-        return emotionRecordQueryService.getEmotionRecord(nickname, recordId);
+        // text만 수정했으므로 기록은 재조회하지 않고 감정 점수와 사용자 선택 감정만 조회
+        return emotionRecordResponseAssembler.assemble(record,
+                emotionScorePersistencePort.findByRecord(record),
+                userSelectedEmotionPersistencePort.findByRecord(record).orElse(null));
     }
 
     /**
@@ -137,7 +141,7 @@ public class EmotionRecordManagementService {
     public void deleteEmotionRecord(String nickname, Long recordId) {
         try {
             // 사용자 및 기록 조회
-            User user = userPersistencePort.findByNickname(nickname)
+            User user = userPersistencePort.findReferenceByNickname(nickname)
                     .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + nickname));
             
             EmotionRecord record = emotionRecordPersistencePort.findById(recordId)
@@ -145,6 +149,7 @@ public class EmotionRecordManagementService {
 
             // 감정 기록 삭제
             emotionRecordPersistencePort.delete(record);
+            userRecordStatsService.onRecordDeleted(record);
             log.info("감정 기록 삭제 완료: recordId={}, nickname={}", recordId, nickname);
             
         } catch (Exception e) {
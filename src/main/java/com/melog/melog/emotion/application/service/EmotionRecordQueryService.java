@@ -2,6 +2,9 @@ package com.melog.melog.emotion.application.service;
 
 import com.melog.melog.emotion.domain.model.response.*;
 import com.melog.melog.emotion.domain.*;
+import com.melog.melog.emotion.domain.model.projection.EmotionRecordDateView;
+import com.melog.melog.emotion.domain.model.projection.EmotionRecordListView;
+import com.melog.melog.emotion.domain.model.projection.UserEmotionScoreTotalView;
 import com.melog.melog.emotion.application.port.out.*;
 import com.melog.melog.user.application.port.out.UserPersistencePort;
 import com.melog.melog.user.domain.User;
@@ -10,12 +13,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -32,13 +42,123 @@ public class EmotionRecordQueryService {
     private final EmotionRecordPersistencePort emotionRecordPersistencePort;
     private final EmotionScorePersistencePort emotionScorePersistencePort;
     private final UserSelectedEmotionPersistencePort userSelectedEmotionPersistencePort;
+    private final EmotionKeywordPersistencePort emotionKeywordPersistencePort;
+    private final EmotionRecordResponseAssembler emotionRecordResponseAssembler;
+
+    /**
+     * 목록 조회 시 선택 가능한 필드 (fields 파라미터)
+     */
+    private static final Set<String> LIST_FIELDS = Set.of(
+            "id", "date", "summary", "summaryPreview", "comment", "emotions", "audioFilePath", "hasAudioFile");
+
+    /**
+     * fields 파라미터가 없을 때의 목록 필드 (기존 응답과 동일)
+     */
+    private static final Set<String> DEFAULT_LIST_FIELDS = Set.of(
+            "id", "date", "summary", "comment", "emotions", "audioFilePath", "hasAudioFile");
+
+    /**
+     * 캘린더 조회 시 선택 가능한 필드 (id, date는 항상 포함)
+     */
+    private static final Set<String> CALENDAR_FIELDS = Set.of("id", "date", "emotions");
+
+    /**
+     * 요약 미리보기 길이 (글자 수)
+     */
+    private static final int SUMMARY_PREVIEW_LENGTH = 80;
+
+    /**
+     * 키워드 추이 조회 시 최대 키워드 개수
+     */
+    private static final int MAX_KEYWORD_TREND_LIMIT = 50;
+
+    /**
+     * 커서 조회 시 한 번에 반환하는 최대 기록 수 (초과 요청은 이 값으로 제한)
+     */
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    /**
+     * 기간별 키워드 추이를 조회합니다.
+     * 감정 기록을 불러오지 않고 키워드 가중치 합계 상위 limit개만 DB에서 집계합니다.
+     * 
+     * @param period week(기준일이 속한 월~일), month(기준일이 속한 달), year(기준일이 속한 해) 중 하나
+     * @param date 기준일 (yyyy-MM-dd, 생략 시 오늘)
+     * @param startDate 조회 시작일 (endDate와 함께 지정하면 period 대신 사용, 하나만 지정하면 예외)
+     * @param endDate 조회 종료일
+     */
+    public EmotionKeywordTrendResponse getKeywordTrend(String nickname, String period, String date,
+                                                       String startDate, String endDate, int limit) {
+        // 사용자 존재 여부 확인
+        User user = userPersistencePort.findReferenceByNickname(nickname)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + nickname));
+
+        if (limit < 1 || limit > MAX_KEYWORD_TREND_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 이상 " + MAX_KEYWORD_TREND_LIMIT + " 이하여야 합니다: " + limit);
+        }
+
+        if ((startDate != null) != (endDate != null)) {
+            throw new IllegalArgumentException("startDate와 endDate는 함께 지정해야 합니다: startDate=" + startDate + ", endDate=" + endDate);
+        }
+
+        String resolvedPeriod;
+        LocalDate from;
+        LocalDate to;
+        if (startDate != null && endDate != null) {
+            resolvedPeriod = "custom";
+            from = parseDate(startDate);
+            to = parseDate(endDate);
+            if (to.isBefore(from)) {
+                throw new IllegalArgumentException("endDate는 startDate 이후여야 합니다: " + startDate + " ~ " + endDate);
+            }
+        } else {
+            LocalDate baseDate = date != null ? parseDate(date) : LocalDate.now();
+            resolvedPeriod = period != null ? period.toLowerCase() : "month";
+            switch (resolvedPeriod) {
+                case "week" -> {
+                    from = baseDate.with(DayOfWeek.MONDAY);
+                    to = from.plusDays(6);
+                }
+                case "month" -> {
+                    from = baseDate.withDayOfMonth(1);
+                    to = YearMonth.from(baseDate).atEndOfMonth();
+                }
+                case "year" -> {
+                    from = baseDate.withDayOfYear(1);
+                    to = from.plusYears(1).minusDays(1);
+                }
+                default -> throw new IllegalArgumentException("지원하지 않는 기간입니다 (week, month, year): " + period);
+            }
+        }
+
+        List<EmotionKeywordResponse> keywords = emotionKeywordPersistencePort.findTopKeywordsByUserAndDateBetween(user, from, to, limit).stream()
+                .map(view -> EmotionKeywordResponse.builder()
+                        .keyword(view.getKeyword())
+                        .weight(view.getTotalWeight().intValue())
+                        .build())
+                .collect(Collectors.toList());
+
+        return EmotionKeywordTrendResponse.builder()
+                .period(resolvedPeriod)
+                .startDate(from)
+                .endDate(to)
+                .keywords(keywords)
+                .build();
+    }
+
+    private static LocalDate parseDate(String date) {
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 날짜 형식입니다 (yyyy-MM-dd): " + date);
+        }
+    }
 
     /**
      * 특정 감정 기록을 조회합니다.
      */
     public EmotionRecordResponse getEmotionRecord(String nickname, Long recordId) {
         // 사용자 조회
-        User user = userPersistencePort.findByNickname(nickname)
+        User user = userPersistencePort.findReferenceByNickname(nickname)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + nickname));
         
         EmotionRecord record = emotionRecordPersistencePort.findById(recordId)
@@ -49,21 +169,35 @@ public class EmotionRecordQueryService {
 
     /**
      * 감정 기록 목록을 조회합니다.
+     * fields로 응답 필드를 선택할 수 있으며, text 컬럼은 조회하지 않고
+     * summary가 필요 없으면 미리보기 길이만큼만 DB에서 잘라서 조회합니다.
      */
-    public EmotionListResponse getEmotionList(String nickname, int page, int size) {
+    public EmotionListResponse getEmotionList(String nickname, int page, int size, String fields) {
         // 사용자 존재 여부 확인
-        User user = userPersistencePort.findByNickname(nickname)
+        User user = userPersistencePort.findReferenceByNickname(nickname)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + nickname));
 
+        Set<String> selected = parseFields(fields, LIST_FIELDS, DEFAULT_LIST_FIELDS);
+
         // 페이징 처리
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         
-        // 감정 기록 조회
-        Page<EmotionRecord> records = emotionRecordPersistencePort.findByUser(user, pageable);
+        // 감정 기록 조회 (summary 전체가 필요하지 않으면 미리보기 + 1자만 조회하여 잘림 여부 판단)
+        Integer summaryLength = selected.contains("summary") ? null
+                : selected.contains("summaryPreview") ? SUMMARY_PREVIEW_LENGTH + 1 : 0;
+        Page<EmotionRecordListView> records = emotionRecordPersistencePort.findListViewsByUser(user, summaryLength, pageable);
         
-        // 응답 DTO 변환 - EmotionRecordSummaryResponse로 변환
-        List<EmotionRecordSummaryResponse> summaryResponses = records.getContent().stream()
-                .map(this::buildEmotionRecordSummaryResponse)
+        // 감정 점수는 페이지 단위로 한 번에 조회
+        Map<Long, List<EmotionScore>> scoresByRecordId = selected.contains("emotions")
+                ? findScoresByRecordIds(records.getContent().stream().map(EmotionRecordListView::getId).collect(Collectors.toList()))
+                : Map.of();
+
+        // 응답 DTO 변환 - fields 생략 시 기존 응답(EmotionRecordSummaryResponse), 지정 시 선택한 필드만 포함
+        boolean sparse = fields != null && !fields.isBlank();
+        List<?> summaryResponses = records.getContent().stream()
+                .map(view -> sparse
+                        ? buildEmotionRecordFieldsResponse(view, selected, scoresByRecordId)
+                        : buildEmotionRecordSummaryResponse(view, scoresByRecordId))
                 .collect(Collectors.toList());
         
         return EmotionListResponse.builder()
@@ -78,85 +212,76 @@ public class EmotionRecordQueryService {
     }
 
     /**
-     * 감정 캘린더를 조회합니다.
+     * 감정 기록 목록을 커서 기반으로 조회합니다.
+     * before(createdAt,id) 이전의 기록을 최신순으로 size개 조회하며, 전체 개수는 계산하지 않습니다.
+     * size는 최대 {@value #MAX_CURSOR_PAGE_SIZE}개로 제한합니다.
      */
-    public List<EmotionCalendarResponse> getEmotionCalendar(String nickname, YearMonth month) {
+    public EmotionCursorListResponse getEmotionListByCursor(String nickname, String before, int size) {
         // 사용자 존재 여부 확인
-        User user = userPersistencePort.findByNickname(nickname)
+        User user = userPersistencePort.findReferenceByNickname(nickname)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + nickname));
 
-        // 해당 월의 시작일과 끝일 계산
-        var startDate = month.atDay(1);
-        var endDate = month.atEndOfMonth();
-
-        // 해당 월의 감정 기록 조회
-        List<EmotionRecord> monthlyRecords = emotionRecordPersistencePort.findByUserAndDateBetween(user, startDate, endDate);
+        if (size < 1) {
+            throw new IllegalArgumentException("size는 1 이상이어야 합니다: " + size);
+        }
+        int pageSize = Math.min(size, MAX_CURSOR_PAGE_SIZE);
+
+        LocalDateTime beforeCreatedAt = null;
+        Long beforeId = null;
+        if (before != null && !before.isBlank()) {
+            int comma = before.lastIndexOf(',');
+            try {
+                beforeCreatedAt = LocalDateTime.parse(before.substring(0, comma).trim());
+                beforeId = Long.parseLong(before.substring(comma + 1).trim());
+            } catch (IndexOutOfBoundsException | DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다 (createdAt,id): " + before);
+            }
+        }
 
-        // 날짜별로 감정 기록을 그룹화
-        Map<LocalDate, List<EmotionRecord>> recordsByDate = monthlyRecords.stream()
-                .collect(Collectors.groupingBy(EmotionRecord::getDate));
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회 (text 컬럼은 조회하지 않음)
+        List<EmotionRecordListView> records = emotionRecordPersistencePort.findListViewsByUserBefore(user, beforeCreatedAt, beforeId, pageSize + 1);
+        boolean hasNext = records.size() > pageSize;
+        if (hasNext) {
+            records = records.subList(0, pageSize);
+        }
 
-        // 해당 월의 모든 날짜에 대해 응답 생성
-        List<EmotionCalendarResponse> calendarResponses = new ArrayList<>();
-        
-        for (int day = 1; day <= month.lengthOfMonth(); day++) {
-            LocalDate currentDate = month.atDay(day);
-            List<EmotionRecord> recordsForDate = recordsByDate.getOrDefault(currentDate, new ArrayList<>());
-            
-            // 해당 날짜의 감정 점수들을 수집
-            List<EmotionScoreResponse> emotionScores = new ArrayList<>();
-            Long recordId = null; // 해당 날짜의 첫 번째 기록 ID
-            
-            for (EmotionRecord record : recordsForDate) {
-                if (recordId == null) {
-                    recordId = record.getId(); // 첫 번째 기록의 ID 저장
-                }
-                
-                List<EmotionScore> scores = emotionScorePersistencePort.findByRecord(record);
-                for (EmotionScore score : scores) {
-                    emotionScores.add(EmotionScoreResponse.builder()
-                            .id(score.getId())
-                            .emotionType(score.getEmotionType())
-                            .percentage(score.getPercentage())
-                            .step(score.getStep())
-                            .build());
-                }
-            }
-            
-            calendarResponses.add(EmotionCalendarResponse.builder()
-                    .id(recordId) // 해당 날짜의 첫 번째 기록 ID 또는 null
-                    .date(currentDate)
-                    .emotions(emotionScores)
-                    .build());
+        String nextCursor = null;
+        if (hasNext) {
+            EmotionRecordListView last = records.get(records.size() - 1);
+            nextCursor = last.getCreatedAt() + "," + last.getId();
         }
 
-        return calendarResponses;
+        // 감정 점수는 페이지 단위로 한 번에 조회
+        Map<Long, List<EmotionScore>> scoresByRecordId = findScoresByRecordIds(
+                records.stream().map(EmotionRecordListView::getId).collect(Collectors.toList()));
+
+        return EmotionCursorListResponse.builder()
+                .content(records.stream()
+                        .map(view -> buildEmotionRecordSummaryResponse(view, scoresByRecordId))
+                        .collect(Collectors.toList()))
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     /**
-     * 감정 차트를 조회합니다.
+     * 감정 캘린더를 조회합니다.
+     * 기록은 id, 날짜만 조회하고, 감정 점수는 월 단위로 한 번에 조회합니다.
+     * fields에 emotions가 없으면 감정 점수를 조회하지 않습니다.
      */
-    public EmotionChartResponse getEmotionChart(String nickname, YearMonth month) {
+    public List<EmotionCalendarResponse> getEmotionCalendar(String nickname, YearMonth month, String fields) {
         // 사용자 존재 여부 확인
-        User user = userPersistencePort.findByNickname(nickname)
+        User user = userPersistencePort.findReferenceByNickname(nickname)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + nickname));
 
-        // 해당 월의 시작일과 끝일 계산
-        var startDate = month.atDay(1);
-        var endDate = month.atEndOfMonth();
-
-        // 해당 월의 감정 기록 조회
-        List<EmotionRecord> monthlyRecords = emotionRecordPersistencePort.findByUserAndDateBetween(user, startDate, endDate);
+        boolean includeEmotions = parseFields(fields, CALENDAR_FIELDS, CALENDAR_FIELDS).contains("emotions");
 
         // 이번 달 감정 분포 계산 (백분율)
-        Map<String, Double> thisMonth = calculateEmotionDistributionPercentage(monthlyRecords);
+        Map<String, Double> thisMonth = loadEmotionDistribution(user.getId(), month);
 
         // 지난 달 감정 분포 계산 (백분율)
-        YearMonth previousMonth = month.minusMonths(1);
-        var previousMonthStart = previousMonth.atDay(1);
-        var previousMonthEnd = previousMonth.atEndOfMonth();
-        List<EmotionRecord> previousMonthRecords = emotionRecordPersistencePort.findByUserAndDateBetween(user, previousMonthStart, previousMonthEnd);
-        Map<String, Double> previousMonthDistribution = calculateEmotionDistributionPercentage(previousMonthRecords);
+        Map<String, Double> previousMonthDistribution = loadEmotionDistribution(user.getId(), month.minusMonths(1));
 
         // 지난달 대비 증감률 계산
         Map<String, Double> compareWithLastMonth = calculateChangeRate(thisMonth, previousMonthDistribution);
@@ -168,43 +293,15 @@ public class EmotionRecordQueryService {
     }
 
     /**
-     * 감정 기록 목록에서 감정 분포를 백분율로 계산합니다.
+     * 해당 월의 감정 분포를 감정 타입별 점수 합계 쿼리 한 번으로 계산합니다. (백분율)
      */
-    private Map<String, Double> calculateEmotionDistributionPercentage(List<EmotionRecord> records) {
-        Map<String, Double> distribution = new HashMap<>();
-        
-        // 모든 감정 타입을 0으로 초기화
-        for (EmotionType emotionType : EmotionType.values()) {
-            distribution.put(emotionType.getDescription(), 0.0);
+    private Map<String, Double> loadEmotionDistribution(Long userId, YearMonth month) {
+        Map<EmotionType, Double> totals = new EnumMap<>(EmotionType.class);
+        for (UserEmotionScoreTotalView total : emotionScorePersistencePort.sumPercentageByUserIdInAndDateBetween(
+                List.of(userId), month.atDay(1), month.atEndOfMonth())) {
+            totals.put(total.getEmotionType(), total.getTotalPercentage().doubleValue());
         }
-
-        if (records.isEmpty()) {
-            return distribution;
-        }
-
-        // 각 기록의 감정 점수를 합산 (모든 감정 점수 포함)
-        for (EmotionRecord record : records) {
-            List<EmotionScore> scores = emotionScorePersistencePort.findByRecord(record);
-            for (EmotionScore score : scores) {
-                String emotionName = score.getEmotionType().getDescription();
-                double currentCount = distribution.getOrDefault(emotionName, 0.0);
-                // 모든 감정 점수를 합산 (백분율 기준)
-                distribution.put(emotionName, currentCount + score.getPercentage());
-            }
-        }
-
-        // 총 감정 점수 계산
-        double totalScore = distribution.values().stream().mapToDouble(Double::doubleValue).sum();
-        
-        // 백분율로 변환
-        if (totalScore > 0) {
-            for (Map.Entry<String, Double> entry : distribution.entrySet()) {
-                double percentage = (entry.getValue() / totalScore) * 100;
-                distribution.put(entry.getKey(), Math.round(percentage * 100.0) / 100.0); // 소수점 2자리 반올림
-            }
-        }
-
-        return distribution;
+        return EmotionDistribution.toPercentages(totals);
     }
 
     /**
@@ -238,155 +335,101 @@ public class EmotionRecordQueryService {
      * 감정 기록 응답을 생성합니다.
      */
     private EmotionRecordResponse buildEmotionRecordResponse(EmotionRecord record) {
-        // 감정 점수 목록 (상위 3개만 반환)
-        // 주의: id는 DB의 실제 EmotionScore ID를 유지 (월별 통계, 감정 점수 추적 등에서 필요)
-        List<EmotionScoreResponse> emotionScoreResponses = emotionScorePersistencePort.findByRecord(record)
-                .stream()
-                .map(score -> EmotionScoreResponse.builder()
-                        .id(score.getId()) // DB ID 유지 (월별 통계 등에서 필요)
-                        .emotionType(score.getEmotionType())
-                        .percentage(score.getPercentage())
-                        .step(score.getStep())
-                        .build())
-                .collect(Collectors.toList());
-        
-        log.info("감정 기록 응답 생성 - recordId: {}, 감정 점수 개수: {}", record.getId(), emotionScoreResponses.size());
-        
-        // 상위 3개 감정을 선택하고 백분율을 정규화
-        List<EmotionScoreResponse> normalizedEmotions = normalizeTop3Emotions(emotionScoreResponses);
-        
-        log.info("정규화된 감정 개수: {}, 코멘트 존재 여부: {}", 
-                normalizedEmotions.size(), 
-                record.getEmotionComment() != null ? "있음" : "없음");
-
-        // 사용자 선택 감정
-        UserSelectedEmotionResponse userSelectedEmotionResponse = userSelectedEmotionPersistencePort.findByRecord(record)
-                .map(selected -> UserSelectedEmotionResponse.builder()
-                        .id(selected.getId())
-                        .emotionType(selected.getEmotionType())
-                        .percentage(selected.getPercentage())
-                        .step(selected.getStep())
-                        .build())
-                .orElse(null);
-
-        return EmotionRecordResponse.builder()
-                .id(record.getId())
-                .text(record.getText())
-                .summary(record.getSummary())
-                .comment(record.getEmotionComment() != null ? record.getEmotionComment().getComment() : null)
-                .date(record.getDate())
-                .createdAt(record.getCreatedAt())
-                .emotions(normalizedEmotions)
-                .userSelectedEmotion(userSelectedEmotionResponse)
-                .audioFilePath(record.getAudioFilePath())
-                .hasAudioFile(record.getAudioFilePath() != null && !record.getAudioFilePath().isEmpty())
+        return emotionRecordResponseAssembler.assemble(record,
+                emotionScorePersistencePort.findByRecord(record),
+                userSelectedEmotionPersistencePort.findByRecord(record).orElse(null));
+    }
+
+    /**
+     * 프로젝션 조회 결과로 감정 기록 요약 응답을 생성합니다. (fields 생략 시, 기존 응답과 동일한 형식)
+     */
+    private EmotionRecordSummaryResponse buildEmotionRecordSummaryResponse(EmotionRecordListView view,
+                                                                           Map<Long, List<EmotionScore>> scoresByRecordId) {
+        String audioFilePath = view.getAudioFilePath();
+        return EmotionRecordSummaryResponse.builder()
+                .id(view.getId())
+                .date(view.getDate())
+                .summary(view.getSummary())
+                .comment(view.getComment())
+                .emotions(toTop3EmotionScoreResponses(scoresByRecordId.getOrDefault(view.getId(), List.of())))
+                .audioFilePath(audioFilePath)
+                .hasAudioFile(audioFilePath != null && !audioFilePath.isEmpty())
                 .build();
     }
 
     /**
-     * 감정 기록 요약 응답을 생성합니다.
+     * 프로젝션 조회 결과로 fields에서 선택한 필드만 채운 응답을 생성합니다. 선택되지 않은 필드는 null로 두어 응답에서 제외합니다.
      */
-    private EmotionRecordSummaryResponse buildEmotionRecordSummaryResponse(EmotionRecord record) {
-        // 감정 점수 목록 (상위 3개만 반환)
-        // 주의: id는 DB의 실제 EmotionScore ID를 유지 (월별 통계, 감정 점수 추적 등에서 필요)
-        List<EmotionScoreResponse> emotionScoreResponses = emotionScorePersistencePort.findByRecord(record)
-                .stream()
-                .map(score -> EmotionScoreResponse.builder()
-                        .id(score.getId()) // DB ID 유지 (월별 통계 등에서 필요)
-                        .emotionType(score.getEmotionType())
-                        .percentage(score.getPercentage())
-                        .step(score.getStep())
-                        .build())
-                .collect(Collectors.toList());
-        
-        // 상위 3개 감정을 선택하고 백분율을 정규화
-        List<EmotionScoreResponse> normalizedEmotions = normalizeTop3Emotions(emotionScoreResponses);
+    private EmotionRecordFieldsResponse buildEmotionRecordFieldsResponse(EmotionRecordListView view, Set<String> selected,
+                                                                         Map<Long, List<EmotionScore>> scoresByRecordId) {
+        String audioFilePath = view.getAudioFilePath();
+        return EmotionRecordFieldsResponse.builder()
+                .id(view.getId())
+                .date(selected.contains("date") ? view.getDate() : null)
+                .summary(selected.contains("summary") ? view.getSummary() : null)
+                .summaryPreview(selected.contains("summaryPreview") ? toSummaryPreview(view.getSummary()) : null)
+                .comment(selected.contains("comment") ? view.getComment() : null)
+                .emotions(selected.contains("emotions")
+                        ? toTop3EmotionScoreResponses(scoresByRecordId.getOrDefault(view.getId(), List.of()))
+                        : null)
+                .audioFilePath(selected.contains("audioFilePath") ? audioFilePath : null)
+                .hasAudioFile(selected.contains("hasAudioFile") ? audioFilePath != null && !audioFilePath.isEmpty() : null)
+                .build();
+    }
 
-        return EmotionRecordSummaryResponse.builder()
-                .id(record.getId())
-                .date(record.getDate())
-                .summary(record.getSummary())
-                .comment(record.getEmotionComment() != null ? record.getEmotionComment().getComment() : null)
-                .emotions(normalizedEmotions)
-                .audioFilePath(record.getAudioFilePath())
-                .hasAudioFile(record.getAudioFilePath() != null && !record.getAudioFilePath().isEmpty())
+    private List<EmotionScoreResponse> toTop3EmotionScoreResponses(List<EmotionScore> scores) {
+        return emotionRecordResponseAssembler.normalizeTop3Emotions(scores.stream()
+                .map(this::toEmotionScoreResponse)
+                .collect(Collectors.toList()));
+    }
+
+    private EmotionScoreResponse toEmotionScoreResponse(EmotionScore score) {
+        return EmotionScoreResponse.builder()
+                .id(score.getId())
+                .emotionType(score.getEmotionType())
+                .percentage(score.getPercentage())
+                .step(score.getStep())
                 .build();
     }
 
     /**
-     * 상위 3개 감정의 백분율을 정규화하여 총합이 100%가 되도록 합니다.
+     * 감정 기록 ID 목록의 감정 점수를 한 번에 조회하여 기록 ID별로 묶습니다.
+     */
+    private Map<Long, List<EmotionScore>> findScoresByRecordIds(List<Long> recordIds) {
+        return emotionScorePersistencePort.findByRecordIdIn(recordIds).stream()
+                .collect(Collectors.groupingBy(score -> score.getRecord().getId(), LinkedHashMap::new, Collectors.toList()));
+    }
+
+    /**
+     * 요약 미리보기를 생성합니다. 미리보기 길이를 넘으면 잘라서 말줄임표를 붙입니다.
      */
-    private List<EmotionScoreResponse> normalizeTop3Emotions(List<EmotionScoreResponse> emotions) {
-        if (emotions == null || emotions.isEmpty()) {
-            log.warn("감정 점수 목록이 비어있음");
-            return emotions;
+    private static String toSummaryPreview(String summary) {
+        if (summary == null || summary.codePointCount(0, summary.length()) <= SUMMARY_PREVIEW_LENGTH) {
+            return summary;
         }
-        
-        log.info("감정 정규화 시작 - 총 감정 개수: {}", emotions.size());
-        
-        // 상위 3개만 선택하고 퍼센트 내림차순 정렬
-        List<EmotionScoreResponse> top3Emotions = emotions.stream()
-                .sorted((a, b) -> Integer.compare(b.getPercentage(), a.getPercentage()))
-                .limit(3)
-                .collect(Collectors.toList());
-        
-        log.info("상위 3개 감정 선택 완료 - 선택된 감정 개수: {}", top3Emotions.size());
-        
-        if (top3Emotions.size() < 3) {
-            log.info("3개 미만 감정만 존재 - 정규화 없이 반환");
-            return top3Emotions; // 3개 미만이면 그대로 반환
+        return summary.substring(0, summary.offsetByCodePoints(0, SUMMARY_PREVIEW_LENGTH)) + "…";
+    }
+
+    /**
+     * fields 파라미터(쉼표 구분)를 파싱합니다. 비어있으면 기본 필드를, 허용되지 않은 필드가 있으면 예외를 반환합니다.
+     * id는 항상 포함합니다.
+     */
+    private static Set<String> parseFields(String fields, Set<String> allowed, Set<String> defaults) {
+        if (fields == null || fields.isBlank()) {
+            return defaults;
         }
-        
-        // 상위 3개 감정의 총 퍼센트 계산
-        int totalPercentage = top3Emotions.stream()
-                .mapToInt(EmotionScoreResponse::getPercentage)
-                .sum();
-        
-        // 각 감정의 비율을 계산하여 새로운 퍼센트 할당
-        List<EmotionScoreResponse> normalizedEmotions = new ArrayList<>();
-        for (int i = 0; i < top3Emotions.size(); i++) {
-            EmotionScoreResponse original = top3Emotions.get(i);
-            
-            // 마지막 감정은 남은 퍼센트를 모두 할당 (반올림 오차 방지)
-            int newPercentage;
-            if (i == top3Emotions.size() - 1) {
-                newPercentage = 100 - normalizedEmotions.stream()
-                        .mapToInt(EmotionScoreResponse::getPercentage)
-                        .sum();
-            } else {
-                // 비율에 따라 새로운 퍼센트 계산
-                double ratio = (double) original.getPercentage() / totalPercentage;
-                newPercentage = (int) Math.round(ratio * 100);
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
             }
-            
-            // 퍼센트가 0 이하가 되지 않도록 보정
-            newPercentage = Math.max(1, newPercentage);
-            
-            normalizedEmotions.add(EmotionScoreResponse.builder()
-                    .id(original.getId())
-                    .emotionType(original.getEmotionType())
-                    .percentage(newPercentage)
-                    .step(original.getStep())
-                    .build());
-        }
-        
-        // 총합이 100%가 되도록 마지막 감정 조정
-        int finalTotal = normalizedEmotions.stream()
-                .mapToInt(EmotionScoreResponse::getPercentage)
-                .sum();
-        
-        if (finalTotal != 100) {
-            EmotionScoreResponse lastEmotion = normalizedEmotions.get(normalizedEmotions.size() - 1);
-            int adjustment = 100 - finalTotal;
-            
-            normalizedEmotions.set(normalizedEmotions.size() - 1, EmotionScoreResponse.builder()
-                    .id(lastEmotion.getId())
-                    .emotionType(lastEmotion.getEmotionType())
-                    .percentage(lastEmotion.getPercentage() + adjustment)
-                    .step(lastEmotion.getStep())
-                    .build());
+            if (!allowed.contains(name)) {
+                throw new IllegalArgumentException("지원하지 않는 필드입니다: " + name + " (허용: " + String.join(",", allowed) + ")");
+            }
+            selected.add(name);
         }
-        
-        return normalizedEmotions;
+        return selected;
     }
 }
@@ -0,0 +1,155 @@
+package com.melog.melog.emotion.application.service;
+
+import com.melog.melog.emotion.domain.EmotionRecord;
+import com.melog.melog.emotion.domain.EmotionScore;
+import com.melog.melog.emotion.domain.UserSelectedEmotion;
+import com.melog.melog.emotion.domain.model.response.EmotionRecordResponse;
+import com.melog.melog.emotion.domain.model.response.EmotionScoreResponse;
+import com.melog.melog.emotion.domain.model.response.UserSelectedEmotionResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 감정 기록 응답 조립기
+ *
+ * 감정 기록, 감정 점수, 사용자 선택 감정 엔티티로 EmotionRecordResponse를 생성합니다.
+ * 생성/수정 서비스는 방금 저장한 엔티티로 바로 응답을 만들어 같은 요청 안에서의 재조회를 생략하고,
+ * 조회 서비스는 DB에서 읽은 엔티티로 같은 응답을 만듭니다.
+ */
+@Slf4j
+@Component
+public class EmotionRecordResponseAssembler {
+
+    /**
+     * 감정 기록 응답을 생성합니다.
+     *
+     * @param record 감정 기록
+     * @param scores 감정 기록의 감정 점수 목록 (상위 3개만 정규화하여 포함)
+     * @param selectedEmotion 사용자 선택 감정 (없으면 null)
+     */
+    public EmotionRecordResponse assemble(EmotionRecord record, List<EmotionScore> scores, UserSelectedEmotion selectedEmotion) {
+        // 감정 점수 목록 (상위 3개만 반환)
+        // 주의: id는 DB의 실제 EmotionScore ID를 유지 (월별 통계, 감정 점수 추적 등에서 필요)
+        List<EmotionScoreResponse> emotionScoreResponses = scores.stream()
+                .map(score -> EmotionScoreResponse.builder()
+                        .id(score.getId()) // DB ID 유지 (월별 통계 등에서 필요)
+                        .emotionType(score.getEmotionType())
+                        .percentage(score.getPercentage())
+                        .step(score.getStep())
+                        .build())
+                .collect(Collectors.toList());
+        
+        log.info("감정 기록 응답 생성 - recordId: {}, 감정 점수 개수: {}", record.getId(), emotionScoreResponses.size());
+        
+        // 상위 3개 감정을 선택하고 백분율을 정규화
+        List<EmotionScoreResponse> normalizedEmotions = normalizeTop3Emotions(emotionScoreResponses);
+        
+        log.info("정규화된 감정 개수: {}, 코멘트 존재 여부: {}", 
+                normalizedEmotions.size(), 
+                record.getEmotionComment() != null ? "있음" : "없음");
+
+        // 사용자 선택 감정
+        UserSelectedEmotionResponse userSelectedEmotionResponse = selectedEmotion != null
+                ? UserSelectedEmotionResponse.builder()
+                        .id(selectedEmotion.getId())
+                        .emotionType(selectedEmotion.getEmotionType())
+                        .percentage(selectedEmotion.getPercentage())
+                        .step(selectedEmotion.getStep())
+                        .build()
+                : null;
+
+        return EmotionRecordResponse.builder()
+                .id(record.getId())
+                .text(record.getText())
+                .summary(record.getSummary())
+                .comment(record.getEmotionComment() != null ? record.getEmotionComment().getComment() : null)
+                .date(record.getDate())
+                .createdAt(record.getCreatedAt())
+                .emotions(normalizedEmotions)
+                .userSelectedEmotion(userSelectedEmotionResponse)
+                .audioFilePath(record.getAudioFilePath())
+                .hasAudioFile(record.getAudioFilePath() != null && !record.getAudioFilePath().isEmpty())
+                .build();
+    }
+
+    /**
+     * 상위 3개 감정의 백분율을 정규화하여 총합이 100%가 되도록 합니다.
+     */
+    public List<EmotionScoreResponse> normalizeTop3Emotions(List<EmotionScoreResponse> emotions) {
+        if (emotions == null || emotions.isEmpty()) {
+            log.warn("감정 점수 목록이 비어있음");
+            return emotions;
+        }
+        
+        log.info("감정 정규화 시작 - 총 감정 개수: {}", emotions.size());
+        
+        // 상위 3개만 선택하고 퍼센트 내림차순 정렬
+        List<EmotionScoreResponse> top3Emotions = emotions.stream()
+                .sorted((a, b) -> Integer.compare(b.getPercentage(), a.getPercentage()))
+                .limit(3)
+                .collect(Collectors.toList());
+        
+        log.info("상위 3개 감정 선택 완료 - 선택된 감정 개수: {}", top3Emotions.size());
+        
+        if (top3Emotions.size() < 3) {
+            log.info("3개 미만 감정만 존재 - 정규화 없이 반환");
+            return top3Emotions; // 3개 미만이면 그대로 반환
+        }
+        
+        // 상위 3개 감정의 총 퍼센트 계산
+        int totalPercentage = top3Emotions.stream()
+                .mapToInt(EmotionScoreResponse::getPercentage)
+                .sum();
+        
+        // 각 감정의 비율을 계산하여 새로운 퍼센트 할당
+        List<EmotionScoreResponse> normalizedEmotions = new ArrayList<>();
+        for (int i = 0; i < top3Emotions.size(); i++) {
+            EmotionScoreResponse original = top3Emotions.get(i);
+            
+            // 마지막 감정은 남은 퍼센트를 모두 할당 (반올림 오차 방지)
+            int newPercentage;
+            if (i == top3Emotions.size() - 1) {
+                newPercentage = 100 - normalizedEmotions.stream()
+                        .mapToInt(EmotionScoreResponse::getPercentage)
+                        .sum();
+            } else {
+                // 비율에 따라 새로운 퍼센트 계산
+                double ratio = (double) original.getPercentage() / totalPercentage;
+                newPercentage = (int) Math.round(ratio * 100);
+            }
+            
+            // 퍼센트가 0 이하가 되지 않도록 보정
+            newPercentage = Math.max(1, newPercentage);
+            
+            normalizedEmotions.add(EmotionScoreResponse.builder()
+                    .id(original.getId())
+                    .emotionType(original.getEmotionType())
+                    .percentage(newPercentage)
+                    .step(original.getStep())
+                    .build());
+        }
+        
+        // 총합이 100%가 되도록 마지막 감정 조정
+        int finalTotal = normalizedEmotions.stream()
+                .mapToInt(EmotionScoreResponse::getPercentage)
+                .sum();
+        
+        if (finalTotal != 100) {
+            EmotionScoreResponse lastEmotion = normalizedEmotions.get(normalizedEmotions.size() - 1);
+            int adjustment = 100 - finalTotal;
+            
+            normalizedEmotions.set(normalizedEmotions.size() - 1, EmotionScoreResponse.builder()
+                    .id(lastEmotion.getId())
+                    .emotionType(lastEmotion.getEmotionType())
+                    .percentage(lastEmotion.getPercentage() + adjustment)
+                    .step(lastEmotion.getStep())
+                    .build());
+        }
+        
+        return normalizedEmotions;
+    }
+}
@@ -5,14 +5,26 @@ import com.melog.melog.emotion.domain.model.request.*;
 import com.melog.melog.emotion.domain.model.response.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import com.melog.melog.clova.application.port.in.EmotionAnalysisUseCase;
 import com.melog.melog.clova.application.port.in.SpeechToTextUseCase;
+import com.melog.melog.clova.domain.model.request.EmotionAnalysisRequest;
+import com.melog.melog.clova.domain.model.response.EmotionAnalysisResponse;
+import com.melog.melog.common.audio.AudioIngestBuffer;
+import com.melog.melog.common.exception.UploadOffsetMismatchException;
+import com.melog.melog.common.service.ResumableUploadService;
+import com.melog.melog.common.service.ResumableUploadService.ResumableUpload;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -25,12 +37,32 @@ public class EmotionRecordService implements EmotionRecordUseCase {
     private final EmotionRecordManagementService emotionRecordManagementService;
     private final EmotionInsightService emotionInsightService;
     private final SpeechToTextUseCase speechToTextUseCase;
+    private final EmotionAnalysisUseCase emotionAnalysisUseCase;
+    private final ThreadPoolTaskExecutor audioUploadTaskExecutor;
+    private final ResumableUploadService resumableUploadService;
 
     @Override
     @Transactional
     public EmotionRecordResponse createEmotionRecord(String nickname, EmotionRecordCreateRequest request) {
-        var savedRecord = emotionRecordCreationService.createEmotionRecordFromText(nickname, request);
-        return emotionRecordQueryService.getEmotionRecord(nickname, savedRecord.getId());
+        return emotionRecordCreationService.createEmotionRecordFromText(nickname, request);
+    }
+
+    /**
+     * 스트리밍 분석 중에는 DB 커넥션을 점유하지 않도록 트랜잭션 없이 진행하고,
+     * 분석이 끝난 뒤 생성 서비스의 트랜잭션에서 한 번에 저장합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EmotionRecordResponse createEmotionRecordStreaming(String nickname, EmotionRecordCreateRequest request, Consumer<String> onSummaryToken) {
+        LocalDate today = LocalDate.now();
+        emotionRecordCreationService.validateNewTextRecord(nickname, today);
+
+        EmotionAnalysisResponse analysis = emotionAnalysisUseCase.analyzeEmotionStreaming(EmotionAnalysisRequest.builder()
+                .text(request.getText())
+                .prompt("감정 요약과 감정 점수 분석")
+                .build(), onSummaryToken);
+
+        return emotionRecordCreationService.createEmotionRecordFromTextWithAnalysis(nickname, request, today, analysis);
     }
 
     /**
@@ -38,66 +70,207 @@ public class EmotionRecordService implements EmotionRecordUseCase {
      */
     @Transactional
     public EmotionRecordResponse createEmotionRecordWithDate(String nickname, EmotionRecordCreateRequest request, LocalDate targetDate) {
-        var savedRecord = emotionRecordCreationService.createEmotionRecordFromTextWithDate(nickname, request, targetDate);
-        return emotionRecordQueryService.getEmotionRecord(nickname, savedRecord.getId());
+        return emotionRecordCreationService.createEmotionRecordFromTextWithDate(nickname, request, targetDate);
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EmotionRecordResponse createEmotionRecordWithAudio(String nickname, MultipartFile audioFile, String userSelectedEmotionJson) {
         try {
-            // 🔍 STT 데이터 흐름 추적 시작
-            log.info("[EMOTION SERVICE] ===== STT 데이터 흐름 추적 시작 =====");
-            log.info("[EMOTION SERVICE] 1. STT 호출 전 - audioFile: {}, size: {} bytes", 
-                    audioFile.getOriginalFilename(), audioFile.getSize());
-            
-            // STT를 통해 음성을 텍스트로 변환
-            String text = speechToTextUseCase.recognizeToText(audioFile, "ko-KR");
-            
-            // 🔍 STT 결과 상세 분석
-            log.info("[EMOTION SERVICE] 2. STT 호출 완료");
-            log.info("[EMOTION SERVICE] 3. 반환된 text 객체: '{}'", text);
-            log.info("[EMOTION SERVICE] 4. text 객체 타입: {}", text != null ? text.getClass().getSimpleName() : "NULL");
-            log.info("[EMOTION SERVICE] 5. text가 null인가? {}", text == null);
-            log.info("[EMOTION SERVICE] 6. text 길이: {}", text != null ? text.length() : "N/A");
-            log.info("[EMOTION SERVICE] 7. text가 빈 문자열인가? {}", text != null ? text.isEmpty() : "N/A");
-            log.info("[EMOTION SERVICE] 8. text가 공백만 있는가? {}", text != null ? text.trim().isEmpty() : "N/A");
-            
-            // 🔍 STT 결과 유효성 검증
-            if (text == null || text.trim().isEmpty()) {
-                log.error("[EMOTION SERVICE] STT 변환 실패: text가 null이거나 빈 문자열입니다. text='{}'", text);
-                throw new RuntimeException("음성을 텍스트로 변환할 수 없습니다. 다시 녹음해주세요.");
-            }
+            // 업로드/STT를 시작하기 전에 파일과 날짜 중복을 먼저 확인
+            LocalDate today = LocalDate.now();
+            emotionRecordCreationService.validateAudioFile(audioFile);
+            emotionRecordCreationService.validateNewTextRecord(nickname, today);
+
+            // STT와 S3 업로드가 같은 버퍼를 공유
+            return createEmotionRecordWithAudio(nickname, AudioIngestBuffer.of(audioFile), userSelectedEmotionJson, today);
             
-            // 텍스트 길이 검증 (너무 짧은 경우)
-            if (text.trim().length() < 3) {
-                log.error("[EMOTION SERVICE] STT 변환 결과가 너무 짧습니다: text='{}', length={}", text, text.trim().length());
-                throw new RuntimeException("음성 인식 결과가 너무 짧습니다. 더 명확하게 말씀해주세요.");
+        } catch (Exception e) {
+            log.error("음성 파일 처리 중 오류 발생: {}", e.getMessage(), e);
+            throw new RuntimeException("음성 파일 처리에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 음성 파일을 수집 버퍼에 한 번만 읽어 S3 업로드(audioUploadTaskExecutor)와 STT(현재 스레드)를 동시에 진행하고,
+     * 텍스트가 나오는 즉시 감정 분석을 시작합니다. 기록 저장은 업로드와 분석이 모두 끝난 뒤
+     * 생성 서비스의 트랜잭션에서 한 번에 진행하며, 중간에 실패하면 업로드된 음성 파일을 삭제합니다.
+     * 수집 버퍼는 업로드가 끝난 뒤 해제합니다.
+     */
+    private EmotionRecordResponse createEmotionRecordWithAudio(String nickname, AudioIngestBuffer audio,
+                                                               String userSelectedEmotionJson, LocalDate today) {
+        try {
+            // 헤더만 읽어 길이를 계산하고, 최대 길이를 넘으면 업로드/STT 전에 거절
+            speechToTextUseCase.probe(audio);
+        } catch (RuntimeException e) {
+            audio.close();
+            throw e;
+        }
+
+        CompletableFuture<String> audioUpload = CompletableFuture.supplyAsync(
+                () -> emotionRecordCreationService.saveAudioFile(audio, nickname), audioUploadTaskExecutor);
+        try {
+            return createEmotionRecordFromAudio(nickname, audio, audioUpload, userSelectedEmotionJson, today);
+        } catch (RuntimeException e) {
+            // 보상 처리: 업로드가 끝나는 대로 저장된 음성 파일 삭제
+            audioUpload.thenAccept(emotionRecordCreationService::discardAudioFile);
+            throw e;
+        } finally {
+            audioUpload.whenComplete((audioFilePath, error) -> audio.close());
+        }
+    }
+
+    /**
+     * 오늘 기록이 없는지 먼저 확인한 뒤 presigned PUT URL을 발급합니다.
+     * 음성 파일 본문은 클라이언트가 오브젝트 스토리지로 직접 올리므로 요청 스레드와 힙을 점유하지 않습니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AudioUploadInitResponse initiateAudioUpload(String nickname, AudioUploadInitRequest request) {
+        emotionRecordCreationService.validateNewTextRecord(nickname, LocalDate.now());
+        return emotionRecordCreationService.createAudioUpload(nickname, request);
+    }
+
+    /**
+     * 직접 업로드된 음성 파일을 서버에서 한 번 읽어 STT와 감정 분석을 진행합니다.
+     * 업로드는 이미 끝났으므로 퍼블릭 읽기 전환(audioUploadTaskExecutor)만 STT와 동시에 진행합니다.
+     * 실패하더라도 같은 업로드 키로 완료를 다시 요청할 수 있도록 업로드된 파일은 삭제하지 않습니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EmotionRecordResponse completeAudioUpload(String nickname, AudioUploadCompleteRequest request) {
+        try {
+            LocalDate today = LocalDate.now();
+            emotionRecordCreationService.validateNewTextRecord(nickname, today);
+
+            try (AudioIngestBuffer audio = emotionRecordCreationService.readUploadedAudioFile(nickname, request.getUploadKey())) {
+                speechToTextUseCase.probe(audio);
+
+                CompletableFuture<String> audioUpload = CompletableFuture.supplyAsync(
+                        () -> emotionRecordCreationService.publishUploadedAudioFile(request.getUploadKey()), audioUploadTaskExecutor);
+                return createEmotionRecordFromAudio(nickname, audio, audioUpload, request.getUserSelectedEmotion(), today);
             }
-            
-            log.info("[EMOTION SERVICE] STT 결과 유효성 검증 통과: text='{}', length={}", text, text.trim().length());
-            
-            // 기존 로그 유지
-            log.info("STT 변환 결과: {}", text);
-            
-            // 🔍 감정 기록 생성으로 전달
-            log.info("[EMOTION SERVICE] 9. 감정 기록 생성 서비스 호출 시작");
-            log.info("[EMOTION SERVICE] 10. 전달할 text: '{}'", text);
-            
-            // 음성 파일 기반 감정 기록 생성
-            var savedRecord = emotionRecordCreationService.createEmotionRecordFromAudio(nickname, text, userSelectedEmotionJson, audioFile);
-            
-            log.info("[EMOTION SERVICE] 11. 감정 기록 생성 완료 - ID: {}", savedRecord.getId());
-            log.info("[EMOTION SERVICE] ===== STT 데이터 흐름 추적 완료 =====");
-            
-            return emotionRecordQueryService.getEmotionRecord(nickname, savedRecord.getId());
+
+        } catch (Exception e) {
+            log.error("직접 업로드된 음성 파일 처리 중 오류 발생: {}", e.getMessage(), e);
+            throw new RuntimeException("음성 파일 처리에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 이어 올리기 업로드를 생성합니다. 오늘 기록이 없는지, 파일명/크기가 올바른지 먼저 확인합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResumableUploadResponse createResumableUpload(String nickname, AudioUploadInitRequest request) {
+        if (request == null || request.getFileName() == null || request.getFileName().isBlank()) {
+            throw new IllegalArgumentException("업로드할 음성 파일명은 필수입니다.");
+        }
+        long fileSize = request.getFileSize() != null ? request.getFileSize() : 0;
+        emotionRecordCreationService.validateAudioFile(request.getFileName(), fileSize);
+        emotionRecordCreationService.validateNewTextRecord(nickname, LocalDate.now());
+
+        String contentType = request.getContentType() != null && !request.getContentType().isBlank()
+                ? request.getContentType() : "application/octet-stream";
+        return ResumableUploadResponse.from(resumableUploadService.create(nickname, request.getFileName(), contentType, fileSize));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResumableUploadResponse getResumableUpload(String nickname, String uploadId) {
+        return ResumableUploadResponse.from(resumableUploadService.get(nickname, uploadId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResumableUploadResponse appendResumableUpload(String nickname, String uploadId, long offset, InputStream chunk) {
+        return ResumableUploadResponse.from(resumableUploadService.append(nickname, uploadId, offset, chunk));
+    }
+
+    /**
+     * 모든 청크를 받은 스테이징 파일을 복사 없이 매핑하여 음성 파일 업로드와 같은 흐름(S3 업로드 + STT + 감정 분석)으로 기록을 생성합니다.
+     * 10MB를 넘는 파일은 S3 멀티파트 업로드로 전송됩니다.
+     * 스테이징 파일은 기록 생성이 끝난 뒤 삭제하며, 실패하면 남겨 두어 완료를 다시 요청할 수 있습니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EmotionRecordResponse completeResumableUpload(String nickname, String uploadId, String userSelectedEmotionJson) {
+        ResumableUpload upload = resumableUploadService.get(nickname, uploadId);
+        if (!upload.isComplete()) {
+            throw new UploadOffsetMismatchException(uploadId, upload.getOffset());
+        }
+
+        try {
+            LocalDate today = LocalDate.now();
+            emotionRecordCreationService.validateAudioFile(upload.getFileName(), upload.getTotalSize());
+            emotionRecordCreationService.validateNewTextRecord(nickname, today);
+
+            AudioIngestBuffer audio = AudioIngestBuffer.open(upload.getFile(), upload.getFileName(), upload.getContentType());
+            EmotionRecordResponse response = createEmotionRecordWithAudio(nickname, audio, userSelectedEmotionJson, today);
+            resumableUploadService.delete(uploadId);
+            return response;
             
         } catch (Exception e) {
-            log.error("음성 파일 처리 중 오류 발생: {}", e.getMessage(), e);
+            log.error("이어 올리기 음성 파일 처리 중 오류 발생: uploadId={}, error={}", uploadId, e.getMessage(), e);
             throw new RuntimeException("음성 파일 처리에 실패했습니다: " + e.getMessage(), e);
         }
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void abortResumableUpload(String nickname, String uploadId) {
+        resumableUploadService.get(nickname, uploadId);
+        resumableUploadService.delete(uploadId);
+        log.info("이어 올리기 업로드 취소: nickname={}, uploadId={}", nickname, uploadId);
+    }
+
+    private EmotionRecordResponse createEmotionRecordFromAudio(String nickname, AudioIngestBuffer audio, CompletableFuture<String> audioUpload,
+                                                              String userSelectedEmotionJson, LocalDate today) {
+        // 🔍 STT 데이터 흐름 추적 시작
+        log.info("[EMOTION SERVICE] ===== STT 데이터 흐름 추적 시작 =====");
+        log.info("[EMOTION SERVICE] 1. STT 호출 전 - audioFile: {}, size: {} bytes", 
+                audio.getOriginalFilename(), audio.size());
+        
+        // STT를 통해 음성을 텍스트로 변환
+        String text = speechToTextUseCase.recognizeToText(audio, "ko-KR");
+        
+        // 🔍 STT 결과 상세 분석
+        log.info("[EMOTION SERVICE] 2. STT 호출 완료");
+        log.info("[EMOTION SERVICE] 3. 반환된 text 객체: '{}'", text);
+        log.info("[EMOTION SERVICE] 4. text 길이: {}", text != null ? text.length() : "N/A");
+        
+        // 🔍 STT 결과 유효성 검증
+        if (text == null || text.trim().isEmpty()) {
+            log.error("[EMOTION SERVICE] STT 변환 실패: text가 null이거나 빈 문자열입니다. text='{}'", text);
+            throw new RuntimeException("음성을 텍스트로 변환할 수 없습니다. 다시 녹음해주세요.");
+        }
+        
+        // 텍스트 길이 검증 (너무 짧은 경우)
+        if (text.trim().length() < 3) {
+            log.error("[EMOTION SERVICE] STT 변환 결과가 너무 짧습니다: text='{}', length={}", text, text.trim().length());
+            throw new RuntimeException("음성 인식 결과가 너무 짧습니다. 더 명확하게 말씀해주세요.");
+        }
+        
+        log.info("[EMOTION SERVICE] STT 결과 유효성 검증 통과: text='{}', length={}", text, text.trim().length());
+        
+        // 업로드 완료를 기다리지 않고 바로 감정 분석 시작
+        EmotionAnalysisResponse analysis = emotionAnalysisUseCase.analyzeEmotion(EmotionAnalysisRequest.builder()
+                .text(text)
+                .prompt("감정 요약과 감정 점수 분석")
+                .build());
+        log.info("[EMOTION SERVICE] 5. 감정 분석 완료");
+
+        // 기록 저장은 업로드와 분석이 모두 끝난 뒤 진행
+        String audioFilePath = audioUpload.join();
+        EmotionRecordResponse response = emotionRecordCreationService.createEmotionRecordFromAudioWithAnalysis(
+                nickname, text, userSelectedEmotionJson, audio, audioFilePath, today, analysis);
+        
+        log.info("[EMOTION SERVICE] 6. 감정 기록 생성 완료 - ID: {}", response.getId());
+        log.info("[EMOTION SERVICE] ===== STT 데이터 흐름 추적 완료 =====");
+        
+        return response;
+    }
+
     @Override
     @Transactional
     public EmotionRecordResponse updateEmotionSelection(String nickname, Long recordId, EmotionRecordSelectRequest request) {
@@ -122,8 +295,8 @@ public class EmotionRecordService implements EmotionRecordUseCase {
     }
 
     @Override
-    public List<EmotionCalendarResponse> getEmotionCalendar(String nickname, YearMonth month) {
-        return emotionRecordQueryService.getEmotionCalendar(nickname, month);
+    public List<EmotionCalendarResponse> getEmotionCalendar(String nickname, YearMonth month, String fields) {
+        return emotionRecordQueryService.getEmotionCalendar(nickname, month, fields);
     }
 
     @Override
@@ -132,12 +305,24 @@ public class EmotionRecordService implements EmotionRecordUseCase {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EmotionInsightResponse getEmotionInsight(String nickname, YearMonth month) {
         return emotionInsightService.getEmotionInsight(nickname, month);
     }
 
     @Override
-    public EmotionListResponse getEmotionList(String nickname, int page, int size) {
-        return emotionRecordQueryService.getEmotionList(nickname, page, size);
+    public EmotionListResponse getEmotionList(String nickname, int page, int size, String fields) {
+        return emotionRecordQueryService.getEmotionList(nickname, page, size, fields);
+    }
+
+    @Override
+    public EmotionCursorListResponse getEmotionListByCursor(String nickname, String before, int size) {
+        return emotionRecordQueryService.getEmotionListByCursor(nickname, before, size);
+    }
+
+    @Override
+    public EmotionKeywordTrendResponse getKeywordTrend(String nickname, String period, String date,
+                                                       String startDate, String endDate, int limit) {
+        return emotionRecordQueryService.getKeywordTrend(nickname, period, date, startDate, endDate, limit);
     }
 }
\ No newline at end of file
@@ -0,0 +1,230 @@
+package com.melog.melog.emotion.application.service;
+
+import com.melog.melog.emotion.application.port.out.EmotionKeywordPersistencePort;
+import com.melog.melog.emotion.application.port.out.EmotionRecordPersistencePort;
+import com.melog.melog.emotion.application.port.out.EmotionScorePersistencePort;
+import com.melog.melog.emotion.domain.EmotionDistribution;
+import com.melog.melog.emotion.domain.EmotionType;
+import com.melog.melog.emotion.domain.model.projection.UserEmotionScoreTotalView;
+import com.melog.melog.emotion.domain.model.projection.UserKeywordWeightTotalView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 월별 감정 인사이트 일괄 생성 서비스
+ *
+ * 월이 바뀌는 시점에 인사이트 화면 조회가 몰리면 조회마다 Clova Studio를 동기 호출하게 되므로,
+ * 사용량이 적은 시간대에 지난달/이번 달 기록이 있는 사용자의 인사이트를 미리 생성해 둡니다.
+ *
+ * 감정 분포와 키워드는 사용자 묶음 단위로 집계 쿼리 한 번씩으로 계산하고,
+ * Clova Studio 호출은 분당 최대 호출 수를 넘지 않도록 간격을 두고 실행합니다.
+ * 입력 지문이 같은 인사이트는 건너뛰므로 매일 실행해도 변경된 사용자만 재생성됩니다.
+ *
+ * 스케줄러 스레드는 다른 @Scheduled 작업과 공유하므로 작업 시작만 하고 바로 반환합니다.
+ * 사용자별 생성은 insightTaskExecutor에서 순서대로 실행하며, 호출 간격은 스레드를 재우지 않고
+ * TaskScheduler로 다음 단계를 예약하여 맞춥니다.
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyInsightPrecomputeService {
+
+    private static final int USER_BATCH_SIZE = 100;
+
+    private final EmotionRecordPersistencePort emotionRecordPersistencePort;
+    private final EmotionScorePersistencePort emotionScorePersistencePort;
+    private final EmotionKeywordPersistencePort emotionKeywordPersistencePort;
+    private final EmotionInsightService emotionInsightService;
+    private final ThreadPoolTaskExecutor insightTaskExecutor;
+    private final TaskScheduler taskScheduler;
+
+    /**
+     * 일괄 생성 진행 여부 (이전 실행이 끝나지 않았으면 새로 시작하지 않음)
+     */
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${MONTHLY_INSIGHT_PRECOMPUTE_ENABLED:false}")
+    private boolean enabled;
+
+    @Value("${MONTHLY_INSIGHT_PRECOMPUTE_RATE_PER_MINUTE:30}")
+    private int ratePerMinute;
+
+    /**
+     * 지난달과 이번 달 인사이트 일괄 생성 (기본: 매일 새벽 4시)
+     */
+    @Scheduled(cron = "${MONTHLY_INSIGHT_PRECOMPUTE_CRON:0 0 4 * * *}")
+    public void precomputeMonthlyInsights() {
+        if (!enabled) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.info("이전 월별 인사이트 일괄 생성이 진행 중이어서 건너뜁니다.");
+            return;
+        }
+
+        YearMonth currentMonth = YearMonth.now();
+        new PrecomputeRun(List.of(currentMonth.minusMonths(1), currentMonth)).submit();
+    }
+
+    /**
+     * 한 번의 일괄 생성 진행 상태
+     * 월별로 기록이 있는 사용자를 묶음 단위로 불러와 한 명씩 처리합니다.
+     */
+    private class PrecomputeRun {
+
+        private final Deque<YearMonth> months;
+        private final long intervalMs = 60_000L / Math.max(1, ratePerMinute);
+
+        private YearMonth month;
+        private long afterUserId;
+        private List<Long> userIds = List.of();
+        private int index;
+        private Map<Long, Map<EmotionType, Double>> scoreTotals = Map.of();
+        private Map<Long, Map<String, Integer>> keywordWeights = Map.of();
+        private int userCount;
+        private int generatedCount;
+
+        PrecomputeRun(List<YearMonth> months) {
+            this.months = new ArrayDeque<>(months);
+        }
+
+        /**
+         * 다음 단계를 insightTaskExecutor에 제출합니다. 스레드 풀이 포화 상태면 호출 간격 후 다시 시도합니다.
+         */
+        void submit() {
+            try {
+                insightTaskExecutor.execute(this::step);
+            } catch (TaskRejectedException e) {
+                log.warn("월별 인사이트 일괄 생성 작업이 거절되어 {}ms 후 다시 시도합니다.", intervalMs);
+                scheduleNext();
+            } catch (Exception e) {
+                abort(e);
+            }
+        }
+
+        /**
+         * 호출 간격 후 다음 단계를 예약합니다.
+         * 예약에 실패하면 다음 실행이 시작될 수 있도록 진행 상태를 해제하고 중단합니다.
+         */
+        private void scheduleNext() {
+            try {
+                taskScheduler.schedule(this::submit, Instant.now().plusMillis(intervalMs));
+            } catch (Exception e) {
+                abort(e);
+            }
+        }
+
+        private void abort(Exception e) {
+            running.set(false);
+            log.error("월별 인사이트 일괄 생성 중단: month={}, error={}", month, e.getMessage(), e);
+        }
+
+        /**
+         * Clova Studio를 호출할 때까지 사용자를 처리합니다.
+         * 호출했으면 호출 간격 후 다음 단계를 예약하고, 모든 사용자를 처리했으면 종료합니다.
+         */
+        private void step() {
+            try {
+                Long userId;
+                while ((userId = nextUserId()) != null) {
+                    if (precomputeUser(userId)) {
+                        generatedCount++;
+                        scheduleNext();
+                        return;
+                    }
+                }
+                running.set(false);
+            } catch (Exception e) {
+                abort(e);
+            }
+        }
+
+        /**
+         * 다음 사용자 ID를 반환합니다. 현재 묶음을 모두 처리하면 다음 묶음을, 해당 월을 모두 처리하면 다음 월을 불러옵니다.
+         *
+         * @return 모든 월의 사용자를 처리했으면 null
+         */
+        private Long nextUserId() {
+            while (true) {
+                if (index < userIds.size()) {
+                    userCount++;
+                    return userIds.get(index++);
+                }
+                if (month != null) {
+                    loadNextBatch();
+                    if (!userIds.isEmpty()) {
+                        continue;
+                    }
+                    log.info("월별 인사이트 일괄 생성 완료: month={}, users={}, generated={}", month, userCount, generatedCount);
+                }
+                month = months.poll();
+                if (month == null) {
+                    return null;
+                }
+                afterUserId = 0L;
+                userCount = 0;
+                generatedCount = 0;
+            }
+        }
+
+        /**
+         * 해당 월에 기록이 있는 다음 사용자 묶음과 사용자별 감정 점수/키워드 합계를 조회합니다.
+         */
+        private void loadNextBatch() {
+            LocalDate startDate = month.atDay(1);
+            LocalDate endDate = month.atEndOfMonth();
+
+            userIds = emotionRecordPersistencePort.findUserIdsWithRecordsBetween(startDate, endDate, afterUserId, USER_BATCH_SIZE);
+            index = 0;
+            if (userIds.isEmpty()) {
+                return;
+            }
+            afterUserId = userIds.get(userIds.size() - 1);
+
+            scoreTotals = new HashMap<>();
+            for (UserEmotionScoreTotalView total : emotionScorePersistencePort.sumPercentageByUserIdInAndDateBetween(userIds, startDate, endDate)) {
+                scoreTotals.computeIfAbsent(total.getUserId(), id -> new EnumMap<>(EmotionType.class))
+                        .put(total.getEmotionType(), total.getTotalPercentage().doubleValue());
+            }
+            keywordWeights = new HashMap<>();
+            for (UserKeywordWeightTotalView total : emotionKeywordPersistencePort.sumWeightByUserIdInAndDateBetween(userIds, startDate, endDate)) {
+                keywordWeights.computeIfAbsent(total.getUserId(), id -> new HashMap<>())
+                        .put(total.getKeyword(), total.getTotalWeight().intValue());
+            }
+        }
+
+        /**
+         * @return Clova Studio를 호출했으면 true
+         */
+        private boolean precomputeUser(Long userId) {
+            try {
+                return emotionInsightService.precomputeInsight(userId, month,
+                        EmotionDistribution.toPercentages(scoreTotals.getOrDefault(userId, Map.of())),
+                        EmotionInsightService.toTopKeywords(keywordWeights.getOrDefault(userId, Map.of())));
+            } catch (Exception e) {
+                log.warn("월별 인사이트 일괄 생성 실패: userId={}, month={}, error={}", userId, month, e.getMessage());
+                return false;
+            }
+        }
+    }
+}
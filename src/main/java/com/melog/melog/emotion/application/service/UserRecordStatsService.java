@@ -0,0 +1,78 @@
+package com.melog.melog.emotion.application.service;
+
+import com.melog.melog.emotion.application.port.out.EmotionRecordPersistencePort;
+import com.melog.melog.emotion.application.port.out.EmotionScorePersistencePort;
+import com.melog.melog.emotion.domain.EmotionRecord;
+import com.melog.melog.emotion.domain.EmotionScore;
+import com.melog.melog.user.application.port.out.UserPersistencePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 사용자 프로필 집계 컬럼(감정 기록 수, 음성 파일 수, 가장 최근 기록과 대표 감정) 갱신 서비스
+ *
+ * 감정 기록 생성/삭제/감정 수정 시 호출되어 users 테이블의 집계 컬럼을 원자적 UPDATE로 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UserRecordStatsService {
+
+    private final UserPersistencePort userPersistencePort;
+    private final EmotionRecordPersistencePort emotionRecordPersistencePort;
+    private final EmotionScorePersistencePort emotionScorePersistencePort;
+
+    /**
+     * 감정 기록이 생성되면 기록 수를 증가시키고 가장 최근 기록으로 설정합니다.
+     * 대표 감정은 감정 분석 후 onPrimaryEmotionChanged에서 설정됩니다.
+     */
+    public void onRecordCreated(EmotionRecord record) {
+        Long userId = record.getUser().getId();
+        userPersistencePort.adjustRecordCounts(userId, 1, hasAudio(record) ? 1 : 0);
+        userPersistencePort.updateLastRecord(userId, record.getId(), null, null);
+    }
+
+    /**
+     * 감정 기록의 대표 감정이 바뀌면, 해당 기록이 가장 최근 기록인 경우 사용자 대표 감정을 갱신합니다.
+     */
+    public void onPrimaryEmotionChanged(EmotionRecord record, EmotionScore primaryEmotion) {
+        userPersistencePort.updateLastRecordIfCurrent(record.getUser().getId(), record.getId(), record.getId(),
+                primaryEmotion != null ? primaryEmotion.getEmotionType() : null,
+                primaryEmotion != null ? primaryEmotion.getStep() : null);
+    }
+
+    /**
+     * 감정 기록이 삭제되면 기록 수를 감소시키고, 삭제된 기록이 가장 최근 기록이었다면
+     * 남은 기록 중 가장 최근 기록과 그 대표 감정으로 교체합니다.
+     */
+    public void onRecordDeleted(EmotionRecord record) {
+        Long userId = record.getUser().getId();
+        userPersistencePort.adjustRecordCounts(userId, -1, hasAudio(record) ? -1 : 0);
+
+        List<EmotionRecord> latest = emotionRecordPersistencePort.findByUserBefore(record.getUser(), null, null, 1);
+        if (latest.isEmpty()) {
+            userPersistencePort.updateLastRecordIfCurrent(userId, record.getId(), null, null, null);
+            return;
+        }
+
+        EmotionRecord latestRecord = latest.get(0);
+        EmotionScore primaryEmotion = emotionScorePersistencePort.findByRecord(latestRecord).stream()
+                .max(Comparator.comparing(EmotionScore::getPercentage))
+                .orElse(null);
+        userPersistencePort.updateLastRecordIfCurrent(userId, record.getId(), latestRecord.getId(),
+                primaryEmotion != null ? primaryEmotion.getEmotionType() : null,
+                primaryEmotion != null ? primaryEmotion.getStep() : null);
+        log.debug("가장 최근 감정 기록 교체: userId={}, deletedRecordId={}, latestRecordId={}",
+                userId, record.getId(), latestRecord.getId());
+    }
+
+    private static boolean hasAudio(EmotionRecord record) {
+        return record.getAudioFilePath() != null;
+    }
+}
@@ -0,0 +1,107 @@
+package com.melog.melog.emotion.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감정 분석 결과 캐시 엔티티
+ * 
+ * 동일한 일기 텍스트에 대한 Clova Studio 감정 분석 결과를 저장하여
+ * 재시도, 중복 제출, 텍스트 재분석 시 LLM 호출을 생략하기 위한 목적으로 사용됩니다.
+ * 
+ * 캐시 키는 다음 요소들의 조합을 SHA-256으로 해시하여 생성됩니다:
+ * - 정규화된 텍스트 (공백 정리)
+ * - 프롬프트 버전 (CLOVA_STUDIO_PROMPT_VERSION)
+ * - 모델명 (CLOVA_STUDIO_MODEL)
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+@Entity
+@Table(name = "emotion_analysis_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class EmotionAnalysisCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 캐시 키
+     * 정규화 텍스트, 프롬프트 버전, 모델명의 SHA-256 해시 (64자리)
+     */
+    @Column(name = "cache_key", nullable = false, unique = true, length = 64)
+    private String cacheKey;
+
+    /**
+     * 프롬프트 버전
+     * 프롬프트 변경 시 이전 버전의 캐시를 일괄 무효화하는 데 사용
+     */
+    @Column(name = "prompt_version", nullable = false, length = 50)
+    private String promptVersion;
+
+    /**
+     * 분석에 사용된 모델명
+     */
+    @Column(name = "model", nullable = false, length = 50)
+    private String model;
+
+    /**
+     * 분석 결과
+     * 정규화가 끝난 EmotionAnalysisResponse를 JSON으로 직렬화하여 저장
+     */
+    @Column(name = "result_json", nullable = false, columnDefinition = "TEXT")
+    private String resultJson;
+
+    /**
+     * 생성 시간
+     */
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 만료 시간
+     * 이 시간 이후의 캐시는 조회되지 않으며 정리 대상이 됨
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * EmotionAnalysisCache 엔티티 생성자
+     * 
+     * @param cacheKey 캐시 키 (필수)
+     * @param promptVersion 프롬프트 버전 (필수)
+     * @param model 모델명 (필수)
+     * @param resultJson 분석 결과 JSON (필수)
+     * @param expiresAt 만료 시간 (필수)
+     */
+    @Builder
+    public EmotionAnalysisCache(String cacheKey, String promptVersion, String model,
+                                String resultJson, LocalDateTime expiresAt) {
+        this.cacheKey = cacheKey;
+        this.promptVersion = promptVersion;
+        this.model = model;
+        this.resultJson = resultJson;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 캐시 엔트리가 만료되었는지 확인
+     * 
+     * @param now 기준 시간
+     * @return 만료 여부
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
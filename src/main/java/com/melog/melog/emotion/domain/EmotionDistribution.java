@@ -0,0 +1,44 @@
+package com.melog.melog.emotion.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 감정 분포 계산 유틸리티
+ * 
+ * 감정 타입별 점수 합계를 감정명 기준 백분율 분포로 변환합니다.
+ * 감정 차트, 인사이트 조회, 월별 인사이트 일괄 생성 모두 감정 타입별 점수 합계 쿼리 결과를 이 메서드로 변환하므로
+ * 일괄 생성에서 계산한 인사이트 입력 지문이 조회 시점의 지문과 같습니다.
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+public final class EmotionDistribution {
+
+    private EmotionDistribution() {
+    }
+
+    /**
+     * 감정 타입별 점수 합계를 백분율 분포로 변환
+     * 
+     * @param totals 감정 타입별 점수 합계 (없는 감정 타입은 0으로 간주)
+     * @return 모든 감정명을 키로 하는 백분율 분포 (소수점 2자리 반올림, 합계가 0이면 모두 0)
+     */
+    public static Map<String, Double> toPercentages(Map<EmotionType, Double> totals) {
+        Map<String, Double> distribution = new HashMap<>();
+        double totalScore = 0.0;
+        for (EmotionType emotionType : EmotionType.values()) {
+            double value = totals.getOrDefault(emotionType, 0.0);
+            distribution.put(emotionType.getDescription(), value);
+            totalScore += value;
+        }
+
+        if (totalScore > 0) {
+            for (Map.Entry<String, Double> entry : distribution.entrySet()) {
+                double percentage = (entry.getValue() / totalScore) * 100;
+                entry.setValue(Math.round(percentage * 100.0) / 100.0); // 소수점 2자리 반올림
+            }
+        }
+        return distribution;
+    }
+}
@@ -1,9 +1,8 @@
 package com.melog.melog.emotion.domain;
 
+import com.melog.melog.common.util.TextProfile;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.regex.Pattern;
-
 /**
  * 감정 기록 입력 유효성 검증을 위한 유틸리티 클래스
  * 음성 파일은 기존 검증 로직 사용, 텍스트 검증에만 집중
@@ -31,16 +30,6 @@ import java.util.regex.Pattern;
 @Slf4j
 public class InputValidationUtil {
 
-    // 의미 없는 텍스트 패턴 (자음/모음만 있는 경우, 특수문자 반복 등)
-    private static final Pattern MEANINGLESS_TEXT_PATTERN = Pattern.compile(
-        "^[ㄱ-ㅎㅏ-ㅣ\\s\\p{Punct}]*$|" +  // 자음/모음만 있는 경우
-        "^[\\p{Punct}\\s]*$|" +            // 특수문자와 공백만 있는 경우
-        "^.{1,5}$|" +                      // 5자 이하인 경우
-        "^[가-힣]*[ㄱ-ㅎㅏ-ㅣ]+[가-힣]*$|" +  // 한글 중간에 자음/모음이 섞인 경우
-        "^[a-zA-Z]{4,}$|" +               // 4자 이상의 영문자만 있는 경우 (무작위 키보드 입력)
-        "^[qwertyuiopasdfghjklzxcvbnm]{4,}$" // QWERTY 키보드 순서로 입력된 경우
-    );
-    
     // 의미 없는 문자 비율 임계값 (40% 이상이면 차단)
     private static final double MEANINGLESS_CHAR_THRESHOLD = 0.4;
 
@@ -54,27 +43,28 @@ public class InputValidationUtil {
      * 일반 사용자의 정상적인 텍스트는 대부분 통과하도록 설계
      */
     public static boolean isValidText(String text) {
-        if (text == null || text.trim().isEmpty()) {
+        // 공백 정리, 길이, 자모/문장부호 개수를 한 번의 순회로 계산
+        TextProfile profile = TextProfile.of(text);
+        if (profile.isEmpty()) {
             return false;
         }
 
         String trimmedText = text.trim();
         
         // 길이 검증 (너무 짧은 경우만 차단)
-        if (trimmedText.length() < 5) {  // 5자로 완화
-            log.warn("텍스트가 너무 짧습니다: {} (길이: {})", trimmedText, trimmedText.length());
+        if (profile.length() < 5) {  // 5자로 완화
+            log.warn("텍스트가 너무 짧습니다: {} (길이: {})", trimmedText, profile.length());
             return false;
         }
 
         // 극단적인 의미 없는 텍스트 패턴만 차단
-        if (MEANINGLESS_TEXT_PATTERN.matcher(trimmedText).matches()) {
+        if (isMeaninglessPattern(profile)) {
             log.warn("극단적인 의미 없는 텍스트 패턴 감지: {}", trimmedText);
             return false;
         }
 
         // 의미 없는 문자 비율 계산 (40% 이상이면 차단)
-        int meaninglessCharCount = countMeaninglessCharacters(trimmedText);
-        double meaninglessRatio = (double) meaninglessCharCount / trimmedText.length();
+        double meaninglessRatio = profile.meaninglessRatio();
         
         if (meaninglessRatio >= MEANINGLESS_CHAR_THRESHOLD) {
             log.warn("의미 없는 문자 비율이 너무 높습니다: {} (비율: {:.2f})", trimmedText, meaninglessRatio);
@@ -82,35 +72,31 @@ public class InputValidationUtil {
         }
 
         log.info("텍스트 유효성 검증 통과: {} (길이: {}, 의미없는 문자 비율: {:.2f})", 
-                trimmedText, trimmedText.length(), meaninglessRatio);
+                trimmedText, profile.length(), meaninglessRatio);
         return true;
     }
 
     /**
-     * 의미 없는 문자(자음/모음, 특수문자, 공백)의 개수를 계산합니다.
+     * 의미 없는 텍스트 패턴(검증 규칙 1~6)에 해당하는지 판단합니다.
      */
-    private static int countMeaninglessCharacters(String text) {
-        return (int) text.chars()
-                .mapToObj(ch -> (char) ch)
-                .filter(ch -> isMeaninglessCharacter(ch))
-                .count();
-    }
-    
-    /**
-     * 개별 문자가 의미 없는 문자인지 판단합니다.
-     */
-    private static boolean isMeaninglessCharacter(char ch) {
-        // 자음/모음
-        if ((ch >= 0x1100 && ch <= 0x11FF) || (ch >= 0x3130 && ch <= 0x318F)) {
+    private static boolean isMeaninglessPattern(TextProfile profile) {
+        int length = profile.length();
+
+        // 1, 2. 자음/모음, 특수문자, 공백만 있는 경우
+        if (profile.compatJamoCount() + profile.asciiPunctuationCount() + profile.whitespaceCount() == length) {
             return true;
         }
-        
-        // 특수문자와 공백
-        if (Character.isWhitespace(ch) || !Character.isLetterOrDigit(ch)) {
+        // 3. 5자 이하인 경우 (한 줄)
+        if (profile.codePointCount() <= 5 && !profile.hasLineBreak()) {
             return true;
         }
-        
-        return false;
+        // 4. 한글 중간에 자음/모음이 섞인 경우 (음절 + 연속된 자모 한 덩어리로만 구성)
+        if (profile.compatJamoRuns() == 1
+                && profile.syllableCount() + profile.compatJamoCount() == length) {
+            return true;
+        }
+        // 5, 6. 4자 이상의 영문자만 있는 경우 (무작위 키보드 입력)
+        return length >= 4 && profile.asciiLetterCount() == length;
     }
 
     /**
@@ -0,0 +1,93 @@
+package com.melog.melog.emotion.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월별 감정 인사이트 엔티티
+ * 
+ * 사용자/월별로 Clova Studio가 생성한 월별 코멘트를 저장하여
+ * 인사이트 탭을 조회할 때마다 LLM을 호출하지 않도록 합니다.
+ * 
+ * 코멘트 생성에 사용된 입력(감정 분포 + 상위 키워드)의 지문을 함께 저장하며,
+ * 해당 월의 기록이 바뀌어 지문이 달라진 경우에만 코멘트를 재생성합니다.
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+@Entity
+@Table(name = "monthly_insight",
+        uniqueConstraints = @UniqueConstraint(name = "uk_monthly_insight_user_month", columnNames = {"user_id", "month"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class MonthlyInsight {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 사용자 ID
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 대상 월 (yyyy-MM)
+     */
+    @Column(name = "month", nullable = false, length = 7)
+    private String month;
+
+    /**
+     * 입력 지문
+     * 감정 분포와 상위 키워드의 SHA-256 해시 (64자리)
+     */
+    @Column(name = "fingerprint", nullable = false, length = 64)
+    private String fingerprint;
+
+    /**
+     * 월별 코멘트 (요약 + 조언)
+     */
+    @Column(name = "monthly_comment", nullable = false, columnDefinition = "TEXT")
+    private String monthlyComment;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * MonthlyInsight 엔티티 생성자
+     * 
+     * @param userId 사용자 ID (필수)
+     * @param month 대상 월 (필수)
+     * @param fingerprint 입력 지문 (필수)
+     * @param monthlyComment 월별 코멘트 (필수)
+     */
+    @Builder
+    public MonthlyInsight(Long userId, String month, String fingerprint, String monthlyComment) {
+        this.userId = userId;
+        this.month = month;
+        this.fingerprint = fingerprint;
+        this.monthlyComment = monthlyComment;
+    }
+
+    /**
+     * 저장된 코멘트가 주어진 입력 지문으로 생성되었는지 확인
+     */
+    public boolean matches(String fingerprint) {
+        return this.fingerprint.equals(fingerprint);
+    }
+}
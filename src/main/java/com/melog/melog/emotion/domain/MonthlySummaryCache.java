@@ -0,0 +1,88 @@
+package com.melog.melog.emotion.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월별 요약 공유 캐시 엔티티
+ * 
+ * 월별 요약 프롬프트는 개인 텍스트 없이 월과 감정 분포만으로 구성되므로,
+ * 감정 분포를 구간 단위(예: 5%)로 양자화한 값이 같은 사용자끼리 Clova Studio 응답을 공유합니다.
+ * 
+ * 같은 키에 최대 N개의 응답 변형을 저장하여, 조회 시 그중 하나를 무작위로 선택할 수 있습니다.
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+@Entity
+@Table(name = "monthly_summary_cache",
+        uniqueConstraints = @UniqueConstraint(name = "uk_monthly_summary_cache_key_variant", columnNames = {"cache_key", "variant"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class MonthlySummaryCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 캐시 키
+     * 월, 모델명, 양자화된 감정 분포의 SHA-256 해시 (64자리)
+     */
+    @Column(name = "cache_key", nullable = false, length = 64)
+    private String cacheKey;
+
+    /**
+     * 응답 변형 번호 (0부터 시작)
+     */
+    @Column(name = "variant", nullable = false)
+    private Integer variant;
+
+    /**
+     * 대상 월 (yyyy-MM)
+     */
+    @Column(name = "month", nullable = false, length = 7)
+    private String month;
+
+    /**
+     * 월별 요약
+     */
+    @Column(name = "summary", nullable = false, columnDefinition = "TEXT")
+    private String summary;
+
+    /**
+     * 한줄 조언
+     */
+    @Column(name = "advice", nullable = false, columnDefinition = "TEXT")
+    private String advice;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * MonthlySummaryCache 엔티티 생성자
+     * 
+     * @param cacheKey 캐시 키 (필수)
+     * @param variant 응답 변형 번호 (필수)
+     * @param month 대상 월 (필수)
+     * @param summary 월별 요약 (필수)
+     * @param advice 한줄 조언 (필수)
+     */
+    @Builder
+    public MonthlySummaryCache(String cacheKey, Integer variant, String month, String summary, String advice) {
+        this.cacheKey = cacheKey;
+        this.variant = variant;
+        this.month = month;
+        this.summary = summary;
+        this.advice = advice;
+    }
+}
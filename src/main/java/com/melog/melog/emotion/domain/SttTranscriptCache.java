@@ -0,0 +1,96 @@
+package com.melog.melog.emotion.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 음성 인식(STT) 결과 캐시 엔티티
+ * 
+ * 동일한 음성 파일에 대한 CLOVA Speech 인식 결과를 저장하여
+ * 감정 분석 실패 후 재시도, 중복 제출 시 STT 호출을 생략하기 위한 목적으로 사용됩니다.
+ * 
+ * 캐시 키는 다음 요소들의 조합을 SHA-256으로 해시하여 생성됩니다:
+ * - 원본 음성 바이트
+ * - 언어 코드 (Kor, Eng 등)
+ * - 인식 옵션 (assessment, graph)과 전처리 설정 (다운믹스/리샘플링, VAD)
+ * 
+ * @author Melog Team
+ * @since 1.0
+ */
+@Entity
+@Table(name = "stt_transcript_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class SttTranscriptCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 캐시 키
+     * 음성 바이트, 언어, 인식 옵션의 SHA-256 해시 (64자리)
+     */
+    @Column(name = "cache_key", nullable = false, unique = true, length = 64)
+    private String cacheKey;
+
+    /**
+     * CLOVA Speech 언어 코드
+     */
+    @Column(name = "language", nullable = false, length = 10)
+    private String language;
+
+    /**
+     * 원본 음성 크기 (바이트)
+     */
+    @Column(name = "audio_size", nullable = false)
+    private Long audioSize;
+
+    /**
+     * 인식 결과
+     * SttResponse를 JSON으로 직렬화하여 저장
+     */
+    @Column(name = "result_json", nullable = false, columnDefinition = "TEXT")
+    private String resultJson;
+
+    /**
+     * 생성 시간
+     */
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 만료 시간
+     * 이 시간 이후의 캐시는 조회되지 않으며 정리 대상이 됨
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * SttTranscriptCache 엔티티 생성자
+     * 
+     * @param cacheKey 캐시 키 (필수)
+     * @param language 언어 코드 (필수)
+     * @param audioSize 원본 음성 크기 (필수)
+     * @param resultJson 인식 결과 JSON (필수)
+     * @param expiresAt 만료 시간 (필수)
+     */
+    @Builder
+    public SttTranscriptCache(String cacheKey, String language, Long audioSize,
+                              String resultJson, LocalDateTime expiresAt) {
+        this.cacheKey = cacheKey;
+        this.language = language;
+        this.audioSize = audioSize;
+        this.resultJson = resultJson;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,13 @@
+package com.melog.melog.emotion.domain.model.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 감정 캘린더용 프로젝션 (id, 날짜만 조회)
+ */
+public interface EmotionRecordDateView {
+
+    Long getId();
+
+    LocalDate getDate();
+}
@@ -0,0 +1,24 @@
+package com.melog.melog.emotion.domain.model.projection;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 감정 기록 목록용 프로젝션
+ *
+ * text 컬럼은 조회하지 않으며, summary는 요청 필드에 따라 전체 또는 미리보기 길이만큼만 조회합니다.
+ */
+public interface EmotionRecordListView {
+
+    Long getId();
+
+    LocalDate getDate();
+
+    LocalDateTime getCreatedAt();
+
+    String getSummary();
+
+    String getComment();
+
+    String getAudioFilePath();
+}
@@ -0,0 +1,11 @@
+package com.melog.melog.emotion.domain.model.projection;
+
+/**
+ * 키워드별 가중치 합계 프로젝션 (키워드 추이 조회용)
+ */
+public interface KeywordWeightTotalView {
+
+    String getKeyword();
+
+    Long getTotalWeight();
+}
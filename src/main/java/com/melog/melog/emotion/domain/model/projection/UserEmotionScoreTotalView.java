@@ -0,0 +1,15 @@
+package com.melog.melog.emotion.domain.model.projection;
+
+import com.melog.melog.emotion.domain.EmotionType;
+
+/**
+ * 사용자별 감정 타입 점수 합계 프로젝션 (월별 인사이트 일괄 생성용)
+ */
+public interface UserEmotionScoreTotalView {
+
+    Long getUserId();
+
+    EmotionType getEmotionType();
+
+    Long getTotalPercentage();
+}
@@ -0,0 +1,13 @@
+package com.melog.melog.emotion.domain.model.projection;
+
+/**
+ * 사용자별 키워드 가중치 합계 프로젝션 (월별 인사이트 일괄 생성용)
+ */
+public interface UserKeywordWeightTotalView {
+
+    Long getUserId();
+
+    String getKeyword();
+
+    Long getTotalWeight();
+}
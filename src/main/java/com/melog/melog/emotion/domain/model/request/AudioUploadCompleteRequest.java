@@ -0,0 +1,20 @@
+package com.melog.melog.emotion.domain.model.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 음성 파일 직접 업로드 완료 요청
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class AudioUploadCompleteRequest {
+    private String uploadKey; // 업로드 시작 응답으로 받은 S3 키
+    private String userSelectedEmotion; // JSON 문자열, 선택사항 (예: {"type":"JOY","percentage":60})
+}
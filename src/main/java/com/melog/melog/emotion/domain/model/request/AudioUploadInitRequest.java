@@ -0,0 +1,21 @@
+package com.melog.melog.emotion.domain.model.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 음성 파일 직접 업로드 시작 요청
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class AudioUploadInitRequest {
+    private String fileName; // 원본 파일명 (확장자로 형식 검증)
+    private String contentType; // 업로드 시 사용할 Content-Type (예: audio/wav)
+    private Long fileSize; // 파일 크기 (바이트)
+}
@@ -0,0 +1,24 @@
+package com.melog.melog.emotion.domain.model.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 음성 파일 직접 업로드 시작 응답
+ * 
+ * 클라이언트는 uploadUrl로 음성 파일을 PUT 업로드(Content-Type 헤더는 contentType과 동일)한 뒤
+ * uploadKey로 업로드 완료를 요청합니다.
+ */
+@Getter
+@Builder
+@ToString
+public class AudioUploadInitResponse {
+    private String uploadKey; // 업로드 완료 요청에 사용할 S3 키
+    private String uploadUrl; // presigned PUT URL
+    private String method; // PUT
+    private String contentType; // 업로드 시 보내야 하는 Content-Type
+    private LocalDateTime expiresAt; // URL 만료 시간
+}
@@ -1,5 +1,6 @@
 package com.melog.melog.emotion.domain.model.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -11,5 +12,6 @@ import java.util.List;
 public class EmotionCalendarResponse {
     private Long id; // 상세 페이지 연결용
     private LocalDate date;
+    @JsonInclude(JsonInclude.Include.NON_NULL) // fields에 emotions가 없으면 제외
     private List<EmotionScoreResponse> emotions;
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.melog.melog.emotion.domain.model.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class EmotionCursorListResponse {
+    private List<EmotionRecordSummaryResponse> content;
+    private int size;
+    private boolean hasNext;
+    /**
+     * 다음 페이지 조회용 커서 (createdAt,id), 마지막 페이지면 null
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,16 @@
+package com.melog.melog.emotion.domain.model.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class EmotionKeywordTrendResponse {
+    private String period; // week, month, year 또는 custom (startDate/endDate 지정)
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<EmotionKeywordResponse> keywords; // 가중치 합계 상위 키워드
+}
@@ -8,7 +8,10 @@ import java.util.List;
 @Getter
 @Builder
 public class EmotionListResponse {
-    private List<EmotionRecordSummaryResponse> content;
+    /**
+     * 목록 항목: fields 생략 시 EmotionRecordSummaryResponse, 지정 시 EmotionRecordFieldsResponse
+     */
+    private List<?> content;
     private int page;
     private int size;
     private long totalElements;
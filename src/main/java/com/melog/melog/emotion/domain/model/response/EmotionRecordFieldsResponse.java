@@ -0,0 +1,26 @@
+package com.melog.melog.emotion.domain.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * fields 파라미터로 필드를 선택한 감정 기록 목록 항목
+ * 선택하지 않은 필드는 null로 두고 응답에서 제외합니다. (fields 생략 시에는 EmotionRecordSummaryResponse 사용)
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmotionRecordFieldsResponse {
+    private Long id;
+    private LocalDate date;
+    private String summary;
+    private String summaryPreview; // 요약 미리보기 (fields=summaryPreview)
+    private String comment;
+    private List<EmotionScoreResponse> emotions;
+    private String audioFilePath;
+    private Boolean hasAudioFile;
+}
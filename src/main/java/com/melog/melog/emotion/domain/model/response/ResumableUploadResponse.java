@@ -0,0 +1,36 @@
+package com.melog.melog.emotion.domain.model.response;
+
+import com.melog.melog.common.service.ResumableUploadService.ResumableUpload;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이어 올리기 업로드 상태 응답
+ * 
+ * 클라이언트는 offset부터 다음 청크를 PATCH로 보내고, offset이 totalSize와 같아지면 완료를 요청합니다.
+ */
+@Getter
+@Builder
+@ToString
+public class ResumableUploadResponse {
+    private String uploadId; // 업로드 ID
+    private String fileName; // 원본 파일명
+    private Long offset; // 서버가 받은 바이트 수 (다음 청크의 시작 위치)
+    private Long totalSize; // 전체 파일 크기
+    private Boolean complete; // 모든 바이트를 받았는지 여부
+    private LocalDateTime expiresAt; // 업로드 만료 시간
+
+    public static ResumableUploadResponse from(ResumableUpload upload) {
+        return ResumableUploadResponse.builder()
+                .uploadId(upload.getUploadId())
+                .fileName(upload.getFileName())
+                .offset(upload.getOffset())
+                .totalSize(upload.getTotalSize())
+                .complete(upload.isComplete())
+                .expiresAt(upload.getExpiresAt())
+                .build();
+    }
+}
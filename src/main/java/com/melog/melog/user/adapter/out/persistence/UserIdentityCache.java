@@ -0,0 +1,84 @@
+package com.melog.melog.user.adapter.out.persistence;
+
+import com.melog.melog.user.domain.UserIdentityChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 닉네임 → 사용자 ID 캐시
+ *
+ * 대부분의 API가 경로의 닉네임으로 사용자를 조회하므로, 닉네임에 대응하는 ID를 LRU 방식으로
+ * 최대 maxSize개까지 보관합니다. 존재하지 않는 닉네임은 캐시하지 않습니다.
+ * 닉네임 변경/사용자 삭제 시 UserIdentityChangedEvent를 받아 트랜잭션 커밋 후 무효화합니다.
+ *
+ * DB 조회 도중 무효화가 일어나면 조회한 ID가 이미 지난 값일 수 있으므로, 무효화할 때마다
+ * 세대(generation)를 올리고 조회 전에 읽은 세대와 같을 때만 캐시에 저장합니다.
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class UserIdentityCache {
+
+    private final Map<String, Long> idsByNickname;
+
+    /**
+     * 무효화 횟수 (조회 중 무효화 여부 확인용)
+     */
+    private long generation;
+
+    public UserIdentityCache(@Value("${USER_IDENTITY_CACHE_MAX_SIZE:10000}") int maxSize) {
+        this.idsByNickname = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized Long get(String nickname) {
+        return idsByNickname.get(nickname);
+    }
+
+    /**
+     * 현재 세대를 반환합니다. DB 조회 전에 읽어 두었다가 put에 전달합니다.
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * 조회 전에 읽은 세대 이후로 무효화가 없었을 때만 저장합니다.
+     *
+     * @return 저장 여부
+     */
+    public synchronized boolean put(String nickname, Long userId, long expectedGeneration) {
+        if (generation != expectedGeneration) {
+            return false;
+        }
+        idsByNickname.put(nickname, userId);
+        return true;
+    }
+
+    public synchronized void evict(String nickname) {
+        idsByNickname.remove(nickname);
+        generation++;
+    }
+
+    /**
+     * 닉네임 변경/사용자 삭제가 커밋된 후 캐시를 무효화합니다.
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 처리합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserIdentityChanged(UserIdentityChangedEvent event) {
+        evict(event.getNickname());
+        log.debug("닉네임 캐시 무효화: nickname={}", event.getNickname());
+    }
+}
@@ -1,7 +1,11 @@
 package com.melog.melog.user.adapter.out.persistence;
 
+import com.melog.melog.emotion.domain.EmotionType;
 import com.melog.melog.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,5 +15,27 @@ public interface UserJpaRepository extends JpaRepository<User, Long> {
     
     Optional<User> findByNickname(String nickname);
     
+    @Query("SELECT u.id FROM User u WHERE u.nickname = :nickname")
+    Optional<Long> findIdByNickname(@Param("nickname") String nickname);
+    
     boolean existsByNickname(String nickname);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.emotionCount = CASE WHEN u.emotionCount + :emotionDelta < 0 THEN 0 ELSE u.emotionCount + :emotionDelta END, " +
+           "u.audioCount = CASE WHEN u.audioCount + :audioDelta < 0 THEN 0 ELSE u.audioCount + :audioDelta END " +
+           "WHERE u.id = :userId")
+    int adjustRecordCounts(@Param("userId") Long userId, @Param("emotionDelta") int emotionDelta, @Param("audioDelta") int audioDelta);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.lastRecordId = :recordId, u.representativeEmotionType = :emotionType, u.representativeEmotionStep = :step " +
+           "WHERE u.id = :userId")
+    int updateLastRecord(@Param("userId") Long userId, @Param("recordId") Long recordId,
+                         @Param("emotionType") EmotionType emotionType, @Param("step") Integer step);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.lastRecordId = :recordId, u.representativeEmotionType = :emotionType, u.representativeEmotionStep = :step " +
+           "WHERE u.id = :userId AND u.lastRecordId = :expectedRecordId")
+    int updateLastRecordIfCurrent(@Param("userId") Long userId, @Param("expectedRecordId") Long expectedRecordId,
+                                  @Param("recordId") Long recordId, @Param("emotionType") EmotionType emotionType,
+                                  @Param("step") Integer step);
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.melog.melog.user.adapter.out.persistence;
 
+import com.melog.melog.emotion.domain.EmotionType;
 import com.melog.melog.user.application.port.out.UserPersistencePort;
 import com.melog.melog.user.domain.User;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,7 @@ import java.util.Optional;
 public class UserPersistenceAdapter implements UserPersistencePort {
 
     private final UserJpaRepository userJpaRepository;
+    private final UserIdentityCache userIdentityCache;
 
     @Override
     public User save(User user) {
@@ -28,8 +30,42 @@ public class UserPersistenceAdapter implements UserPersistencePort {
         return userJpaRepository.findByNickname(nickname);
     }
 
+    @Override
+    public Optional<Long> findIdByNickname(String nickname) {
+        Long cachedId = userIdentityCache.get(nickname);
+        if (cachedId != null) {
+            return Optional.of(cachedId);
+        }
+
+        // 조회 중 닉네임 변경/삭제로 무효화되면 지난 ID를 다시 캐시하지 않도록 세대를 함께 전달
+        long generation = userIdentityCache.generation();
+        Optional<Long> userId = userJpaRepository.findIdByNickname(nickname);
+        userId.ifPresent(id -> userIdentityCache.put(nickname, id, generation));
+        return userId;
+    }
+
+    @Override
+    public Optional<User> findReferenceByNickname(String nickname) {
+        return findIdByNickname(nickname).map(userJpaRepository::getReferenceById);
+    }
+
     @Override
     public boolean existsByNickname(String nickname) {
         return userJpaRepository.existsByNickname(nickname);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public void adjustRecordCounts(Long userId, int emotionDelta, int audioDelta) {
+        userJpaRepository.adjustRecordCounts(userId, emotionDelta, audioDelta);
+    }
+
+    @Override
+    public void updateLastRecord(Long userId, Long recordId, EmotionType emotionType, Integer step) {
+        userJpaRepository.updateLastRecord(userId, recordId, emotionType, step);
+    }
+
+    @Override
+    public void updateLastRecordIfCurrent(Long userId, Long expectedRecordId, Long recordId, EmotionType emotionType, Integer step) {
+        userJpaRepository.updateLastRecordIfCurrent(userId, expectedRecordId, recordId, emotionType, step);
+    }
+}
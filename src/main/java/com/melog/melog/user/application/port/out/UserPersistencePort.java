@@ -1,5 +1,6 @@
 package com.melog.melog.user.application.port.out;
 
+import com.melog.melog.emotion.domain.EmotionType;
 import com.melog.melog.user.domain.User;
 
 import java.util.Optional;
@@ -21,8 +22,34 @@ public interface UserPersistencePort {
      */
     Optional<User> findByNickname(String nickname);
     
+    /**
+     * 닉네임으로 사용자 ID 조회 (닉네임 캐시 사용)
+     */
+    Optional<Long> findIdByNickname(String nickname);
+    
+    /**
+     * 닉네임으로 사용자 참조 조회
+     * users 테이블을 읽지 않는 지연 로딩 참조를 반환하므로, ID 기반 조건 조회/연관관계 설정에만 사용합니다.
+     */
+    Optional<User> findReferenceByNickname(String nickname);
+    
     /**
      * 닉네임 존재 여부 확인
      */
     boolean existsByNickname(String nickname);
+    
+    /**
+     * 감정 기록 수/음성 파일 수를 원자적으로 증감 (0 미만으로 내려가지 않음)
+     */
+    void adjustRecordCounts(Long userId, int emotionDelta, int audioDelta);
+    
+    /**
+     * 가장 최근 감정 기록과 대표 감정을 갱신
+     */
+    void updateLastRecord(Long userId, Long recordId, EmotionType emotionType, Integer step);
+    
+    /**
+     * 현재 가장 최근 감정 기록이 expectedRecordId인 경우에만 가장 최근 감정 기록과 대표 감정을 갱신
+     */
+    void updateLastRecordIfCurrent(Long userId, Long expectedRecordId, Long recordId, EmotionType emotionType, Integer step);
 } 
\ No newline at end of file
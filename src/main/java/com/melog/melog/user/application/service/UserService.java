@@ -5,9 +5,10 @@ import com.melog.melog.user.domain.model.request.UserUpdateRequest;
 import com.melog.melog.user.domain.model.response.UserResponse;
 import com.melog.melog.user.application.port.in.UserUseCase;
 import com.melog.melog.user.application.port.out.UserPersistencePort;
-import com.melog.melog.emotion.application.port.out.EmotionRecordPersistencePort;
 import com.melog.melog.user.domain.User;
+import com.melog.melog.user.domain.UserIdentityChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,7 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService implements UserUseCase {
 
     private final UserPersistencePort userPersistencePort;
-    private final EmotionRecordPersistencePort emotionRecordPersistencePort;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Override
     @Transactional
@@ -46,19 +47,20 @@ public class UserService implements UserUseCase {
         User user = userPersistencePort.findByNickname(nickname)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + nickname));
 
-        // 실제 통계 데이터 계산
-        Integer emotionCount = (int) emotionRecordPersistencePort.countByUser(user);
-        Integer audioCount = (int) emotionRecordPersistencePort.countByUserAndAudioFilePathIsNotNull(user);
-        
-        // 대표 감정 계산 (가장 최근 감정 기록에서 가장 높은 감정)
-        UserResponse.RepresentativeEmotionResponse representativeEmotion = calculateRepresentativeEmotion(user);
+        // 통계 데이터는 users 집계 컬럼에서 바로 사용 (감정 기록 생성/삭제 시 갱신)
+        UserResponse.RepresentativeEmotionResponse representativeEmotion = user.getRepresentativeEmotionType() != null
+                ? UserResponse.RepresentativeEmotionResponse.builder()
+                        .type(user.getRepresentativeEmotionType().getDescription())
+                        .step(user.getRepresentativeEmotionStep())
+                        .build()
+                : UserResponse.RepresentativeEmotionResponse.getDefault();
 
         return UserResponse.builder()
                 .id(user.getId())
                 .nickname(user.getNickname())
                 .createdAt(user.getCreatedAt())
-                .emotionCount(emotionCount)
-                .audioCount(audioCount)
+                .emotionCount(user.getEmotionCount())
+                .audioCount(user.getAudioCount())
                 .representativeEmotion(representativeEmotion)
                 .build();
     }
@@ -79,6 +81,9 @@ public class UserService implements UserUseCase {
         user.updateNickname(request.getNewNickname());
         User updatedUser = userPersistencePort.save(user);
 
+        // 이전 닉네임 캐시 무효화 (커밋 후)
+        applicationEventPublisher.publishEvent(new UserIdentityChangedEvent(nickname));
+
         return UserResponse.createDefault(
                 updatedUser.getId(),
                 updatedUser.getNickname(),
@@ -94,41 +99,8 @@ public class UserService implements UserUseCase {
 
         // TODO: 연관된 감정 기록들도 함께 삭제하는 로직 추가 필요
         // userPersistencePort.delete(user);
+
+        // 닉네임 캐시 무효화 (커밋 후)
+        applicationEventPublisher.publishEvent(new UserIdentityChangedEvent(nickname));
     }
-    
-    /**
-     * 사용자의 대표 감정을 계산합니다.
-     */
-    private UserResponse.RepresentativeEmotionResponse calculateRepresentativeEmotion(User user) {
-        try {
-            // 가장 최근 감정 기록 조회
-            var recentRecords = emotionRecordPersistencePort.findByUser(user);
-            if (recentRecords.isEmpty()) {
-                return UserResponse.RepresentativeEmotionResponse.getDefault();
-            }
-            
-            // 가장 최근 기록에서 가장 높은 감정 점수를 가진 감정 찾기
-            var mostRecentRecord = recentRecords.stream()
-                    .max((a, b) -> a.getCreatedAt().compareTo(b.getCreatedAt()))
-                    .orElse(null);
-            
-            if (mostRecentRecord == null || mostRecentRecord.getEmotionScores().isEmpty()) {
-                return UserResponse.RepresentativeEmotionResponse.getDefault();
-            }
-            
-            var primaryEmotion = mostRecentRecord.getPrimaryEmotion();
-            if (primaryEmotion == null) {
-                return UserResponse.RepresentativeEmotionResponse.getDefault();
-            }
-            
-            return UserResponse.RepresentativeEmotionResponse.builder()
-                    .type(primaryEmotion.getEmotionType().getDescription())
-                    .step(primaryEmotion.getStep())
-                    .build();
-                    
-        } catch (Exception e) {
-            // 에러 발생 시 기본값 반환
-            return UserResponse.RepresentativeEmotionResponse.getDefault();
-        }
-    }
-} 
\ No newline at end of file
+}
@@ -1,11 +1,13 @@
 package com.melog.melog.user.domain;
 
 import com.melog.melog.emotion.domain.EmotionRecord;
+import com.melog.melog.emotion.domain.EmotionType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -18,6 +20,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate // 닉네임 변경 시 집계 컬럼을 덮어쓰지 않도록 변경된 컬럼만 UPDATE
 public class User {
 
     @Id
@@ -31,6 +34,23 @@ public class User {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 프로필 조회용 집계 컬럼 (감정 기록 생성/삭제 시 UserPersistencePort를 통해 원자적으로 갱신)
+    @Column(name = "emotion_count", nullable = false)
+    private Integer emotionCount = 0;
+
+    @Column(name = "audio_count", nullable = false)
+    private Integer audioCount = 0;
+
+    @Column(name = "last_record_id")
+    private Long lastRecordId; // 가장 최근 감정 기록 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "representative_emotion_type")
+    private EmotionType representativeEmotionType; // 가장 최근 기록의 대표 감정
+
+    @Column(name = "representative_emotion_step")
+    private Integer representativeEmotionStep;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<EmotionRecord> emotionRecords = new ArrayList<>();
 
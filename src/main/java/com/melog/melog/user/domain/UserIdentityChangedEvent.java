@@ -0,0 +1,24 @@
+package com.melog.melog.user.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 식별 정보(닉네임) 변경/삭제 이벤트
+ *
+ * 닉네임 → 사용자 ID 캐시를 무효화하는 데 사용합니다.
+ * 다중 노드 환경에서는 이 이벤트를 메시지 브로커로 전달하고, 수신한 노드에서 같은 이벤트를
+ * ApplicationEventPublisher로 다시 발행하면 각 노드의 캐시가 함께 무효화됩니다.
+ *
+ * @author Melog Team
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserIdentityChangedEvent {
+
+    /**
+     * 더 이상 유효하지 않은 닉네임
+     */
+    private final String nickname;
+}
@@ -0,0 +1,34 @@
+-- V10: 음성 인식(STT) 결과 캐시 테이블 추가
+-- 감정 분석 실패 후 클라이언트가 같은 음성으로 재시도할 때 CLOVA Speech 재호출을 방지
+
+-- STT 결과 캐시 테이블 생성
+-- 음성 바이트 + 언어 + 인식 옵션(assessment, graph, 전처리 설정) 조합을 키로 하여 인식 결과(JSON)를 저장
+CREATE TABLE melog.stt_transcript_cache (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+
+    -- 캐시 키: SHA-256 해시값 (64자리)
+    cache_key VARCHAR(64) NOT NULL,
+
+    -- CLOVA Speech 언어 코드 (Kor, Eng 등)
+    language VARCHAR(10) NOT NULL,
+
+    -- 원본 음성 크기 (바이트 단위)
+    audio_size BIGINT NOT NULL,
+
+    -- SttResponse JSON
+    result_json TEXT NOT NULL,
+
+    -- 생성 시간
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- 만료 시간 (TTL)
+    expires_at TIMESTAMP(6) NOT NULL,
+
+    CONSTRAINT uk_stt_transcript_cache_key UNIQUE (cache_key)
+);
+
+-- 만료 정리를 위한 인덱스
+CREATE INDEX idx_stt_transcript_cache_expires_at ON melog.stt_transcript_cache(expires_at);
+
+-- 테이블 소유권 설정
+ALTER TABLE melog.stt_transcript_cache OWNER TO melog;
@@ -0,0 +1,35 @@
+-- V4: 감정 분석 결과 캐시 테이블 추가
+-- 동일한 텍스트에 대한 Clova Studio 감정 분석 결과를 재사용하여 중복 호출 방지
+
+-- 감정 분석 캐시 테이블 생성
+-- 정규화 텍스트 + 프롬프트 버전 + 모델명 조합을 키로 하여 분석 결과(JSON)를 저장
+CREATE TABLE melog.emotion_analysis_cache (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+
+    -- 캐시 키: SHA-256 해시값 (64자리)
+    cache_key VARCHAR(64) NOT NULL,
+
+    -- 프롬프트 버전 (버전 변경 시 이전 캐시 일괄 무효화)
+    prompt_version VARCHAR(50) NOT NULL,
+
+    -- 분석에 사용된 모델명
+    model VARCHAR(50) NOT NULL,
+
+    -- 정규화된 EmotionAnalysisResponse JSON
+    result_json TEXT NOT NULL,
+
+    -- 생성 시간
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- 만료 시간 (TTL)
+    expires_at TIMESTAMP(6) NOT NULL,
+
+    CONSTRAINT uk_emotion_analysis_cache_key UNIQUE (cache_key)
+);
+
+-- 만료 정리 및 프롬프트 버전 무효화를 위한 인덱스
+CREATE INDEX idx_emotion_analysis_cache_expires_at ON melog.emotion_analysis_cache(expires_at);
+CREATE INDEX idx_emotion_analysis_cache_prompt_version ON melog.emotion_analysis_cache(prompt_version);
+
+-- 테이블 소유권 설정
+ALTER TABLE melog.emotion_analysis_cache OWNER TO melog;
@@ -0,0 +1,8 @@
+-- V5: 감정 기록 목록 커서(keyset) 페이징용 인덱스 추가
+-- before=<createdAt,id> 조건으로 다음 페이지를 조회할 때 정렬 없이 인덱스 순서대로 읽도록 함
+
+-- 사용자별 최신순 목록 조회 (created_at DESC, id DESC)
+CREATE INDEX idx_emotion_record_user_created_at_id ON melog.emotion_record(user_id, created_at DESC, id DESC);
+
+-- 페이지 단위 감정 점수 일괄 조회 (WHERE record_id IN (...))
+CREATE INDEX idx_emotion_score_record ON melog.emotion_score(record_id);
@@ -0,0 +1,38 @@
+-- V6: 사용자 프로필용 집계 컬럼 추가
+-- 감정 기록 생성/삭제 시 갱신하여 프로필 조회를 users 단일 행 조회로 처리
+
+-- 감정 기록 수, 음성 파일이 있는 감정 기록 수
+ALTER TABLE melog.users ADD COLUMN emotion_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE melog.users ADD COLUMN audio_count INTEGER NOT NULL DEFAULT 0;
+
+-- 가장 최근 감정 기록 ID와 해당 기록의 대표 감정(가장 높은 감정 점수)
+ALTER TABLE melog.users ADD COLUMN last_record_id BIGINT;
+ALTER TABLE melog.users ADD COLUMN representative_emotion_type VARCHAR(255);
+ALTER TABLE melog.users ADD COLUMN representative_emotion_step INTEGER;
+
+ALTER TABLE melog.users ADD CONSTRAINT users_representative_emotion_type_check CHECK (((representative_emotion_type)::text = ANY ((ARRAY['JOY'::character varying, 'EXCITEMENT'::character varying, 'CALMNESS'::character varying, 'ANGER'::character varying, 'SADNESS'::character varying, 'GUIDANCE'::character varying])::text[])));
+
+-- 기존 데이터 백필: 기록 수
+UPDATE melog.users u SET
+    emotion_count = (SELECT COUNT(*) FROM melog.emotion_record er WHERE er.user_id = u.id),
+    audio_count = (SELECT COUNT(*) FROM melog.emotion_record er WHERE er.user_id = u.id AND er.audio_file_path IS NOT NULL);
+
+-- 기존 데이터 백필: 가장 최근 감정 기록
+UPDATE melog.users u SET last_record_id = latest.id
+FROM (
+    SELECT DISTINCT ON (user_id) user_id, id
+    FROM melog.emotion_record
+    ORDER BY user_id, created_at DESC, id DESC
+) latest
+WHERE latest.user_id = u.id;
+
+-- 기존 데이터 백필: 가장 최근 감정 기록의 대표 감정
+UPDATE melog.users u SET
+    representative_emotion_type = top.emotion_type,
+    representative_emotion_step = top.step
+FROM (
+    SELECT DISTINCT ON (record_id) record_id, emotion_type, step
+    FROM melog.emotion_score
+    ORDER BY record_id, percentage DESC, id
+) top
+WHERE top.record_id = u.last_record_id;
@@ -0,0 +1,29 @@
+-- V7: 월별 감정 인사이트 저장 테이블 추가
+-- 인사이트 탭 조회마다 Clova Studio를 호출하지 않도록 사용자/월별 코멘트를 저장하고,
+-- 입력(감정 분포 + 상위 키워드)의 지문이 바뀐 경우에만 재생성
+
+CREATE TABLE melog.monthly_insight (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+
+    -- 사용자 ID
+    user_id BIGINT NOT NULL,
+
+    -- 대상 월 (yyyy-MM)
+    month VARCHAR(7) NOT NULL,
+
+    -- 입력 지문: 감정 분포와 상위 키워드의 SHA-256 해시값 (64자리)
+    fingerprint VARCHAR(64) NOT NULL,
+
+    -- 생성된 월별 코멘트 (요약 + 조언)
+    monthly_comment TEXT NOT NULL,
+
+    -- 생성/수정 시간
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_monthly_insight_user FOREIGN KEY (user_id) REFERENCES melog.users(id) ON DELETE CASCADE,
+    CONSTRAINT uk_monthly_insight_user_month UNIQUE (user_id, month)
+);
+
+-- 테이블 소유권 설정
+ALTER TABLE melog.monthly_insight OWNER TO melog;
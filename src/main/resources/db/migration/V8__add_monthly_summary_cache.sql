@@ -0,0 +1,28 @@
+-- V8: 월별 요약 공유 캐시 테이블 추가
+-- 월별 요약 프롬프트에는 월과 감정 분포만 포함되므로, 분포를 구간 단위로 양자화한 값을 키로 하여
+-- 사용자 간에 Clova Studio 응답을 공유
+
+CREATE TABLE melog.monthly_summary_cache (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+
+    -- 캐시 키: 월 + 모델명 + 양자화된 감정 분포의 SHA-256 해시값 (64자리)
+    cache_key VARCHAR(64) NOT NULL,
+
+    -- 같은 키에 저장된 응답 변형 번호 (0부터 시작)
+    variant INTEGER NOT NULL,
+
+    -- 대상 월 (yyyy-MM)
+    month VARCHAR(7) NOT NULL,
+
+    -- 월별 요약과 한줄 조언
+    summary TEXT NOT NULL,
+    advice TEXT NOT NULL,
+
+    -- 생성 시간
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_monthly_summary_cache_key_variant UNIQUE (cache_key, variant)
+);
+
+-- 테이블 소유권 설정
+ALTER TABLE melog.monthly_summary_cache OWNER TO melog;
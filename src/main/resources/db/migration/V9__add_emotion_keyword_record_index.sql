@@ -0,0 +1,6 @@
+-- V9: 키워드 집계용 인덱스 추가
+-- 사용자/기간별 키워드 가중치 합계(GROUP BY keyword)를 계산할 때
+-- 기간 내 감정 기록의 키워드를 기록 ID로 바로 찾도록 함
+
+-- 기록별 키워드 조회 (JOIN emotion_keyword ON record_id)
+CREATE INDEX idx_emotion_keyword_record ON melog.emotion_keyword(record_id);
@@ -0,0 +1,86 @@
+package com.melog.melog.clova;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.melog.melog.clova.domain.model.response.ClovaChatCompletionResponse;
+import com.melog.melog.clova.domain.model.response.ClovaEmotionResultsContent;
+import com.melog.melog.clova.domain.model.response.ClovaSttApiResponse;
+
+class ClovaResponseParsingTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void chatCompletion_ParsesResultMessageContent() throws Exception {
+        // Given: Clova Studio v3 chat-completions 응답 샘플
+        String body = """
+            {"status":{"code":"20000","message":"OK"},
+             "result":{"message":{"role":"assistant","content":"오늘 많이 지치셨군요."},
+                       "finishReason":"stop","created":1791234567890,"seed":1234,
+                       "usage":{"completionTokens":120,"promptTokens":800,"totalTokens":920}}}
+            """;
+
+        // When
+        ClovaChatCompletionResponse response = objectMapper.readValue(body, ClovaChatCompletionResponse.class);
+
+        // Then
+        assertEquals("오늘 많이 지치셨군요.", response.content());
+    }
+
+    @Test
+    void chatCompletion_FallsBackToChoicesAndStreamMessage() throws Exception {
+        String openAiCompatible = """
+            {"choices":[{"index":0,"message":{"role":"assistant","content":"요약"}}]}
+            """;
+        String streamToken = """
+            {"message":{"role":"assistant","content":"오"},"index":0,"inputLength":0,"outputLength":1}
+            """;
+
+        assertEquals("요약", objectMapper.readValue(openAiCompatible, ClovaChatCompletionResponse.class).content());
+        assertEquals("오", objectMapper.readValue(streamToken, ClovaChatCompletionResponse.class).content());
+        assertNull(objectMapper.readValue("{}", ClovaChatCompletionResponse.class).content());
+    }
+
+    @Test
+    void emotionResultsContent_AcceptsTypeOrEmotionKey() throws Exception {
+        String content = """
+            {"emotionResults":[{"type":"기쁨","percentage":60},{"emotion":"슬픔","percentage":25.5},{"type":"평온"}]}
+            """;
+
+        List<ClovaEmotionResultsContent.RawEmotionResult> results =
+                objectMapper.readValue(content, ClovaEmotionResultsContent.class).getEmotionResults();
+
+        assertEquals(3, results.size());
+        assertEquals("기쁨", results.get(0).typeOrEmotion());
+        assertEquals(60, results.get(0).getPercentage().intValue());
+        assertEquals("슬픔", results.get(1).typeOrEmotion());
+        assertEquals(25, results.get(1).getPercentage().intValue());
+        assertNull(results.get(2).getPercentage());
+    }
+
+    @Test
+    void sttResponse_ParsesSnakeCaseFieldsAndErrors() throws Exception {
+        String success = """
+            {"text":"오늘 하루 힘들었어","quota":4,"assessment_score":87,"assessment_details":"",
+             "ref_graph":[1,2,3],"usr_graph":[3,2,1]}
+            """;
+        String error = """
+            {"errorCode":"STT001","errorMessage":"Audio duration exceeded"}
+            """;
+
+        ClovaSttApiResponse ok = objectMapper.readValue(success, ClovaSttApiResponse.class);
+        assertEquals("오늘 하루 힘들었어", ok.getText());
+        assertEquals(4, ok.getQuota());
+        assertEquals(87, ok.getAssessmentScore());
+        assertEquals(List.of(1, 2, 3), ok.getRefGraph());
+
+        ClovaSttApiResponse failed = objectMapper.readValue(error, ClovaSttApiResponse.class);
+        assertEquals("STT001", failed.getErrorCode());
+        assertNull(failed.getText());
+    }
+}
@@ -0,0 +1,131 @@
+package com.melog.melog.clova;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.melog.melog.clova.application.service.ClovaStudioHedgePolicy;
+import com.melog.melog.clova.config.ClovaConfig;
+import com.melog.melog.clova.config.ClovaConfig.StudioProps;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ClovaStudioHedgePolicyTest {
+
+    @Mock
+    private ClovaConfig clovaConfig;
+
+    @Mock
+    private StudioProps studioProps;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ClovaStudioHedgePolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clovaConfig.getStudio()).thenReturn(studioProps);
+        lenient().when(studioProps.getHedgeInitialDelayMs()).thenReturn(6000L);
+        lenient().when(studioProps.getHedgePercentile()).thenReturn(90);
+        policy = new ClovaStudioHedgePolicy(clovaConfig, meterRegistry);
+    }
+
+    @Test
+    void hedgeDelayMs_UsesInitialDelayUntilEnoughSamples() {
+        for (int i = 0; i < 19; i++) {
+            policy.recordLatency(100);
+        }
+        assertEquals(6000L, policy.hedgeDelayMs());
+
+        policy.recordLatency(100);
+        assertEquals(100L, policy.hedgeDelayMs());
+    }
+
+    @Test
+    void hedgeDelayMs_ReturnsConfiguredPercentile() {
+        for (int latency = 1; latency <= 100; latency++) {
+            policy.recordLatency(latency);
+        }
+        assertEquals(90L, policy.hedgeDelayMs());
+
+        when(studioProps.getHedgePercentile()).thenReturn(50);
+        assertEquals(50L, policy.hedgeDelayMs());
+    }
+
+    @Test
+    void hedgeDelayMs_OnlyUsesRecentWindow() {
+        // 최근 200건만 반영: 느린 응답 200건 이후 빠른 응답 200건
+        for (int i = 0; i < 200; i++) {
+            policy.recordLatency(5000);
+        }
+        for (int i = 0; i < 200; i++) {
+            policy.recordLatency(200);
+        }
+        assertEquals(200L, policy.hedgeDelayMs());
+    }
+
+    @Test
+    void tryAcquireHedge_AccruesTokensPerPrimaryRequest() {
+        // 보조 요청 비율 50%: 1차 요청 2건마다 보조 요청 1건
+        when(studioProps.getHedgeMaxRate()).thenReturn(0.5);
+
+        policy.onPrimaryRequest();
+        assertFalse(policy.tryAcquireHedge());
+        policy.onPrimaryRequest();
+        assertTrue(policy.tryAcquireHedge());
+        assertFalse(policy.tryAcquireHedge());
+
+        assertEquals(1.0, meterRegistry.counter("clova.studio.hedge.fired").count());
+        assertEquals(2.0, meterRegistry.counter("clova.studio.hedge.throttled").count());
+    }
+
+    @Test
+    void tryAcquireHedge_CapsBurstTokens() {
+        when(studioProps.getHedgeMaxRate()).thenReturn(1.0);
+        for (int i = 0; i < 20; i++) {
+            policy.onPrimaryRequest();
+        }
+
+        // 토큰은 최대 5개까지만 쌓임
+        for (int i = 0; i < 5; i++) {
+            assertTrue(policy.tryAcquireHedge());
+            policy.releaseHedge();
+        }
+        assertFalse(policy.tryAcquireHedge());
+    }
+
+    @Test
+    void tryAcquireHedge_CountsHedgesUntilReleased() {
+        // 토큰이 남아도 끝나지 않은 보조 요청이 상한에 도달하면 보내지 않음
+        when(studioProps.getHedgeMaxRate()).thenReturn(1.0);
+        for (int i = 0; i < 10; i++) {
+            policy.onPrimaryRequest();
+        }
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(policy.tryAcquireHedge());
+        }
+        assertEquals(4, policy.getInFlightHedges());
+        assertFalse(policy.tryAcquireHedge());
+
+        policy.releaseHedge();
+        assertTrue(policy.tryAcquireHedge());
+    }
+
+    @Test
+    void recordWinner_CountsByWinner() {
+        policy.recordWinner(true);
+        policy.recordWinner(false);
+        policy.recordWinner(false);
+
+        assertEquals(1.0, meterRegistry.counter("clova.studio.hedge.wins", "winner", "hedge").count());
+        assertEquals(2.0, meterRegistry.counter("clova.studio.hedge.wins", "winner", "primary").count());
+    }
+}
@@ -0,0 +1,230 @@
+package com.melog.melog.clova;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.melog.melog.clova.adapter.external.out.ClovaStudioAdapter;
+import com.melog.melog.clova.application.service.ClovaStudioEmotionService;
+import com.melog.melog.clova.application.service.ClovaStudioHedgePolicy;
+import com.melog.melog.clova.config.ClovaConfig;
+import com.melog.melog.clova.config.ClovaConfig.StudioProps;
+import com.melog.melog.clova.domain.model.response.EmotionAnalysisResponse;
+import com.melog.melog.emotion.application.port.out.EmotionAnalysisCachePersistencePort;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 헤징 요청 동작 테스트
+ * 지연 시간을 제어하는 Clova Studio 스텁으로 보조 요청 발생 시점, 채택 규칙, 실패 전파, 예산을 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClovaStudioHedgingTest {
+
+    private static final long HEDGE_DELAY_MS = 100;
+    private static final String VALID_SUMMARY = "오늘 많이 힘드셨군요. 그래도 잘 버티셨네요. 정말 애쓰셨겠어요.";
+    private static final String INVALID_SUMMARY = "사용자는 하루를 보냈다";
+
+    @Mock
+    private ClovaStudioAdapter clovaStudioAdapter;
+
+    @Mock
+    private ClovaConfig clovaConfig;
+
+    @Mock
+    private StudioProps studioProps;
+
+    @Mock
+    private EmotionAnalysisCachePersistencePort emotionAnalysisCachePersistencePort;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<Long> requestStartedAt = new CopyOnWriteArrayList<>();
+
+    private ThreadPoolTaskExecutor clovaHedgeTaskExecutor;
+
+    private ClovaStudioHedgePolicy hedgePolicy;
+
+    private ClovaStudioEmotionService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clovaConfig.getStudio()).thenReturn(studioProps);
+        lenient().when(studioProps.isHedgeEnabled()).thenReturn(true);
+        lenient().when(studioProps.getHedgeInitialDelayMs()).thenReturn(HEDGE_DELAY_MS);
+        lenient().when(studioProps.getHedgePercentile()).thenReturn(90);
+        lenient().when(studioProps.getHedgeMaxRate()).thenReturn(1.0);
+        lenient().when(studioProps.getPromptVersion()).thenReturn("v1");
+        lenient().when(studioProps.getModel()).thenReturn("HCX-005");
+        lenient().when(studioProps.getAnalysisCacheTtlHours()).thenReturn(720L);
+
+        clovaHedgeTaskExecutor = new ThreadPoolTaskExecutor();
+        clovaHedgeTaskExecutor.setCorePoolSize(4);
+        clovaHedgeTaskExecutor.initialize();
+
+        hedgePolicy = new ClovaStudioHedgePolicy(clovaConfig, meterRegistry);
+        service = new ClovaStudioEmotionService(clovaStudioAdapter, clovaConfig, emotionAnalysisCachePersistencePort,
+                new ObjectMapper(), hedgePolicy, clovaHedgeTaskExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clovaHedgeTaskExecutor.shutdown();
+    }
+
+    @Test
+    void fastPrimary_DoesNotSendHedge() {
+        stubClova(reply(10, "1차 " + VALID_SUMMARY));
+
+        EmotionAnalysisResponse response = service.analyzeCompliant("오늘 하루", 1, 1000);
+
+        assertTrue(response.getSummary().startsWith("1차"));
+        verify(clovaStudioAdapter, times(1)).analyzeEmotion(any());
+        assertEquals(0.0, meterRegistry.counter("clova.studio.hedge.fired").count());
+    }
+
+    @Test
+    void slowPrimary_SendsHedgeAfterDelay_AndFirstValidResponseWins() {
+        stubClova(reply(1500, "1차 " + VALID_SUMMARY), reply(10, "보조 " + VALID_SUMMARY));
+
+        long startedAt = System.nanoTime();
+        EmotionAnalysisResponse response = service.analyzeCompliant("오늘 하루", 1, 1000);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // 보조 요청은 지연 시간이 지난 뒤에 전송되고, 먼저 끝난 보조 응답이 채택됨
+        assertTrue(response.getSummary().startsWith("보조"));
+        assertTrue(elapsedMs < 1000, "elapsed=" + elapsedMs);
+        long hedgeSentAfterMs = TimeUnit.NANOSECONDS.toMillis(requestStartedAt.get(1) - requestStartedAt.get(0));
+        assertTrue(hedgeSentAfterMs >= HEDGE_DELAY_MS - 10, "hedgeSentAfter=" + hedgeSentAfterMs);
+        assertEquals(1.0, meterRegistry.counter("clova.studio.hedge.wins", "winner", "hedge").count());
+        assertEquals(0, hedgePolicy.getInFlightHedges());
+    }
+
+    @Test
+    void hedge_PrefersResponsePassingSummaryRules() {
+        // 1차 응답이 먼저 오지만 규칙 검증에 실패하면 보조 응답을 기다려 채택
+        stubClova(reply(150, INVALID_SUMMARY), reply(200, "보조 " + VALID_SUMMARY));
+
+        EmotionAnalysisResponse response = service.analyzeCompliant("오늘 하루", 1, 1000);
+
+        assertTrue(response.getSummary().startsWith("보조"));
+        assertEquals(1.0, meterRegistry.counter("clova.studio.hedge.wins", "winner", "hedge").count());
+    }
+
+    @Test
+    void hedge_BothFail_PropagatesError() {
+        stubClova(failure(200, "1차 실패"), failure(10, "보조 실패"));
+
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> service.analyzeCompliant("오늘 하루", 1, 1000));
+
+        assertEquals("감정 분석 요청이 모두 실패했습니다.", error.getMessage());
+        assertEquals("1차 실패", error.getCause().getMessage());
+        verify(clovaStudioAdapter, times(2)).analyzeEmotion(any());
+        assertEquals(0, hedgePolicy.getInFlightHedges());
+    }
+
+    @Test
+    void hedgeBudgetExhausted_WaitsForPrimary() {
+        when(studioProps.getHedgeMaxRate()).thenReturn(0.0);
+        stubClova(reply(300, "1차 " + VALID_SUMMARY));
+
+        EmotionAnalysisResponse response = service.analyzeCompliant("오늘 하루", 1, 1000);
+
+        assertTrue(response.getSummary().startsWith("1차"));
+        verify(clovaStudioAdapter, times(1)).analyzeEmotion(any());
+        assertEquals(1.0, meterRegistry.counter("clova.studio.hedge.throttled").count());
+    }
+
+    @Test
+    void losingHedge_CountsInBudgetUntilItActuallyFinishes() throws Exception {
+        // 보조 요청은 취소(인터럽트)되어도 블로킹 HTTP 호출처럼 끝까지 실행됨
+        stubClova(reply(150, "1차 " + VALID_SUMMARY), uninterruptibleReply(600, "보조 " + VALID_SUMMARY));
+
+        EmotionAnalysisResponse response = service.analyzeCompliant("오늘 하루", 1, 1000);
+
+        assertTrue(response.getSummary().startsWith("1차"));
+        assertEquals(1, hedgePolicy.getInFlightHedges());
+
+        long deadline = System.currentTimeMillis() + 3000;
+        while (hedgePolicy.getInFlightHedges() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, hedgePolicy.getInFlightHedges());
+    }
+
+    // === Clova Studio 스텁 ===
+
+    private record Reply(long latencyMs, String summary, String error, boolean interruptible) {
+    }
+
+    private static Reply reply(long latencyMs, String summary) {
+        return new Reply(latencyMs, summary, null, true);
+    }
+
+    private static Reply uninterruptibleReply(long latencyMs, String summary) {
+        return new Reply(latencyMs, summary, null, false);
+    }
+
+    private static Reply failure(long latencyMs, String message) {
+        return new Reply(latencyMs, null, message, true);
+    }
+
+    private void stubClova(Reply... replies) {
+        AtomicInteger calls = new AtomicInteger();
+        when(clovaStudioAdapter.analyzeEmotion(any())).thenAnswer(invocation -> {
+            requestStartedAt.add(System.nanoTime());
+            Reply reply = replies[calls.getAndIncrement()];
+            if (reply.interruptible()) {
+                Thread.sleep(reply.latencyMs());
+            } else {
+                sleepUninterruptibly(reply.latencyMs());
+            }
+            if (reply.error() != null) {
+                throw new RuntimeException(reply.error());
+            }
+            List<EmotionAnalysisResponse.EmotionScore> emotions = new ArrayList<>(List.of(
+                    EmotionAnalysisResponse.EmotionScore.builder().type("기쁨").percentage(60).build(),
+                    EmotionAnalysisResponse.EmotionScore.builder().type("평온").percentage(40).build()));
+            return EmotionAnalysisResponse.builder()
+                    .summary(reply.summary())
+                    .emotions(emotions)
+                    .keywords(List.of("행복"))
+                    .build();
+        });
+    }
+
+    private static void sleepUninterruptibly(long millis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        boolean interrupted = false;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.melog.melog.clova;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.melog.melog.clova.domain.EmotionKeywordScanner;
+
+class EmotionKeywordScannerTest {
+
+    @Test
+    void scan_CountsDistinctKeywordsPerEmotion() {
+        // Given: 같은 키워드 반복, 활용형, 다른 감정 키워드가 섞인 텍스트
+        String text = "오늘은 행복하고 행복했어요. 기뻐서 좋아요. 그런데 조금 짜증나는 일도 있었어요.";
+
+        // When
+        int[] counts = EmotionKeywordScanner.scan(text).emotionCounts();
+
+        // Then: 기쁨(행복, 기뻐, 좋아) = 3, 분노(짜증, 짜증나) = 2
+        assertEquals(3, counts[EmotionKeywordScanner.indexOf("기쁨")]);
+        assertEquals(2, counts[EmotionKeywordScanner.indexOf("분노")]);
+        assertEquals(0, counts[EmotionKeywordScanner.indexOf("슬픔")]);
+    }
+
+    @Test
+    void scan_MatchesOverlappingKeywords() {
+        // Given: "혼란스러워"는 "혼란"을 포함
+        EmotionKeywordScanner.ScanResult result = EmotionKeywordScanner.scan("너무 혼란스러워요");
+
+        // Then
+        assertEquals(List.of("혼란", "혼란스러워"), result.matchedKeywords());
+        assertTrue(result.hasLeadingPoolKeyword(EmotionKeywordScanner.indexOf("지침")));
+    }
+
+    @Test
+    void scan_MatchesNaiveContainsCounting() {
+        String[] samples = {
+            "",
+            "기대와 긴장 속에서 두근거림이 느껴졌네요",
+            "차분해지고 편안해진 하루, 여유와 안정",
+            "슬퍼서 우울해요. 허전함과 절망",
+            "막막해서 고민이 많고 갈등도 있었어요",
+            "신남 즐거움 즐거워 만족 열받음 격분 화남 화나"
+        };
+
+        for (String sample : samples) {
+            int[] counts = EmotionKeywordScanner.scan(sample).emotionCounts();
+            for (int e = 0; e < EmotionKeywordScanner.EMOTIONS.length; e++) {
+                assertEquals(naiveCount(sample, e), counts[e], "sample=" + sample + ", emotion=" + EmotionKeywordScanner.EMOTIONS[e]);
+            }
+        }
+    }
+
+    @Test
+    void poolOf_UnknownEmotion_FallsBackToFatiguePool() {
+        assertEquals(List.of("혼란", "막막함", "고민", "갈등"), EmotionKeywordScanner.poolOf("알수없음"));
+        assertEquals(List.of("행복", "즐거움", "만족", "신남"), EmotionKeywordScanner.poolOf("기쁨"));
+        assertTrue(EmotionKeywordScanner.isPoolKeyword("두근거림"));
+        assertFalse(EmotionKeywordScanner.isPoolKeyword("설레"));
+    }
+
+    private static int naiveCount(String text, int emotionIndex) {
+        String[][] forms = {
+            {"행복", "즐거움", "만족", "신남", "기뻐", "좋아", "즐거워"},
+            {"기대", "떨림", "긴장", "두근거림", "설레", "떨려"},
+            {"차분함", "여유", "안정", "편안함", "차분해", "편안해"},
+            {"화남", "짜증", "열받음", "격분", "화나", "짜증나"},
+            {"슬픔", "우울함", "절망", "허전함", "슬퍼", "우울해"},
+            {"혼란", "막막함", "고민", "갈등", "혼란스러워", "막막해"}
+        };
+        int count = 0;
+        for (String keyword : forms[emotionIndex]) {
+            if (text.contains(keyword)) count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,179 @@
+package com.melog.melog.clova;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.melog.melog.clova.adapter.external.out.ClovaStudioAdapter;
+import com.melog.melog.clova.application.service.MonthlySummaryService;
+import com.melog.melog.clova.config.ClovaConfig;
+import com.melog.melog.clova.config.ClovaConfig.StudioProps;
+import com.melog.melog.clova.domain.model.request.MonthlySummaryRequest;
+import com.melog.melog.clova.domain.model.response.MonthlySummaryResponse;
+import com.melog.melog.emotion.application.port.out.MonthlySummaryCachePersistencePort;
+import com.melog.melog.emotion.domain.MonthlySummaryCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 월별 요약 공유 캐시 키와 감정 분포 양자화 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class MonthlySummaryServiceTest {
+
+    private static final String CLOVA_RESPONSE = "요약: 평온한 한 달이었어요.\n조언: 지금처럼 기록을 이어가보세요.";
+
+    @Mock
+    private ClovaStudioAdapter clovaStudioAdapter;
+
+    @Mock
+    private ClovaConfig clovaConfig;
+
+    @Mock
+    private StudioProps studioProps;
+
+    @Mock
+    private MonthlySummaryCachePersistencePort monthlySummaryCachePersistencePort;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MonthlySummaryService monthlySummaryService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clovaConfig.getStudio()).thenReturn(studioProps);
+        lenient().when(studioProps.isSummaryCacheEnabled()).thenReturn(true);
+        lenient().when(studioProps.getSummaryBucketPercent()).thenReturn(5);
+        lenient().when(studioProps.getSummaryCacheVariants()).thenReturn(1);
+        lenient().when(studioProps.getModel()).thenReturn("HCX-005");
+        lenient().when(clovaStudioAdapter.generateText(anyString())).thenReturn(CLOVA_RESPONSE);
+        lenient().when(monthlySummaryCachePersistencePort.findByCacheKey(anyString())).thenReturn(List.of());
+        monthlySummaryService = new MonthlySummaryService(clovaStudioAdapter, clovaConfig,
+                monthlySummaryCachePersistencePort, meterRegistry);
+    }
+
+    @Test
+    void cacheDisabled_SendsOriginalDistributionWithoutQuantizing() {
+        // Given
+        when(studioProps.isSummaryCacheEnabled()).thenReturn(false);
+
+        // When
+        monthlySummaryService.generateMonthlySummary(request("2025-01", "기쁨", 37.3, "평온", 2.4));
+
+        // Then: 캐시를 쓰지 않으면 프롬프트의 감정 분포를 바꾸지 않음
+        String prompt = capturePrompt();
+        assertTrue(prompt.contains("기쁨: " + String.format("%.1f%%", 37.3)), prompt);
+        assertTrue(prompt.contains("평온: " + String.format("%.1f%%", 2.4)), prompt);
+        verifyNoInteractions(monthlySummaryCachePersistencePort);
+    }
+
+    @Test
+    void cacheEnabled_QuantizesDistributionInPrompt() {
+        monthlySummaryService.generateMonthlySummary(request("2025-01", "기쁨", 37.3, "평온", 2.4));
+
+        // 5% 구간으로 반올림하고, 구간의 절반 미만인 감정은 제외
+        String prompt = capturePrompt();
+        assertTrue(prompt.contains("기쁨: " + String.format("%.1f%%", 35.0)), prompt);
+        assertFalse(prompt.contains("평온"), prompt);
+    }
+
+    @Test
+    void cacheKey_SameBucketsShareKey_RegardlessOfOrder() {
+        String key1 = cacheKeyFor(request("2025-01", "기쁨", 37.3, "슬픔", 62.7));
+        String key2 = cacheKeyFor(request("2025-01", "슬픔", 63.0, "기쁨", 36.0));
+
+        assertEquals(key1, key2);
+        assertEquals(64, key1.length());
+    }
+
+    @Test
+    void cacheKey_DiffersByBucketMonthAndModel() {
+        String base = cacheKeyFor(request("2025-01", "기쁨", 37.3, "슬픔", 62.7));
+
+        assertNotEquals(base, cacheKeyFor(request("2025-01", "기쁨", 38.0, "슬픔", 62.0)));
+        assertNotEquals(base, cacheKeyFor(request("2025-02", "기쁨", 37.3, "슬픔", 62.7)));
+
+        when(studioProps.getModel()).thenReturn("HCX-DASH-002");
+        assertNotEquals(base, cacheKeyFor(request("2025-01", "기쁨", 37.3, "슬픔", 62.7)));
+    }
+
+    @Test
+    void cacheHit_ReturnsStoredVariantWithoutCallingClova() {
+        // Given: 변형이 이미 최대 개수만큼 저장됨
+        when(monthlySummaryCachePersistencePort.findByCacheKey(anyString())).thenReturn(List.of(
+                MonthlySummaryCache.builder().variant(0).month("2025-01").summary("저장된 요약").advice("저장된 조언").build()));
+
+        // When
+        MonthlySummaryResponse response = monthlySummaryService.generateMonthlySummary(request("2025-01", "기쁨", 37.3, "슬픔", 62.7));
+
+        // Then
+        assertEquals("저장된 요약", response.getSummary());
+        assertEquals("저장된 조언", response.getAdvice());
+        verify(clovaStudioAdapter, never()).generateText(anyString());
+        assertEquals(1.0, meterRegistry.counter("clova.studio.summary.cache", "result", "hit").count());
+    }
+
+    @Test
+    void cacheMiss_GeneratesAndSavesNextVariant() {
+        MonthlySummaryResponse response = monthlySummaryService.generateMonthlySummary(request("2025-01", "기쁨", 37.3, "슬픔", 62.7));
+
+        ArgumentCaptor<String> cacheKey = ArgumentCaptor.forClass(String.class);
+        verify(monthlySummaryCachePersistencePort).findByCacheKey(cacheKey.capture());
+        ArgumentCaptor<MonthlySummaryCache> saved = ArgumentCaptor.forClass(MonthlySummaryCache.class);
+        verify(monthlySummaryCachePersistencePort).save(saved.capture());
+        assertEquals(cacheKey.getValue(), saved.getValue().getCacheKey());
+        assertEquals(Integer.valueOf(0), saved.getValue().getVariant());
+        assertEquals("평온한 한 달이었어요.", response.getSummary());
+        assertEquals(1.0, meterRegistry.counter("clova.studio.summary.cache", "result", "miss").count());
+    }
+
+    @Test
+    void cacheMiss_MalformedClovaResponse_IsNotShared() {
+        when(clovaStudioAdapter.generateText(anyString())).thenReturn("형식에 맞지 않는 응답");
+
+        monthlySummaryService.generateMonthlySummary(request("2025-01", "기쁨", 37.3, "슬픔", 62.7));
+
+        verify(monthlySummaryCachePersistencePort, never()).save(any());
+    }
+
+    private String cacheKeyFor(MonthlySummaryRequest request) {
+        ArgumentCaptor<String> cacheKey = ArgumentCaptor.forClass(String.class);
+        monthlySummaryService.generateMonthlySummary(request);
+        verify(monthlySummaryCachePersistencePort, atLeastOnce()).findByCacheKey(cacheKey.capture());
+        return cacheKey.getValue();
+    }
+
+    private String capturePrompt() {
+        ArgumentCaptor<String> prompt = ArgumentCaptor.forClass(String.class);
+        verify(clovaStudioAdapter).generateText(prompt.capture());
+        return prompt.getValue();
+    }
+
+    private static MonthlySummaryRequest request(String month, String emotion1, double percentage1,
+                                                 String emotion2, double percentage2) {
+        Map<String, Double> distribution = new LinkedHashMap<>();
+        distribution.put(emotion1, percentage1);
+        distribution.put(emotion2, percentage2);
+        return MonthlySummaryRequest.builder()
+                .month(month)
+                .emotionDistribution(distribution)
+                .build();
+    }
+}
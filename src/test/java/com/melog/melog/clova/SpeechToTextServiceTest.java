@@ -1,28 +1,80 @@
 package com.melog.melog.clova;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import com.melog.melog.clova.application.port.out.SpeechToTextPort;
 import com.melog.melog.clova.application.service.SpeechToTextService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.melog.melog.clova.config.ClovaConfig;
+import com.melog.melog.clova.config.ClovaConfig.SpeechProps;
+import com.melog.melog.clova.config.ClovaConfig.SttProps;
 import com.melog.melog.clova.domain.model.request.SttRequest;
 import com.melog.melog.clova.domain.model.response.SttResponse;
+import com.melog.melog.emotion.application.port.out.SttTranscriptCachePersistencePort;
+import com.melog.melog.emotion.domain.SttTranscriptCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class SpeechToTextServiceTest {
 
+    private static final int RATE = 16000;
+
     @Mock
     private SpeechToTextPort speechToTextPort;
 
+    @Mock
+    private ClovaConfig clovaConfig;
+
+    @Mock
+    private SpeechProps speechProps;
+
+    @Mock
+    private SttProps sttProps;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private ThreadPoolTaskExecutor clovaSttTaskExecutor;
+
+    @Mock
+    private SttTranscriptCachePersistencePort sttTranscriptCachePersistencePort;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private SpeechToTextService speechToTextService;
 
@@ -38,6 +90,11 @@ class SpeechToTextServiceTest {
             "audio/mpeg", 
             audioData
         );
+
+        lenient().when(clovaConfig.getSpeech()).thenReturn(speechProps);
+        lenient().when(speechProps.getStt()).thenReturn(sttProps);
+        lenient().when(sttProps.isCacheEnabled()).thenReturn(true);
+        lenient().when(sttProps.getCacheTtlHours()).thenReturn(72L);
     }
 
     @Test
@@ -79,6 +136,50 @@ class SpeechToTextServiceTest {
         assertEquals("테스트 음성입니다", result);
     }
 
+    @Test
+    void recognize_CacheMiss_StoresTranscript() {
+        // Given
+        SttResponse response = SttResponse.builder()
+            .text("안녕하세요")
+            .language("Kor")
+            .build();
+
+        when(speechToTextPort.sendSpeechToTextRequest(any(SttRequest.class)))
+            .thenReturn(response);
+
+        // When
+        speechToTextService.recognize(mockAudioFile, "ko");
+
+        // Then
+        verify(sttTranscriptCachePersistencePort).save(any(SttTranscriptCache.class));
+    }
+
+    @Test
+    void recognize_CacheHit_SkipsSpeechToTextRequest() throws Exception {
+        // Given
+        SttResponse cachedResponse = SttResponse.builder()
+            .text("캐시된 음성입니다")
+            .language("Kor")
+            .build();
+
+        when(sttTranscriptCachePersistencePort.findValidByCacheKey(anyString(), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(SttTranscriptCache.builder()
+                .cacheKey("key")
+                .language("Kor")
+                .audioSize(1024L)
+                .resultJson(objectMapper.writeValueAsString(cachedResponse))
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build()));
+
+        // When
+        SttResponse result = speechToTextService.recognize(mockAudioFile, "ko");
+
+        // Then
+        assertEquals("캐시된 음성입니다", result.getText());
+        verify(speechToTextPort, never()).sendSpeechToTextRequest(any(SttRequest.class));
+        assertEquals(1.0, meterRegistry.counter("clova.speech.cache", "result", "hit").count());
+    }
+
     @Test
     void recognize_NullAudioFile_ThrowsException() {
         // When & Then
@@ -102,4 +203,96 @@ class SpeechToTextServiceTest {
             speechToTextService.recognize(emptyFile, "ko");
         });
     }
+
+    @Test
+    void recognize_LongWav_JoinsSegmentTranscriptsInOriginalOrder() {
+        // Given: 쉼 두 번이 있는 2.3초 PCM WAV, 구간 최대 1초 → 3구간
+        short[] speech = tone(RATE * 7 / 10);
+        short[] pause = new short[RATE / 10];
+        MockMultipartFile wavFile = wavFile(speech, pause, speech, pause, speech);
+        stubChunking(1);
+
+        // 구간 인식은 뒤 구간부터 끝나도록 제출 역순으로 실행
+        List<Runnable> submitted = new ArrayList<>();
+        doAnswer(invocation -> {
+            submitted.add(invocation.getArgument(0));
+            if (submitted.size() == 3) {
+                List<Runnable> reversed = new ArrayList<>(submitted);
+                Collections.reverse(reversed);
+                reversed.forEach(Runnable::run);
+            }
+            return null;
+        }).when(clovaSttTaskExecutor).execute(any(Runnable.class));
+        AtomicInteger calls = new AtomicInteger();
+        when(speechToTextPort.sendSpeechToTextRequest(any(SttRequest.class)))
+            .thenAnswer(invocation -> SttResponse.builder()
+                .text("구간" + (3 - calls.getAndIncrement()))
+                .language("Kor")
+                .quota(1)
+                .build());
+
+        // When
+        SttResponse result = speechToTextService.recognize(wavFile, "ko");
+
+        // Then: 완료 순서와 관계없이 구간 순서대로 이어 붙임
+        assertEquals("구간1 구간2 구간3", result.getText());
+        assertEquals(Integer.valueOf(3), result.getQuota());
+        ArgumentCaptor<SttRequest> requests = ArgumentCaptor.forClass(SttRequest.class);
+        verify(speechToTextPort, times(3)).sendSpeechToTextRequest(requests.capture());
+        requests.getAllValues().forEach(request -> assertEquals("wav", request.getAudioFormat()));
+    }
+
+    @Test
+    void recognize_LongWavWithOversizedSegment_SubmitsNoSegment() {
+        // Given: 60초 + 쉼 + 140초, 구간 최대 100초 → 두 번째 구간이 3MB 초과
+        short[] pause = new short[RATE / 2];
+        MockMultipartFile wavFile = wavFile(constant(RATE * 60), pause, constant(RATE * 140));
+        stubChunking(100);
+
+        // When & Then: 첫 구간도 제출하지 않고 실패
+        assertThrows(IllegalArgumentException.class, () -> speechToTextService.recognize(wavFile, "ko"));
+        verify(clovaSttTaskExecutor, never()).execute(any(Runnable.class));
+        verify(speechToTextPort, never()).sendSpeechToTextRequest(any(SttRequest.class));
+    }
+
+    private void stubChunking(int segmentSeconds) {
+        when(sttProps.isChunkEnabled()).thenReturn(true);
+        when(sttProps.getChunkSegmentSeconds()).thenReturn(segmentSeconds);
+        when(sttProps.getPreprocessSampleRate()).thenReturn(RATE);
+        when(sttProps.getMaxDuration()).thenReturn(60);
+        lenient().when(sttProps.getChunkMaxDuration()).thenReturn(600);
+    }
+
+    private static short[] tone(int length) {
+        short[] samples = new short[length];
+        for (int i = 0; i < length; i++) {
+            samples[i] = (short) (8000 * Math.sin(2 * Math.PI * 440 * i / RATE));
+        }
+        return samples;
+    }
+
+    private static short[] constant(int length) {
+        short[] samples = new short[length];
+        Arrays.fill(samples, (short) 1000);
+        return samples;
+    }
+
+    /**
+     * 16kHz 16비트 모노 PCM WAV 파일
+     */
+    private static MockMultipartFile wavFile(short[]... parts) {
+        int sampleCount = Arrays.stream(parts).mapToInt(part -> part.length).sum();
+        ByteBuffer wav = ByteBuffer.allocate(44 + sampleCount * 2).order(ByteOrder.LITTLE_ENDIAN);
+        wav.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(36 + sampleCount * 2)
+            .put("WAVE".getBytes(StandardCharsets.US_ASCII))
+            .put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(16).putShort((short) 1).putShort((short) 1)
+            .putInt(RATE).putInt(RATE * 2).putShort((short) 2).putShort((short) 16)
+            .put("data".getBytes(StandardCharsets.US_ASCII)).putInt(sampleCount * 2);
+        for (short[] part : parts) {
+            for (short sample : part) {
+                wav.putShort(sample);
+            }
+        }
+        return new MockMultipartFile("audio", "long.wav", "audio/wav", wav.array());
+    }
 }
@@ -0,0 +1,121 @@
+package com.melog.melog.common.audio;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class AudioProbeTest {
+
+    @Test
+    void wav_ComputesDurationFromFmtAndDataChunks() {
+        // Given: 16kHz mono 16bit, 2초
+        int dataSize = 16000 * 2 * 2;
+        ByteBuffer wav = ByteBuffer.allocate(44 + dataSize).order(ByteOrder.LITTLE_ENDIAN);
+        wav.put(ascii("RIFF")).putInt(36 + dataSize).put(ascii("WAVE"));
+        wav.put(ascii("fmt ")).putInt(16).putShort((short) 1).putShort((short) 1)
+                .putInt(16000).putInt(16000 * 2).putShort((short) 2).putShort((short) 16);
+        wav.put(ascii("data")).putInt(dataSize);
+
+        // When
+        AudioInfo info = AudioProbe.probe(wav.clear());
+
+        // Then
+        assertEquals("wav", info.getFormat());
+        assertEquals(2000, info.getDurationMillis());
+        assertEquals(16000, info.getSampleRate());
+        assertEquals(1, info.getChannels());
+        assertEquals(2, info.getDurationSeconds());
+    }
+
+    @Test
+    void flac_ReadsStreamInfo() {
+        // 44.1kHz, 2채널, 16bit, 3초
+        long packed = (44100L << 44) | (1L << 41) | (15L << 36) | (44100L * 3);
+        ByteBuffer flac = ByteBuffer.allocate(8 + 34);
+        flac.put(ascii("fLaC")).put(new byte[]{(byte) 0x80, 0, 0, 34});
+        flac.putShort((short) 4096).putShort((short) 4096).put(new byte[6]).putLong(packed);
+
+        AudioInfo info = AudioProbe.probe(flac.clear());
+
+        assertEquals("flac", info.getFormat());
+        assertEquals(3000, info.getDurationMillis());
+        assertEquals(44100, info.getSampleRate());
+        assertEquals(2, info.getChannels());
+    }
+
+    @Test
+    void mp3_EstimatesCbrDurationAfterId3Tag() {
+        // MPEG1 Layer III 128kbps 44.1kHz 스테레오 프레임(417바이트) 100개, 앞에 ID3v2 태그
+        int frameLength = 417;
+        ByteBuffer mp3 = ByteBuffer.allocate(10 + 20 + frameLength * 100);
+        mp3.put(ascii("ID3")).put(new byte[]{4, 0, 0, 0, 0, 0, 20}).put(new byte[20]);
+        for (int i = 0; i < 100; i++) {
+            mp3.putInt(0xFFFB9000).put(new byte[frameLength - 4]);
+        }
+
+        AudioInfo info = AudioProbe.probe(mp3.clear());
+
+        assertEquals("mp3", info.getFormat());
+        assertEquals(2612, info.getDurationMillis(), 20);
+        assertEquals(44100, info.getSampleRate());
+        assertEquals(2, info.getChannels());
+    }
+
+    @Test
+    void mp3_UsesXingFrameCount() {
+        int frameLength = 417;
+        ByteBuffer mp3 = ByteBuffer.allocate(frameLength * 2);
+        mp3.putInt(0xFFFB9000).put(new byte[32]).put(ascii("Xing")).putInt(0x1).putInt(1000);
+        mp3.position(frameLength);
+        mp3.putInt(0xFFFB9000);
+
+        AudioInfo info = AudioProbe.probe(mp3.clear());
+
+        assertEquals(1000L * 1152 * 1000 / 44100, info.getDurationMillis());
+    }
+
+    @Test
+    void m4a_ReadsMvhdTimescaleAndDuration() {
+        ByteBuffer m4a = ByteBuffer.allocate(16 + 8 + 108);
+        m4a.putInt(16).put(ascii("ftyp")).put(ascii("M4A ")).putInt(0);
+        m4a.putInt(8 + 108).put(ascii("moov"));
+        m4a.putInt(108).put(ascii("mvhd")).putInt(0).putInt(0).putInt(0).putInt(1000).putInt(45000);
+
+        AudioInfo info = AudioProbe.probe(m4a.clear());
+
+        assertEquals("m4a", info.getFormat());
+        assertEquals(45000, info.getDurationMillis());
+    }
+
+    @Test
+    void opus_UsesLastGranulePositionMinusPreSkip() {
+        ByteBuffer ogg = ByteBuffer.allocate(27 + 1 + 19 + 27).order(ByteOrder.LITTLE_ENDIAN);
+        ogg.put(ascii("OggS")).put((byte) 0).put((byte) 2).putLong(0).putInt(1).putInt(0).putInt(0)
+                .put((byte) 1).put((byte) 19);
+        ogg.put(ascii("OpusHead")).put((byte) 1).put((byte) 1).putShort((short) 312).putInt(16000)
+                .putShort((short) 0).put((byte) 0);
+        ogg.put(ascii("OggS")).put((byte) 0).put((byte) 4).putLong(48000L * 5 + 312).putInt(1).putInt(1).putInt(0)
+                .put((byte) 0);
+
+        AudioInfo info = AudioProbe.probe(ogg.clear());
+
+        assertEquals("opus", info.getFormat());
+        assertEquals(5000, info.getDurationMillis());
+        assertEquals(1, info.getChannels());
+    }
+
+    @Test
+    void unknownOrTruncatedData_ReturnsUnknown() {
+        assertFalse(AudioProbe.probe(ByteBuffer.allocate(1024)).isDurationKnown());
+        assertFalse(AudioProbe.probe(ByteBuffer.wrap(ascii("RIFF"))).isDurationKnown());
+        assertNull(AudioProbe.probe(ByteBuffer.wrap(ascii("fLaC"))).getDurationSeconds());
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
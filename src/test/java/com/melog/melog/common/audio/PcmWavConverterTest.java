@@ -0,0 +1,99 @@
+package com.melog.melog.common.audio;
+
+import static com.melog.melog.common.audio.WavFixtures.ascii;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+class PcmWavConverterTest {
+
+    @Test
+    void toMono16_AlreadyMono16AtTargetRate_ReturnsNull() {
+        ByteBuffer wav = WavFixtures.mono16(16000, new short[]{1, 2, 3});
+
+        assertNull(PcmWavConverter.toMono16(wav, 16000));
+    }
+
+    @Test
+    void toMono16_NotPcmWav_ReturnsNull() {
+        assertNull(PcmWavConverter.toMono16(ByteBuffer.wrap(ascii("fLaC....")), 16000));
+    }
+
+    @Test
+    void toMono16_Stereo_DownmixesWithoutResampling() {
+        // Given: 16kHz 스테레오
+        ByteBuffer wav = WavFixtures.stereo16(16000, new short[]{100, -400, 32000}, new short[]{300, -200, 32000});
+
+        // When
+        ByteBuffer converted = PcmWavConverter.toMono16(wav, 16000);
+
+        // Then: 채널 평균의 16비트 모노, 헤더의 data 길이가 실제 길이와 같음
+        assertNotNull(converted);
+        assertEquals(0, converted.position());
+        assertTrue(converted.isReadOnly());
+        assertEquals(PcmWav.HEADER_SIZE + 3 * 2, converted.limit());
+        PcmWav parsed = PcmWav.parse(converted);
+        assertTrue(parsed.isMono16());
+        assertEquals(16000, parsed.getSampleRate());
+        assertEquals(200, parsed.monoSample(0));
+        assertEquals(-300, parsed.monoSample(1));
+        assertEquals(32000, parsed.monoSample(2));
+    }
+
+    @Test
+    void toMono16_48kHz_AveragesEachOutputWindow() {
+        // Given: 48kHz → 16kHz, 입력 3샘플마다 출력 1샘플
+        short[] samples = {0, 30, 60, 300, 300, 300, -90, -90, 0};
+        ByteBuffer wav = WavFixtures.mono16(48000, samples);
+
+        // When
+        PcmWav parsed = PcmWav.parse(PcmWavConverter.toMono16(wav, 16000));
+
+        // Then
+        assertEquals(16000, parsed.getSampleRate());
+        assertEquals(3, parsed.frameCount());
+        assertEquals(30, parsed.monoSample(0));
+        assertEquals(300, parsed.monoSample(1));
+        assertEquals(-60, parsed.monoSample(2));
+    }
+
+    @Test
+    void toMono16_44_1kHzStereo_KeepsDuration() {
+        // Given: 44.1kHz 스테레오 1초
+        short[] tone = WavFixtures.tone(44100, 44100, 440, 8000);
+        ByteBuffer wav = WavFixtures.stereo16(44100, tone, tone);
+
+        // When
+        ByteBuffer converted = PcmWavConverter.toMono16(wav, 16000);
+
+        // Then: 출력 샘플 수 = 입력 프레임 수 × 16000 / 44100
+        PcmWav parsed = PcmWav.parse(converted);
+        assertEquals(16000, parsed.frameCount());
+        assertEquals(1000, parsed.durationMillis());
+        assertEquals(PcmWav.HEADER_SIZE + 16000 * 2, converted.limit());
+    }
+
+    @Test
+    void toMono16_LowerThanTargetRate_DoesNotUpsample() {
+        ByteBuffer wav = WavFixtures.pcm(8000, 1, 8, new byte[]{(byte) 0x80, (byte) 0xC0});
+
+        PcmWav parsed = PcmWav.parse(PcmWavConverter.toMono16(wav, 16000));
+
+        // 8비트는 16비트로만 변환하고 샘플레이트는 유지
+        assertEquals(8000, parsed.getSampleRate());
+        assertEquals(2, parsed.frameCount());
+        assertEquals(0, parsed.monoSample(0));
+        assertEquals(64 << 8, parsed.monoSample(1));
+    }
+
+    @Test
+    void toMono16_DoesNotMoveSourcePosition() {
+        ByteBuffer wav = WavFixtures.stereo16(16000, new short[]{1, 2}, new short[]{3, 4});
+
+        PcmWavConverter.toMono16(wav, 16000);
+
+        assertEquals(0, wav.position());
+    }
+}
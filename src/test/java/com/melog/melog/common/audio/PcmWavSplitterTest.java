@@ -0,0 +1,108 @@
+package com.melog.melog.common.audio;
+
+import static com.melog.melog.common.audio.WavFixtures.ascii;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PcmWavSplitterTest {
+
+    private static final int RATE = 16000;
+
+    @Test
+    void split_CutsInsidePauseWithinSecondHalfOfSegment() {
+        // Given: 음성 700ms + 쉼 100ms + 음성 700ms, 구간 최대 1초
+        short[] speech = WavFixtures.tone(RATE * 7 / 10, RATE, 440, 8000);
+        short[] samples = WavFixtures.concat(speech, silence(100), speech);
+
+        // When
+        List<ByteBuffer> segments = PcmWavSplitter.split(WavFixtures.mono16(RATE, samples), 1000);
+
+        // Then: 단어 중간이 아닌 쉼 구간에서 나눔
+        assertEquals(2, segments.size());
+        short[] first = WavFixtures.samplesOf(segments.get(0));
+        assertTrue(first.length > speech.length && first.length <= speech.length + RATE / 10, "first=" + first.length);
+        assertEquals(0, first[first.length - 1]);
+        assertEquals(0, WavFixtures.samplesOf(segments.get(1))[0]);
+        assertTrue(Arrays.equals(samples, joined(segments)));
+    }
+
+    @Test
+    void split_WithoutPause_KeepsEverySegmentWithinMaxLength() {
+        // Given: 쉼 없는 3.5초, 구간 최대 1초
+        short[] samples = WavFixtures.tone(RATE * 7 / 2, RATE, 440, 8000);
+
+        // When
+        List<ByteBuffer> segments = PcmWavSplitter.split(WavFixtures.mono16(RATE, samples), 1000);
+
+        // Then
+        assertTrue(segments.size() >= 4, "segments=" + segments.size());
+        for (ByteBuffer segment : segments) {
+            assertTrue(PcmWav.parse(segment).durationMillis() <= 1000);
+        }
+        assertTrue(Arrays.equals(samples, joined(segments)));
+    }
+
+    @Test
+    void split_SegmentsJoinBackInOriginalOrderIncludingTail() {
+        // Given: 구간마다 다른 진폭, 마지막 프레임에 못 미치는 꼬리 샘플 7개
+        short[] samples = WavFixtures.concat(
+                WavFixtures.tone(RATE / 2, RATE, 200, 2000), silence(100),
+                WavFixtures.tone(RATE / 2, RATE, 300, 4000), silence(100),
+                WavFixtures.tone(RATE / 2 + 7, RATE, 400, 6000));
+
+        // When
+        List<ByteBuffer> segments = PcmWavSplitter.split(WavFixtures.mono16(RATE, samples), 800);
+
+        // Then: 이어 붙이면 샘플 하나 빠지지 않고 원본 순서 그대로
+        assertEquals(3, segments.size());
+        assertTrue(Arrays.equals(samples, joined(segments)));
+    }
+
+    @Test
+    void split_ShorterThanMax_ReturnsSingleMono16Segment() {
+        // Given: 스테레오 입력
+        short[] channel = WavFixtures.tone(RATE / 2, RATE, 440, 8000);
+
+        // When
+        List<ByteBuffer> segments = PcmWavSplitter.split(WavFixtures.stereo16(RATE, channel, channel), 1000);
+
+        // Then
+        assertEquals(1, segments.size());
+        PcmWav parsed = PcmWav.parse(segments.get(0));
+        assertTrue(parsed.isMono16());
+        assertEquals(RATE, parsed.getSampleRate());
+        assertTrue(Arrays.equals(channel, WavFixtures.samplesOf(segments.get(0))));
+    }
+
+    @Test
+    void split_ShorterThanOneFrame_ReturnsWholeInput() {
+        short[] samples = {1, 2, 3};
+
+        List<ByteBuffer> segments = PcmWavSplitter.split(WavFixtures.mono16(RATE, samples), 1000);
+
+        assertEquals(1, segments.size());
+        assertTrue(Arrays.equals(samples, WavFixtures.samplesOf(segments.get(0))));
+    }
+
+    @Test
+    void split_NotPcmWav_ReturnsEmptyList() {
+        assertTrue(PcmWavSplitter.split(ByteBuffer.wrap(ascii("OggS....")), 1000).isEmpty());
+    }
+
+    private static short[] silence(int millis) {
+        return new short[RATE * millis / 1000];
+    }
+
+    private static short[] joined(List<ByteBuffer> segments) {
+        short[][] parts = new short[segments.size()][];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = WavFixtures.samplesOf(segments.get(i));
+        }
+        return WavFixtures.concat(parts);
+    }
+}
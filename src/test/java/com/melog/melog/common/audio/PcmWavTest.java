@@ -0,0 +1,191 @@
+package com.melog.melog.common.audio;
+
+import static com.melog.melog.common.audio.WavFixtures.ascii;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.jupiter.api.Test;
+
+class PcmWavTest {
+
+    @Test
+    void parse_Mono16_ReadsFormatAndSamples() {
+        // Given: 16kHz mono 16bit, 4 샘플
+        ByteBuffer wav = WavFixtures.mono16(16000, new short[]{0, 1000, -1000, Short.MAX_VALUE});
+
+        // When
+        PcmWav parsed = PcmWav.parse(wav);
+
+        // Then
+        assertNotNull(parsed);
+        assertTrue(parsed.isMono16());
+        assertEquals(1, parsed.getChannels());
+        assertEquals(16000, parsed.getSampleRate());
+        assertEquals(16, parsed.getBitsPerSample());
+        assertEquals(4, parsed.frameCount());
+        assertEquals(1000, parsed.monoSample(1));
+        assertEquals(-1000, parsed.monoSample(2));
+        assertEquals(Short.MAX_VALUE, parsed.monoSample(3));
+    }
+
+    @Test
+    void parse_SkipsOddSizedChunkWithPaddingByte() {
+        // Given: fmt 앞에 길이 3인 LIST 청크 + 패딩 1바이트
+        ByteBuffer wav = ByteBuffer.allocate(12 + 8 + 3 + 1 + 24 + 8 + 4).order(ByteOrder.LITTLE_ENDIAN);
+        wav.put(ascii("RIFF")).putInt(wav.capacity() - 8).put(ascii("WAVE"));
+        wav.put(ascii("LIST")).putInt(3).put(new byte[]{1, 2, 3}).put((byte) 0);
+        WavFixtures.putFmt(wav, 1, 1, 8000, 2, 16);
+        wav.put(ascii("data")).putInt(4).putShort((short) 123).putShort((short) -456);
+
+        // When
+        PcmWav parsed = PcmWav.parse(wav.flip());
+
+        // Then: 패딩 바이트를 건너뛰어 fmt/data 청크를 찾음
+        assertNotNull(parsed);
+        assertEquals(8000, parsed.getSampleRate());
+        assertEquals(2, parsed.frameCount());
+        assertEquals(123, parsed.monoSample(0));
+        assertEquals(-456, parsed.monoSample(1));
+    }
+
+    @Test
+    void parse_8Bit_ConvertsUnsignedSamplesTo16BitRange() {
+        PcmWav parsed = PcmWav.parse(WavFixtures.pcm(8000, 1, 8, new byte[]{(byte) 0x80, (byte) 0xFF, 0x00}));
+
+        assertNotNull(parsed);
+        assertFalse(parsed.isMono16());
+        assertEquals(0, parsed.monoSample(0));
+        assertEquals(127 << 8, parsed.monoSample(1));
+        assertEquals(-32768, parsed.monoSample(2));
+    }
+
+    @Test
+    void parse_24Bit_KeepsUpper16Bits() {
+        // 0x123456, -65536(0xFF0000)
+        PcmWav parsed = PcmWav.parse(WavFixtures.pcm(48000, 1, 24,
+                new byte[]{0x56, 0x34, 0x12, 0x00, 0x00, (byte) 0xFF}));
+
+        assertNotNull(parsed);
+        assertEquals(2, parsed.frameCount());
+        assertEquals(0x1234, parsed.monoSample(0));
+        assertEquals(-256, parsed.monoSample(1));
+    }
+
+    @Test
+    void parse_32Bit_KeepsUpper16Bits() {
+        ByteBuffer data = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putInt(0x12345678).putInt(-0x10000);
+
+        PcmWav parsed = PcmWav.parse(WavFixtures.pcm(48000, 1, 32, data.array()));
+
+        assertNotNull(parsed);
+        assertEquals(0x1234, parsed.monoSample(0));
+        assertEquals(-1, parsed.monoSample(1));
+    }
+
+    @Test
+    void monoSample_Stereo_AveragesChannels() {
+        PcmWav parsed = PcmWav.parse(WavFixtures.stereo16(44100,
+                new short[]{1000, -1000, Short.MAX_VALUE}, new short[]{3000, -3001, Short.MAX_VALUE}));
+
+        assertNotNull(parsed);
+        assertEquals(2, parsed.getChannels());
+        assertEquals(3, parsed.frameCount());
+        assertEquals(2000, parsed.monoSample(0));
+        assertEquals(-2000, parsed.monoSample(1));
+        assertEquals(Short.MAX_VALUE, parsed.monoSample(2));
+    }
+
+    @Test
+    void parse_ExtensiblePcmSubformat_IsSupported() {
+        ByteBuffer wav = extensible(1);
+
+        PcmWav parsed = PcmWav.parse(wav);
+
+        assertNotNull(parsed);
+        assertEquals(2, parsed.getChannels());
+        assertEquals(1, parsed.frameCount());
+    }
+
+    @Test
+    void parse_ExtensibleFloatSubformat_ReturnsNull() {
+        assertNull(PcmWav.parse(extensible(3)));
+    }
+
+    @Test
+    void parse_DataSizeBeyondBuffer_UsesAvailableWholeFrames() {
+        // Given: data 청크 크기가 실제보다 크고(스트리밍 녹음), 마지막 프레임이 잘림
+        ByteBuffer wav = WavFixtures.mono16(16000, new short[]{1, 2, 3});
+        wav.putInt(40, 1_000_000);
+        ByteBuffer truncated = wav.slice(0, wav.limit() - 1);
+
+        // When
+        PcmWav parsed = PcmWav.parse(truncated);
+
+        // Then
+        assertNotNull(parsed);
+        assertEquals(2, parsed.frameCount());
+    }
+
+    @Test
+    void parse_MalformedInput_ReturnsNull() {
+        // RIFF/WAVE 아님, 헤더 부족
+        assertNull(PcmWav.parse(ByteBuffer.wrap(ascii("ID3 not a wave file"))));
+        assertNull(PcmWav.parse(ByteBuffer.wrap(ascii("RIFF"))));
+
+        // IEEE float 포맷
+        ByteBuffer floatWav = WavFixtures.pcm(16000, 1, 32, new byte[8]);
+        floatWav.putShort(20, (short) 3);
+        assertNull(PcmWav.parse(floatWav));
+
+        // 지원하지 않는 비트 수, blockAlign 불일치, 채널 0
+        assertNull(PcmWav.parse(WavFixtures.pcm(16000, 1, 12, new byte[4])));
+        ByteBuffer badBlockAlign = WavFixtures.mono16(16000, new short[]{1, 2});
+        badBlockAlign.putShort(32, (short) 4);
+        assertNull(PcmWav.parse(badBlockAlign));
+        ByteBuffer noChannels = WavFixtures.mono16(16000, new short[]{1, 2});
+        noChannels.putShort(22, (short) 0);
+        assertNull(PcmWav.parse(noChannels));
+
+        // fmt 청크 없이 data 청크만 있음
+        ByteBuffer noFmt = ByteBuffer.allocate(12 + 8 + 4).order(ByteOrder.LITTLE_ENDIAN);
+        noFmt.put(ascii("RIFF")).putInt(16).put(ascii("WAVE")).put(ascii("data")).putInt(4).putInt(0);
+        assertNull(PcmWav.parse(noFmt.flip()));
+
+        // data 청크 없음
+        ByteBuffer noData = WavFixtures.mono16(16000, new short[]{1, 2});
+        assertNull(PcmWav.parse(noData.slice(0, 36)));
+    }
+
+    @Test
+    void writeMono16Header_RoundTripsThroughParse() {
+        ByteBuffer wav = ByteBuffer.allocate(PcmWav.HEADER_SIZE + 6).order(ByteOrder.LITTLE_ENDIAN);
+        PcmWav.writeMono16Header(wav, 16000, 6);
+        wav.position(PcmWav.HEADER_SIZE);
+        wav.putShort((short) 7).putShort((short) 8).putShort((short) 9);
+
+        PcmWav parsed = PcmWav.parse(wav.flip());
+
+        assertNotNull(parsed);
+        assertTrue(parsed.isMono16());
+        assertEquals(16000, parsed.getSampleRate());
+        assertEquals(3, parsed.frameCount());
+        assertEquals(9, parsed.monoSample(2));
+        assertEquals(36 + 6, wav.order(ByteOrder.LITTLE_ENDIAN).getInt(4));
+    }
+
+    /**
+     * WAVE_FORMAT_EXTENSIBLE fmt 청크(40바이트)를 가진 16비트 스테레오 WAV (1프레임)
+     */
+    private static ByteBuffer extensible(int subFormat) {
+        ByteBuffer wav = ByteBuffer.allocate(12 + 8 + 40 + 8 + 4).order(ByteOrder.LITTLE_ENDIAN);
+        wav.put(ascii("RIFF")).putInt(wav.capacity() - 8).put(ascii("WAVE"));
+        wav.put(ascii("fmt ")).putInt(40).putShort((short) 0xFFFE).putShort((short) 2)
+                .putInt(48000).putInt(48000 * 4).putShort((short) 4).putShort((short) 16)
+                .putShort((short) 22).putShort((short) 16).putInt(3)
+                .putShort((short) subFormat).put(new byte[14]);
+        wav.put(ascii("data")).putInt(4).putShort((short) 10).putShort((short) 20);
+        return wav.flip();
+    }
+}
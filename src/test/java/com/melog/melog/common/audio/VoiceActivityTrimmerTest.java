@@ -0,0 +1,144 @@
+package com.melog.melog.common.audio;
+
+import static com.melog.melog.common.audio.WavFixtures.ascii;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class VoiceActivityTrimmerTest {
+
+    private static final int RATE = 16000;
+    private static final int FRAME = RATE / 50; // 20ms
+
+    @Test
+    void trim_RemovesLeadingAndTrailingSilence_KeepingHangover() {
+        // Given: 무음 500ms + 음성 1초 + 무음 500ms, hangover 100ms
+        short[] speech = WavFixtures.tone(RATE, RATE, 440, 8000);
+        short[] samples = WavFixtures.concat(silence(500), speech, silence(500));
+        VoiceActivityTrimmer trimmer = new VoiceActivityTrimmer(-45, 0.25, 100, 400);
+
+        // When
+        VoiceActivityTrimmer.Result result = trimmer.trim(WavFixtures.mono16(RATE, samples));
+
+        // Then: 음성 1초 + 앞뒤 hangover 100ms씩
+        assertNotNull(result);
+        assertEquals(2000, result.getOriginalMillis());
+        assertEquals(1200, result.getTrimmedMillis());
+        assertEquals(800, result.getSavedMillis());
+
+        short[] trimmed = WavFixtures.samplesOf(result.getWav());
+        assertEquals(60 * FRAME, trimmed.length);
+        short[] expected = WavFixtures.concat(silence(100), speech, silence(100));
+        assertTrue(Arrays.equals(expected, trimmed));
+    }
+
+    @Test
+    void trim_ShortensLongPauseToMaxPause() {
+        // Given: 음성 500ms + 침묵 2초 + 음성 500ms, 최대 침묵 400ms
+        short[] speech = WavFixtures.tone(RATE / 2, RATE, 300, 6000);
+        short[] samples = WavFixtures.concat(speech, silence(2000), speech);
+        VoiceActivityTrimmer trimmer = new VoiceActivityTrimmer(-45, 0.25, 0, 400);
+
+        // When
+        VoiceActivityTrimmer.Result result = trimmer.trim(WavFixtures.mono16(RATE, samples));
+
+        // Then: 침묵은 앞뒤 200ms씩 400ms만 남음
+        assertNotNull(result);
+        assertEquals(1400, result.getTrimmedMillis());
+        short[] expected = WavFixtures.concat(speech, silence(400), speech);
+        assertTrue(Arrays.equals(expected, WavFixtures.samplesOf(result.getWav())));
+    }
+
+    @Test
+    void trim_KeepsLowEnergyFricativeWithHighZeroCrossingRate() {
+        // Given: 임계값보다 5dB 낮은(-50dBFS) 고주파 잡음 = 마찰음
+        short[] fricative = alternating(300, 103);
+        short[] samples = WavFixtures.concat(silence(200), fricative, silence(200));
+        VoiceActivityTrimmer trimmer = new VoiceActivityTrimmer(-45, 0.25, 0, 400);
+
+        // When
+        VoiceActivityTrimmer.Result result = trimmer.trim(WavFixtures.mono16(RATE, samples));
+
+        // Then
+        assertNotNull(result);
+        assertEquals(300, result.getTrimmedMillis());
+    }
+
+    @Test
+    void trim_LowEnergyWithoutZeroCrossings_IsSilence() {
+        // 같은 에너지라도 영교차가 없으면(직류 잡음) 음성이 아님
+        short[] hum = WavFixtures.constant(RATE, 103);
+        VoiceActivityTrimmer trimmer = new VoiceActivityTrimmer(-45, 0.25, 0, 400);
+
+        assertNull(trimmer.trim(WavFixtures.mono16(RATE, hum)));
+    }
+
+    @Test
+    void trim_AllSilence_ReturnsNull() {
+        VoiceActivityTrimmer trimmer = new VoiceActivityTrimmer(-45, 0.25, 100, 400);
+
+        assertNull(trimmer.trim(WavFixtures.mono16(RATE, silence(1000))));
+    }
+
+    @Test
+    void trim_AllSpeech_ReturnsNull() {
+        // 줄일 구간이 없으면 원본을 그대로 사용
+        VoiceActivityTrimmer trimmer = new VoiceActivityTrimmer(-45, 0.25, 100, 400);
+
+        assertNull(trimmer.trim(WavFixtures.mono16(RATE, WavFixtures.tone(RATE, RATE, 440, 8000))));
+    }
+
+    @Test
+    void trim_StereoInput_WritesValidMono16WavWithMatchingDataLength() {
+        // Given: 스테레오 입력, 마지막 프레임에 못 미치는 꼬리 샘플 100개
+        short[] speech = WavFixtures.tone(RATE / 2 + 100, RATE, 440, 8000);
+        short[] channel = WavFixtures.concat(silence(500), speech);
+        ByteBuffer wav = WavFixtures.stereo16(RATE, channel, channel);
+        VoiceActivityTrimmer trimmer = new VoiceActivityTrimmer(-45, 0.25, 0, 400);
+
+        // When
+        VoiceActivityTrimmer.Result result = trimmer.trim(wav);
+
+        // Then: RIFF/data 길이가 실제 길이와 같은 16비트 모노 WAV
+        assertNotNull(result);
+        ByteBuffer out = result.getWav();
+        assertEquals(0, out.position());
+        assertTrue(out.isReadOnly());
+        ByteBuffer header = out.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(out.limit() - 8, header.getInt(4));
+        assertEquals(out.limit() - PcmWav.HEADER_SIZE, header.getInt(40));
+
+        PcmWav parsed = PcmWav.parse(out);
+        assertTrue(parsed.isMono16());
+        assertEquals(RATE, parsed.getSampleRate());
+        assertEquals(25 * FRAME, parsed.frameCount());
+        assertEquals(500, result.getTrimmedMillis());
+    }
+
+    @Test
+    void trim_InvalidOrTooShortInput_ReturnsNull() {
+        VoiceActivityTrimmer trimmer = new VoiceActivityTrimmer(-45, 0.25, 100, 400);
+
+        assertNull(trimmer.trim(ByteBuffer.wrap(ascii("not a wave file"))));
+        assertNull(trimmer.trim(WavFixtures.mono16(RATE, WavFixtures.tone(FRAME - 1, RATE, 440, 8000))));
+    }
+
+    private static short[] silence(int millis) {
+        return new short[RATE * millis / 1000];
+    }
+
+    /**
+     * 매 샘플 부호가 바뀌는(영교차율 1) 진폭 amplitude의 신호
+     */
+    private static short[] alternating(int millis, int amplitude) {
+        short[] samples = new short[RATE * millis / 1000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (short) (i % 2 == 0 ? amplitude : -amplitude);
+        }
+        return samples;
+    }
+}
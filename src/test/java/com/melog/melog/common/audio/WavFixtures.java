@@ -0,0 +1,110 @@
+package com.melog.melog.common.audio;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 오디오 테스트용 PCM WAV 생성 도우미
+ */
+final class WavFixtures {
+
+    private WavFixtures() {
+    }
+
+    /**
+     * 16비트 모노 PCM WAV
+     */
+    static ByteBuffer mono16(int sampleRate, short[] samples) {
+        ByteBuffer data = ByteBuffer.allocate(samples.length * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (short sample : samples) {
+            data.putShort(sample);
+        }
+        return pcm(sampleRate, 1, 16, data.array());
+    }
+
+    /**
+     * 16비트 스테레오 PCM WAV (interleaved: 왼쪽, 오른쪽 순)
+     */
+    static ByteBuffer stereo16(int sampleRate, short[] left, short[] right) {
+        ByteBuffer data = ByteBuffer.allocate(left.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < left.length; i++) {
+            data.putShort(left[i]).putShort(right[i]);
+        }
+        return pcm(sampleRate, 2, 16, data.array());
+    }
+
+    /**
+     * 표준 44바이트 헤더의 정수 PCM WAV
+     */
+    static ByteBuffer pcm(int sampleRate, int channels, int bitsPerSample, byte[] data) {
+        int blockAlign = channels * bitsPerSample / 8;
+        ByteBuffer wav = ByteBuffer.allocate(44 + data.length).order(ByteOrder.LITTLE_ENDIAN);
+        wav.put(ascii("RIFF")).putInt(36 + data.length).put(ascii("WAVE"));
+        putFmt(wav, 1, channels, sampleRate, blockAlign, bitsPerSample);
+        wav.put(ascii("data")).putInt(data.length).put(data);
+        return wav.flip();
+    }
+
+    /**
+     * fmt 청크 (16바이트 본문)
+     */
+    static void putFmt(ByteBuffer wav, int format, int channels, int sampleRate, int blockAlign, int bitsPerSample) {
+        wav.put(ascii("fmt ")).putInt(16).putShort((short) format).putShort((short) channels)
+                .putInt(sampleRate).putInt(sampleRate * blockAlign).putShort((short) blockAlign).putShort((short) bitsPerSample);
+    }
+
+    /**
+     * 일정한 값의 샘플 배열
+     */
+    static short[] constant(int length, int value) {
+        short[] samples = new short[length];
+        Arrays.fill(samples, (short) value);
+        return samples;
+    }
+
+    /**
+     * 진폭이 amplitude인 사인파 (음성 구간 대용)
+     */
+    static short[] tone(int length, int sampleRate, int frequency, int amplitude) {
+        short[] samples = new short[length];
+        for (int i = 0; i < length; i++) {
+            samples[i] = (short) (amplitude * Math.sin(2 * Math.PI * frequency * i / sampleRate));
+        }
+        return samples;
+    }
+
+    /**
+     * 샘플 배열을 순서대로 이어 붙입니다.
+     */
+    static short[] concat(short[]... parts) {
+        int length = 0;
+        for (short[] part : parts) {
+            length += part.length;
+        }
+        short[] samples = new short[length];
+        int offset = 0;
+        for (short[] part : parts) {
+            System.arraycopy(part, 0, samples, offset, part.length);
+            offset += part.length;
+        }
+        return samples;
+    }
+
+    /**
+     * 16비트 모노 WAV의 샘플을 읽습니다.
+     */
+    static short[] samplesOf(ByteBuffer wav) {
+        PcmWav parsed = PcmWav.parse(wav);
+        short[] samples = new short[parsed.frameCount()];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = (short) parsed.monoSample(i);
+        }
+        return samples;
+    }
+
+    static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,264 @@
+package com.melog.melog.common.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.melog.melog.common.exception.UploadOffsetMismatchException;
+import com.melog.melog.common.service.ResumableUploadService.ResumableUpload;
+
+/**
+ * 이어 올리기 업로드 스테이징 테스트 (임시 디렉토리 사용)
+ */
+class ResumableUploadServiceTest {
+
+    private static final String USER = "멜로그";
+
+    @TempDir
+    Path stagingDir;
+
+    private ResumableUploadService resumableUploadService;
+
+    @BeforeEach
+    void setUp() {
+        resumableUploadService = new ResumableUploadService();
+        ReflectionTestUtils.setField(resumableUploadService, "stagingDir", stagingDir.toString());
+        ReflectionTestUtils.setField(resumableUploadService, "stagingTtlHours", 24L);
+    }
+
+    @Test
+    void create_StartsEmptyAtOffsetZero() {
+        // When
+        ResumableUpload upload = resumableUploadService.create(USER, "voice.wav", "audio/wav", 11);
+
+        // Then
+        assertEquals(0, upload.getOffset());
+        assertEquals(11, upload.getTotalSize());
+        assertEquals("voice.wav", upload.getFileName());
+        assertEquals("audio/wav", upload.getContentType());
+        assertFalse(upload.isComplete());
+        assertTrue(Files.exists(upload.getFile()));
+        assertTrue(upload.getExpiresAt().isAfter(LocalDateTime.now().plusHours(23)));
+    }
+
+    @Test
+    void append_ChunksAtCurrentOffset_CompletesUpload() throws IOException {
+        // Given
+        ResumableUpload upload = resumableUploadService.create(USER, "voice.wav", "audio/wav", 11);
+
+        // When
+        ResumableUpload first = resumableUploadService.append(USER, upload.getUploadId(), 0, body("hello"));
+        ResumableUpload second = resumableUploadService.append(USER, upload.getUploadId(), 5, body(" world"));
+
+        // Then
+        assertEquals(5, first.getOffset());
+        assertFalse(first.isComplete());
+        assertEquals(11, second.getOffset());
+        assertTrue(second.isComplete());
+        assertEquals("hello world", Files.readString(second.getFile()));
+    }
+
+    @Test
+    void append_DuplicateChunk_ThrowsWithCurrentOffsetAndKeepsData() throws IOException {
+        // Given: 첫 청크 수신 후 응답을 못 받은 클라이언트가 같은 청크를 다시 보냄
+        ResumableUpload upload = resumableUploadService.create(USER, "voice.wav", "audio/wav", 11);
+        resumableUploadService.append(USER, upload.getUploadId(), 0, body("hello"));
+
+        // When
+        UploadOffsetMismatchException exception = assertThrows(UploadOffsetMismatchException.class,
+                () -> resumableUploadService.append(USER, upload.getUploadId(), 0, body("hello")));
+
+        // Then: 서버 오프셋을 알려 주고, 이미 받은 데이터는 그대로
+        assertEquals(5, exception.getCurrentOffset());
+        assertEquals(upload.getUploadId(), exception.getUploadId());
+        assertEquals("hello", Files.readString(upload.getFile()));
+    }
+
+    @Test
+    void append_OutOfOrderChunk_ThrowsWithoutWriting() throws IOException {
+        // Given
+        ResumableUpload upload = resumableUploadService.create(USER, "voice.wav", "audio/wav", 11);
+        resumableUploadService.append(USER, upload.getUploadId(), 0, body("hello"));
+
+        // When: 중간 청크를 건너뛰고 뒤 청크를 먼저 보냄
+        UploadOffsetMismatchException exception = assertThrows(UploadOffsetMismatchException.class,
+                () -> resumableUploadService.append(USER, upload.getUploadId(), 8, body("rld")));
+
+        // Then
+        assertEquals(5, exception.getCurrentOffset());
+        assertEquals(5, resumableUploadService.get(USER, upload.getUploadId()).getOffset());
+        assertEquals("hello", Files.readString(upload.getFile()));
+    }
+
+    @Test
+    void append_BeyondTotalSize_ThrowsWithoutWriting() {
+        ResumableUpload upload = resumableUploadService.create(USER, "voice.wav", "audio/wav", 4);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> resumableUploadService.append(USER, upload.getUploadId(), 0, body("hello")));
+        assertEquals(0, resumableUploadService.get(USER, upload.getUploadId()).getOffset());
+    }
+
+    @Test
+    void append_InterruptedBody_KeepsReceivedBytesForResume() throws IOException {
+        // Given: 3바이트를 보낸 뒤 연결이 끊김
+        ResumableUpload upload = resumableUploadService.create(USER, "voice.wav", "audio/wav", 11);
+        InputStream interrupted = new InputStream() {
+            private int sent;
+
+            @Override
+            public int read() throws IOException {
+                byte[] one = new byte[1];
+                return read(one, 0, 1) == -1 ? -1 : one[0];
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                if (sent == 3) {
+                    throw new IOException("Connection reset");
+                }
+                int count = Math.min(len, 3 - sent);
+                for (int i = 0; i < count; i++) {
+                    b[off + i] = (byte) "hel".charAt(sent++);
+                }
+                return count;
+            }
+        };
+
+        // When
+        assertThrows(RuntimeException.class,
+                () -> resumableUploadService.append(USER, upload.getUploadId(), 0, interrupted));
+
+        // Then: 받은 위치부터 이어서 보내면 완료
+        assertEquals(3, resumableUploadService.get(USER, upload.getUploadId()).getOffset());
+        ResumableUpload resumed = resumableUploadService.append(USER, upload.getUploadId(), 3, body("lo world"));
+        assertTrue(resumed.isComplete());
+        assertEquals("hello world", Files.readString(resumed.getFile()));
+    }
+
+    @Test
+    void append_ConcurrentWriteToSameUpload_IsRejectedByLock() throws Exception {
+        // Given: 첫 번째 요청이 잠금을 잡고 본문을 받는 중
+        ResumableUpload upload = resumableUploadService.create(USER, "voice.wav", "audio/wav", 11);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InputStream slowBody = new InputStream() {
+            private final InputStream data = body("hello");
+
+            @Override
+            public int read() throws IOException {
+                return data.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                reading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return data.read(b, off, len);
+            }
+        };
+        CompletableFuture<ResumableUpload> first = CompletableFuture.supplyAsync(
+                () -> resumableUploadService.append(USER, upload.getUploadId(), 0, slowBody));
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+        // When: 같은 오프셋으로 두 번째 요청 (재시도 중복)
+        assertThrows(UploadOffsetMismatchException.class,
+                () -> resumableUploadService.append(USER, upload.getUploadId(), 0, body("HELLO")));
+        release.countDown();
+
+        // Then: 첫 번째 요청만 기록되고, 데이터가 섞이지 않음
+        assertEquals(5, first.get(5, TimeUnit.SECONDS).getOffset());
+        assertEquals("hello", Files.readString(upload.getFile()));
+    }
+
+    @Test
+    void get_OtherUsersUpload_Throws() {
+        ResumableUpload upload = resumableUploadService.create(USER, "voice.wav", "audio/wav", 11);
+
+        assertThrows(IllegalArgumentException.class, () -> resumableUploadService.get("다른사용자", upload.getUploadId()));
+        assertThrows(IllegalArgumentException.class,
+                () -> resumableUploadService.append("다른사용자", upload.getUploadId(), 0, body("hello")));
+    }
+
+    @Test
+    void get_InvalidUploadId_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> resumableUploadService.get(USER, "../../etc/passwd"));
+    }
+
+    @Test
+    void get_ExpiredUpload_DeletesStagingFilesAndThrows() {
+        // Given: TTL을 0시간으로 줄여 생성된 업로드가 바로 만료됨
+        ResumableUpload upload = resumableUploadService.create(USER, "voice.wav", "audio/wav", 11);
+        ReflectionTestUtils.setField(resumableUploadService, "stagingTtlHours", 0L);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> resumableUploadService.get(USER, upload.getUploadId()));
+        assertFalse(Files.exists(upload.getFile()));
+        assertFalse(Files.exists(stagingDir.resolve(upload.getUploadId() + ".properties")));
+    }
+
+    @Test
+    void deleteExpiredUploads_RemovesOnlyExpiredUploads() throws IOException {
+        // Given: 25시간 전에 생성된 업로드, 방금 생성된 업로드, 알 수 없는 파일
+        ResumableUpload expired = resumableUploadService.create(USER, "old.wav", "audio/wav", 11);
+        ResumableUpload active = resumableUploadService.create(USER, "new.wav", "audio/wav", 11);
+        setCreatedAt(expired.getUploadId(), System.currentTimeMillis() - 25 * 3600_000L);
+        Path unknown = Files.writeString(stagingDir.resolve("notes.properties"), "memo=1");
+
+        // When
+        resumableUploadService.deleteExpiredUploads();
+
+        // Then
+        assertFalse(Files.exists(expired.getFile()));
+        assertFalse(Files.exists(stagingDir.resolve(expired.getUploadId() + ".properties")));
+        assertTrue(Files.exists(active.getFile()));
+        assertEquals(0, resumableUploadService.get(USER, active.getUploadId()).getOffset());
+        assertTrue(Files.exists(unknown));
+    }
+
+    @Test
+    void deleteExpiredUploads_MissingStagingDirectory_DoesNothing() {
+        ReflectionTestUtils.setField(resumableUploadService, "stagingDir",
+                stagingDir.resolve(UUID.randomUUID().toString()).toString());
+
+        assertDoesNotThrow(() -> resumableUploadService.deleteExpiredUploads());
+    }
+
+    private void setCreatedAt(String uploadId, long createdAt) throws IOException {
+        Path metaFile = stagingDir.resolve(uploadId + ".properties");
+        Properties meta = new Properties();
+        try (Reader reader = Files.newBufferedReader(metaFile, StandardCharsets.UTF_8)) {
+            meta.load(reader);
+        }
+        meta.setProperty("createdAt", String.valueOf(createdAt));
+        try (Writer writer = Files.newBufferedWriter(metaFile, StandardCharsets.UTF_8)) {
+            meta.store(writer, null);
+        }
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
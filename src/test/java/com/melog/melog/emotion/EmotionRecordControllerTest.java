@@ -0,0 +1,228 @@
+package com.melog.melog.emotion;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.melog.melog.common.exception.GlobalExceptionHandler;
+import com.melog.melog.emotion.adapter.in.web.EmotionRecordController;
+import com.melog.melog.emotion.application.port.in.EmotionRecordUseCase;
+import com.melog.melog.emotion.domain.model.request.EmotionRecordCreateRequest;
+import com.melog.melog.emotion.domain.model.response.EmotionCalendarResponse;
+import com.melog.melog.emotion.domain.model.response.EmotionListResponse;
+import com.melog.melog.emotion.domain.model.response.EmotionRecordFieldsResponse;
+import com.melog.melog.emotion.domain.model.response.EmotionRecordResponse;
+import com.melog.melog.emotion.domain.model.response.EmotionRecordSummaryResponse;
+
+@ExtendWith(MockitoExtension.class)
+class EmotionRecordControllerTest {
+
+    private static final String TEXT = "오늘은 친구와 산책을 하면서 기분이 좋아졌어요.";
+
+    @Mock
+    private EmotionRecordUseCase emotionRecordUseCase;
+
+    @Mock
+    private ThreadPoolTaskExecutor streamingTaskExecutor;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new EmotionRecordController(emotionRecordUseCase, objectMapper, streamingTaskExecutor))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void textStream_SendsSummaryTokensThenResult() throws Exception {
+        // Given: 분석 작업을 요청 스레드에서 바로 실행
+        runTasksImmediately();
+        when(emotionRecordUseCase.createEmotionRecordStreaming(eq("testuser"), any(), any())).thenAnswer(invocation -> {
+            Consumer<String> onToken = invocation.getArgument(2);
+            onToken.accept("산책으로 ");
+            onToken.accept("기분이 좋아진 하루");
+            return EmotionRecordResponse.builder().id(1L).text(TEXT).summary("산책으로 기분이 좋아진 하루")
+                    .date(LocalDate.of(2025, 1, 1)).build();
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/users/testuser/emotions/text/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(TEXT)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then: summary 토큰이 순서대로 전송된 뒤 result 이벤트로 끝남
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        String events = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        int first = events.indexOf("event:summary\ndata:{\"text\":\"산책으로 \"}");
+        int second = events.indexOf("event:summary\ndata:{\"text\":\"기분이 좋아진 하루\"}");
+        int last = events.indexOf("event:result\ndata:{\"id\":1");
+        assertTrue(first >= 0 && first < second && second < last, events);
+        assertFalse(events.contains("event:error"), events);
+    }
+
+    @Test
+    void textStream_ClovaFailure_SendsErrorEventAndCompletes() throws Exception {
+        runTasksImmediately();
+        when(emotionRecordUseCase.createEmotionRecordStreaming(eq("testuser"), any(), any()))
+                .thenThrow(new RuntimeException("감정 분석에 실패했습니다: Clova Studio 응답 없음"));
+
+        MvcResult result = mockMvc.perform(post("/api/users/testuser/emotions/text/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(TEXT)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        String events = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertTrue(events.contains("event:error\ndata:{\"message\":\"감정 분석에 실패했습니다: Clova Studio 응답 없음\"}"), events);
+        assertFalse(events.contains("event:result"), events);
+    }
+
+    @Test
+    void textStream_Timeout_StopsSendingButFinishesAnalysis() throws Exception {
+        // Given: 분석 작업을 붙잡아 두었다가 타임아웃 이후에 실행
+        when(emotionRecordUseCase.createEmotionRecordStreaming(eq("testuser"), any(), any()))
+                .thenReturn(EmotionRecordResponse.builder().id(1L).text(TEXT).build());
+
+        MvcResult result = mockMvc.perform(post("/api/users/testuser/emotions/text/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(TEXT)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 스트림 타임아웃은 120초
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        assertEquals(120_000L, asyncContext.getTimeout());
+
+        // When: 타임아웃 발생 후 분석 작업 실행
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(streamingTaskExecutor).execute(task.capture());
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+        task.getValue().run();
+
+        // Then: 기록 생성은 끝까지 진행되지만 끊긴 연결에는 이벤트를 보내지 않음
+        verify(emotionRecordUseCase).createEmotionRecordStreaming(eq("testuser"), any(), any());
+        assertFalse(result.getResponse().getContentAsString(StandardCharsets.UTF_8).contains("event:result"));
+    }
+
+    @Test
+    void textStream_InvalidText_RejectedBeforeOpeningStream() throws Exception {
+        // 일반 텍스트 등록과 같은 검증을 거쳐 400으로 응답
+        mockMvc.perform(post("/api/users/testuser/emotions/text/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("ㅋㅋㅋㅋㅋㅋ")))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/users/testuser/emotions/text")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("ㅋㅋㅋㅋㅋㅋ")))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(streamingTaskExecutor);
+        verify(emotionRecordUseCase, never()).createEmotionRecordStreaming(any(), any(), any());
+        verify(emotionRecordUseCase, never()).createEmotionRecord(any(), any());
+    }
+
+    @Test
+    void emotionList_WithoutFields_KeepsNullKeys() throws Exception {
+        // Given: 코멘트와 음성 파일이 없는 기록
+        when(emotionRecordUseCase.getEmotionList("testuser", 0, 7, null)).thenReturn(EmotionListResponse.builder()
+                .content(List.of(EmotionRecordSummaryResponse.builder()
+                        .id(1L).date(LocalDate.of(2025, 1, 1)).summary("산책으로 기분이 좋아진 하루")
+                        .emotions(List.of()).hasAudioFile(false).build()))
+                .page(0).size(7).totalElements(1).totalPages(1)
+                .build());
+
+        // When & Then: fields 생략 시 기존 응답처럼 null 필드도 키를 유지
+        mockMvc.perform(get("/api/users/testuser/emotions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0]").value(hasKey("comment")))
+                .andExpect(jsonPath("$.content[0]").value(hasKey("audioFilePath")))
+                .andExpect(jsonPath("$.content[0].comment").isEmpty())
+                .andExpect(jsonPath("$.content[0].audioFilePath").isEmpty())
+                .andExpect(jsonPath("$.content[0].hasAudioFile").value(false))
+                .andExpect(jsonPath("$.content[0]").value(not(hasKey("summaryPreview"))));
+    }
+
+    @Test
+    void emotionList_WithFields_OmitsUnselectedKeys() throws Exception {
+        when(emotionRecordUseCase.getEmotionList("testuser", 0, 7, "id,date,summaryPreview")).thenReturn(EmotionListResponse.builder()
+                .content(List.of(EmotionRecordFieldsResponse.builder()
+                        .id(1L).date(LocalDate.of(2025, 1, 1)).summaryPreview("산책으로 기분이 좋아진 하루").build()))
+                .page(0).size(7).totalElements(1).totalPages(1)
+                .build());
+
+        mockMvc.perform(get("/api/users/testuser/emotions").param("fields", "id,date,summaryPreview"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].summaryPreview").value("산책으로 기분이 좋아진 하루"))
+                .andExpect(jsonPath("$.content[0]").value(not(hasKey("summary"))))
+                .andExpect(jsonPath("$.content[0]").value(not(hasKey("comment"))))
+                .andExpect(jsonPath("$.content[0]").value(not(hasKey("audioFilePath"))));
+    }
+
+    @Test
+    void emotionCalendar_WithoutFields_KeepsNullIdAndEmotions() throws Exception {
+        // Given: 기록이 없는 날짜
+        when(emotionRecordUseCase.getEmotionCalendar("testuser", YearMonth.of(2025, 1), null)).thenReturn(List.of(
+                EmotionCalendarResponse.builder().id(null).date(LocalDate.of(2025, 1, 1)).emotions(List.of()).build()));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/testuser/emotions/calendar").param("month", "2025-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value(hasKey("id")))
+                .andExpect(jsonPath("$[0].id").isEmpty())
+                .andExpect(jsonPath("$[0].emotions").isArray());
+    }
+
+    private void runTasksImmediately() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(streamingTaskExecutor).execute(any(Runnable.class));
+    }
+
+    private String body(String text) throws Exception {
+        return objectMapper.writeValueAsString(EmotionRecordCreateRequest.builder().text(text).build());
+    }
+}
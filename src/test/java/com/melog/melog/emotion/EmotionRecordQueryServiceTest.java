@@ -0,0 +1,303 @@
+package com.melog.melog.emotion;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.melog.melog.emotion.application.port.out.EmotionKeywordPersistencePort;
+import com.melog.melog.emotion.application.port.out.EmotionRecordPersistencePort;
+import com.melog.melog.emotion.application.port.out.EmotionScorePersistencePort;
+import com.melog.melog.emotion.application.port.out.UserSelectedEmotionPersistencePort;
+import com.melog.melog.emotion.application.service.EmotionRecordQueryService;
+import com.melog.melog.emotion.application.service.EmotionRecordResponseAssembler;
+import com.melog.melog.emotion.domain.EmotionType;
+import com.melog.melog.emotion.domain.model.projection.EmotionRecordListView;
+import com.melog.melog.emotion.domain.model.projection.UserEmotionScoreTotalView;
+import com.melog.melog.emotion.domain.model.response.EmotionChartResponse;
+import com.melog.melog.emotion.domain.model.response.EmotionCursorListResponse;
+import com.melog.melog.emotion.domain.model.response.EmotionKeywordTrendResponse;
+import com.melog.melog.emotion.domain.model.response.EmotionRecordSummaryResponse;
+import com.melog.melog.user.application.port.out.UserPersistencePort;
+import com.melog.melog.user.domain.User;
+
+/**
+ * 감정 기록 조회 서비스 테스트 (커서 기반 목록, 키워드 추이 기간, 감정 차트)
+ */
+@ExtendWith(MockitoExtension.class)
+class EmotionRecordQueryServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 8, 1, 12, 0, 0, 123_456_000);
+
+    @Mock
+    private UserPersistencePort userPersistencePort;
+
+    @Mock
+    private EmotionRecordPersistencePort emotionRecordPersistencePort;
+
+    @Mock
+    private EmotionScorePersistencePort emotionScorePersistencePort;
+
+    @Mock
+    private UserSelectedEmotionPersistencePort userSelectedEmotionPersistencePort;
+
+    @Mock
+    private EmotionKeywordPersistencePort emotionKeywordPersistencePort;
+
+    @Mock
+    private EmotionRecordResponseAssembler emotionRecordResponseAssembler;
+
+    @InjectMocks
+    private EmotionRecordQueryService emotionRecordQueryService;
+
+    private final User user = new User("testuser");
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(userPersistencePort.findReferenceByNickname("testuser")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void cursor_FirstPage_EncodesLastRecordAsNextCursor() {
+        // Given: size + 1개가 조회되면 다음 페이지가 있음
+        when(emotionRecordPersistencePort.findListViewsByUserBefore(user, null, null, 3))
+                .thenReturn(List.of(record(30L, CREATED_AT.plusSeconds(2)), record(20L, CREATED_AT.plusSeconds(1)),
+                        record(10L, CREATED_AT)));
+
+        // When
+        EmotionCursorListResponse response = emotionRecordQueryService.getEmotionListByCursor("testuser", null, 2);
+
+        // Then: 초과 조회한 1건은 버리고 마지막 기록의 (createdAt,id)를 커서로 반환
+        assertEquals(List.of(30L, 20L), ids(response));
+        assertTrue(response.isHasNext());
+        assertEquals("2025-08-01T12:00:01.123456,20", response.getNextCursor());
+
+        // 감정 점수는 페이지의 기록 ID로 한 번에 조회
+        verify(emotionScorePersistencePort).findByRecordIdIn(List.of(30L, 20L));
+    }
+
+    @Test
+    void cursor_NextCursorRoundTripsToSamePosition() {
+        // Given: 첫 페이지에서 받은 커서를 그대로 다음 요청에 사용
+        when(emotionRecordPersistencePort.findListViewsByUserBefore(user, null, null, 2))
+                .thenReturn(List.of(record(20L, CREATED_AT), record(10L, CREATED_AT.minusDays(1))));
+        String nextCursor = emotionRecordQueryService.getEmotionListByCursor("testuser", null, 1).getNextCursor();
+
+        when(emotionRecordPersistencePort.findListViewsByUserBefore(user, CREATED_AT, 20L, 2))
+                .thenReturn(List.of(record(10L, CREATED_AT.minusDays(1))));
+
+        // When
+        EmotionCursorListResponse response = emotionRecordQueryService.getEmotionListByCursor("testuser", nextCursor, 1);
+
+        // Then: 커서가 같은 createdAt(나노초 포함)과 id로 복원되고, 마지막 페이지는 커서가 없음
+        assertEquals(List.of(10L), ids(response));
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void cursor_EqualCreatedAt_UsesIdAsTieBreaker() {
+        // Given: 같은 시각에 생성된 기록이 페이지 경계에 걸침
+        when(emotionRecordPersistencePort.findListViewsByUserBefore(user, null, null, 3))
+                .thenReturn(List.of(record(12L, CREATED_AT), record(11L, CREATED_AT), record(10L, CREATED_AT)));
+        when(emotionRecordPersistencePort.findListViewsByUserBefore(user, CREATED_AT, 11L, 3))
+                .thenReturn(List.of(record(10L, CREATED_AT)));
+
+        // When
+        EmotionCursorListResponse first = emotionRecordQueryService.getEmotionListByCursor("testuser", null, 2);
+        EmotionCursorListResponse second = emotionRecordQueryService.getEmotionListByCursor("testuser", first.getNextCursor(), 2);
+
+        // Then: 커서에 id가 포함되어 같은 시각의 남은 기록부터 이어서 조회
+        assertEquals("2025-08-01T12:00:00.123456,11", first.getNextCursor());
+        assertEquals(List.of(12L, 11L), ids(first));
+        assertEquals(List.of(10L), ids(second));
+        verify(emotionRecordPersistencePort).findListViewsByUserBefore(user, CREATED_AT, 11L, 3);
+    }
+
+    @Test
+    void cursor_WholeSecondCreatedAt_RoundTrips() {
+        // LocalDateTime.toString()은 0초/0나노초를 생략하므로 생략된 형식도 파싱되어야 함
+        LocalDateTime wholeMinute = LocalDateTime.of(2025, 8, 1, 12, 0);
+        when(emotionRecordPersistencePort.findListViewsByUserBefore(user, wholeMinute, 7L, 2)).thenReturn(List.of());
+
+        EmotionCursorListResponse response = emotionRecordQueryService.getEmotionListByCursor("testuser", "2025-08-01T12:00,7", 1);
+
+        assertTrue(response.getContent().isEmpty());
+        assertFalse(response.isHasNext());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "2025-08-01T12:00:00", "2025-08-01T12:00:00,", "2025-08-01,42", "2025-08-01T12:00:00,abc", ",42"})
+    void cursor_MalformedCursor_ThrowsIllegalArgumentException(String before) {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> emotionRecordQueryService.getEmotionListByCursor("testuser", before, 7));
+
+        assertTrue(error.getMessage().startsWith("잘못된 커서 형식입니다"), error.getMessage());
+        verify(emotionRecordPersistencePort, never()).findListViewsByUserBefore(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void cursor_SizeAboveMaximum_IsClamped() {
+        // Given: Integer.MAX_VALUE 요청도 size + 1 계산이 넘치지 않고 최대 100개로 제한
+        List<EmotionRecordListView> records = IntStream.rangeClosed(1, 101)
+                .mapToObj(i -> record(1000L - i, CREATED_AT.minusSeconds(i)))
+                .collect(Collectors.toList());
+        when(emotionRecordPersistencePort.findListViewsByUserBefore(eq(user), isNull(), isNull(), eq(101))).thenReturn(records);
+
+        // When
+        EmotionCursorListResponse response = emotionRecordQueryService.getEmotionListByCursor("testuser", null, Integer.MAX_VALUE);
+
+        // Then
+        assertEquals(100, response.getSize());
+        assertEquals(100, response.getContent().size());
+        assertTrue(response.isHasNext());
+    }
+
+    @Test
+    void cursor_SizeBelowOne_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> emotionRecordQueryService.getEmotionListByCursor("testuser", null, 0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"startOnly", "endOnly"})
+    void keywordTrend_HalfSpecifiedRange_ThrowsIllegalArgumentException(String mode) {
+        String startDate = mode.equals("startOnly") ? "2025-01-01" : null;
+        String endDate = mode.equals("endOnly") ? "2025-01-31" : null;
+
+        // 기간 중 한쪽만 지정하면 period로 조용히 대체하지 않고 400으로 응답
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> emotionRecordQueryService.getKeywordTrend("testuser", "month", null, startDate, endDate, 5));
+
+        assertTrue(error.getMessage().startsWith("startDate와 endDate는 함께 지정해야 합니다"), error.getMessage());
+        verify(emotionKeywordPersistencePort, never()).findTopKeywordsByUserAndDateBetween(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void keywordTrend_FullRange_UsesCustomPeriod() {
+        when(emotionKeywordPersistencePort.findTopKeywordsByUserAndDateBetween(user, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), 5))
+                .thenReturn(List.of());
+
+        EmotionKeywordTrendResponse response = emotionRecordQueryService.getKeywordTrend("testuser", "month", null,
+                "2025-01-01", "2025-01-31", 5);
+
+        assertEquals("custom", response.getPeriod());
+        assertEquals(LocalDate.of(2025, 1, 1), response.getStartDate());
+        assertEquals(LocalDate.of(2025, 1, 31), response.getEndDate());
+    }
+
+    @Test
+    void keywordTrend_NoRange_UsesPeriod() {
+        when(emotionKeywordPersistencePort.findTopKeywordsByUserAndDateBetween(user, LocalDate.of(2025, 1, 13), LocalDate.of(2025, 1, 19), 5))
+                .thenReturn(List.of());
+
+        EmotionKeywordTrendResponse response = emotionRecordQueryService.getKeywordTrend("testuser", "week", "2025-01-15", null, null, 5);
+
+        assertEquals("week", response.getPeriod());
+        assertEquals(LocalDate.of(2025, 1, 13), response.getStartDate());
+    }
+
+    @Test
+    void chart_UsesScoreTotalsForThisAndPreviousMonth() {
+        // Given: 이번 달 기쁨 300/슬픔 100, 지난달 기쁨 100/슬픔 100 (감정 타입별 합계)
+        ReflectionTestUtils.setField(user, "id", 1L);
+        YearMonth month = YearMonth.of(2025, 8);
+        YearMonth previousMonth = YearMonth.of(2025, 7);
+        when(emotionScorePersistencePort.sumPercentageByUserIdInAndDateBetween(List.of(1L), month.atDay(1), month.atEndOfMonth()))
+                .thenReturn(List.of(scoreTotal(EmotionType.JOY, 300), scoreTotal(EmotionType.SADNESS, 100)));
+        when(emotionScorePersistencePort.sumPercentageByUserIdInAndDateBetween(List.of(1L), previousMonth.atDay(1), previousMonth.atEndOfMonth()))
+                .thenReturn(List.of(scoreTotal(EmotionType.JOY, 100), scoreTotal(EmotionType.SADNESS, 100)));
+
+        // When
+        EmotionChartResponse response = emotionRecordQueryService.getEmotionChart("testuser", month);
+
+        // Then: 기록별 감정 점수를 따로 조회하지 않고 합계만으로 분포와 증감률 계산
+        assertEquals(Double.valueOf(75.0), response.getThisMonth().get("기쁨"));
+        assertEquals(Double.valueOf(25.0), response.getThisMonth().get("슬픔"));
+        assertEquals(Double.valueOf(0.0), response.getThisMonth().get("평온"));
+        assertEquals(Double.valueOf(50.0), response.getCompareWithLastMonth().get("기쁨"));
+        assertEquals(Double.valueOf(-50.0), response.getCompareWithLastMonth().get("슬픔"));
+        verify(emotionScorePersistencePort, never()).findByRecord(any());
+        verify(emotionRecordPersistencePort, never()).findByUserAndDateBetween(any(), any(), any());
+    }
+
+    private static UserEmotionScoreTotalView scoreTotal(EmotionType emotionType, long totalPercentage) {
+        return new UserEmotionScoreTotalView() {
+            @Override
+            public Long getUserId() {
+                return 1L;
+            }
+
+            @Override
+            public EmotionType getEmotionType() {
+                return emotionType;
+            }
+
+            @Override
+            public Long getTotalPercentage() {
+                return totalPercentage;
+            }
+        };
+    }
+
+    private static EmotionRecordListView record(Long id, LocalDateTime createdAt) {
+        return new EmotionRecordListView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDate getDate() {
+                return createdAt.toLocalDate();
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+
+            @Override
+            public String getSummary() {
+                return "친구와 산책";
+            }
+
+            @Override
+            public String getComment() {
+                return null;
+            }
+
+            @Override
+            public String getAudioFilePath() {
+                return null;
+            }
+        };
+    }
+
+    private static List<Long> ids(EmotionCursorListResponse response) {
+        return response.getContent().stream().map(EmotionRecordSummaryResponse::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,131 @@
+package com.melog.melog.emotion;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.melog.melog.common.util.TextProfile;
+import com.melog.melog.emotion.domain.InputValidationUtil;
+
+/**
+ * 단일 순회 TextProfile 기반 검증이 기존 정규식 구현과 같은 결과를 내는지 확인합니다.
+ */
+class InputValidationUtilTest {
+
+    // 기존 구현의 정규식 (TextProfile 도입 전)
+    private static final Pattern LEGACY_MEANINGLESS_TEXT_PATTERN = Pattern.compile(
+        "^[ㄱ-ㅎㅏ-ㅣ\\s\\p{Punct}]*$|" +
+        "^[\\p{Punct}\\s]*$|" +
+        "^.{1,5}$|" +
+        "^[가-힣]*[ㄱ-ㅎㅏ-ㅣ]+[가-힣]*$|" +
+        "^[a-zA-Z]{4,}$|" +
+        "^[qwertyuiopasdfghjklzxcvbnm]{4,}$"
+    );
+
+    // 무작위 입력 조각: 한글 음절/자모, 영문, 숫자, 문장부호, 다양한 공백과 줄 종결 문자, 이모지/보조 평면 문자
+    private static final String[] TOKENS = {
+        "오", "늘", "기", "분", "좋", "요", "가", "힣",
+        "ㄱ", "ㅋ", "ㅎ", "ㅏ", "ㅣ", "ᄀ", "ᆨ", "㄰", "㆏",
+        "a", "q", "Z", "1", "9", "é", "中", "①",
+        ".", "!", "?", "~", ",", "·", "…", "ㆍ",
+        " ", " ", "\t", "\n", "\r", "\u000B", "\f", "\r\n",
+        "\u3000", "\u00A0", "\u2003", "\u001C", "\u0001", "\u0085", "\u2028", "\u2029",
+        "😀", "👍🏻", "𠀀", "𝐀", "\uD800"
+    };
+
+    static Stream<String> boundaryCases() {
+        return Stream.of(
+            // 길이 경계 (4/5/6자, 코드 포인트 5개)
+            "가나다라", "가나다라마", "가나다라마바", " 가나다라 ", "가나다 라마",
+            "😀😀😀😀😀", "😀😀😀😀😀😀", "가나😀다라", "𠀀𠀀𠀀",
+            // 공백 종류 (정규식 \s와 String.trim() 기준)
+            "ㅋㅋㅋ\u3000ㅋㅋ", "ㅋㅋㅋ\u00A0ㅋㅋ", "ㅋㅋ\tㅋㅋ\nㅋ", "\u0001오늘 기분 좋다", "오늘 기분 좋다\u001C",
+            "\u3000오늘 기분이 좋다\u3000", "오늘\u0085좋다", "오늘\u2028좋았다", "가나\r\n다", "가나\n다라",
+            // 자모/음절 혼합
+            "ㅋㅋㅋㅋㅋ", "안녕ㅎㅎ하세요", "안녕ㅎ하ㅎ세요", "오늘은ㅠㅠ 슬펐다", "각가",
+            // 영문
+            "abcd", "qwerty", "abc1", "Hello world", "asdfgh!",
+            // 이모지, 보조 평면 문자
+            "오늘 기분 😀😀😀", "𠀀𠀀 오늘 좋다", "𝐀𝐁𝐂 abc",
+            // 일반 문장
+            "오늘은 친구와 산책을 하면서 기분이 좋아졌어요.", "!!!???...", "   "
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("boundaryCases")
+    void isValidText_MatchesLegacyRegexImplementation(String text) {
+        assertEquals(legacyIsValidText(text), InputValidationUtil.isValidText(text), () -> describe(text));
+    }
+
+    @ParameterizedTest
+    @MethodSource("boundaryCases")
+    void normalized_MatchesLegacyWhitespaceCollapse(String text) {
+        assertEquals(text.replaceAll("\\s+", " ").trim(), TextProfile.of(text).normalized(), () -> describe(text));
+    }
+
+    @Test
+    void randomInputs_MatchLegacyImplementation() {
+        Random random = new Random(20250101L);
+        for (int n = 0; n < 20_000; n++) {
+            String text = randomText(random);
+            assertEquals(legacyIsValidText(text), InputValidationUtil.isValidText(text), () -> describe(text));
+            assertEquals(text.replaceAll("\\s+", " ").trim(), TextProfile.of(text).normalized(), () -> describe(text));
+        }
+    }
+
+    @Test
+    void isValidText_NullOrBlank_ReturnsFalse() {
+        assertFalse(InputValidationUtil.isValidText(null));
+        assertFalse(InputValidationUtil.isValidText(""));
+        assertFalse(InputValidationUtil.isValidText(" \t\n"));
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        int length = random.nextInt(12);
+        // 절반은 한글 음절 위주로 만들어 통과/차단 경계 근처의 입력을 생성
+        boolean mostlyHangul = random.nextBoolean();
+        for (int i = 0; i < length; i++) {
+            if (mostlyHangul && random.nextInt(4) != 0) {
+                text.append(TOKENS[random.nextInt(8)]);
+            } else {
+                text.append(TOKENS[random.nextInt(TOKENS.length)]);
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * TextProfile 도입 전 InputValidationUtil.isValidText 구현
+     */
+    private static boolean legacyIsValidText(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return false;
+        }
+        String trimmedText = text.trim();
+        if (trimmedText.length() < 5) {
+            return false;
+        }
+        if (LEGACY_MEANINGLESS_TEXT_PATTERN.matcher(trimmedText).matches()) {
+            return false;
+        }
+        long meaningless = trimmedText.chars()
+                .filter(ch -> (ch >= 0x1100 && ch <= 0x11FF) || (ch >= 0x3130 && ch <= 0x318F)
+                        || Character.isWhitespace((char) ch) || !Character.isLetterOrDigit((char) ch))
+                .count();
+        return (double) meaningless / trimmedText.length() < 0.4;
+    }
+
+    private static String describe(String text) {
+        StringBuilder codes = new StringBuilder();
+        text.chars().forEach(ch -> codes.append(String.format("\\u%04X", ch)));
+        return "text=\"" + text + "\" (" + codes + ")";
+    }
+}
@@ -0,0 +1,297 @@
+package com.melog.melog.emotion;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.melog.melog.emotion.application.port.out.EmotionKeywordPersistencePort;
+import com.melog.melog.emotion.application.port.out.EmotionRecordPersistencePort;
+import com.melog.melog.emotion.application.port.out.EmotionScorePersistencePort;
+import com.melog.melog.emotion.application.service.EmotionInsightService;
+import com.melog.melog.emotion.application.service.MonthlyInsightPrecomputeService;
+import com.melog.melog.emotion.domain.EmotionType;
+import com.melog.melog.emotion.domain.model.projection.UserEmotionScoreTotalView;
+import com.melog.melog.emotion.domain.model.projection.UserKeywordWeightTotalView;
+
+/**
+ * 월별 인사이트 일괄 생성 테스트
+ * 스레드 풀은 작업을 바로 실행하고, TaskScheduler에 예약된 다음 단계는 테스트에서 직접 실행합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class MonthlyInsightPrecomputeServiceTest {
+
+    @Mock
+    private EmotionRecordPersistencePort emotionRecordPersistencePort;
+
+    @Mock
+    private EmotionScorePersistencePort emotionScorePersistencePort;
+
+    @Mock
+    private EmotionKeywordPersistencePort emotionKeywordPersistencePort;
+
+    @Mock
+    private EmotionInsightService emotionInsightService;
+
+    @Mock
+    private ThreadPoolTaskExecutor insightTaskExecutor;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @InjectMocks
+    private MonthlyInsightPrecomputeService precomputeService;
+
+    private final YearMonth currentMonth = YearMonth.now();
+
+    private final YearMonth previousMonth = currentMonth.minusMonths(1);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(precomputeService, "enabled", true);
+        ReflectionTestUtils.setField(precomputeService, "ratePerMinute", 30);
+    }
+
+    @Test
+    void disabled_DoesNothing() {
+        ReflectionTestUtils.setField(precomputeService, "enabled", false);
+
+        precomputeService.precomputeMonthlyInsights();
+
+        verifyNoInteractions(insightTaskExecutor, taskScheduler, emotionRecordPersistencePort);
+    }
+
+    @Test
+    void precompute_RunsOnInsightExecutorInsteadOfSchedulerThread() {
+        // 스레드 풀에 제출만 하고 바로 반환
+        precomputeService.precomputeMonthlyInsights();
+
+        verify(insightTaskExecutor).execute(any(Runnable.class));
+        verifyNoInteractions(emotionRecordPersistencePort, emotionInsightService);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void precompute_SelectsUsersWithRecordsInPreviousAndCurrentMonth() {
+        // Given: 지난달은 사용자 1, 2 (2명 이후 다음 묶음 없음), 이번 달은 사용자 3
+        runTasksImmediately();
+        stubUsers(previousMonth, 0L, List.of(1L, 2L));
+        stubUsers(currentMonth, 0L, List.of(3L));
+        when(emotionScorePersistencePort.sumPercentageByUserIdInAndDateBetween(List.of(1L, 2L), previousMonth.atDay(1), previousMonth.atEndOfMonth()))
+                .thenReturn(List.of(scoreTotal(1L, EmotionType.JOY, 300), scoreTotal(1L, EmotionType.SADNESS, 100)));
+        when(emotionKeywordPersistencePort.sumWeightByUserIdInAndDateBetween(List.of(1L, 2L), previousMonth.atDay(1), previousMonth.atEndOfMonth()))
+                .thenReturn(List.of(keywordTotal(1L, "산책", 7)));
+
+        // When
+        precomputeService.precomputeMonthlyInsights();
+
+        // Then: 사용자별 합계로 분포와 키워드를 계산해 월마다 전달
+        ArgumentCaptor<Map<String, Double>> distribution = ArgumentCaptor.forClass(Map.class);
+        verify(emotionInsightService).precomputeInsight(eq(1L), eq(previousMonth), distribution.capture(), anyList());
+        assertEquals(75.0, distribution.getValue().get("기쁨"));
+        assertEquals(25.0, distribution.getValue().get("슬픔"));
+        verify(emotionInsightService).precomputeInsight(eq(2L), eq(previousMonth), anyMap(), anyList());
+        verify(emotionInsightService).precomputeInsight(eq(3L), eq(currentMonth), anyMap(), anyList());
+
+        // 다음 묶음은 마지막 사용자 ID 이후부터 조회
+        verify(emotionRecordPersistencePort).findUserIdsWithRecordsBetween(previousMonth.atDay(1), previousMonth.atEndOfMonth(), 2L, 100);
+        verify(emotionRecordPersistencePort).findUserIdsWithRecordsBetween(currentMonth.atDay(1), currentMonth.atEndOfMonth(), 3L, 100);
+    }
+
+    @Test
+    void precompute_CachedInsights_AreSkippedWithoutWaiting() {
+        // Given: 사용자 1, 3은 입력 지문이 같아 건너뛰고, 사용자 2만 Clova Studio 호출
+        runTasksImmediately();
+        stubUsers(previousMonth, 0L, List.of(1L, 2L, 3L));
+        when(emotionInsightService.precomputeInsight(eq(1L), eq(previousMonth), anyMap(), anyList())).thenReturn(false);
+        when(emotionInsightService.precomputeInsight(eq(2L), eq(previousMonth), anyMap(), anyList())).thenReturn(true);
+        when(emotionInsightService.precomputeInsight(eq(3L), eq(previousMonth), anyMap(), anyList())).thenReturn(false);
+
+        // When
+        precomputeService.precomputeMonthlyInsights();
+
+        // Then: 건너뛴 사용자 1은 대기 없이 바로 다음 사용자로 진행하고, 호출한 사용자 2 이후에만 대기
+        verify(emotionInsightService, never()).precomputeInsight(eq(3L), any(), anyMap(), anyList());
+        Runnable next = captureScheduledStep(1);
+        next.run();
+
+        verify(emotionInsightService).precomputeInsight(eq(3L), eq(previousMonth), anyMap(), anyList());
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void precompute_ClovaCalls_AreSpacedByRatePerMinute() {
+        // Given: 분당 30회 → 호출 간격 2초
+        runTasksImmediately();
+        stubUsers(previousMonth, 0L, List.of(1L, 2L));
+        when(emotionInsightService.precomputeInsight(anyLong(), any(), anyMap(), anyList())).thenReturn(true);
+
+        // When
+        Instant before = Instant.now();
+        precomputeService.precomputeMonthlyInsights();
+
+        // Then: 첫 호출 후 2초 뒤로 다음 단계를 예약하고, 그 전에는 다음 사용자를 처리하지 않음
+        ArgumentCaptor<Instant> startTime = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Runnable> next = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(next.capture(), startTime.capture());
+        long delayMs = Duration.between(before, startTime.getValue()).toMillis();
+        assertTrue(delayMs >= 2000 && delayMs < 3000, "delay=" + delayMs);
+        verify(emotionInsightService, never()).precomputeInsight(eq(2L), any(), anyMap(), anyList());
+
+        next.getValue().run();
+        verify(emotionInsightService).precomputeInsight(eq(2L), eq(previousMonth), anyMap(), anyList());
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void precompute_WhileRunning_DoesNotStartAnotherRun() {
+        // Given: 호출 간격 대기 중인 일괄 생성
+        runTasksImmediately();
+        stubUsers(previousMonth, 0L, List.of(1L, 2L));
+        when(emotionInsightService.precomputeInsight(anyLong(), any(), anyMap(), anyList())).thenReturn(true);
+        precomputeService.precomputeMonthlyInsights();
+
+        // When
+        precomputeService.precomputeMonthlyInsights();
+
+        // Then
+        verify(insightTaskExecutor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void precompute_AfterRunCompletes_CanStartAgain() {
+        runTasksImmediately();
+
+        precomputeService.precomputeMonthlyInsights();
+        precomputeService.precomputeMonthlyInsights();
+
+        verify(insightTaskExecutor, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void precompute_ExecutorSaturated_RetriesLater() {
+        // Given: 인사이트 재생성 스레드 풀이 포화 상태
+        doThrow(new TaskRejectedException("포화")).when(insightTaskExecutor).execute(any(Runnable.class));
+
+        // When
+        precomputeService.precomputeMonthlyInsights();
+
+        // Then: 스케줄러 스레드에서 직접 실행하지 않고 호출 간격 후 다시 제출
+        captureScheduledStep(1);
+        verifyNoInteractions(emotionRecordPersistencePort, emotionInsightService);
+    }
+
+    @Test
+    void precompute_SchedulingFails_ReleasesRunSoNextTriggerStarts() {
+        // Given: 첫 Clova Studio 호출 후 다음 단계 예약이 실패 (스케줄러 종료 등)
+        runTasksImmediately();
+        stubUsers(previousMonth, 0L, List.of(1L, 2L));
+        when(emotionInsightService.precomputeInsight(anyLong(), any(), anyMap(), anyList())).thenReturn(true);
+        doThrow(new TaskRejectedException("종료")).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        precomputeService.precomputeMonthlyInsights();
+
+        // When
+        precomputeService.precomputeMonthlyInsights();
+
+        // Then: 진행 상태가 해제되어 다음 실행이 새로 시작됨
+        verify(insightTaskExecutor, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void precompute_ExecutorSaturatedAndSchedulingFails_ReleasesRun() {
+        // Given: 스레드 풀이 포화 상태이고 재시도 예약도 실패
+        doThrow(new TaskRejectedException("포화")).when(insightTaskExecutor).execute(any(Runnable.class));
+        doThrow(new TaskRejectedException("종료")).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        precomputeService.precomputeMonthlyInsights();
+
+        // When
+        precomputeService.precomputeMonthlyInsights();
+
+        // Then
+        verify(insightTaskExecutor, times(2)).execute(any(Runnable.class));
+        verifyNoInteractions(emotionRecordPersistencePort, emotionInsightService);
+    }
+
+    private Runnable captureScheduledStep(int expectedCount) {
+        ArgumentCaptor<Runnable> next = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(expectedCount)).schedule(next.capture(), any(Instant.class));
+        return next.getValue();
+    }
+
+    private void runTasksImmediately() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(insightTaskExecutor).execute(any(Runnable.class));
+    }
+
+    private void stubUsers(YearMonth month, long afterUserId, List<Long> userIds) {
+        when(emotionRecordPersistencePort.findUserIdsWithRecordsBetween(month.atDay(1), month.atEndOfMonth(), afterUserId, 100))
+                .thenReturn(userIds);
+    }
+
+    private static UserEmotionScoreTotalView scoreTotal(Long userId, EmotionType emotionType, long totalPercentage) {
+        return new UserEmotionScoreTotalView() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public EmotionType getEmotionType() {
+                return emotionType;
+            }
+
+            @Override
+            public Long getTotalPercentage() {
+                return totalPercentage;
+            }
+        };
+    }
+
+    private static UserKeywordWeightTotalView keywordTotal(Long userId, String keyword, long totalWeight) {
+        return new UserKeywordWeightTotalView() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getKeyword() {
+                return keyword;
+            }
+
+            @Override
+            public Long getTotalWeight() {
+                return totalWeight;
+            }
+        };
+    }
+}
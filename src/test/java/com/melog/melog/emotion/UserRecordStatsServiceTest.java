@@ -0,0 +1,179 @@
+package com.melog.melog.emotion;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.melog.melog.emotion.application.port.out.EmotionRecordPersistencePort;
+import com.melog.melog.emotion.application.port.out.EmotionScorePersistencePort;
+import com.melog.melog.emotion.application.service.UserRecordStatsService;
+import com.melog.melog.emotion.domain.EmotionRecord;
+import com.melog.melog.emotion.domain.EmotionScore;
+import com.melog.melog.emotion.domain.EmotionType;
+import com.melog.melog.user.application.port.out.UserPersistencePort;
+import com.melog.melog.user.domain.User;
+
+/**
+ * 사용자 프로필 집계 컬럼 갱신 테스트
+ * 가장 최근 기록인지는 updateLastRecordIfCurrent의 조건부 UPDATE(expectedRecordId)가 판단합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserRecordStatsServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UserPersistencePort userPersistencePort;
+
+    @Mock
+    private EmotionRecordPersistencePort emotionRecordPersistencePort;
+
+    @Mock
+    private EmotionScorePersistencePort emotionScorePersistencePort;
+
+    @InjectMocks
+    private UserRecordStatsService userRecordStatsService;
+
+    private final User user = user();
+
+    @Test
+    void onRecordCreated_IncrementsCountsAndBecomesLatestRecord() {
+        // Given: 음성 파일이 있는 새 기록
+        EmotionRecord record = record(10L, "audio/10.wav");
+
+        // When
+        userRecordStatsService.onRecordCreated(record);
+
+        // Then: 대표 감정은 분석 후에 설정되므로 비워 둠
+        verify(userPersistencePort).adjustRecordCounts(USER_ID, 1, 1);
+        verify(userPersistencePort).updateLastRecord(USER_ID, 10L, null, null);
+    }
+
+    @Test
+    void onRecordCreated_WithoutAudio_DoesNotCountAudio() {
+        EmotionRecord record = record(10L, null);
+
+        userRecordStatsService.onRecordCreated(record);
+
+        verify(userPersistencePort).adjustRecordCounts(USER_ID, 1, 0);
+    }
+
+    @Test
+    void onPrimaryEmotionChanged_LatestRecord_UpdatesRepresentativeEmotion() {
+        // Given: 가장 최근 기록의 재분석 결과
+        EmotionRecord record = record(10L, null);
+        EmotionScore primary = score(record, EmotionType.JOY, 70, 4);
+
+        // When
+        userRecordStatsService.onPrimaryEmotionChanged(record, primary);
+
+        // Then: 현재 가장 최근 기록이 이 기록일 때만 대표 감정을 교체
+        verify(userPersistencePort).updateLastRecordIfCurrent(USER_ID, 10L, 10L, EmotionType.JOY, 4);
+    }
+
+    @Test
+    void onPrimaryEmotionChanged_OlderRecord_LeavesUserRowAlone() {
+        // Given: 가장 최근 기록은 20번, 재분석된 기록은 이전 기록인 10번
+        EmotionRecord older = record(10L, null);
+        EmotionScore primary = score(older, EmotionType.SADNESS, 60, 3);
+
+        // When
+        userRecordStatsService.onPrimaryEmotionChanged(older, primary);
+
+        // Then: 10번 기록을 조건으로 한 UPDATE만 보내므로 20번을 가리키는 사용자 행은 바뀌지 않음
+        verify(userPersistencePort).updateLastRecordIfCurrent(USER_ID, 10L, 10L, EmotionType.SADNESS, 3);
+        verify(userPersistencePort, never()).updateLastRecord(anyLong(), anyLong(), any(), any());
+        verify(userPersistencePort, never()).adjustRecordCounts(anyLong(), anyInt(), anyInt());
+        verifyNoInteractions(emotionRecordPersistencePort, emotionScorePersistencePort);
+    }
+
+    @Test
+    void onRecordDeleted_LatestRecord_FallsBackToNextLatestWithItsPrimaryEmotion() {
+        // Given: 가장 최근 기록(20번) 삭제 후 남은 가장 최근 기록은 10번
+        EmotionRecord deleted = record(20L, "audio/20.wav");
+        EmotionRecord nextLatest = record(10L, null);
+        when(emotionRecordPersistencePort.findByUserBefore(user, null, null, 1)).thenReturn(List.of(nextLatest));
+        when(emotionScorePersistencePort.findByRecord(nextLatest)).thenReturn(List.of(
+                score(nextLatest, EmotionType.CALMNESS, 30, 2),
+                score(nextLatest, EmotionType.ANGER, 50, 3),
+                score(nextLatest, EmotionType.JOY, 20, 1)));
+
+        // When
+        userRecordStatsService.onRecordDeleted(deleted);
+
+        // Then: 비율이 가장 높은 감정이 대표 감정
+        verify(userPersistencePort).adjustRecordCounts(USER_ID, -1, -1);
+        verify(userPersistencePort).updateLastRecordIfCurrent(USER_ID, 20L, 10L, EmotionType.ANGER, 3);
+    }
+
+    @Test
+    void onRecordDeleted_NextLatestWithoutScores_ClearsRepresentativeEmotion() {
+        // Given: 남은 기록이 아직 분석되지 않음
+        EmotionRecord deleted = record(20L, null);
+        EmotionRecord nextLatest = record(10L, null);
+        when(emotionRecordPersistencePort.findByUserBefore(user, null, null, 1)).thenReturn(List.of(nextLatest));
+        when(emotionScorePersistencePort.findByRecord(nextLatest)).thenReturn(List.of());
+
+        // When
+        userRecordStatsService.onRecordDeleted(deleted);
+
+        // Then
+        verify(userPersistencePort).adjustRecordCounts(USER_ID, -1, 0);
+        verify(userPersistencePort).updateLastRecordIfCurrent(USER_ID, 20L, 10L, null, null);
+    }
+
+    @Test
+    void onRecordDeleted_LastRemainingRecord_ClearsLatestRecord() {
+        // Given: 마지막 남은 기록 삭제
+        EmotionRecord deleted = record(10L, "audio/10.wav");
+        when(emotionRecordPersistencePort.findByUserBefore(user, null, null, 1)).thenReturn(List.of());
+
+        // When
+        userRecordStatsService.onRecordDeleted(deleted);
+
+        // Then
+        verify(userPersistencePort).adjustRecordCounts(USER_ID, -1, -1);
+        verify(userPersistencePort).updateLastRecordIfCurrent(USER_ID, 10L, null, null, null);
+        verifyNoInteractions(emotionScorePersistencePort);
+    }
+
+    private static User user() {
+        User user = User.builder().nickname("멜로그").build();
+        ReflectionTestUtils.setField(user, "id", USER_ID);
+        return user;
+    }
+
+    private EmotionRecord record(Long id, String audioFilePath) {
+        EmotionRecord record = EmotionRecord.builder()
+                .user(user)
+                .text("오늘 친구와 산책을 했다")
+                .date(LocalDate.of(2025, 8, 1))
+                .audioFilePath(audioFilePath)
+                .build();
+        ReflectionTestUtils.setField(record, "id", id);
+        return record;
+    }
+
+    private static EmotionScore score(EmotionRecord record, EmotionType emotionType, int percentage, int step) {
+        return EmotionScore.builder()
+                .record(record)
+                .emotionType(emotionType)
+                .percentage(percentage)
+                .step(step)
+                .build();
+    }
+}
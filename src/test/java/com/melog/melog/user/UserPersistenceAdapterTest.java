@@ -0,0 +1,117 @@
+package com.melog.melog.user;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.melog.melog.user.adapter.out.persistence.UserIdentityCache;
+import com.melog.melog.user.adapter.out.persistence.UserJpaRepository;
+import com.melog.melog.user.adapter.out.persistence.UserPersistenceAdapter;
+import com.melog.melog.user.domain.UserIdentityChangedEvent;
+
+/**
+ * 닉네임 → 사용자 ID 캐시 조회/무효화 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class UserPersistenceAdapterTest {
+
+    @Mock
+    private UserJpaRepository userJpaRepository;
+
+    private UserIdentityCache userIdentityCache;
+
+    private UserPersistenceAdapter userPersistenceAdapter;
+
+    @BeforeEach
+    void setUp() {
+        userIdentityCache = new UserIdentityCache(2);
+        userPersistenceAdapter = new UserPersistenceAdapter(userJpaRepository, userIdentityCache);
+    }
+
+    @Test
+    void findIdByNickname_SecondLookup_HitsCache() {
+        when(userJpaRepository.findIdByNickname("testuser")).thenReturn(Optional.of(1L));
+
+        assertEquals(Optional.of(1L), userPersistenceAdapter.findIdByNickname("testuser"));
+        assertEquals(Optional.of(1L), userPersistenceAdapter.findIdByNickname("testuser"));
+
+        verify(userJpaRepository, times(1)).findIdByNickname("testuser");
+    }
+
+    @Test
+    void findIdByNickname_UnknownNickname_IsNotCached() {
+        when(userJpaRepository.findIdByNickname("nobody")).thenReturn(Optional.empty());
+
+        assertTrue(userPersistenceAdapter.findIdByNickname("nobody").isEmpty());
+        assertTrue(userPersistenceAdapter.findIdByNickname("nobody").isEmpty());
+
+        // 없는 닉네임은 가입 직후 바로 조회될 수 있도록 캐시하지 않음
+        verify(userJpaRepository, times(2)).findIdByNickname("nobody");
+        assertNull(userIdentityCache.get("nobody"));
+    }
+
+    @Test
+    void findIdByNickname_AfterNicknameChangeOrDelete_ReloadsFromDb() {
+        // Given: 캐시된 닉네임
+        when(userJpaRepository.findIdByNickname("testuser")).thenReturn(Optional.of(1L), Optional.empty());
+        userPersistenceAdapter.findIdByNickname("testuser");
+
+        // When: 닉네임 변경/삭제 커밋 후 이벤트 수신
+        userIdentityCache.onUserIdentityChanged(new UserIdentityChangedEvent("testuser"));
+
+        // Then: 캐시가 비워져 DB에서 다시 조회
+        assertNull(userIdentityCache.get("testuser"));
+        assertTrue(userPersistenceAdapter.findIdByNickname("testuser").isEmpty());
+        verify(userJpaRepository, times(2)).findIdByNickname("testuser");
+    }
+
+    @Test
+    void findIdByNickname_EvictedDuringDbLoad_DoesNotCacheStaleId() {
+        // Given: DB에서 이전 ID를 읽은 직후 다른 트랜잭션의 닉네임 변경이 커밋되어 무효화됨
+        when(userJpaRepository.findIdByNickname("testuser")).thenAnswer(invocation -> {
+            userIdentityCache.onUserIdentityChanged(new UserIdentityChangedEvent("testuser"));
+            return Optional.of(1L);
+        }).thenReturn(Optional.of(2L));
+
+        // When
+        Optional<Long> staleRead = userPersistenceAdapter.findIdByNickname("testuser");
+
+        // Then: 조회 결과는 반환하지만 지난 ID를 캐시에 되살리지 않음
+        assertEquals(Optional.of(1L), staleRead);
+        assertNull(userIdentityCache.get("testuser"));
+        assertEquals(Optional.of(2L), userPersistenceAdapter.findIdByNickname("testuser"));
+        assertEquals(Long.valueOf(2L), userIdentityCache.get("testuser"));
+    }
+
+    @Test
+    void put_WithOutdatedGeneration_IsRejected() {
+        long generation = userIdentityCache.generation();
+        userIdentityCache.evict("other");
+
+        assertFalse(userIdentityCache.put("testuser", 1L, generation));
+        assertTrue(userIdentityCache.put("testuser", 1L, userIdentityCache.generation()));
+        assertEquals(Long.valueOf(1L), userIdentityCache.get("testuser"));
+    }
+
+    @Test
+    void cache_EvictsLeastRecentlyUsedBeyondMaxSize() {
+        long generation = userIdentityCache.generation();
+        userIdentityCache.put("a", 1L, generation);
+        userIdentityCache.put("b", 2L, generation);
+        userIdentityCache.get("a");
+        userIdentityCache.put("c", 3L, generation);
+
+        assertEquals(Long.valueOf(1L), userIdentityCache.get("a"));
+        assertNull(userIdentityCache.get("b"));
+        assertEquals(Long.valueOf(3L), userIdentityCache.get("c"));
+    }
+}